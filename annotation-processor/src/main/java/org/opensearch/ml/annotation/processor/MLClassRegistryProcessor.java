@@ -0,0 +1,217 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.annotation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a static registry of the classes annotated with the ML class annotations (for example
+ * {@code @Function}, {@code @ConnectorExecutor} and {@code @MLAlgoParameter}) together with a constructor lambda for
+ * each of their public constructors. The class loaders of ML Commons use the generated registry instead of scanning
+ * the classpath with Reflections and looking up constructors reflectively.
+ *
+ * The fully qualified name of the generated class is given by the {@value #REGISTRY_CLASS_OPTION} option. Annotations
+ * are matched by name, so this processor doesn't depend on the modules that declare them.
+ */
+@SupportedOptions(MLClassRegistryProcessor.REGISTRY_CLASS_OPTION)
+public class MLClassRegistryProcessor extends AbstractProcessor {
+    public static final String REGISTRY_CLASS_OPTION = "ml.registry.class";
+    public static final String REGISTRY_TYPE = "org.opensearch.ml.common.MLClassRegistry";
+
+    static final Set<String> ANNOTATIONS = Set
+        .of(
+            "org.opensearch.ml.engine.annotation.Function",
+            "org.opensearch.ml.engine.annotation.ConnectorExecutor",
+            "org.opensearch.ml.engine.annotation.Processor",
+            "org.opensearch.ml.engine.annotation.Ingester",
+            "org.opensearch.ml.common.annotation.MLAlgoParameter",
+            "org.opensearch.ml.common.annotation.MLAlgoOutput",
+            "org.opensearch.ml.common.annotation.InputDataSet",
+            "org.opensearch.ml.common.annotation.ExecuteInput",
+            "org.opensearch.ml.common.annotation.ExecuteOutput",
+            "org.opensearch.ml.common.annotation.MLInput",
+            "org.opensearch.ml.common.annotation.Connector"
+        );
+
+    // Keyed by class name so the generated source is stable across builds.
+    private final Map<String, TypeElement> annotatedClasses = new TreeMap<>();
+    private boolean generated = false;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return ANNOTATIONS;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    TypeElement typeElement = (TypeElement) element;
+                    annotatedClasses.put(typeElement.getQualifiedName().toString(), typeElement);
+                }
+            }
+        }
+        // Generate after the last round so constructors added by other processors (e.g. lombok) are visible.
+        if (roundEnv.processingOver() && !generated) {
+            generated = true;
+            String registryClass = processingEnv.getOptions().get(REGISTRY_CLASS_OPTION);
+            if (registryClass == null || registryClass.isEmpty()) {
+                if (!annotatedClasses.isEmpty()) {
+                    processingEnv
+                        .getMessager()
+                        .printMessage(Diagnostic.Kind.NOTE, "No " + REGISTRY_CLASS_OPTION + " option given, skip generating ML class registry");
+                }
+                return false;
+            }
+            writeRegistry(registryClass);
+        }
+        return false;
+    }
+
+    private void writeRegistry(String registryClass) {
+        int index = registryClass.lastIndexOf('.');
+        String packageName = index < 0 ? null : registryClass.substring(0, index);
+        String simpleName = registryClass.substring(index + 1);
+        try (Writer writer = processingEnv.getFiler().createSourceFile(registryClass).openWriter()) {
+            writer.write(generateSource(packageName, simpleName));
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write ML class registry: " + e.getMessage());
+        }
+    }
+
+    String generateSource(String packageName, String simpleName) {
+        StringBuilder source = new StringBuilder();
+        if (packageName != null) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(MLClassRegistryProcessor.class.getName()).append("\")\n");
+        source.append("public final class ").append(simpleName).append(" {\n\n");
+        source.append("    private ").append(simpleName).append("() {}\n\n");
+        source.append("    @SuppressWarnings({ \"rawtypes\", \"unchecked\" })\n");
+        source.append("    public static void registerAll(").append(REGISTRY_TYPE).append(" registry) {\n");
+        for (TypeElement typeElement : annotatedClasses.values()) {
+            if (!isAccessible(typeElement)) {
+                processingEnv
+                    .getMessager()
+                    .printMessage(
+                        Diagnostic.Kind.NOTE,
+                        typeElement.getQualifiedName() + " is not accessible from the registry, it will be loaded by classpath scanning",
+                        typeElement
+                    );
+                continue;
+            }
+            String className = typeElement.getQualifiedName().toString();
+            for (AnnotationMirror mirror : typeElement.getAnnotationMirrors()) {
+                String annotationName = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+                if (!ANNOTATIONS.contains(annotationName)) {
+                    continue;
+                }
+                List<String> keys = new ArrayList<>();
+                for (AnnotationValue value : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).values()) {
+                    collectKeys(value.getValue(), keys);
+                }
+                for (String key : keys) {
+                    source
+                        .append("        registry.registerClass(")
+                        .append(annotationName)
+                        .append(".class, ")
+                        .append(key)
+                        .append(", ")
+                        .append(className)
+                        .append(".class);\n");
+                }
+            }
+            if (typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            for (ExecutableElement constructor : ElementFilter.constructorsIn(typeElement.getEnclosedElements())) {
+                if (constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                    appendConstructor(source, className, constructor);
+                }
+            }
+        }
+        source.append("    }\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private void appendConstructor(StringBuilder source, String className, ExecutableElement constructor) {
+        List<? extends VariableElement> parameters = constructor.getParameters();
+        source.append("        registry.registerConstructor(").append(className).append(".class, args -> new ").append(className).append("(");
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                source.append(", ");
+            }
+            source.append("(").append(erasure(parameters.get(i))).append(") args[").append(i).append("]");
+        }
+        source.append(")");
+        for (VariableElement parameter : parameters) {
+            source.append(", ").append(erasure(parameter)).append(".class");
+        }
+        source.append(");\n");
+    }
+
+    private String erasure(VariableElement parameter) {
+        return processingEnv.getTypeUtils().erasure(parameter.asType()).toString();
+    }
+
+    private void collectKeys(Object value, List<String> keys) {
+        if (value instanceof VariableElement) {
+            VariableElement enumConstant = (VariableElement) value;
+            TypeElement enumType = (TypeElement) enumConstant.getEnclosingElement();
+            keys.add(enumType.getQualifiedName() + "." + enumConstant.getSimpleName());
+        } else if (value instanceof String) {
+            keys.add(processingEnv.getElementUtils().getConstantExpression(value));
+        } else if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                collectKeys(((AnnotationValue) item).getValue(), keys);
+            }
+        }
+    }
+
+    private boolean isAccessible(TypeElement typeElement) {
+        Element element = typeElement;
+        while (element instanceof TypeElement) {
+            TypeElement type = (TypeElement) element;
+            if (!type.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            element = type.getEnclosingElement();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.annotation.processor;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MLClassRegistryProcessorTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path sourceDir;
+    private List<Path> sources;
+
+    @Before
+    public void setUp() throws IOException {
+        sourceDir = folder.newFolder("src").toPath();
+        sources = new ArrayList<>();
+        source(
+            "org.opensearch.ml.common.MLClassRegistry",
+            "package org.opensearch.ml.common;\n"
+                + "public class MLClassRegistry {\n"
+                + "  public interface Factory { Object create(Object[] args) throws Exception; }\n"
+                + "  public void registerClass(Class<? extends java.lang.annotation.Annotation> a, Object key, Class<?> c) {}\n"
+                + "  public void registerConstructor(Class<?> c, Factory f, Class<?>... types) {}\n"
+                + "}\n"
+        );
+        source(
+            "org.opensearch.ml.common.annotation.MLAlgoParameter",
+            "package org.opensearch.ml.common.annotation;\n"
+                + "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n"
+                + "public @interface MLAlgoParameter { org.opensearch.ml.common.sample.Algo[] algorithms(); }\n"
+        );
+        source(
+            "org.opensearch.ml.common.annotation.Connector",
+            "package org.opensearch.ml.common.annotation;\n"
+                + "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n"
+                + "public @interface Connector { String value(); }\n"
+        );
+        source("org.opensearch.ml.common.sample.Algo", "package org.opensearch.ml.common.sample;\npublic enum Algo { FIRST, SECOND }\n");
+    }
+
+    @Test
+    public void testGenerateRegistry() throws IOException {
+        source(
+            "org.opensearch.ml.common.sample.SampleParams",
+            "package org.opensearch.ml.common.sample;\n"
+                + "@org.opensearch.ml.common.annotation.MLAlgoParameter(algorithms = { Algo.FIRST, Algo.SECOND })\n"
+                + "public class SampleParams {\n"
+                + "  public SampleParams() {}\n"
+                + "  public SampleParams(java.util.Map<String, Object> map, int size) throws java.io.IOException {}\n"
+                + "  SampleParams(String hidden) {}\n"
+                + "  @org.opensearch.ml.common.annotation.Connector(\"sample\")\n"
+                + "  public static class SampleConnector { public SampleConnector(String name) {} }\n"
+                + "  @org.opensearch.ml.common.annotation.Connector(\"private\")\n"
+                + "  static class PrivateConnector {}\n"
+                + "}\n"
+        );
+
+        String registry = compile("org.opensearch.ml.common.GeneratedRegistry");
+
+        assertTrue(registry.contains("package org.opensearch.ml.common;"));
+        assertTrue(registry.contains("public static void registerAll(org.opensearch.ml.common.MLClassRegistry registry)"));
+        assertTrue(
+            registry
+                .contains(
+                    "registry.registerClass(org.opensearch.ml.common.annotation.MLAlgoParameter.class, "
+                        + "org.opensearch.ml.common.sample.Algo.FIRST, org.opensearch.ml.common.sample.SampleParams.class);"
+                )
+        );
+        assertTrue(registry.contains("org.opensearch.ml.common.sample.Algo.SECOND"));
+        assertTrue(
+            registry
+                .contains(
+                    "registry.registerConstructor(org.opensearch.ml.common.sample.SampleParams.class, "
+                        + "args -> new org.opensearch.ml.common.sample.SampleParams());"
+                )
+        );
+        assertTrue(
+            registry
+                .contains(
+                    "args -> new org.opensearch.ml.common.sample.SampleParams((java.util.Map) args[0], (int) args[1]), "
+                        + "java.util.Map.class, int.class);"
+                )
+        );
+        assertTrue(
+            registry
+                .contains(
+                    "registry.registerClass(org.opensearch.ml.common.annotation.Connector.class, \"sample\", "
+                        + "org.opensearch.ml.common.sample.SampleParams.SampleConnector.class);"
+                )
+        );
+        assertFalse(registry.contains("new org.opensearch.ml.common.sample.SampleParams((java.lang.String) args[0])"));
+        assertFalse(registry.contains("PrivateConnector"));
+    }
+
+    private void source(String className, String content) throws IOException {
+        Path path = sourceDir.resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        sources.add(path);
+    }
+
+    private String compile(String registryClass) throws IOException {
+        Path generatedDir = folder.newFolder("generated").toPath();
+        Path classesDir = folder.newFolder("classes").toPath();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(sources);
+            List<String> options = List
+                .of(
+                    "-proc:only",
+                    "-A" + MLClassRegistryProcessor.REGISTRY_CLASS_OPTION + "=" + registryClass,
+                    "-s",
+                    generatedDir.toString(),
+                    "-d",
+                    classesDir.toString()
+                );
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            task.setProcessors(List.of(new MLClassRegistryProcessor()));
+            assertTrue(task.call());
+        }
+        return Files.readString(generatedDir.resolve(registryClass.replace('.', '/') + ".java"));
+    }
+}
@@ -102,6 +102,7 @@ public class CommonValue {
     public static final Version VERSION_3_3_0 = Version.fromString("3.3.0");
     public static final Version VERSION_3_4_0 = Version.fromString("3.4.0");
     public static final Version VERSION_3_5_0 = Version.fromString("3.5.0");
+    public static final Version VERSION_3_6_0 = Version.fromString("3.6.0");
 
     // Connector Constants
     public static final String NAME_FIELD = "name";
@@ -125,6 +126,8 @@ public class CommonValue {
     public static final String MCP_TOOL_DESCRIPTION_FIELD = "description";
     public static final String MCP_TOOL_INPUT_SCHEMA_FIELD = "inputSchema";
     public static final String MCP_SYNC_CLIENT = "mcp_sync_client";
+    public static final String MCP_ASYNC_CLIENT = "mcp_async_client";
+    public static final String MCP_CLIENT_SESSION = "mcp_client_session";
     public static final String MCP_TOOLS_FIELD = "tools";
     public static final String MCP_CONNECTORS_FIELD = "mcp_connectors";
     public static final String MCP_CONNECTOR_ID_FIELD = "mcp_connector_id";
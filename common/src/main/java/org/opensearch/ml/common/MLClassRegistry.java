@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Registry of annotated ML classes and their constructors.
+ *
+ * The registry content of each module is generated at build time by the ML class registry annotation processor, so
+ * classes can be looked up without classpath scanning and created through constructor lambdas instead of reflection.
+ * Constructors which are not registered fall back to reflective lookup.
+ */
+@Log4j2
+public class MLClassRegistry {
+
+    /**
+     * Creates an instance from constructor arguments.
+     */
+    @FunctionalInterface
+    public interface Factory {
+        Object create(Object[] args) throws Exception;
+    }
+
+    private final Map<Class<? extends Annotation>, Map<Object, Class<?>>> classes = new ConcurrentHashMap<>();
+    private final Map<ConstructorKey, Factory> factories = new ConcurrentHashMap<>();
+
+    public void registerClass(Class<? extends Annotation> annotation, Object key, Class<?> clazz) {
+        classes.computeIfAbsent(annotation, it -> new ConcurrentHashMap<>()).put(key, clazz);
+    }
+
+    public void registerConstructor(Class<?> clazz, Factory factory, Class<?>... parameterTypes) {
+        factories.put(new ConstructorKey(clazz, Arrays.asList(parameterTypes)), factory);
+    }
+
+    /**
+     * Get registered classes of the given annotation.
+     * @param annotation annotation class
+     * @return map of annotation value to class
+     */
+    public Map<Object, Class<?>> getClasses(Class<? extends Annotation> annotation) {
+        return Collections.unmodifiableMap(classes.getOrDefault(annotation, Collections.emptyMap()));
+    }
+
+    /**
+     * Create a new instance with the constructor matching the parameter types exactly. Follows the contract of
+     * {@link java.lang.reflect.Constructor#newInstance(Object...)}: exceptions thrown by the constructor are wrapped
+     * in {@link InvocationTargetException}, and {@link NoSuchMethodException} is thrown if there is no such constructor.
+     * @param clazz class to create
+     * @param args constructor arguments
+     * @param parameterTypes constructor parameter types
+     * @return new instance
+     * @throws ReflectiveOperationException if the instance can't be created
+     */
+    public Object newInstance(Class<?> clazz, Object[] args, Class<?>... parameterTypes) throws ReflectiveOperationException {
+        Factory factory = factories.get(new ConstructorKey(clazz, Arrays.asList(parameterTypes)));
+        if (factory == null) {
+            return clazz.getConstructor(parameterTypes).newInstance(args);
+        }
+        try {
+            return factory.create(args);
+        } catch (Exception e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Load the registry generated at build time into this registry.
+     * @param className class name of the generated registry
+     * @param classLoader class loader of the generated registry
+     * @return true if the generated registry is loaded; false if it doesn't exist
+     */
+    public boolean loadGenerated(String className, ClassLoader classLoader) {
+        try {
+            Class<?> generated = Class.forName(className, true, classLoader);
+            generated.getMethod("registerAll", MLClassRegistry.class).invoke(null, this);
+            return true;
+        } catch (ClassNotFoundException e) {
+            log.warn("Generated ML class registry {} not found, fall back to classpath scanning", className);
+            return false;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to load generated ML class registry " + className, e);
+        }
+    }
+
+    @Value
+    private static class ConstructorKey {
+        Class<?> clazz;
+        List<Class<?>> parameterTypes;
+    }
+}
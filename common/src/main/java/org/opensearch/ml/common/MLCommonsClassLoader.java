@@ -6,13 +6,12 @@
 package org.opensearch.ml.common;
 
 import java.io.IOException;
-import java.lang.reflect.Constructor;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.ml.common.annotation.Connector;
@@ -36,11 +35,15 @@ import lombok.extern.log4j.Log4j2;
 @SuppressWarnings("removal")
 public class MLCommonsClassLoader {
 
-    private static Map<Enum<?>, Class<?>> parameterClassMap = new HashMap<>();
-    private static Map<Enum<?>, Class<?>> executeInputClassMap = new HashMap<>();
-    private static Map<Enum<?>, Class<?>> executeOutputClassMap = new HashMap<>();
-    private static Map<Enum<?>, Class<?>> mlInputClassMap = new HashMap<>();
-    private static Map<String, Class<?>> connectorClassMap = new HashMap<>();
+    private static final String GENERATED_REGISTRY_CLASS = "org.opensearch.ml.common.GeneratedMLCommonsClassRegistry";
+    private static final MLClassRegistry registry = new MLClassRegistry();
+    private static volatile boolean classpathScanned = false;
+
+    private static Map<Enum<?>, Class<?>> parameterClassMap = new ConcurrentHashMap<>();
+    private static Map<Enum<?>, Class<?>> executeInputClassMap = new ConcurrentHashMap<>();
+    private static Map<Enum<?>, Class<?>> executeOutputClassMap = new ConcurrentHashMap<>();
+    private static Map<Enum<?>, Class<?>> mlInputClassMap = new ConcurrentHashMap<>();
+    private static Map<String, Class<?>> connectorClassMap = new ConcurrentHashMap<>();
 
     static {
         try {
@@ -53,7 +56,59 @@ public class MLCommonsClassLoader {
         }
     }
 
+    /**
+     * Load class mapping from the registry generated at build time. Falls back to classpath scanning if the
+     * generated registry is not available.
+     */
     public static void loadClassMapping() {
+        if (registry.loadGenerated(GENERATED_REGISTRY_CLASS, MLCommonsClassLoader.class.getClassLoader())) {
+            loadRegisteredClassMapping();
+        } else {
+            scanClassMapping();
+        }
+    }
+
+    private static void loadRegisteredClassMapping() {
+        putEnumKeys(parameterClassMap, registry.getClasses(MLAlgoParameter.class));
+        putEnumKeys(parameterClassMap, registry.getClasses(MLAlgoOutput.class));
+        putEnumKeys(parameterClassMap, registry.getClasses(InputDataSet.class));
+        putEnumKeys(executeInputClassMap, registry.getClasses(ExecuteInput.class));
+        putEnumKeys(executeOutputClassMap, registry.getClasses(ExecuteOutput.class));
+        putEnumKeys(mlInputClassMap, registry.getClasses(MLInput.class));
+        registry.getClasses(Connector.class).forEach((key, clazz) -> connectorClassMap.put((String) key, clazz));
+    }
+
+    private static void putEnumKeys(Map<Enum<?>, Class<?>> map, Map<Object, Class<?>> classes) {
+        classes.forEach((key, clazz) -> map.put((Enum<?>) key, clazz));
+    }
+
+    /**
+     * Scan the classpath once for annotated classes which are not in the generated registry, like extension classes.
+     * This is called when the plugin is initialized, lookups never scan the classpath, so a type which is not mapped
+     * is only a missed map lookup.
+     */
+    public static synchronized void scanExtensionClassMapping() {
+        if (classpathScanned) {
+            return;
+        }
+        try {
+            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                scanClassMapping();
+                return null;
+            });
+        } catch (PrivilegedActionException e) {
+            log.error("Failed to scan extension class mapping in ML commons", e);
+        }
+    }
+
+    private static <T> Class<?> lookup(Map<T, Class<?>> map, T type) {
+        if (type == null) {
+            return null;
+        }
+        return map.get(type);
+    }
+
+    private static void scanClassMapping() {
         ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
         try {
             Thread.currentThread().setContextClassLoader(MLCommonsClassLoader.class.getClassLoader());
@@ -64,6 +119,7 @@ public class MLCommonsClassLoader {
             loadExecuteOutputClassMapping();
             loadMLInputClassMapping();
             loadConnectorClassMapping();
+            classpathScanned = true;
         } finally {
             Thread.currentThread().setContextClassLoader(originalClassLoader);
         }
@@ -235,13 +291,12 @@ public class MLCommonsClassLoader {
 
     @SuppressWarnings("unchecked")
     private static <T, S, I extends Object> S init(Map<T, Class<?>> map, T type, I in, Class<?> constructorParamClass) {
-        Class<?> clazz = map.get(type);
+        Class<?> clazz = lookup(map, type);
         if (clazz == null) {
             throw new IllegalArgumentException("Can't find class for type " + type);
         }
         try {
-            Constructor<?> constructor = clazz.getConstructor(constructorParamClass);
-            return (S) constructor.newInstance(in);
+            return (S) registry.newInstance(clazz, new Object[] { in }, constructorParamClass);
         } catch (Exception e) {
             Throwable cause = e.getCause();
             if (cause instanceof MLException || cause instanceof IllegalArgumentException) {
@@ -254,7 +309,7 @@ public class MLCommonsClassLoader {
     }
 
     public static boolean canInitMLInput(FunctionName functionName) {
-        return mlInputClassMap.containsKey(functionName);
+        return lookup(mlInputClassMap, functionName) != null;
     }
 
     public static <S> S initConnector(String name, Object[] initArgs, Class<?>... constructorParameterTypes) throws JsonParseException {
@@ -269,13 +324,12 @@ public class MLCommonsClassLoader {
 
     private static <T, S> S init(Map<T, Class<?>> map, T type, Object[] initArgs, Class<?>... constructorParameterTypes)
         throws JsonParseException {
-        Class<?> clazz = map.get(type);
+        Class<?> clazz = lookup(map, type);
         if (clazz == null) {
             throw new IllegalArgumentException("Can't find class for type " + type);
         }
         try {
-            Constructor<?> constructor = clazz.getConstructor(constructorParameterTypes);
-            return (S) constructor.newInstance(initArgs);
+            return (S) registry.newInstance(clazz, initArgs, constructorParameterTypes);
         } catch (Exception e) {
             Throwable cause = e.getCause();
             if (cause instanceof MLException) {
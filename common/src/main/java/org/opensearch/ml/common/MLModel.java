@@ -9,6 +9,7 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.ml.common.CommonValue.TENANT_ID_FIELD;
 import static org.opensearch.ml.common.CommonValue.USER;
 import static org.opensearch.ml.common.CommonValue.VERSION_2_19_0;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_6_0;
 import static org.opensearch.ml.common.connector.Connector.createConnector;
 import static org.opensearch.ml.common.utils.StringUtils.filteredParameterMap;
 
@@ -106,6 +107,8 @@ public class MLModel implements ToXContentObject {
     public static final String CURRENT_WORKER_NODE_COUNT_FIELD = "current_worker_node_count";
     public static final String PLANNING_WORKER_NODES_FIELD = "planning_worker_nodes";
     public static final String DEPLOY_TO_ALL_NODES_FIELD = "deploy_to_all_nodes";
+    public static final String AUTO_SCALED_WORKER_NODES_FIELD = "auto_scaled_worker_nodes";
+    public static final String IS_EVICTED_FIELD = "is_evicted";
 
     public static final String IS_HIDDEN_FIELD = "is_hidden";
     public static final String CONNECTOR_FIELD = "connector";
@@ -229,6 +232,8 @@ public class MLModel implements ToXContentObject {
     private Integer currentWorkerNodeCount; // model is deployed to how many nodes
     private String[] planningWorkerNodes; // plan to deploy model to these nodes
     private boolean deployToAllNodes;
+    private String[] autoScaledWorkerNodes; // nodes added to the deployment by model auto scaling
+    private Boolean isEvicted; // model was evicted from a worker node under memory pressure, deployed again on demand
 
     // is domain manager creates any special hidden model in the cluster this status
     // will be true. Otherwise,
@@ -301,6 +306,8 @@ public class MLModel implements ToXContentObject {
         Integer currentWorkerNodeCount,
         String[] planningWorkerNodes,
         boolean deployToAllNodes,
+        String[] autoScaledWorkerNodes,
+        Boolean isEvicted,
         Boolean isHidden,
         Connector connector,
         String connectorId,
@@ -337,6 +344,8 @@ public class MLModel implements ToXContentObject {
         this.currentWorkerNodeCount = currentWorkerNodeCount;
         this.planningWorkerNodes = planningWorkerNodes;
         this.deployToAllNodes = deployToAllNodes;
+        this.autoScaledWorkerNodes = autoScaledWorkerNodes;
+        this.isEvicted = isEvicted;
         this.isHidden = isHidden;
         this.connector = connector;
         this.connectorId = connectorId;
@@ -413,6 +422,10 @@ public class MLModel implements ToXContentObject {
                 modelInterface = input.readMap(StreamInput::readString, StreamInput::readString);
             }
             this.tenantId = streamInputVersion.onOrAfter(VERSION_2_19_0) ? input.readOptionalString() : null;
+            if (streamInputVersion.onOrAfter(VERSION_3_6_0)) {
+                this.autoScaledWorkerNodes = input.readOptionalStringArray();
+                this.isEvicted = input.readOptionalBoolean();
+            }
         }
     }
 
@@ -500,6 +513,10 @@ public class MLModel implements ToXContentObject {
         if (streamOutputVersion.onOrAfter(VERSION_2_19_0)) {
             out.writeOptionalString(tenantId);
         }
+        if (streamOutputVersion.onOrAfter(VERSION_3_6_0)) {
+            out.writeOptionalStringArray(autoScaledWorkerNodes);
+            out.writeOptionalBoolean(isEvicted);
+        }
     }
 
     @Override
@@ -592,6 +609,12 @@ public class MLModel implements ToXContentObject {
         if (deployToAllNodes) {
             builder.field(DEPLOY_TO_ALL_NODES_FIELD, deployToAllNodes);
         }
+        if (autoScaledWorkerNodes != null) {
+            builder.field(AUTO_SCALED_WORKER_NODES_FIELD, autoScaledWorkerNodes);
+        }
+        if (isEvicted != null) {
+            builder.field(IS_EVICTED_FIELD, isEvicted);
+        }
         if (isHidden != null) {
             builder.field(MLModel.IS_HIDDEN_FIELD, isHidden);
         }
@@ -650,6 +673,8 @@ public class MLModel implements ToXContentObject {
         Integer currentWorkerNodeCount = null;
         List<String> planningWorkerNodes = new ArrayList<>();
         boolean deployToAllNodes = false;
+        List<String> autoScaledWorkerNodes = null;
+        Boolean isEvicted = null;
         boolean isHidden = false;
         Connector connector = null;
         String connectorId = null;
@@ -755,6 +780,16 @@ public class MLModel implements ToXContentObject {
                 case DEPLOY_TO_ALL_NODES_FIELD:
                     deployToAllNodes = parser.booleanValue();
                     break;
+                case AUTO_SCALED_WORKER_NODES_FIELD:
+                    autoScaledWorkerNodes = new ArrayList<>();
+                    ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+                    while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                        autoScaledWorkerNodes.add(parser.text());
+                    }
+                    break;
+                case IS_EVICTED_FIELD:
+                    isEvicted = parser.booleanValue();
+                    break;
                 case IS_HIDDEN_FIELD:
                     isHidden = parser.booleanValue();
                     break;
@@ -833,6 +868,8 @@ public class MLModel implements ToXContentObject {
             .currentWorkerNodeCount(currentWorkerNodeCount)
             .planningWorkerNodes(planningWorkerNodes.toArray(new String[0]))
             .deployToAllNodes(deployToAllNodes)
+            .autoScaledWorkerNodes(autoScaledWorkerNodes == null ? null : autoScaledWorkerNodes.toArray(new String[0]))
+            .isEvicted(isEvicted)
             .isHidden(isHidden)
             .connector(connector)
             .connectorId(connectorId)
@@ -50,6 +50,8 @@ public class MLTask implements ToXContentObject, Writeable {
     public static final String ERROR_FIELD = "error";
     public static final String IS_ASYNC_TASK_FIELD = "is_async";
     public static final String REMOTE_JOB_FIELD = "remote_job";
+    // field of remote job, epoch millis of the last time the batch task poller fetched the remote job status
+    public static final String REMOTE_JOB_LAST_POLLED_TIME_FIELD = "last_polled_time";
     public static final String RESPONSE_FIELD = "response";
     public static final Version MINIMAL_SUPPORTED_VERSION_FOR_BATCH_PREDICTION_JOB = CommonValue.VERSION_2_17_0;
     public static final Version MINIMAL_SUPPORTED_VERSION_FOR_RESPONSE_FIELD = CommonValue.VERSION_3_0_0;
@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.connector;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_6_0;
 
 import java.io.IOException;
 import java.util.Locale;
@@ -37,6 +38,9 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
     public static final String MAX_RETRY_TIMES_FIELD = "max_retry_times";
     public static final String RETRY_BACKOFF_POLICY_FIELD = "retry_backoff_policy";
     public static final String SKIP_SSL_VERIFICATION_FIELD = "skip_ssl_verification";
+    public static final String MAX_RESPONSE_SIZE_BYTES_FIELD = "max_response_size_bytes";
+    public static final String HEDGE_DELAY_PERCENTILE_FIELD = "hedge_delay_percentile";
+    public static final String FIRST_BYTE_TIMEOUT_MILLIS_FIELD = "first_byte_timeout_millis";
 
     public static final Integer MAX_CONNECTION_DEFAULT_VALUE = Integer.valueOf(30);
     public static final Integer CONNECTION_TIMEOUT_DEFAULT_VALUE = Integer.valueOf(30000);
@@ -55,8 +59,13 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
     private Integer maxRetryTimes;
     private RetryBackoffPolicy retryBackoffPolicy;
     private Boolean skipSslVerification;
+    // max size of a response of the remote service, not limited if null
+    private Integer maxResponseSizeBytes;
+    // percentile of the remote invocation latency of the connector after which a hedged request is sent, not hedged if null
+    private Double hedgeDelayPercentile;
+    // max time to wait for the first chunk of a streaming response, only the read timeout applies if null
+    private Integer firstByteTimeoutMillis;
 
-    @Builder(toBuilder = true)
     public ConnectorClientConfig(
         Integer maxConnections,
         Integer connectionTimeout,
@@ -66,6 +75,35 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         Integer maxRetryTimes,
         RetryBackoffPolicy retryBackoffPolicy,
         Boolean skipSslVerification
+    ) {
+        this(
+            maxConnections,
+            connectionTimeout,
+            readTimeout,
+            retryBackoffMillis,
+            retryTimeoutSeconds,
+            maxRetryTimes,
+            retryBackoffPolicy,
+            skipSslVerification,
+            null,
+            null,
+            null
+        );
+    }
+
+    @Builder(toBuilder = true)
+    public ConnectorClientConfig(
+        Integer maxConnections,
+        Integer connectionTimeout,
+        Integer readTimeout,
+        Integer retryBackoffMillis,
+        Integer retryTimeoutSeconds,
+        Integer maxRetryTimes,
+        RetryBackoffPolicy retryBackoffPolicy,
+        Boolean skipSslVerification,
+        Integer maxResponseSizeBytes,
+        Double hedgeDelayPercentile,
+        Integer firstByteTimeoutMillis
     ) {
         this.maxConnections = maxConnections;
         this.connectionTimeout = connectionTimeout;
@@ -75,6 +113,9 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         this.maxRetryTimes = maxRetryTimes;
         this.retryBackoffPolicy = retryBackoffPolicy;
         this.skipSslVerification = skipSslVerification;
+        this.maxResponseSizeBytes = maxResponseSizeBytes;
+        this.hedgeDelayPercentile = hedgeDelayPercentile;
+        this.firstByteTimeoutMillis = firstByteTimeoutMillis;
     }
 
     public ConnectorClientConfig(StreamInput input) throws IOException {
@@ -91,6 +132,11 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
             }
             this.skipSslVerification = input.readOptionalBoolean();
         }
+        if (streamInputVersion.onOrAfter(VERSION_3_6_0)) {
+            this.maxResponseSizeBytes = input.readOptionalInt();
+            this.hedgeDelayPercentile = input.readOptionalDouble();
+            this.firstByteTimeoutMillis = input.readOptionalInt();
+        }
     }
 
     public ConnectorClientConfig() {
@@ -122,6 +168,11 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
             }
             out.writeOptionalBoolean(skipSslVerification);
         }
+        if (streamOutputVersion.onOrAfter(VERSION_3_6_0)) {
+            out.writeOptionalInt(maxResponseSizeBytes);
+            out.writeOptionalDouble(hedgeDelayPercentile);
+            out.writeOptionalInt(firstByteTimeoutMillis);
+        }
     }
 
     @Override
@@ -151,6 +202,15 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         if (skipSslVerification != null) {
             builder.field(SKIP_SSL_VERIFICATION_FIELD, skipSslVerification);
         }
+        if (maxResponseSizeBytes != null) {
+            builder.field(MAX_RESPONSE_SIZE_BYTES_FIELD, maxResponseSizeBytes);
+        }
+        if (hedgeDelayPercentile != null) {
+            builder.field(HEDGE_DELAY_PERCENTILE_FIELD, hedgeDelayPercentile);
+        }
+        if (firstByteTimeoutMillis != null) {
+            builder.field(FIRST_BYTE_TIMEOUT_MILLIS_FIELD, firstByteTimeoutMillis);
+        }
         return builder.endObject();
     }
 
@@ -168,6 +228,9 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         Integer maxRetryTimes = MAX_RETRY_TIMES_DEFAULT_VALUE;
         RetryBackoffPolicy retryBackoffPolicy = RETRY_BACKOFF_POLICY_DEFAULT_VALUE;
         Boolean skipSslVerification = SKIP_SSL_VERIFICATION_DEFAULT_VALUE;
+        Integer maxResponseSizeBytes = null;
+        Double hedgeDelayPercentile = null;
+        Integer firstByteTimeoutMillis = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -199,6 +262,24 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
                 case SKIP_SSL_VERIFICATION_FIELD:
                     skipSslVerification = parser.booleanValue();
                     break;
+                case MAX_RESPONSE_SIZE_BYTES_FIELD:
+                    maxResponseSizeBytes = parser.intValue();
+                    if (maxResponseSizeBytes <= 0) {
+                        throw new IllegalArgumentException("max_response_size_bytes must be a positive integer");
+                    }
+                    break;
+                case HEDGE_DELAY_PERCENTILE_FIELD:
+                    hedgeDelayPercentile = parser.doubleValue();
+                    if (hedgeDelayPercentile <= 0 || hedgeDelayPercentile >= 100) {
+                        throw new IllegalArgumentException("hedge_delay_percentile must be greater than 0 and less than 100");
+                    }
+                    break;
+                case FIRST_BYTE_TIMEOUT_MILLIS_FIELD:
+                    firstByteTimeoutMillis = parser.intValue();
+                    if (firstByteTimeoutMillis <= 0) {
+                        throw new IllegalArgumentException("first_byte_timeout_millis must be a positive integer");
+                    }
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -214,6 +295,9 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
             .maxRetryTimes(maxRetryTimes)
             .retryBackoffPolicy(retryBackoffPolicy)
             .skipSslVerification(skipSslVerification)
+            .maxResponseSizeBytes(maxResponseSizeBytes)
+            .hedgeDelayPercentile(hedgeDelayPercentile)
+            .firstByteTimeoutMillis(firstByteTimeoutMillis)
             .build();
     }
 }
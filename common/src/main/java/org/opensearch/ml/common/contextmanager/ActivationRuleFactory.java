@@ -27,6 +27,16 @@ public class ActivationRuleFactory {
      * @return a list of activation rules, or empty list if no valid rules found
      */
     public static List<ActivationRule> createRules(Map<String, Object> activationConfig) {
+        return createRules(activationConfig, new CachingTokenCounter(new CharacterBasedTokenCounter()));
+    }
+
+    /**
+     * Create activation rules from a configuration map.
+     * @param activationConfig the configuration map containing rule definitions
+     * @param tokenCounter the token counter used by token based rules
+     * @return a list of activation rules, or empty list if no valid rules found
+     */
+    public static List<ActivationRule> createRules(Map<String, Object> activationConfig, TokenCounter tokenCounter) {
         List<ActivationRule> rules = new ArrayList<>();
 
         if (activationConfig == null || activationConfig.isEmpty()) {
@@ -39,7 +49,7 @@ public class ActivationRuleFactory {
                 Object tokenValue = activationConfig.get(TOKENS_EXCEED_KEY);
                 int tokenThreshold = parseIntegerValue(tokenValue, TOKENS_EXCEED_KEY);
                 if (tokenThreshold > 0) {
-                    rules.add(new TokensExceedRule(tokenThreshold));
+                    rules.add(new TokensExceedRule(tokenThreshold, tokenCounter));
                     log.debug("Created TokensExceedRule with threshold: {}", tokenThreshold);
                 } else {
                     log.warn("Invalid token threshold value: {}. Must be positive integer.", tokenValue);
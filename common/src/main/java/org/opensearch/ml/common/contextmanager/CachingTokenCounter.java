@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.contextmanager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * Token counter that memoizes the token count of each message.
+ * Agent runners pass the same message instances to the context managers on every iteration, so only the newly appended
+ * messages are counted by the underlying counter. The least recently used counts are dropped when the cache is full.
+ * Truncation is delegated to the underlying counter.
+ */
+public class CachingTokenCounter implements TokenCounter {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    @Getter
+    private final TokenCounter delegate;
+    private final Map<String, Integer> counts;
+
+    public CachingTokenCounter(TokenCounter delegate) {
+        this(delegate, DEFAULT_MAX_ENTRIES);
+    }
+
+    public CachingTokenCounter(TokenCounter delegate, int maxEntries) {
+        this.delegate = delegate;
+        this.counts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public int count(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        synchronized (counts) {
+            Integer count = counts.get(text);
+            if (count != null) {
+                return count;
+            }
+        }
+        int count = delegate.count(text);
+        synchronized (counts) {
+            counts.put(text, count);
+        }
+        return count;
+    }
+
+    @Override
+    public String truncateFromEnd(String text, int maxTokens) {
+        return delegate.truncateFromEnd(text, maxTokens);
+    }
+
+    @Override
+    public String truncateFromBeginning(String text, int maxTokens) {
+        return delegate.truncateFromBeginning(text, maxTokens);
+    }
+
+    @Override
+    public String truncateMiddle(String text, int maxTokens) {
+        return delegate.truncateMiddle(text, maxTokens);
+    }
+}
@@ -28,6 +28,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ContextManagerContext {
 
+    private static final TokenCounter CHARACTER_BASED_TOKEN_COUNTER = new CharacterBasedTokenCounter();
+
     /**
      * The invocation state from the hook system
      */
@@ -73,31 +75,40 @@ public class ContextManagerContext {
      * @return estimated token count
      */
     public int getEstimatedTokenCount() {
+        return getTokenCount(CHARACTER_BASED_TOKEN_COUNTER);
+    }
+
+    /**
+     * Get the total token count for the current context with the given token counter.
+     * @param tokenCounter the token counter, e.g. a {@link CachingTokenCounter} kept across agent iterations
+     * @return token count
+     */
+    public int getTokenCount(TokenCounter tokenCounter) {
         int tokenCount = 0;
 
-        // Estimate tokens for system prompt
         if (systemPrompt != null) {
-            tokenCount += estimateTokens(systemPrompt);
+            tokenCount += tokenCounter.count(systemPrompt);
         }
 
-        // Estimate tokens for user prompt
         if (userPrompt != null) {
-            tokenCount += estimateTokens(userPrompt);
+            tokenCount += tokenCounter.count(userPrompt);
         }
 
-        // Estimate tokens for chat history
-        for (Interaction interaction : chatHistory) {
-            if (interaction.getInput() != null) {
-                tokenCount += estimateTokens(interaction.getInput());
-            }
-            if (interaction.getResponse() != null) {
-                tokenCount += estimateTokens(interaction.getResponse());
+        if (chatHistory != null) {
+            for (Interaction interaction : chatHistory) {
+                if (interaction.getInput() != null) {
+                    tokenCount += tokenCounter.count(interaction.getInput());
+                }
+                if (interaction.getResponse() != null) {
+                    tokenCount += tokenCounter.count(interaction.getResponse());
+                }
             }
         }
 
-        // Estimate tokens for tool interactions
-        for (String interaction : toolInteractions) {
-            tokenCount += estimateTokens(interaction);
+        if (toolInteractions != null) {
+            for (String interaction : toolInteractions) {
+                tokenCount += tokenCounter.count(interaction);
+            }
         }
 
         return tokenCount;
@@ -111,21 +122,6 @@ public class ContextManagerContext {
         return chatHistory.size();
     }
 
-    /**
-     * Simple token estimation based on character count.
-     * This is a fallback method - more sophisticated token counting should be implemented
-     * in dedicated TokenCounter implementations.
-     * @param text the text to estimate tokens for
-     * @return estimated token count
-     */
-    private int estimateTokens(String text) {
-        if (text == null || text.isEmpty()) {
-            return 0;
-        }
-        // Rough estimation: 1 token per 4 characters
-        return (int) Math.ceil(text.length() / 4.0);
-    }
-
     /**
      * Add a tool interaction to the context.
      * @param interaction the tool interaction to add
@@ -10,12 +10,19 @@ import lombok.Getter;
 
 /**
  * Activation rule that triggers when the context token count exceeds a specified threshold.
+ * The rule keeps its token counter across evaluations, so with a {@link CachingTokenCounter} each agent iteration only
+ * counts the newly added messages.
  */
 @AllArgsConstructor
 @Getter
 public class TokensExceedRule implements ActivationRule {
 
     private final int tokenThreshold;
+    private final TokenCounter tokenCounter;
+
+    public TokensExceedRule(int tokenThreshold) {
+        this(tokenThreshold, new CachingTokenCounter(new CharacterBasedTokenCounter()));
+    }
 
     @Override
     public boolean evaluate(ContextManagerContext context) {
@@ -23,7 +30,7 @@ public class TokensExceedRule implements ActivationRule {
             return false;
         }
 
-        int currentTokenCount = context.getEstimatedTokenCount();
+        int currentTokenCount = context.getTokenCount(tokenCounter);
         return currentTokenCount > tokenThreshold;
     }
 
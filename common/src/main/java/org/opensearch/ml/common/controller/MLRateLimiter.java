@@ -6,12 +6,14 @@
 package org.opensearch.ml.common.controller;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_6_0;
 
 import java.io.IOException;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 import org.opensearch.OpenSearchParseException;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -29,19 +31,33 @@ import lombok.Setter;
 public class MLRateLimiter implements ToXContentObject, Writeable {
     public static final String LIMIT_FIELD = "limit";
     public static final String UNIT_FIELD = "unit";
+    public static final String MAX_WAIT_FIELD = "max_wait";
+    public static final String MAX_QUEUE_SIZE_FIELD = "max_queue_size";
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 100;
 
     private String limit;
     private TimeUnit unit;
+    // Requests wait up to max wait for a token instead of being rejected immediately, disabled if not set
+    private TimeValue maxWait;
+    private Integer maxQueueSize;
 
-    @Builder(toBuilder = true)
     public MLRateLimiter(String limit, TimeUnit unit) {
+        this(limit, unit, null, null);
+    }
+
+    @Builder(toBuilder = true)
+    public MLRateLimiter(String limit, TimeUnit unit, TimeValue maxWait, Integer maxQueueSize) {
         this.limit = limit;
         this.unit = unit;
+        this.maxWait = maxWait;
+        this.maxQueueSize = maxQueueSize;
     }
 
     public static MLRateLimiter parse(XContentParser parser) throws IOException {
         String limit = null;
         TimeUnit unit = null;
+        TimeValue maxWait = null;
+        Integer maxQueueSize = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -63,12 +79,24 @@ public class MLRateLimiter implements ToXContentObject, Writeable {
                 case UNIT_FIELD:
                     unit = TimeUnit.valueOf(parser.text());
                     break;
+                case MAX_WAIT_FIELD:
+                    maxWait = TimeValue.parseTimeValue(parser.text(), MAX_WAIT_FIELD);
+                    if (maxWait.nanos() < 0) {
+                        throw new OpenSearchParseException("Max wait field must not be negative.");
+                    }
+                    break;
+                case MAX_QUEUE_SIZE_FIELD:
+                    maxQueueSize = parser.intValue();
+                    if (maxQueueSize <= 0) {
+                        throw new OpenSearchParseException("Max queue size field must be a positive number.");
+                    }
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new MLRateLimiter(limit, unit);
+        return new MLRateLimiter(limit, unit, maxWait, maxQueueSize);
     }
 
     public MLRateLimiter(StreamInput in) throws IOException {
@@ -76,6 +104,10 @@ public class MLRateLimiter implements ToXContentObject, Writeable {
         if (in.readBoolean()) {
             this.unit = in.readEnum(TimeUnit.class);
         }
+        if (in.getVersion().onOrAfter(VERSION_3_6_0)) {
+            this.maxWait = in.readOptionalTimeValue();
+            this.maxQueueSize = in.readOptionalInt();
+        }
     }
 
     @Override
@@ -87,6 +119,10 @@ public class MLRateLimiter implements ToXContentObject, Writeable {
         } else {
             out.writeBoolean(false);
         }
+        if (out.getVersion().onOrAfter(VERSION_3_6_0)) {
+            out.writeOptionalTimeValue(maxWait);
+            out.writeOptionalInt(maxQueueSize);
+        }
     }
 
     @Override
@@ -98,6 +134,12 @@ public class MLRateLimiter implements ToXContentObject, Writeable {
         if (unit != null) {
             builder.field(UNIT_FIELD, unit);
         }
+        if (maxWait != null) {
+            builder.field(MAX_WAIT_FIELD, maxWait.getStringRep());
+        }
+        if (maxQueueSize != null) {
+            builder.field(MAX_QUEUE_SIZE_FIELD, maxQueueSize);
+        }
         builder.endObject();
         return builder;
     }
@@ -109,6 +151,12 @@ public class MLRateLimiter implements ToXContentObject, Writeable {
         if (updateContent.getUnit() != null) {
             this.unit = updateContent.getUnit();
         }
+        if (updateContent.getMaxWait() != null) {
+            this.maxWait = updateContent.getMaxWait();
+        }
+        if (updateContent.getMaxQueueSize() != null) {
+            this.maxQueueSize = updateContent.getMaxQueueSize();
+        }
     }
 
     public static MLRateLimiter update(MLRateLimiter rateLimiter, MLRateLimiter updateContent) {
@@ -139,7 +187,10 @@ public class MLRateLimiter implements ToXContentObject, Writeable {
             return false;
         } else
             return (!Objects.equals(updateContent.getLimit(), rateLimiter.getLimit()) && updateContent.getLimit() != null)
-                || (!Objects.equals(updateContent.getUnit(), rateLimiter.getUnit()) && updateContent.getUnit() != null);
+                || (!Objects.equals(updateContent.getUnit(), rateLimiter.getUnit()) && updateContent.getUnit() != null)
+                || (!Objects.equals(updateContent.getMaxWait(), rateLimiter.getMaxWait()) && updateContent.getMaxWait() != null)
+                || (!Objects.equals(updateContent.getMaxQueueSize(), rateLimiter.getMaxQueueSize())
+                    && updateContent.getMaxQueueSize() != null);
     }
 
     /**
@@ -156,7 +207,8 @@ public class MLRateLimiter implements ToXContentObject, Writeable {
         } else {
             return updateContent.isValid()
                 || (rateLimiter.getUnit() != null && updateContent.getLimit() != null)
-                || (rateLimiter.getLimit() != null && updateContent.getUnit() != null);
+                || (rateLimiter.getLimit() != null && updateContent.getUnit() != null)
+                || (rateLimiter.isValid() && (updateContent.getMaxWait() != null || updateContent.getMaxQueueSize() != null));
         }
     }
 
@@ -165,6 +217,17 @@ public class MLRateLimiter implements ToXContentObject, Writeable {
     }
 
     public boolean isEmpty() {
-        return (this.unit == null && this.limit == null);
+        return (this.unit == null && this.limit == null && this.maxWait == null && this.maxQueueSize == null);
+    }
+
+    /**
+     * Requests wait for a token if max wait is set to a positive value, otherwise they are rejected immediately.
+     */
+    public boolean isWaitingEnabled() {
+        return this.maxWait != null && this.maxWait.nanos() > 0;
+    }
+
+    public int getMaxQueueSizeOrDefault() {
+        return this.maxQueueSize != null ? this.maxQueueSize : DEFAULT_MAX_QUEUE_SIZE;
     }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.input.parameter.textembedding;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_6_0;
 
 import java.io.IOException;
 import java.util.Locale;
@@ -34,7 +35,7 @@ import lombok.Data;
  * Use this parameter only if the model is asymmetric and has been registered with the corresponding
  * `query_prefix` and `passage_prefix` configuration parameters.
  * <p>
- * Also supports embedding format control for sparse encoding algorithms.
+ * Also supports embedding format control and pruning of the output tokens for sparse encoding algorithms.
  */
 @Data
 @MLAlgoParameter(algorithms = { FunctionName.TEXT_EMBEDDING, FunctionName.SPARSE_ENCODING, FunctionName.SPARSE_TOKENIZE })
@@ -62,10 +63,29 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
         it -> parse(it)
     );
 
-    @Builder(toBuilder = true)
     public AsymmetricTextEmbeddingParameters(EmbeddingContentType embeddingContentType, SparseEmbeddingFormat sparseEmbeddingFormat) {
+        this(embeddingContentType, sparseEmbeddingFormat, null, null);
+    }
+
+    @Builder(toBuilder = true)
+    public AsymmetricTextEmbeddingParameters(
+        EmbeddingContentType embeddingContentType,
+        SparseEmbeddingFormat sparseEmbeddingFormat,
+        SparsePruneType pruneType,
+        Float pruneRatio
+    ) {
         this.embeddingContentType = embeddingContentType;
         this.sparseEmbeddingFormat = sparseEmbeddingFormat != null ? sparseEmbeddingFormat : SparseEmbeddingFormat.WORD;
+        if (pruneType != null && pruneType != SparsePruneType.NONE) {
+            if (pruneRatio == null) {
+                throw new IllegalArgumentException(
+                    PRUNE_RATIO_FIELD + " is required when " + PRUNE_TYPE_FIELD + " is " + pruneType.name().toLowerCase(Locale.ROOT)
+                );
+            }
+            pruneType.validateRatio(pruneRatio);
+        }
+        this.pruneType = pruneType;
+        this.pruneRatio = pruneRatio;
     }
 
     // Constructor for backward compatibility
@@ -84,11 +104,18 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
         } else {
             this.sparseEmbeddingFormat = SparseEmbeddingFormat.WORD;
         }
+        if (streamInputVersion.onOrAfter(VERSION_3_6_0)) {
+            String pruneTypeName = in.readOptionalString();
+            this.pruneType = pruneTypeName != null ? SparsePruneType.valueOf(pruneTypeName) : null;
+            this.pruneRatio = in.readOptionalFloat();
+        }
     }
 
     public static MLAlgoParams parse(XContentParser parser) throws IOException {
         EmbeddingContentType embeddingContentType = null;
         SparseEmbeddingFormat sparseEmbeddingFormat = null;
+        SparsePruneType pruneType = null;
+        Float pruneRatio = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -104,16 +131,24 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
                     String formatType = parser.text();
                     sparseEmbeddingFormat = SparseEmbeddingFormat.valueOf(formatType.toUpperCase(Locale.ROOT));
                     break;
+                case PRUNE_TYPE_FIELD:
+                    pruneType = SparsePruneType.from(parser.text());
+                    break;
+                case PRUNE_RATIO_FIELD:
+                    pruneRatio = parser.floatValue();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new AsymmetricTextEmbeddingParameters(embeddingContentType, sparseEmbeddingFormat);
+        return new AsymmetricTextEmbeddingParameters(embeddingContentType, sparseEmbeddingFormat, pruneType, pruneRatio);
     }
 
     public static final String EMBEDDING_CONTENT_TYPE_FIELD = "content_type";
     public static final String SPARSE_EMBEDDING_FORMAT_FIELD = "sparse_embedding_format";
+    public static final String PRUNE_TYPE_FIELD = "prune_type";
+    public static final String PRUNE_RATIO_FIELD = "prune_ratio";
 
     // The type of the content to be embedded
     private EmbeddingContentType embeddingContentType;
@@ -121,6 +156,11 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
     // The format of the embedding output
     private SparseEmbeddingFormat sparseEmbeddingFormat;
 
+    // How the tokens of a sparse embedding are pruned, overrides the prune type of the model config
+    private SparsePruneType pruneType;
+
+    private Float pruneRatio;
+
     @Override
     public int getVersion() {
         return 1;
@@ -138,6 +178,10 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
         if (streamOutputVersion.onOrAfter(Version.V_3_2_0)) {
             out.writeOptionalString(sparseEmbeddingFormat != null ? sparseEmbeddingFormat.name() : null);
         }
+        if (streamOutputVersion.onOrAfter(VERSION_3_6_0)) {
+            out.writeOptionalString(pruneType != null ? pruneType.name() : null);
+            out.writeOptionalFloat(pruneRatio);
+        }
     }
 
     @Override
@@ -147,6 +191,12 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
             xContentBuilder.field(EMBEDDING_CONTENT_TYPE_FIELD, embeddingContentType.name());
         }
         xContentBuilder.field(SPARSE_EMBEDDING_FORMAT_FIELD, sparseEmbeddingFormat.name());
+        if (pruneType != null) {
+            xContentBuilder.field(PRUNE_TYPE_FIELD, pruneType.name().toLowerCase(Locale.ROOT));
+        }
+        if (pruneRatio != null) {
+            xContentBuilder.field(PRUNE_RATIO_FIELD, pruneRatio);
+        }
         xContentBuilder.endObject();
         return xContentBuilder;
     }
@@ -169,6 +219,8 @@ public class AsymmetricTextEmbeddingParameters implements MLAlgoParams {
         }
         AsymmetricTextEmbeddingParameters other = (AsymmetricTextEmbeddingParameters) obj;
         return Objects.equals(embeddingContentType, other.embeddingContentType)
-            && Objects.equals(sparseEmbeddingFormat, other.sparseEmbeddingFormat);
+            && Objects.equals(sparseEmbeddingFormat, other.sparseEmbeddingFormat)
+            && Objects.equals(pruneType, other.pruneType)
+            && Objects.equals(pruneRatio, other.pruneRatio);
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.input.parameter.textembedding;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Enum defining how the tokens of a sparse embedding are pruned, the meaning of the prune ratio depends on the type.
+ */
+public enum SparsePruneType {
+    // keep all tokens
+    NONE,
+    // keep the tokens with the highest weights, the ratio is the number of tokens to keep
+    TOP_K,
+    // keep the tokens with the highest weights until their sum reaches the ratio of the sum of all weights
+    ALPHA_MASS,
+    // keep the tokens whose weight is at least the ratio of the max weight
+    MAX_RATIO,
+    // keep the tokens whose weight is at least the ratio
+    ABS_VALUE;
+
+    /**
+     * @param value name of the prune type, case-insensitive
+     * @throws IllegalArgumentException if it's not a prune type
+     */
+    public static SparsePruneType from(String value) {
+        try {
+            return SparsePruneType.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "Invalid sparse prune type: " + value + ", valid values are " + Arrays
+                    .stream(values())
+                    .map(type -> type.name().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.joining(", "))
+            );
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the ratio is not valid for the prune type
+     */
+    public void validateRatio(float ratio) {
+        switch (this) {
+            case TOP_K:
+                if (ratio < 1 || ratio != Math.rint(ratio)) {
+                    throw new IllegalArgumentException("Prune ratio of top_k must be a positive integer, got " + ratio);
+                }
+                break;
+            case ALPHA_MASS:
+            case MAX_RATIO:
+                if (!(ratio >= 0 && ratio < 1)) {
+                    throw new IllegalArgumentException(
+                        "Prune ratio of " + name().toLowerCase(Locale.ROOT) + " must be in [0, 1), got " + ratio
+                    );
+                }
+                break;
+            case ABS_VALUE:
+                if (!(ratio >= 0) || Float.isInfinite(ratio)) {
+                    throw new IllegalArgumentException("Prune ratio of abs_value must be a non-negative number, got " + ratio);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+}
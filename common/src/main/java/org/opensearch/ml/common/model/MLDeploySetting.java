@@ -28,16 +28,24 @@ import lombok.Setter;
 public class MLDeploySetting implements ToXContentObject, Writeable {
     public static final String IS_AUTO_DEPLOY_ENABLED_FIELD = "is_auto_deploy_enabled";
     public static final String MODEL_TTL_MINUTES_FIELD = "model_ttl_minutes";
+    public static final String IS_REQUEST_COALESCING_ENABLED_FIELD = "is_request_coalescing_enabled";
     private static final long DEFAULT_TTL_MINUTES = -1;
     public static final Version MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL = CommonValue.VERSION_2_14_0;
 
     private Boolean isAutoDeployEnabled;
     private Long modelTTLInMinutes; // in minutes
+    // identical remote predict requests in flight on a node share one call to the remote model
+    private Boolean isRequestCoalescingEnabled;
 
-    @Builder(toBuilder = true)
     public MLDeploySetting(Boolean isAutoDeployEnabled, Long modelTTLInMinutes) {
+        this(isAutoDeployEnabled, modelTTLInMinutes, null);
+    }
+
+    @Builder(toBuilder = true)
+    public MLDeploySetting(Boolean isAutoDeployEnabled, Long modelTTLInMinutes, Boolean isRequestCoalescingEnabled) {
         this.isAutoDeployEnabled = isAutoDeployEnabled;
         this.modelTTLInMinutes = modelTTLInMinutes;
+        this.isRequestCoalescingEnabled = isRequestCoalescingEnabled;
         if (modelTTLInMinutes == null) {
             this.modelTTLInMinutes = DEFAULT_TTL_MINUTES;
         }
@@ -49,6 +57,9 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
         if (streamInputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             this.modelTTLInMinutes = in.readOptionalLong();
         }
+        if (streamInputVersion.onOrAfter(CommonValue.VERSION_3_6_0)) {
+            this.isRequestCoalescingEnabled = in.readOptionalBoolean();
+        }
     }
 
     @Override
@@ -58,11 +69,15 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
         if (streamOutputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             out.writeOptionalLong(modelTTLInMinutes);
         }
+        if (streamOutputVersion.onOrAfter(CommonValue.VERSION_3_6_0)) {
+            out.writeOptionalBoolean(isRequestCoalescingEnabled);
+        }
     }
 
     public static MLDeploySetting parse(XContentParser parser) throws IOException {
         Boolean isAutoDeployEnabled = null;
         Long modelTTLMinutes = null;
+        Boolean isRequestCoalescingEnabled = null;
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
             String fieldName = parser.currentName();
@@ -71,6 +86,9 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
                 case IS_AUTO_DEPLOY_ENABLED_FIELD:
                     isAutoDeployEnabled = parser.booleanValue();
                     break;
+                case IS_REQUEST_COALESCING_ENABLED_FIELD:
+                    isRequestCoalescingEnabled = parser.booleanValue();
+                    break;
                 case MODEL_TTL_MINUTES_FIELD:
                     modelTTLMinutes = parser.longValue();
                 default:
@@ -78,7 +96,7 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
                     break;
             }
         }
-        return new MLDeploySetting(isAutoDeployEnabled, modelTTLMinutes);
+        return new MLDeploySetting(isAutoDeployEnabled, modelTTLMinutes, isRequestCoalescingEnabled);
     }
 
     @Override
@@ -90,6 +108,9 @@ public class MLDeploySetting implements ToXContentObject, Writeable {
         if (modelTTLInMinutes != null) {
             builder.field(MODEL_TTL_MINUTES_FIELD, modelTTLInMinutes);
         }
+        if (isRequestCoalescingEnabled != null) {
+            builder.field(IS_REQUEST_COALESCING_ENABLED_FIELD, isRequestCoalescingEnabled);
+        }
         builder.endObject();
         return builder;
     }
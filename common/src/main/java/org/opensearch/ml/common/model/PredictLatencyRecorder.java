@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.model;
+
+/**
+ * Records the latency of a stage of a predict request.
+ */
+@FunctionalInterface
+public interface PredictLatencyRecorder {
+
+    PredictLatencyRecorder NOOP = (stage, durationInMs) -> {};
+
+    void record(PredictStage stage, double durationInMs);
+
+    /**
+     * Record the time elapsed since the given start time.
+     * @param stage predict stage
+     * @param startTimeInNanos start time from {@link System#nanoTime()}
+     */
+    default void recordSince(PredictStage stage, long startTimeInNanos) {
+        record(stage, (System.nanoTime() - startTimeInNanos) / 1e6);
+    }
+
+    /**
+     * Record the latency of a stage of a connector action, e.g. the remote invocation of a batch predict. The action is
+     * ignored unless the recorder keeps latencies per action.
+     * @param action connector action
+     * @param stage predict stage
+     * @param durationInMs latency in milliseconds
+     */
+    default void record(String action, PredictStage stage, double durationInMs) {
+        record(stage, durationInMs);
+    }
+
+    /**
+     * Record the time elapsed since the given start time for a stage of a connector action.
+     * @param action connector action
+     * @param stage predict stage
+     * @param startTimeInNanos start time from {@link System#nanoTime()}
+     */
+    default void recordSince(String action, PredictStage stage, long startTimeInNanos) {
+        record(action, stage, (System.nanoTime() - startTimeInNanos) / 1e6);
+    }
+}
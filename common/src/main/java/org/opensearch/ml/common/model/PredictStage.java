@@ -0,0 +1,26 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.model;
+
+/**
+ * Stages of a predict request whose latency is tracked.
+ */
+public enum PredictStage {
+    // waiting in the predict thread pool queue
+    QUEUE,
+    // building the payload of a remote model request
+    PREPARE_PAYLOAD,
+    // sending the request to the remote service until the whole response is received
+    REMOTE_INVOCATION,
+    // parsing and post-processing the response of the remote service
+    PROCESS_OUTPUT,
+    // running the model, for remote models this covers the remote stages
+    MODEL_INFERENCE,
+    // the whole predict request on the coordinating node
+    PREDICT_REQUEST,
+    // waiting for a rate limiter token of the model or the user
+    RATE_LIMIT_WAIT
+}
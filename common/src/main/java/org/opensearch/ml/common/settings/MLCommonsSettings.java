@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 
@@ -76,6 +77,43 @@ public final class MLCommonsSettings {
             Setting.Property.NodeScope,
             Setting.Property.Dynamic
         );
+    // Number of hits fetched per point-in-time page when loading search query input as training data
+    public static final Setting<Integer> ML_COMMONS_TRAINING_DATA_PAGE_SIZE = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "training_data.page_size",
+            1000,
+            1,
+            10000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Estimated in-memory size budget of the data frame built from search query input
+    public static final Setting<ByteSizeValue> ML_COMMONS_TRAINING_DATA_MAX_SIZE = Setting
+        .byteSizeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "training_data.max_size",
+            new ByteSizeValue(100L, ByteSizeUnit.MB),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // When enabled, search query input larger than the size budget is reservoir sampled instead of rejected
+    public static final Setting<Boolean> ML_COMMONS_TRAINING_DATA_SAMPLING_ENABLED = Setting
+        .boolSetting(
+            ML_PLUGIN_SETTING_PREFIX + "training_data.sampling_enabled",
+            false,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<TimeValue> ML_COMMONS_TRAINING_DATA_PIT_KEEP_ALIVE = Setting
+        .positiveTimeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "training_data.pit_keep_alive",
+            TimeValue.timeValueMinutes(1),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Integer> ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE = Setting
         .intSetting(
             ML_PLUGIN_SETTING_PREFIX + "max_deploy_model_tasks_per_node",
@@ -102,6 +140,18 @@ public final class MLCommonsSettings {
             Setting.Property.Dynamic
         );
 
+    // Interval to send the full model routing table to all nodes, only routing changes are sent between full sync ups.
+    // Set as 0 to always send the full model routing table.
+    public static final Setting<Integer> ML_COMMONS_SYNC_UP_JOB_FULL_SYNC_INTERVAL_IN_SECONDS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "sync_up_job_full_sync_interval_in_seconds",
+            60,
+            0,
+            86400,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Integer> ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS = Setting
         .intSetting(
             ML_PLUGIN_SETTING_PREFIX + "ml_task_timeout_in_seconds",
@@ -121,6 +171,104 @@ public final class MLCommonsSettings {
             Setting.Property.Dynamic
         );
 
+    // Max number of padded tokens in one batch when a text similarity (cross encoder) model scores several documents.
+    // The value is applied when the model is deployed.
+    public static final Setting<Integer> ML_COMMONS_TEXT_SIMILARITY_MAX_BATCH_TOKENS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "text_similarity.max_batch_tokens",
+            8192,
+            1,
+            1_000_000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Cache the embeddings of text docs returned by remote models on each node, the size and expiry apply on node start.
+    public static final Setting<Boolean> ML_COMMONS_REMOTE_EMBEDDING_CACHE_ENABLED = Setting
+        .boolSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_embedding_cache.enabled",
+            false,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<ByteSizeValue> ML_COMMONS_REMOTE_EMBEDDING_CACHE_SIZE = Setting
+        .memorySizeSetting(ML_PLUGIN_SETTING_PREFIX + "remote_embedding_cache.size", "1%", Setting.Property.NodeScope);
+
+    public static final Setting<TimeValue> ML_COMMONS_REMOTE_EMBEDDING_CACHE_EXPIRE = Setting
+        .positiveTimeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_embedding_cache.expire",
+            TimeValue.timeValueHours(1),
+            Setting.Property.NodeScope
+        );
+
+    public static final Setting<Integer> ML_COMMONS_REMOTE_HEDGED_REQUESTS_MAX_IN_FLIGHT = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_hedged_requests.max_in_flight",
+            32,
+            0,
+            10_000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Fail fast the requests to a remote connector while its failure rate over the last calls is too high.
+    public static final Setting<Boolean> ML_COMMONS_REMOTE_CIRCUIT_BREAKER_ENABLED = Setting
+        .boolSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_circuit_breaker.enabled",
+            false,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Integer> ML_COMMONS_REMOTE_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_circuit_breaker.failure_rate_threshold",
+            50,
+            1,
+            100,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Integer> ML_COMMONS_REMOTE_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_circuit_breaker.sliding_window_size",
+            100,
+            1,
+            10_000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Integer> ML_COMMONS_REMOTE_CIRCUIT_BREAKER_MINIMUM_CALLS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_circuit_breaker.minimum_calls",
+            20,
+            1,
+            10_000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<TimeValue> ML_COMMONS_REMOTE_CIRCUIT_BREAKER_OPEN_DURATION = Setting
+        .positiveTimeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_circuit_breaker.open_duration",
+            TimeValue.timeValueSeconds(30),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Integer> ML_COMMONS_REMOTE_CIRCUIT_BREAKER_HALF_OPEN_PROBES = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_circuit_breaker.half_open_probes",
+            3,
+            1,
+            100,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<String> ML_COMMONS_TRUSTED_URL_REGEX = Setting
         .simpleString(
             ML_PLUGIN_SETTING_PREFIX + "trusted_url_regex",
@@ -184,6 +332,92 @@ public final class MLCommonsSettings {
             Setting.Property.Dynamic
         );
 
+    // Evict the least recently used idle local models of a node under memory pressure or to make room for a new model,
+    // they're deployed again on demand if model auto deploy is enabled.
+    public static final Setting<Boolean> ML_COMMONS_MODEL_EVICTION_ENABLED = Setting
+        .boolSetting(ML_PLUGIN_SETTING_PREFIX + "model_eviction.enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    public static final Setting<TimeValue> ML_COMMONS_MODEL_EVICTION_MIN_IDLE_TIME = Setting
+        .timeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_eviction.min_idle_time",
+            TimeValue.timeValueMinutes(10),
+            TimeValue.timeValueSeconds(0),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // How often each node checks its memory circuit breakers to evict an idle local model under memory pressure.
+    public static final Setting<TimeValue> ML_COMMONS_MODEL_EVICTION_CHECK_INTERVAL = Setting
+        .timeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_eviction.check_interval",
+            TimeValue.timeValueSeconds(10),
+            TimeValue.timeValueSeconds(1),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Opt-in autoscaler on the cluster manager which adds worker nodes to hot local models and removes them once the model goes idle.
+    public static final Setting<Boolean> ML_COMMONS_MODEL_AUTO_SCALE_ENABLED = Setting
+        .boolSetting(ML_PLUGIN_SETTING_PREFIX + "model_auto_scale.enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    public static final Setting<Integer> ML_COMMONS_MODEL_AUTO_SCALE_INTERVAL_IN_SECONDS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_auto_scale.interval_in_seconds",
+            60,
+            10,
+            86400,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Predict requests per second per worker node above which a model is considered hot.
+    public static final Setting<Integer> ML_COMMONS_MODEL_AUTO_SCALE_UP_PREDICT_RATE = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_auto_scale.scale_up_predict_rate",
+            50,
+            1,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Average executing ML task count of the worker nodes above which a model is considered hot.
+    public static final Setting<Integer> ML_COMMONS_MODEL_AUTO_SCALE_UP_QUEUE_DEPTH = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_auto_scale.scale_up_queue_depth",
+            10,
+            1,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Number of consecutive rounds a model must stay hot (or idle) before worker nodes are added (or removed).
+    public static final Setting<Integer> ML_COMMONS_MODEL_AUTO_SCALE_SUSTAINED_INTERVALS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_auto_scale.sustained_intervals",
+            3,
+            1,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Integer> ML_COMMONS_MODEL_AUTO_SCALE_MAX_WORKER_NODES = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_auto_scale.max_worker_nodes",
+            4,
+            1,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<TimeValue> ML_COMMONS_MODEL_AUTO_SCALE_COOLDOWN = Setting
+        .timeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "model_auto_scale.cooldown",
+            TimeValue.timeValueMinutes(10),
+            TimeValue.timeValueSeconds(0),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     // This setting is to enable/disable model url in model register API.
     public static final Setting<Boolean> ML_COMMONS_ALLOW_MODEL_URL = Setting
         .boolSetting(
@@ -399,6 +633,34 @@ public final class MLCommonsSettings {
             Setting.Property.Dynamic
         );
 
+    public static final Setting<Integer> ML_COMMONS_REMOTE_JOB_POLL_MAX_CONCURRENT_REQUESTS_PER_CONNECTOR = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_job.poll.max_concurrent_requests_per_connector",
+            5,
+            1,
+            100,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Integer> ML_COMMONS_REMOTE_JOB_POLL_MAX_REQUESTS_PER_CONNECTOR = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_job.poll.max_requests_per_connector",
+            100,
+            1,
+            10000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<TimeValue> ML_COMMONS_REMOTE_JOB_POLL_MAX_INTERVAL = Setting
+        .positiveTimeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_job.poll.max_interval",
+            TimeValue.timeValueMinutes(30),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Boolean> ML_COMMONS_CONTROLLER_ENABLED = Setting
         .boolSetting(ML_PLUGIN_SETTING_PREFIX + "controller_enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.common.transport.sync;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_6_0;
+
 import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +38,13 @@ public class MLSyncUpInput implements Writeable {
     // profile API has consistent data with model index.
     private Map<String, Boolean> deployToAllNodes;
 
+    // version of the model routing table sent by sync up cron, null if the routing change is not from sync up cron
+    private Long routingVersion;
+    // routing table version which the added/removed worker nodes are based on, null if this is not a routing delta
+    private Long baseRoutingVersion;
+    // key is node id, value is the local state version last acknowledged by sync up cron
+    private Map<String, Long> nodeStateVersions;
+
     @Builder
     public MLSyncUpInput(
         boolean getDeployedModels,
@@ -45,7 +54,10 @@ public class MLSyncUpInput implements Writeable {
         Map<String, Set<String>> runningDeployModelTasks,
         Map<String, Boolean> deployToAllNodes,
         boolean clearRoutingTable,
-        boolean syncRunningDeployModelTasks
+        boolean syncRunningDeployModelTasks,
+        Long routingVersion,
+        Long baseRoutingVersion,
+        Map<String, Long> nodeStateVersions
     ) {
         this.getDeployedModels = getDeployedModels;
         this.addedWorkerNodes = addedWorkerNodes;
@@ -55,6 +67,9 @@ public class MLSyncUpInput implements Writeable {
         this.deployToAllNodes = deployToAllNodes;
         this.clearRoutingTable = clearRoutingTable;
         this.syncRunningDeployModelTasks = syncRunningDeployModelTasks;
+        this.routingVersion = routingVersion;
+        this.baseRoutingVersion = baseRoutingVersion;
+        this.nodeStateVersions = nodeStateVersions;
     }
 
     public MLSyncUpInput() {}
@@ -78,6 +93,13 @@ public class MLSyncUpInput implements Writeable {
         }
         this.clearRoutingTable = in.readBoolean();
         this.syncRunningDeployModelTasks = in.readBoolean();
+        if (in.getVersion().onOrAfter(VERSION_3_6_0)) {
+            this.routingVersion = in.readOptionalLong();
+            this.baseRoutingVersion = in.readOptionalLong();
+            if (in.readBoolean()) {
+                this.nodeStateVersions = in.readMap(StreamInput::readString, StreamInput::readLong);
+            }
+        }
     }
 
     @Override
@@ -115,6 +137,16 @@ public class MLSyncUpInput implements Writeable {
         }
         out.writeBoolean(clearRoutingTable);
         out.writeBoolean(syncRunningDeployModelTasks);
+        if (out.getVersion().onOrAfter(VERSION_3_6_0)) {
+            out.writeOptionalLong(routingVersion);
+            out.writeOptionalLong(baseRoutingVersion);
+            if (nodeStateVersions != null && nodeStateVersions.size() > 0) {
+                out.writeBoolean(true);
+                out.writeMap(nodeStateVersions, StreamOutput::writeString, StreamOutput::writeLong);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 
 }
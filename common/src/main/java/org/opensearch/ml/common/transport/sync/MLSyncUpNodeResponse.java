@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.common.transport.sync;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_6_0;
+
 import java.io.IOException;
 
 import org.opensearch.Version;
@@ -26,6 +28,12 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
     private String[] runningDeployModelIds; // model ids which have deploying model task running
     private String[] runningDeployModelTaskIds; // deploy model task ids which is running
     private String[] expiredModelIds;
+    // version of the local state on node, null if node doesn't support incremental sync up
+    private Long stateVersion;
+    // true if local state didn't change since the version acknowledged by sync up cron, the model and task ids are not sent
+    private boolean stateUnchanged;
+    // version of the model routing table applied on node, null if unknown
+    private Long routingVersion;
 
     public MLSyncUpNodeResponse(
         DiscoveryNode node,
@@ -34,6 +42,20 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         String[] runningDeployModelIds,
         String[] runningDeployModelTaskIds,
         String[] expiredModelIds
+    ) {
+        this(node, modelStatus, deployedModelIds, runningDeployModelIds, runningDeployModelTaskIds, expiredModelIds, null, false, null);
+    }
+
+    public MLSyncUpNodeResponse(
+        DiscoveryNode node,
+        String modelStatus,
+        String[] deployedModelIds,
+        String[] runningDeployModelIds,
+        String[] runningDeployModelTaskIds,
+        String[] expiredModelIds,
+        Long stateVersion,
+        boolean stateUnchanged,
+        Long routingVersion
     ) {
         super(node);
         this.modelStatus = modelStatus;
@@ -41,6 +63,9 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         this.runningDeployModelIds = runningDeployModelIds;
         this.runningDeployModelTaskIds = runningDeployModelTaskIds;
         this.expiredModelIds = expiredModelIds;
+        this.stateVersion = stateVersion;
+        this.stateUnchanged = stateUnchanged;
+        this.routingVersion = routingVersion;
     }
 
     public MLSyncUpNodeResponse(StreamInput in) throws IOException {
@@ -53,6 +78,11 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         if (streamInputVersion.onOrAfter(MLDeploySetting.MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             this.expiredModelIds = in.readOptionalStringArray();
         }
+        if (streamInputVersion.onOrAfter(VERSION_3_6_0)) {
+            this.stateVersion = in.readOptionalLong();
+            this.stateUnchanged = in.readBoolean();
+            this.routingVersion = in.readOptionalLong();
+        }
     }
 
     public static MLSyncUpNodeResponse readStats(StreamInput in) throws IOException {
@@ -70,5 +100,10 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         if (streamOutputVersion.onOrAfter(MLDeploySetting.MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             out.writeOptionalStringArray(expiredModelIds);
         }
+        if (streamOutputVersion.onOrAfter(VERSION_3_6_0)) {
+            out.writeOptionalLong(stateVersion);
+            out.writeBoolean(stateUnchanged);
+            out.writeOptionalLong(routingVersion);
+        }
     }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.annotation.MLAlgoParameter;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.input.parameter.sample.SampleAlgoParams;
+
+public class MLClassRegistryTests {
+
+    private MLClassRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new MLClassRegistry();
+    }
+
+    @Test
+    public void testRegisterClass() {
+        registry.registerClass(MLAlgoParameter.class, FunctionName.SAMPLE_ALGO, SampleAlgoParams.class);
+
+        Map<Object, Class<?>> classes = registry.getClasses(MLAlgoParameter.class);
+        assertEquals(1, classes.size());
+        assertSame(SampleAlgoParams.class, classes.get(FunctionName.SAMPLE_ALGO));
+        assertTrue(registry.getClasses(org.opensearch.ml.common.annotation.Connector.class).isEmpty());
+    }
+
+    @Test
+    public void testNewInstance_RegisteredConstructor() throws ReflectiveOperationException {
+        SampleAlgoParams expected = new SampleAlgoParams(1);
+        registry.registerConstructor(SampleAlgoParams.class, args -> expected, Integer.class);
+
+        Object instance = registry.newInstance(SampleAlgoParams.class, new Object[] { 1 }, Integer.class);
+        assertSame(expected, instance);
+    }
+
+    @Test
+    public void testNewInstance_FallbackToReflection() throws ReflectiveOperationException {
+        Object instance = registry.newInstance(SampleAlgoParams.class, new Object[] { 5 }, Integer.class);
+        assertEquals(5, ((SampleAlgoParams) instance).getSampleParam().intValue());
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void testNewInstance_NoSuchConstructor() throws ReflectiveOperationException {
+        registry.newInstance(SampleAlgoParams.class, new Object[] { "test" }, String.class);
+    }
+
+    @Test
+    public void testNewInstance_ConstructorException() {
+        registry.registerConstructor(SampleAlgoParams.class, args -> { throw new MLException("test"); }, Integer.class);
+        try {
+            registry.newInstance(SampleAlgoParams.class, new Object[] { 1 }, Integer.class);
+        } catch (ReflectiveOperationException e) {
+            assertTrue(e instanceof InvocationTargetException);
+            assertTrue(e.getCause() instanceof MLException);
+            return;
+        }
+        throw new AssertionError("expected exception");
+    }
+
+    @Test
+    public void testLoadGenerated_NotFound() {
+        assertFalse(registry.loadGenerated("org.opensearch.ml.common.NotExistingRegistry", getClass().getClassLoader()));
+    }
+}
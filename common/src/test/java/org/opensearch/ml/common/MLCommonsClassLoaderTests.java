@@ -7,6 +7,7 @@ package org.opensearch.ml.common;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -184,6 +185,18 @@ public class MLCommonsClassLoaderTests {
         testClassLoader_MLInput_DlModel(FunctionName.SPARSE_TOKENIZE);
     }
 
+    @Test
+    public void testScanExtensionClassMapping_KeepsMappingAndMissesStayMissed() {
+        MLCommonsClassLoader.scanExtensionClassMapping();
+        MLCommonsClassLoader.scanExtensionClassMapping();
+
+        assertTrue(MLCommonsClassLoader.canInitMLInput(FunctionName.TEXT_EMBEDDING));
+        assertTrue(MLCommonsClassLoader.canInitMLInput(FunctionName.REMOTE));
+        // k-means has no ML input class, the lookup is a missed map lookup
+        assertFalse(MLCommonsClassLoader.canInitMLInput(FunctionName.KMEANS));
+        assertFalse(MLCommonsClassLoader.canInitMLInput(null));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testConnectorInitializationException() throws JsonParseException {
         // Example initialization parameters for connectors
@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.common;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -21,9 +22,11 @@ import org.json.JSONObject;
 import org.junit.Before;
 import org.junit.Test;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.connector.Connector;
@@ -187,6 +190,25 @@ public class MLModelTests {
         assertEquals("test_tenant", mlModelWithTenantId.getTenantId());
     }
 
+    @Test
+    public void autoScaledWorkerNodes_ParseAndReadInputStream() throws IOException {
+        MLModel mlModelWithAutoScaledNodes = mlModel.toBuilder().autoScaledWorkerNodes(new String[] { "node1", "node2" }).build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        mlModelWithAutoScaledNodes.toXContent(builder, EMPTY_PARAMS);
+        String mlModelContent = TestHelper.xContentBuilderToString(builder);
+        XContentParser parser = XContentType.JSON
+            .xContent()
+            .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, mlModelContent);
+        parser.nextToken();
+        MLModel parsedMLModel = function.apply(parser);
+        assertArrayEquals(new String[] { "node1", "node2" }, parsedMLModel.getAutoScaledWorkerNodes());
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        mlModelWithAutoScaledNodes.writeTo(bytesStreamOutput);
+        MLModel streamedMLModel = new MLModel(bytesStreamOutput.bytes().streamInput());
+        assertArrayEquals(new String[] { "node1", "node2" }, streamedMLModel.getAutoScaledWorkerNodes());
+    }
+
     @Test
     public void testGetTags_RemoteModel() {
         Map<String, String> parameters = new HashMap<>();
@@ -163,6 +163,130 @@ public class ConnectorClientConfigTest {
             .assertTrue("Exception message should mention invalid boolean value", exception.getMessage().contains("Failed to parse value"));
     }
 
+    @Test
+    public void writeTo_ReadFromStream_maxResponseSizeBytes() throws IOException {
+        ConnectorClientConfig config = ConnectorClientConfig.builder().maxResponseSizeBytes(1024).build();
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        config.writeTo(output);
+        ConnectorClientConfig readConfig = new ConnectorClientConfig(output.bytes().streamInput());
+        Assert.assertEquals(Integer.valueOf(1024), readConfig.getMaxResponseSizeBytes());
+
+        output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_0_0);
+        config.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_3_0_0);
+        Assert.assertNull(new ConnectorClientConfig(input).getMaxResponseSizeBytes());
+    }
+
+    @Test
+    public void parse_maxResponseSizeBytes() throws IOException {
+        XContentParser parser = XContentType.JSON
+            .xContent()
+            .createParser(
+                new NamedXContentRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents()),
+                null,
+                "{\"max_response_size_bytes\":1024}"
+            );
+        parser.nextToken();
+        ConnectorClientConfig config = ConnectorClientConfig.parse(parser);
+        Assert.assertEquals(Integer.valueOf(1024), config.getMaxResponseSizeBytes());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        config.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        Assert.assertTrue(TestHelper.xContentBuilderToString(builder).contains("\"max_response_size_bytes\":1024"));
+    }
+
+    @Test
+    public void parse_whenNonPositiveMaxResponseSizeBytes_thenFail() throws IOException {
+        XContentParser parser = XContentType.JSON
+            .xContent()
+            .createParser(
+                new NamedXContentRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents()),
+                null,
+                "{\"max_response_size_bytes\":0}"
+            );
+        parser.nextToken();
+
+        Exception exception = Assert.assertThrows(IllegalArgumentException.class, () -> ConnectorClientConfig.parse(parser));
+        Assert.assertEquals("max_response_size_bytes must be a positive integer", exception.getMessage());
+    }
+
+    @Test
+    public void parse_hedgeDelayPercentile() throws IOException {
+        XContentParser parser = XContentType.JSON
+            .xContent()
+            .createParser(
+                new NamedXContentRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents()),
+                null,
+                "{\"hedge_delay_percentile\":95.5}"
+            );
+        parser.nextToken();
+        ConnectorClientConfig config = ConnectorClientConfig.parse(parser);
+        Assert.assertEquals(Double.valueOf(95.5), config.getHedgeDelayPercentile());
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        config.writeTo(output);
+        Assert.assertEquals(Double.valueOf(95.5), new ConnectorClientConfig(output.bytes().streamInput()).getHedgeDelayPercentile());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        config.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        Assert.assertTrue(TestHelper.xContentBuilderToString(builder).contains("\"hedge_delay_percentile\":95.5"));
+    }
+
+    @Test
+    public void parse_whenHedgeDelayPercentileOutOfRange_thenFail() throws IOException {
+        XContentParser parser = XContentType.JSON
+            .xContent()
+            .createParser(
+                new NamedXContentRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents()),
+                null,
+                "{\"hedge_delay_percentile\":100}"
+            );
+        parser.nextToken();
+
+        Exception exception = Assert.assertThrows(IllegalArgumentException.class, () -> ConnectorClientConfig.parse(parser));
+        Assert.assertEquals("hedge_delay_percentile must be greater than 0 and less than 100", exception.getMessage());
+    }
+
+    @Test
+    public void parse_firstByteTimeoutMillis() throws IOException {
+        XContentParser parser = XContentType.JSON
+            .xContent()
+            .createParser(
+                new NamedXContentRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents()),
+                null,
+                "{\"first_byte_timeout_millis\":5000}"
+            );
+        parser.nextToken();
+        ConnectorClientConfig config = ConnectorClientConfig.parse(parser);
+        Assert.assertEquals(Integer.valueOf(5000), config.getFirstByteTimeoutMillis());
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        config.writeTo(output);
+        Assert.assertEquals(Integer.valueOf(5000), new ConnectorClientConfig(output.bytes().streamInput()).getFirstByteTimeoutMillis());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        config.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        Assert.assertTrue(TestHelper.xContentBuilderToString(builder).contains("\"first_byte_timeout_millis\":5000"));
+    }
+
+    @Test
+    public void parse_whenNonPositiveFirstByteTimeoutMillis_thenFail() throws IOException {
+        XContentParser parser = XContentType.JSON
+            .xContent()
+            .createParser(
+                new NamedXContentRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents()),
+                null,
+                "{\"first_byte_timeout_millis\":-1}"
+            );
+        parser.nextToken();
+
+        Exception exception = Assert.assertThrows(IllegalArgumentException.class, () -> ConnectorClientConfig.parse(parser));
+        Assert.assertEquals("first_byte_timeout_millis must be a positive integer", exception.getMessage());
+    }
+
     @Test
     public void testDefaultValues() {
         ConnectorClientConfig config = ConnectorClientConfig.builder().build();
@@ -174,6 +298,8 @@ public class ConnectorClientConfigTest {
         Assert.assertNull(config.getRetryTimeoutSeconds());
         Assert.assertNull(config.getMaxRetryTimes());
         Assert.assertNull(config.getRetryBackoffPolicy());
+        Assert.assertNull(config.getMaxResponseSizeBytes());
+        Assert.assertNull(config.getHedgeDelayPercentile());
     }
 
     @Test
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.contextmanager;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for CachingTokenCounter.
+ */
+public class CachingTokenCounterTest {
+
+    private TokenCounter delegate;
+    private CachingTokenCounter tokenCounter;
+
+    @Before
+    public void setUp() {
+        delegate = mock(TokenCounter.class);
+        when(delegate.count("first message")).thenReturn(3);
+        when(delegate.count("second message")).thenReturn(5);
+        when(delegate.count("third message")).thenReturn(7);
+        tokenCounter = new CachingTokenCounter(delegate, 2);
+    }
+
+    @Test
+    public void testCountIsMemoized() {
+        Assert.assertEquals(3, tokenCounter.count("first message"));
+        Assert.assertEquals(3, tokenCounter.count("first message"));
+        Assert.assertEquals(5, tokenCounter.count("second message"));
+
+        verify(delegate, times(1)).count("first message");
+        verify(delegate, times(1)).count("second message");
+    }
+
+    @Test
+    public void testCountWithNullAndEmptyText() {
+        Assert.assertEquals(0, tokenCounter.count(null));
+        Assert.assertEquals(0, tokenCounter.count(""));
+        verify(delegate, never()).count(null);
+        verify(delegate, never()).count("");
+    }
+
+    @Test
+    public void testLeastRecentlyUsedCountIsEvicted() {
+        tokenCounter.count("first message");
+        tokenCounter.count("second message");
+        // first message becomes the most recently used one
+        tokenCounter.count("first message");
+        tokenCounter.count("third message");
+
+        tokenCounter.count("first message");
+        tokenCounter.count("second message");
+
+        verify(delegate, times(1)).count("first message");
+        verify(delegate, times(2)).count("second message");
+        verify(delegate, times(1)).count("third message");
+    }
+
+    @Test
+    public void testTruncationIsDelegated() {
+        when(delegate.truncateFromEnd("text", 1)).thenReturn("end");
+        when(delegate.truncateFromBeginning("text", 1)).thenReturn("beginning");
+        when(delegate.truncateMiddle("text", 1)).thenReturn("middle");
+
+        Assert.assertEquals("end", tokenCounter.truncateFromEnd("text", 1));
+        Assert.assertEquals("beginning", tokenCounter.truncateFromBeginning("text", 1));
+        Assert.assertEquals("middle", tokenCounter.truncateMiddle("text", 1));
+        Assert.assertSame(delegate, tokenCounter.getDelegate());
+    }
+
+    @Test
+    public void testTokensExceedRuleCountsNewMessagesOnly() {
+        TokenCounter characterCounter = new CharacterBasedTokenCounter();
+        TokenCounter countingDelegate = mock(TokenCounter.class);
+        when(countingDelegate.count(anyString()))
+            .thenAnswer(invocation -> characterCounter.count(invocation.getArgument(0)));
+        TokensExceedRule rule = new TokensExceedRule(4, new CachingTokenCounter(countingDelegate));
+
+        ContextManagerContext context = ContextManagerContext.builder().build();
+        context.addToolInteraction("12345678");
+        Assert.assertFalse(rule.evaluate(context));
+
+        context.addToolInteraction("123456789");
+        Assert.assertTrue(rule.evaluate(context));
+
+        verify(countingDelegate, times(1)).count("12345678");
+        verify(countingDelegate, times(1)).count("123456789");
+    }
+}
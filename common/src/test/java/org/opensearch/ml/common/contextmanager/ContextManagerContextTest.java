@@ -54,6 +54,23 @@ public class ContextManagerContextTest {
         assertEquals(0, tokenCount);
     }
 
+    @Test
+    public void testGetTokenCountWithTokenCounter() {
+        ContextManagerContext context = ContextManagerContext.builder().systemPrompt("system").userPrompt("question").build();
+        context.addToolInteraction("tool interaction");
+
+        TokenCounter wordCounter = new CharacterBasedTokenCounter() {
+            @Override
+            public int count(String text) {
+                return text.split(" ").length;
+            }
+        };
+
+        assertEquals(4, context.getTokenCount(wordCounter));
+        // 6 / 4 + 8 / 4 + 16 / 4 characters, rounded up
+        assertEquals(8, context.getEstimatedTokenCount());
+    }
+
     @Test
     public void testGetMessageCountWithNoArgsConstructor() {
         ContextManagerContext context = new ContextManagerContext();
@@ -23,6 +23,7 @@ import org.junit.rules.ExpectedException;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
@@ -210,6 +211,55 @@ public class MLRateLimiterTest {
         assertFalse(MLRateLimiter.isDeployRequiredAfterUpdate(rateLimiterWithNumber, rateLimiterWithNumber2));
     }
 
+    @Test
+    public void parseAndReadInputStreamWithWaiting() throws Exception {
+        String inputStr = "{\"limit\":\"1\",\"unit\":\"MILLISECONDS\",\"max_wait\":\"5s\",\"max_queue_size\":10}";
+        testParseFromJsonString(inputStr, parsedInput -> {
+            assertEquals(TimeValue.timeValueSeconds(5), parsedInput.getMaxWait());
+            assertEquals(Integer.valueOf(10), parsedInput.getMaxQueueSize());
+            assertTrue(parsedInput.isWaitingEnabled());
+            try {
+                assertEquals(inputStr, serializationWithToXContent(parsedInput));
+                readInputStream(parsedInput, readInput -> {
+                    assertEquals(TimeValue.timeValueSeconds(5), readInput.getMaxWait());
+                    assertEquals(10, readInput.getMaxQueueSizeOrDefault());
+                });
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Test
+    public void parseWithIllegalMaxQueueSize() throws Exception {
+        exceptionRule.expect(OpenSearchParseException.class);
+        testParseFromJsonString("{\"limit\":\"1\",\"unit\":\"MILLISECONDS\",\"max_queue_size\":0}", parsedInput -> {});
+    }
+
+    @Test
+    public void testIsWaitingEnabled() {
+        assertFalse(rateLimiter.isWaitingEnabled());
+        assertEquals(MLRateLimiter.DEFAULT_MAX_QUEUE_SIZE, rateLimiter.getMaxQueueSizeOrDefault());
+        assertFalse(rateLimiter.toBuilder().maxWait(TimeValue.ZERO).build().isWaitingEnabled());
+        assertTrue(rateLimiter.toBuilder().maxWait(TimeValue.timeValueMillis(100)).build().isWaitingEnabled());
+    }
+
+    @Test
+    public void testRateLimiterUpdateWaiting() {
+        MLRateLimiter waitingUpdate = MLRateLimiter.builder().maxWait(TimeValue.timeValueSeconds(1)).maxQueueSize(5).build();
+
+        assertFalse(waitingUpdate.isEmpty());
+        assertTrue(MLRateLimiter.updateValidityPreCheck(rateLimiter, waitingUpdate));
+        assertTrue(MLRateLimiter.isDeployRequiredAfterUpdate(rateLimiter, waitingUpdate));
+        assertFalse(MLRateLimiter.isDeployRequiredAfterUpdate(rateLimiterWithUnit, waitingUpdate));
+
+        rateLimiter.update(waitingUpdate);
+        assertEquals("1", rateLimiter.getLimit());
+        assertEquals(TimeValue.timeValueSeconds(1), rateLimiter.getMaxWait());
+        assertEquals(Integer.valueOf(5), rateLimiter.getMaxQueueSize());
+        assertFalse(MLRateLimiter.updateValidityPreCheck(rateLimiter, waitingUpdate));
+    }
+
     private void testParseFromJsonString(String expectedInputStr, Consumer<MLRateLimiter> verify) throws Exception {
         XContentParser parser = XContentType.JSON
             .xContent()
@@ -16,10 +16,12 @@ import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.TestHelper;
 import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters;
 import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters.EmbeddingContentType;
 import org.opensearch.ml.common.input.parameter.textembedding.SparseEmbeddingFormat;
+import org.opensearch.ml.common.input.parameter.textembedding.SparsePruneType;
 
 public class AsymmetricTextEmbeddingParametersTest {
 
@@ -185,6 +187,68 @@ public class AsymmetricTextEmbeddingParametersTest {
         assertEquals(SparseEmbeddingFormat.WORD, parsedParams.getSparseEmbeddingFormat());
     }
 
+    @Test
+    public void parse_AsymmetricTextEmbeddingParameters_WithPrune() throws IOException {
+        AsymmetricTextEmbeddingParameters params = AsymmetricTextEmbeddingParameters
+            .builder()
+            .sparseEmbeddingFormat(SparseEmbeddingFormat.TOKEN_ID)
+            .pruneType(SparsePruneType.TOP_K)
+            .pruneRatio(50f)
+            .build();
+        TestHelper.testParse(params, function);
+        String paramsStr = "{\"sparse_embedding_format\": \"TOKEN_ID\", \"prune_type\": \"top_k\", \"prune_ratio\": 50}";
+        testParseFromString(params, paramsStr, function);
+    }
+
+    @Test
+    public void parse_AsymmetricTextEmbeddingParameters_PruneType_Invalid() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule
+            .expectMessage("Invalid sparse prune type: invalid, valid values are none, top_k, alpha_mass, max_ratio, abs_value");
+        testParseFromString(params, "{\"prune_type\": \"invalid\", \"prune_ratio\": 0.1}", function);
+    }
+
+    @Test
+    public void constructor_PruneRatioMissing() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("prune_ratio is required when prune_type is max_ratio");
+        AsymmetricTextEmbeddingParameters.builder().pruneType(SparsePruneType.MAX_RATIO).build();
+    }
+
+    @Test
+    public void constructor_PruneRatio_Invalid() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Prune ratio of alpha_mass must be in [0, 1), got 1.5");
+        AsymmetricTextEmbeddingParameters.builder().pruneType(SparsePruneType.ALPHA_MASS).pruneRatio(1.5f).build();
+    }
+
+    @Test
+    public void readInputStream_WithPrune() throws IOException {
+        readInputStream(AsymmetricTextEmbeddingParameters.builder().pruneType(SparsePruneType.ABS_VALUE).pruneRatio(0.2f).build());
+    }
+
+    @Test
+    public void readInputStream_VersionCompatibility_Pre_V_3_6_0() throws IOException {
+        AsymmetricTextEmbeddingParameters params = AsymmetricTextEmbeddingParameters
+            .builder()
+            .sparseEmbeddingFormat(SparseEmbeddingFormat.TOKEN_ID)
+            .pruneType(SparsePruneType.MAX_RATIO)
+            .pruneRatio(0.1f)
+            .build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(CommonValue.VERSION_3_5_0);
+        params.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(CommonValue.VERSION_3_5_0);
+        AsymmetricTextEmbeddingParameters parsedParams = new AsymmetricTextEmbeddingParameters(streamInput);
+
+        assertEquals(SparseEmbeddingFormat.TOKEN_ID, parsedParams.getSparseEmbeddingFormat());
+        assertNull(parsedParams.getPruneType());
+        assertNull(parsedParams.getPruneRatio());
+    }
+
     @Test
     public void toXContent_IncludesSparseEmbeddingFormat() throws IOException {
         AsymmetricTextEmbeddingParameters params = AsymmetricTextEmbeddingParameters
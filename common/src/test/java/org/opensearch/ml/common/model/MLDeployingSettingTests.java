@@ -55,6 +55,19 @@ public class MLDeployingSettingTests {
         readInputStream(deploySetting, parsedInput -> { assertTrue(parsedInput.getIsAutoDeployEnabled()); });
     }
 
+    @Test
+    public void requestCoalescing() throws Exception {
+        MLDeploySetting coalescingSetting = MLDeploySetting.builder().isRequestCoalescingEnabled(true).build();
+        final String expectedStr = "{\"model_ttl_minutes\":-1,\"is_request_coalescing_enabled\":true}";
+
+        assertEquals(expectedStr, serializationWithToXContent(coalescingSetting));
+        readInputStream(coalescingSetting, parsedInput -> assertTrue(parsedInput.getIsRequestCoalescingEnabled()));
+        testParseFromJsonString(expectedStr, parsedInput -> {
+            assertTrue(parsedInput.getIsRequestCoalescingEnabled());
+            assertEquals(-1L, parsedInput.getModelTTLInMinutes().longValue());
+        });
+    }
+
     @Test
     public void testToXContent() throws Exception {
         String jsonStr = serializationWithToXContent(deploySetting);
@@ -84,4 +84,23 @@ public class MLSyncUpInputTest {
         );
 
     }
+
+    @Test
+    public void testConstructorSerialization_RoutingVersion() throws IOException {
+        MLSyncUpInput syncUpInput = MLSyncUpInput
+            .builder()
+            .addedWorkerNodes(Map.of("modelId1", new String[] { "nodeId1" }))
+            .baseRoutingVersion(1L)
+            .routingVersion(2L)
+            .nodeStateVersions(Map.of("nodeId1", 3L))
+            .build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        syncUpInput.writeTo(bytesStreamOutput);
+        MLSyncUpInput parsedInput = new MLSyncUpInput(bytesStreamOutput.bytes().streamInput());
+
+        assertEquals(Long.valueOf(1L), parsedInput.getBaseRoutingVersion());
+        assertEquals(Long.valueOf(2L), parsedInput.getRoutingVersion());
+        assertEquals(Long.valueOf(3L), parsedInput.getNodeStateVersions().get("nodeId1"));
+    }
 }
@@ -79,4 +79,16 @@ public class MLSyncUpNodeResponseTest {
         assertArrayEquals(newResponse.getRunningDeployModelTaskIds(), response.getRunningDeployModelTaskIds());
 
     }
+
+    @Test
+    public void testSerializationDeserialization_StateVersion() throws IOException {
+        MLSyncUpNodeResponse response = new MLSyncUpNodeResponse(localNode, modelStatus, null, null, null, null, 3L, true, 5L);
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLSyncUpNodeResponse newResponse = new MLSyncUpNodeResponse(output.bytes().streamInput());
+        assertEquals(Long.valueOf(3L), newResponse.getStateVersion());
+        assertTrue(newResponse.isStateUnchanged());
+        assertEquals(Long.valueOf(5L), newResponse.getRoutingVersion());
+        assertNull(newResponse.getDeployedModelIds());
+    }
 }
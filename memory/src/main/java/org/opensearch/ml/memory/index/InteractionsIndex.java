@@ -128,6 +128,55 @@ public class InteractionsIndex {
         }
     }
 
+    /**
+     * Build the source of an interaction document
+     * @param conversationId The id of the conversation this interaction belongs to
+     * @param input the user (human) input into this interaction
+     * @param promptTemplate the prompt template used for this interaction
+     * @param response the GenAI response for this interaction
+     * @param origin the origin of the response for this interaction
+     * @param additionalInfo additional information used for constructing the LLM prompt
+     * @param timestamp when this interaction happened
+     * @param parentId the parent interactionId of this interaction, null if it is not a trace
+     * @param traceNumber the trace number for a parent interaction, null if it is not a trace
+     * @return the source of the interaction document
+     */
+    public static Map<String, Object> interactionSource(
+        String conversationId,
+        String input,
+        String promptTemplate,
+        String response,
+        String origin,
+        Map<String, String> additionalInfo,
+        Instant timestamp,
+        String parentId,
+        Integer traceNumber
+    ) {
+        Map<String, Object> sourceMap = new HashMap<>();
+        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, conversationId);
+        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, timestamp);
+        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_UPDATED_TIME_FIELD, timestamp);
+        sourceMap.put(ConversationalIndexConstants.PARENT_INTERACTIONS_ID_FIELD, parentId);
+        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD, traceNumber);
+
+        if (input != null && !input.trim().isEmpty()) {
+            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_INPUT_FIELD, input);
+        }
+        if (promptTemplate != null && !promptTemplate.trim().isEmpty()) {
+            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_PROMPT_TEMPLATE_FIELD, promptTemplate);
+        }
+        if (response != null && !response.trim().isEmpty()) {
+            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_RESPONSE_FIELD, response);
+        }
+        if (origin != null && !origin.trim().isEmpty()) {
+            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_ORIGIN_FIELD, origin);
+        }
+        if (additionalInfo != null && !additionalInfo.isEmpty()) {
+            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_ADDITIONAL_INFO_FIELD, additionalInfo);
+        }
+        return sourceMap;
+    }
+
     /**
      * Add an interaction to this index. Return the ID of the newly created interaction
      * @param conversationId The id of the conversation this interaction belongs to
@@ -162,28 +211,17 @@ public class InteractionsIndex {
             if (indexExists) {
                 this.conversationMetaIndex.checkAccess(conversationId, ActionListener.wrap(access -> {
                     if (access) {
-                        Map<String, Object> sourceMap = new HashMap<>();
-                        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, conversationId);
-                        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, timestamp);
-                        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_UPDATED_TIME_FIELD, timestamp);
-                        sourceMap.put(ConversationalIndexConstants.PARENT_INTERACTIONS_ID_FIELD, parentId);
-                        sourceMap.put(ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD, traceNumber);
-
-                        if (input != null && !input.trim().isEmpty()) {
-                            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_INPUT_FIELD, input);
-                        }
-                        if (promptTemplate != null && !promptTemplate.trim().isEmpty()) {
-                            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_PROMPT_TEMPLATE_FIELD, promptTemplate);
-                        }
-                        if (response != null && !response.trim().isEmpty()) {
-                            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_RESPONSE_FIELD, response);
-                        }
-                        if (origin != null && !origin.trim().isEmpty()) {
-                            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_ORIGIN_FIELD, origin);
-                        }
-                        if (additionalInfo != null && !additionalInfo.isEmpty()) {
-                            sourceMap.put(ConversationalIndexConstants.INTERACTIONS_ADDITIONAL_INFO_FIELD, additionalInfo);
-                        }
+                        Map<String, Object> sourceMap = interactionSource(
+                            conversationId,
+                            input,
+                            promptTemplate,
+                            response,
+                            origin,
+                            additionalInfo,
+                            timestamp,
+                            parentId,
+                            traceNumber
+                        );
                         IndexRequest request = Requests.indexRequest(INTERACTIONS_INDEX_NAME).source(sourceMap);
                         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
                             ActionListener<String> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
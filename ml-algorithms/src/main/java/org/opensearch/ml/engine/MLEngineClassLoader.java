@@ -5,18 +5,19 @@
 
 package org.opensearch.ml.engine;
 
-import java.lang.reflect.Constructor;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLClassRegistry;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.engine.annotation.ConnectorExecutor;
 import org.opensearch.ml.engine.annotation.Function;
@@ -29,13 +30,16 @@ import org.reflections.Reflections;
 public class MLEngineClassLoader {
 
     private static final Logger logger = LogManager.getLogger(MLEngineClassLoader.class);
+    private static final String GENERATED_REGISTRY_CLASS = "org.opensearch.ml.engine.GeneratedMLEngineClassRegistry";
+    private static final MLClassRegistry registry = new MLClassRegistry();
+    private static volatile boolean classpathScanned = false;
     /**
      * This map contains class mapping of enum types like {@link FunctionName}
      */
-    private static Map<Enum<?>, Class<?>> mlAlgoClassMap = new HashMap<>();
-    private static Map<String, Class<?>> connectorExecutorMap = new HashMap<>();
-    private static Map<String, Class<?>> ingesterMap = new HashMap<>();
-    private static Map<MLProcessorType, Class<?>> mlProcessorMap = new HashMap<>();
+    private static Map<Enum<?>, Class<?>> mlAlgoClassMap = new ConcurrentHashMap<>();
+    private static Map<String, Class<?>> connectorExecutorMap = new ConcurrentHashMap<>();
+    private static Map<String, Class<?>> ingesterMap = new ConcurrentHashMap<>();
+    private static Map<MLProcessorType, Class<?>> mlProcessorMap = new ConcurrentHashMap<>();
 
     /**
      * This map contains pre-created thread-safe ML objects.
@@ -45,9 +49,11 @@ public class MLEngineClassLoader {
     static {
         try {
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-                loadClassMapping();
-                loadIngestClassMapping();
-                loadMLProcessorClassMapping();
+                if (registry.loadGenerated(GENERATED_REGISTRY_CLASS, MLEngineClassLoader.class.getClassLoader())) {
+                    loadRegisteredClassMapping();
+                } else {
+                    scanClassMapping();
+                }
                 return null;
             });
         } catch (PrivilegedActionException e) {
@@ -55,6 +61,56 @@ public class MLEngineClassLoader {
         }
     }
 
+    private static void loadRegisteredClassMapping() {
+        registry.getClasses(Function.class).forEach((key, clazz) -> mlAlgoClassMap.put((Enum<?>) key, clazz));
+        registry.getClasses(ConnectorExecutor.class).forEach((key, clazz) -> connectorExecutorMap.put((String) key, clazz));
+        registry.getClasses(Ingester.class).forEach((key, clazz) -> ingesterMap.put((String) key, clazz));
+        registry.getClasses(Processor.class).forEach((key, clazz) -> mlProcessorMap.put((MLProcessorType) key, clazz));
+    }
+
+    private static void scanClassMapping() {
+        loadClassMapping();
+        loadIngestClassMapping();
+        loadMLProcessorClassMapping();
+        classpathScanned = true;
+    }
+
+    /**
+     * Scan the classpath once for annotated classes which are not in the generated registry, like extension classes.
+     * This is called when the plugin is initialized, lookups never scan the classpath, so a type which is not mapped
+     * is only a missed map lookup.
+     */
+    public static synchronized void scanExtensionClassMapping() {
+        if (classpathScanned) {
+            return;
+        }
+        try {
+            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                scanClassMapping();
+                return null;
+            });
+        } catch (PrivilegedActionException e) {
+            logger.error("Failed to scan extension class mapping in ML engine", e);
+        }
+    }
+
+    private static Class<?> findClass(Object type) {
+        if (type == null) {
+            return null;
+        }
+        Class<?> clazz = mlAlgoClassMap.get(type);
+        if (clazz == null) {
+            clazz = connectorExecutorMap.get(type);
+        }
+        if (clazz == null) {
+            clazz = ingesterMap.get(type);
+        }
+        if (clazz == null) {
+            clazz = mlProcessorMap.get(type);
+        }
+        return clazz;
+    }
+
     /**
      * Register thread-safe ML objects. "initInstance" method will get thread-safe object from
      * "mlObjects" map first. If not found, will try to create new instance. So if you are not
@@ -150,28 +206,16 @@ public class MLEngineClassLoader {
         if (mlObjects.containsKey(type)) {
             return (S) mlObjects.get(type);
         }
-        Class<?> clazz = mlAlgoClassMap.get(type);
-        if (clazz == null) {
-            clazz = connectorExecutorMap.get(type);
-        }
-        if (clazz == null) {
-            clazz = ingesterMap.get(type);
-        }
-        if (clazz == null) {
-            clazz = mlProcessorMap.get(type);
-        }
+        Class<?> clazz = findClass(type);
         if (clazz == null) {
             throw new IllegalArgumentException("Can't find class for type " + type);
         }
         try {
-            Constructor<?> constructor;
             S instance;
             try {
-                constructor = clazz.getConstructor(constructorParamClass);
-                instance = (S) constructor.newInstance(in);
+                instance = (S) registry.newInstance(clazz, new Object[] { in }, constructorParamClass);
             } catch (NoSuchMethodException e) {
-                constructor = clazz.getConstructor();
-                instance = (S) constructor.newInstance();
+                instance = (S) registry.newInstance(clazz, new Object[0]);
             }
             BeanUtils.populate(instance, properties);
             return instance;
@@ -41,10 +41,7 @@ public abstract class TextEmbeddingModel extends DLModel {
         for (String doc : textDocsInput.getDocs()) {
             Input input = new Input();
             input.add(doc);
-            if (mlParams instanceof AsymmetricTextEmbeddingParameters) {
-                AsymmetricTextEmbeddingParameters params = (AsymmetricTextEmbeddingParameters) mlParams;
-                input.add(AsymmetricTextEmbeddingParameters.SPARSE_EMBEDDING_FORMAT_FIELD, params.getSparseEmbeddingFormat().name());
-            }
+            addInputParameters(input, mlParams);
 
             output = getPredictor().predict(input);
             tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
@@ -52,6 +49,16 @@ public abstract class TextEmbeddingModel extends DLModel {
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    /**
+     * Add the parameters of the predict request used by the translator to its input.
+     */
+    protected void addInputParameters(Input input, MLAlgoParams mlParams) {
+        if (mlParams instanceof AsymmetricTextEmbeddingParameters) {
+            AsymmetricTextEmbeddingParameters params = (AsymmetricTextEmbeddingParameters) mlParams;
+            input.add(AsymmetricTextEmbeddingParameters.SPARSE_EMBEDDING_FORMAT_FIELD, params.getSparseEmbeddingFormat().name());
+        }
+    }
+
     protected boolean isAsymmetricModel(MLAlgoParams mlParams) {
         if (mlParams instanceof AsymmetricTextEmbeddingParameters) {
             // Check for the necessary prefixes in modelConfig
@@ -97,8 +97,6 @@ import org.opensearch.ml.engine.algorithms.remote.McpStreamableHttpConnectorExec
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.function_calling.FunctionCalling;
 import org.opensearch.ml.engine.memory.ConversationIndexMemory;
-import org.opensearch.ml.engine.tools.McpSseTool;
-import org.opensearch.ml.engine.tools.McpStreamableHttpTool;
 import org.opensearch.remote.metadata.client.GetDataObjectRequest;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.common.SdkClientUtils;
@@ -1036,19 +1034,6 @@ public class AgentUtils {
         return toolParams;
     }
 
-    public static void cleanUpResource(Map<String, Tool> tools) {
-        for (Map.Entry<String, Tool> entry : tools.entrySet()) {
-            Tool tool = entry.getValue();
-            if (tool instanceof McpSseTool) {
-                // TODO: make this more general, avoid checking specific tool type
-                ((McpSseTool) tool).getMcpSyncClient().closeGracefully();
-            } else if (tool instanceof McpStreamableHttpTool) {
-                // TODO: make this more general, avoid checking specific tool type
-                ((McpStreamableHttpTool) tool).getMcpSyncClient().closeGracefully();
-            }
-        }
-    }
-
     /**
      * Generates a formatted current date and time string in UTC timezone.
      * 
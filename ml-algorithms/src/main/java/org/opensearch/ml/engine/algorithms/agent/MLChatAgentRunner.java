@@ -30,7 +30,6 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_CALL_ID;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_RESPONSE;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.TOOL_RESULT;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.VERBOSE;
-import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.cleanUpResource;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.constructToolParams;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.createMemoryParams;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.createTools;
@@ -393,7 +392,6 @@ public class MLChatAgentRunner implements MLAgentRunner {
         Map<String, String> tmpParameters = constructLLMParams(llm, parameters);
         String prompt = constructLLMPrompt(tools, tmpParameters);
         tmpParameters.put(PROMPT, prompt);
-        final String finalPrompt = prompt;
 
         String question = tmpParameters.get(MLAgentExecutor.QUESTION);
         String parentInteractionId = tmpParameters.get(MLAgentExecutor.PARENT_INTERACTION_ID);
@@ -416,12 +414,10 @@ public class MLChatAgentRunner implements MLAgentRunner {
         lastLlmListener.set(firstListener);
         StepListener<?> lastStepListener = firstListener;
 
-        StringBuilder scratchpadBuilder = new StringBuilder();
+        ReActPromptBuilder promptBuilder = new ReActPromptBuilder(prompt);
         final List<String> interactions = new CopyOnWriteArrayList<>();
 
-        StringSubstitutor tmpSubstitutor = new StringSubstitutor(Map.of(SCRATCHPAD, scratchpadBuilder.toString()), "${parameters.", "}");
-        AtomicReference<String> newPrompt = new AtomicReference<>(tmpSubstitutor.replace(prompt));
-        tmpParameters.put(PROMPT, newPrompt.get());
+        tmpParameters.put(PROMPT, promptBuilder.getPrompt());
         List<ModelTensors> traceTensors = createModelTensors(sessionId, parentInteractionId);
         int maxIterations = Integer.parseInt(tmpParameters.getOrDefault(MAX_ITERATION, DEFAULT_MAX_ITERATIONS));
         for (int i = 0; i < maxIterations; i++) {
@@ -467,7 +463,6 @@ public class MLChatAgentRunner implements MLAgentRunner {
                             additionalInfo,
                             finalAnswer
                         );
-                        cleanUpResource(tools);
                         return;
                     }
 
@@ -567,13 +562,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
 
                     } else {
                         String res = String.format(Locale.ROOT, "Failed to run the tool %s which is unsupported.", action);
-                        StringSubstitutor substitutor = new StringSubstitutor(
-                            Map.of(SCRATCHPAD, scratchpadBuilder.toString()),
-                            "${parameters.",
-                            "}"
-                        );
-                        newPrompt.set(substitutor.replace(finalPrompt));
-                        tmpParameters.put(PROMPT, newPrompt.get());
+                        tmpParameters.put(PROMPT, promptBuilder.getPrompt());
                         ((ActionListener<Object>) nextStepListener).onResponse(res);
                     }
                 } else {
@@ -588,7 +577,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         lastToolSelectionResponse,
                         filteredOutput
                     );
-                    scratchpadBuilder.append(toolResponse).append("\n\n");
+                    promptBuilder.appendToolResponse(toolResponse);
 
                     // Record tool result for summary
                     String outputSummary = outputToOutputString(filteredOutput);
@@ -606,13 +595,11 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         lastAction.get()
                     );
 
-                    StringSubstitutor substitutor = new StringSubstitutor(Map.of(SCRATCHPAD, scratchpadBuilder), "${parameters.", "}");
-                    newPrompt.set(substitutor.replace(finalPrompt));
-                    tmpParameters.put(PROMPT, newPrompt.get());
-                    if (!interactions.isEmpty()) {
-                        String interactionsStr = String.join(", ", interactions);
+                    tmpParameters.put(PROMPT, promptBuilder.getPrompt());
+                    String interactionsStr = promptBuilder.getInteractions(interactions);
+                    if (interactionsStr != null) {
                         // Set the interactions parameter - this will be processed by context management
-                        tmpParameters.put(INTERACTIONS, ", " + interactionsStr);
+                        tmpParameters.put(INTERACTIONS, interactionsStr);
                     }
 
                     sessionMsgAnswerBuilder.append(outputToOutputString(filteredOutput));
@@ -1140,7 +1127,6 @@ public class MLChatAgentRunner implements MLAgentRunner {
             additionalInfo,
             response
         );
-        cleanUpResource(tools);
     }
 
     void generateLLMSummary(
@@ -19,7 +19,6 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_INTERFACE
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_INTERFACE_OPENAI_V1_CHAT_COMPLETIONS;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_RESPONSE_FILTER;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.MEMORY_CONFIGURATION_FIELD;
-import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.cleanUpResource;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.createMemoryParams;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.createTools;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.getCurrentDateTime;
@@ -741,7 +740,6 @@ public class MLPlanExecuteAndReflectAgentRunner implements MLAgentRunner {
         toolsPrompt.append("No other tools are available. Do not invent tools. Only use tools to create the plan.\n\n");
         allParams.put(DEFAULT_PROMPT_TOOLS_FIELD, toolsPrompt.toString());
         populatePrompt(allParams);
-        cleanUpResource(tools);
     }
 
     @VisibleForTesting
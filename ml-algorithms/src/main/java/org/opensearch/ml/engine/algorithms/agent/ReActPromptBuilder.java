@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.agent;
+
+import static org.opensearch.ml.engine.algorithms.agent.MLChatAgentRunner.SCRATCHPAD;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incrementally assembles the prompt and the interactions of a ReAct agent run.
+ *
+ * The prompt is rendered once with the system prompt, tools and chat history, then split at the scratchpad
+ * placeholders into static segments. Each iteration only appends the new tool response to the scratchpad, and the
+ * prompt is built by concatenating the segments and the scratchpad instead of substituting the whole template again.
+ * Tool responses are inserted as is, so placeholders inside tool outputs are not substituted.
+ *
+ * The joined interactions are extended with the interactions added since the last call and only rebuilt when earlier
+ * interactions were replaced, e.g. by context managers.
+ */
+public class ReActPromptBuilder {
+    static final String SCRATCHPAD_PLACEHOLDER = "${parameters." + SCRATCHPAD + "}";
+    private static final String INTERACTIONS_SEPARATOR = ", ";
+
+    private final List<String> promptSegments = new ArrayList<>();
+    private final StringBuilder scratchpad = new StringBuilder();
+    private final List<String> joinedInteractions = new ArrayList<>();
+    private final StringBuilder interactionsBuilder = new StringBuilder();
+
+    /**
+     * @param prompt rendered prompt, may contain scratchpad placeholders
+     */
+    public ReActPromptBuilder(String prompt) {
+        int start = 0;
+        int index;
+        while ((index = prompt.indexOf(SCRATCHPAD_PLACEHOLDER, start)) >= 0) {
+            promptSegments.add(prompt.substring(start, index));
+            start = index + SCRATCHPAD_PLACEHOLDER.length();
+        }
+        promptSegments.add(prompt.substring(start));
+    }
+
+    /**
+     * Append a tool response to the scratchpad.
+     */
+    public void appendToolResponse(String toolResponse) {
+        scratchpad.append(toolResponse).append("\n\n");
+    }
+
+    /**
+     * Build the prompt with the current scratchpad.
+     */
+    public String getPrompt() {
+        int placeholders = promptSegments.size() - 1;
+        int length = scratchpad.length() * placeholders;
+        for (String segment : promptSegments) {
+            length += segment.length();
+        }
+        StringBuilder prompt = new StringBuilder(length);
+        prompt.append(promptSegments.get(0));
+        for (int i = 1; i < promptSegments.size(); i++) {
+            prompt.append(scratchpad).append(promptSegments.get(i));
+        }
+        return prompt.toString();
+    }
+
+    /**
+     * Get the value of the interactions parameter: the interactions joined by ", " with a leading ", ".
+     * @param interactions current interactions of the run
+     * @return joined interactions, null if there is no interaction
+     */
+    public String getInteractions(List<String> interactions) {
+        if (interactions.isEmpty()) {
+            return null;
+        }
+        if (!isJoinedPrefixOf(interactions)) {
+            joinedInteractions.clear();
+            interactionsBuilder.setLength(0);
+        }
+        for (int i = joinedInteractions.size(); i < interactions.size(); i++) {
+            String interaction = interactions.get(i);
+            interactionsBuilder.append(INTERACTIONS_SEPARATOR).append(interaction);
+            joinedInteractions.add(interaction);
+        }
+        return interactionsBuilder.toString();
+    }
+
+    private boolean isJoinedPrefixOf(List<String> interactions) {
+        if (joinedInteractions.size() > interactions.size()) {
+            return false;
+        }
+        for (int i = 0; i < joinedInteractions.size(); i++) {
+            // the interactions are only appended between iterations, so comparing the instances is enough
+            if (joinedInteractions.get(i) != interactions.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
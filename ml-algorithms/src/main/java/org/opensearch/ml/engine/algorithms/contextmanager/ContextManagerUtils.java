@@ -6,6 +6,12 @@
 package org.opensearch.ml.engine.algorithms.contextmanager;
 
 import java.util.List;
+import java.util.Map;
+
+import org.opensearch.ml.common.contextmanager.CachingTokenCounter;
+import org.opensearch.ml.common.contextmanager.CharacterBasedTokenCounter;
+import org.opensearch.ml.common.contextmanager.TokenCounter;
+import org.opensearch.ml.engine.analysis.HFModelTokenizerFactory;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -15,6 +21,8 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class ContextManagerUtils {
 
+    public static final String TOKENIZER_KEY = "tokenizer";
+
     /**
      * Find a safe point in interactions to avoid breaking tool-use/tool-result pairs
      * @param interactions List of interaction messages
@@ -66,4 +74,24 @@ public class ContextManagerUtils {
 
         return safePoint;
     }
+
+    /**
+     * Create the token counter of a context manager. With the {@value #TOKENIZER_KEY} config the tokens are counted by
+     * the bundled Hugging Face tokenizer with that name, otherwise they are estimated from the number of characters.
+     * Token counts are memoized per message for the lifetime of the manager.
+     * @param config context manager config
+     * @return token counter
+     */
+    public static TokenCounter createTokenCounter(Map<String, Object> config) {
+        Object tokenizer = config == null ? null : config.get(TOKENIZER_KEY);
+        if (tokenizer == null) {
+            return new CachingTokenCounter(new CharacterBasedTokenCounter());
+        }
+        String tokenizerName = tokenizer.toString();
+        if (!HFModelTokenizerFactory.DEFAULT_TOKENIZER_NAME.equals(tokenizerName)
+            && !HFModelTokenizerFactory.DEFAULT_MULTILINGUAL_TOKENIZER_NAME.equals(tokenizerName)) {
+            throw new IllegalArgumentException("Unknown tokenizer: " + tokenizerName);
+        }
+        return new CachingTokenCounter(new HuggingFaceTokenCounter(() -> HFModelTokenizerFactory.getBundledTokenizer(tokenizerName)));
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.contextmanager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.opensearch.ml.common.contextmanager.TokenCounter;
+
+import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.djl.huggingface.tokenizers.jni.CharSpan;
+
+/**
+ * Token counter backed by a Hugging Face tokenizer.
+ * Counts the tokens the tokenizer produces for the text, including overflowing segments, and truncates the text at
+ * token boundaries using the character spans of the tokens.
+ */
+public class HuggingFaceTokenCounter implements TokenCounter {
+
+    private final Supplier<HuggingFaceTokenizer> tokenizerSupplier;
+
+    /**
+     * @param tokenizerSupplier supplies the tokenizer, called lazily so the tokenizer is only loaded when text is counted
+     */
+    public HuggingFaceTokenCounter(Supplier<HuggingFaceTokenizer> tokenizerSupplier) {
+        this.tokenizerSupplier = tokenizerSupplier;
+    }
+
+    @Override
+    public int count(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return tokenSpans(text).size();
+    }
+
+    @Override
+    public String truncateFromEnd(String text, int maxTokens) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        List<CharSpan> spans = tokenSpans(text);
+        if (spans.size() <= maxTokens) {
+            return text;
+        }
+        return text.substring(0, endOf(text, spans, maxTokens));
+    }
+
+    @Override
+    public String truncateFromBeginning(String text, int maxTokens) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        List<CharSpan> spans = tokenSpans(text);
+        if (spans.size() <= maxTokens) {
+            return text;
+        }
+        return text.substring(startOf(text, spans, spans.size() - maxTokens));
+    }
+
+    @Override
+    public String truncateMiddle(String text, int maxTokens) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        List<CharSpan> spans = tokenSpans(text);
+        if (spans.size() <= maxTokens) {
+            return text;
+        }
+        // Keep equal numbers of tokens from beginning and end
+        int halfTokens = Math.max(0, maxTokens) / 2;
+        return text.substring(0, endOf(text, spans, halfTokens)) + text.substring(startOf(text, spans, spans.size() - halfTokens));
+    }
+
+    /**
+     * End of the first {@code tokens} tokens in the text.
+     */
+    private static int endOf(String text, List<CharSpan> spans, int tokens) {
+        if (tokens <= 0) {
+            return 0;
+        }
+        return Math.min(spans.get(tokens - 1).getEnd(), text.length());
+    }
+
+    /**
+     * Start of the token at the given index in the text.
+     */
+    private static int startOf(String text, List<CharSpan> spans, int index) {
+        if (index >= spans.size()) {
+            return text.length();
+        }
+        return Math.min(spans.get(index).getStart(), text.length());
+    }
+
+    private List<CharSpan> tokenSpans(String text) {
+        Encoding encoding = tokenizerSupplier.get().encode(text, false, true);
+        List<CharSpan> spans = new ArrayList<>();
+        addTokenSpans(encoding, spans);
+        for (Encoding overflowing : encoding.getOverflowing()) {
+            addTokenSpans(overflowing, spans);
+        }
+        return spans;
+    }
+
+    private static void addTokenSpans(Encoding encoding, List<CharSpan> spans) {
+        CharSpan[] charSpans = encoding.getCharTokenSpans();
+        long[] attentionMask = encoding.getAttentionMask();
+        for (int i = 0; i < charSpans.length; i++) {
+            // padding tokens have no attention and no span in the text
+            if (attentionMask[i] != 0 && charSpans[i] != null) {
+                spans.add(charSpans[i]);
+            }
+        }
+    }
+}
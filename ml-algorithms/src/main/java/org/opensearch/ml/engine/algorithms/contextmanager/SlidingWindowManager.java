@@ -14,6 +14,7 @@ import org.opensearch.ml.common.contextmanager.ActivationRule;
 import org.opensearch.ml.common.contextmanager.ActivationRuleFactory;
 import org.opensearch.ml.common.contextmanager.ContextManager;
 import org.opensearch.ml.common.contextmanager.ContextManagerContext;
+import org.opensearch.ml.common.contextmanager.TokenCounter;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -29,11 +30,15 @@ public class SlidingWindowManager implements ContextManager {
 
     // Configuration keys
     private static final String MAX_MESSAGES_KEY = "max_messages";
+    private static final String MAX_TOKENS_KEY = "max_tokens";
 
     // Default values
     private static final int DEFAULT_MAX_MESSAGES = 20;
 
     private int maxMessages;
+    // 0 means the window is only limited by the number of messages
+    private int maxTokens;
+    private TokenCounter tokenCounter;
     private List<ActivationRule> activationRules;
 
     @Override
@@ -51,12 +56,19 @@ public class SlidingWindowManager implements ContextManager {
             this.maxMessages = DEFAULT_MAX_MESSAGES;
         }
 
+        this.maxTokens = parseIntegerConfig(config, MAX_TOKENS_KEY, 0);
+        if (this.maxTokens < 0) {
+            log.warn("Invalid max_tokens value: {}, not limiting the window by tokens", this.maxTokens);
+            this.maxTokens = 0;
+        }
+        this.tokenCounter = ContextManagerUtils.createTokenCounter(config);
+
         // Initialize activation rules from config
         @SuppressWarnings("unchecked")
         Map<String, Object> activationConfig = (Map<String, Object>) config.get("activation");
-        this.activationRules = ActivationRuleFactory.createRules(activationConfig);
+        this.activationRules = ActivationRuleFactory.createRules(activationConfig, tokenCounter);
 
-        log.info("Initialized SlidingWindowManager: maxMessages={}", maxMessages);
+        log.info("Initialized SlidingWindowManager: maxMessages={}, maxTokens={}", maxMessages, maxTokens);
     }
 
     @Override
@@ -92,13 +104,24 @@ public class SlidingWindowManager implements ContextManager {
 
         int originalSize = interactions.size();
 
-        if (originalSize <= maxMessages) {
-            log.debug("Interactions size ({}) is within limit ({}), no truncation needed", originalSize, maxMessages);
+        int targetStartIndex = Math.max(0, originalSize - maxMessages);
+        if (maxTokens > 0) {
+            targetStartIndex = Math.max(targetStartIndex, findTokenWindowStart(interactions));
+        }
+
+        if (targetStartIndex == 0) {
+            log
+                .debug(
+                    "Interactions size ({}) is within limit ({} messages, {} tokens), no truncation needed",
+                    originalSize,
+                    maxMessages,
+                    maxTokens
+                );
             return;
         }
 
         // Find safe start point to avoid breaking tool pairs
-        int startIndex = ContextManagerUtils.findSafePoint(interactions, originalSize - maxMessages, true);
+        int startIndex = ContextManagerUtils.findSafePoint(interactions, targetStartIndex, true);
 
         // Keep the most recent interactions from safe start point
         List<String> updatedInteractions = new ArrayList<>(interactions.subList(startIndex, originalSize));
@@ -123,6 +146,21 @@ public class SlidingWindowManager implements ContextManager {
             );
     }
 
+    /**
+     * Find the start of the most recent interactions which fit into the token limit. The token counts of the interactions
+     * are memoized, so only interactions added since the last execution are tokenized.
+     */
+    private int findTokenWindowStart(List<String> interactions) {
+        int tokens = 0;
+        for (int i = interactions.size() - 1; i >= 0; i--) {
+            tokens += tokenCounter.count(interactions.get(i));
+            if (tokens > maxTokens) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
     private int parseIntegerConfig(Map<String, Object> config, String key, int defaultValue) {
         Object value = config.get(key);
         if (value == null) {
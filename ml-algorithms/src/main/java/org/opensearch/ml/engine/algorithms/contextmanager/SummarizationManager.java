@@ -23,6 +23,7 @@ import org.opensearch.ml.common.contextmanager.ActivationRule;
 import org.opensearch.ml.common.contextmanager.ActivationRuleFactory;
 import org.opensearch.ml.common.contextmanager.ContextManager;
 import org.opensearch.ml.common.contextmanager.ContextManagerContext;
+import org.opensearch.ml.common.contextmanager.TokenCounter;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
@@ -68,6 +69,7 @@ public class SummarizationManager implements ContextManager {
     protected String summarizationModelId;
     protected String summarizationSystemPrompt;
     protected List<ActivationRule> activationRules;
+    protected TokenCounter tokenCounter;
     private Client client;
 
     public SummarizationManager(Client client) {
@@ -95,7 +97,8 @@ public class SummarizationManager implements ContextManager {
         // Initialize activation rules from config
         @SuppressWarnings("unchecked")
         Map<String, Object> activationConfig = (Map<String, Object>) config.get("activation");
-        this.activationRules = ActivationRuleFactory.createRules(activationConfig);
+        this.tokenCounter = ContextManagerUtils.createTokenCounter(config);
+        this.activationRules = ActivationRuleFactory.createRules(activationConfig, tokenCounter);
 
         log.info("Initialized SummarizationManager: summaryRatio={}, preserveRecentMessages={}", summaryRatio, preserveRecentMessages);
     }
@@ -12,6 +12,7 @@ import org.opensearch.ml.common.contextmanager.ActivationRule;
 import org.opensearch.ml.common.contextmanager.ActivationRuleFactory;
 import org.opensearch.ml.common.contextmanager.ContextManager;
 import org.opensearch.ml.common.contextmanager.ContextManagerContext;
+import org.opensearch.ml.common.contextmanager.TokenCounter;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -26,11 +27,15 @@ public class ToolsOutputTruncateManager implements ContextManager {
 
     // Configuration keys
     private static final String MAX_OUTPUT_LENGTH_KEY = "max_output_length";
+    private static final String MAX_OUTPUT_TOKENS_KEY = "max_output_tokens";
 
     // Default values
     private static final int DEFAULT_MAX_OUTPUT_LENGTH = 40000;
 
     private int maxOutputLength;
+    // 0 means the output is only limited by its length
+    private int maxOutputTokens;
+    private TokenCounter tokenCounter;
     private List<ActivationRule> activationRules;
 
     @Override
@@ -48,12 +53,19 @@ public class ToolsOutputTruncateManager implements ContextManager {
             this.maxOutputLength = DEFAULT_MAX_OUTPUT_LENGTH;
         }
 
+        this.maxOutputTokens = parseIntegerConfig(config, MAX_OUTPUT_TOKENS_KEY, 0);
+        if (this.maxOutputTokens < 0) {
+            log.warn("Invalid max_output_tokens value: {}, not limiting the output by tokens", this.maxOutputTokens);
+            this.maxOutputTokens = 0;
+        }
+        this.tokenCounter = ContextManagerUtils.createTokenCounter(config);
+
         // Initialize activation rules from config
         @SuppressWarnings("unchecked")
         Map<String, Object> activationConfig = (Map<String, Object>) config.get("activation");
-        this.activationRules = ActivationRuleFactory.createRules(activationConfig);
+        this.activationRules = ActivationRuleFactory.createRules(activationConfig, tokenCounter);
 
-        log.info("Initialized ToolsOutputTruncateManager: maxOutputLength={}", maxOutputLength);
+        log.info("Initialized ToolsOutputTruncateManager: maxOutputLength={}, maxOutputTokens={}", maxOutputLength, maxOutputTokens);
     }
 
     @Override
@@ -89,6 +101,10 @@ public class ToolsOutputTruncateManager implements ContextManager {
         }
 
         String outputString = currentToolOutput.toString();
+        if (maxOutputTokens > 0) {
+            truncateByTokens(parameters, outputString);
+            return;
+        }
         int originalLength = outputString.length();
 
         if (originalLength <= maxOutputLength) {
@@ -109,6 +125,24 @@ public class ToolsOutputTruncateManager implements ContextManager {
         log.info("Tool output truncated: original length {} -> truncated length {}", originalLength, truncatedLength);
     }
 
+    /**
+     * Truncate the tool output at a token boundary so it has at most maxOutputTokens tokens.
+     */
+    private void truncateByTokens(Map<String, String> parameters, String outputString) {
+        int originalTokens = tokenCounter.count(outputString);
+        if (originalTokens <= maxOutputTokens) {
+            log.debug("Tool output tokens ({}) are within limit ({}), no truncation needed", originalTokens, maxOutputTokens);
+            return;
+        }
+
+        String truncatedOutput = tokenCounter.truncateFromEnd(outputString, maxOutputTokens)
+            + "... [Output truncated - original length: "
+            + originalTokens
+            + " tokens]";
+        parameters.put("_current_tool_output", truncatedOutput);
+        log.info("Tool output truncated: original tokens {} -> truncated tokens {}", originalTokens, maxOutputTokens);
+    }
+
     private int parseIntegerConfig(Map<String, Object> config, String key, int defaultValue) {
         Object value = config.get(key);
         if (value == null) {
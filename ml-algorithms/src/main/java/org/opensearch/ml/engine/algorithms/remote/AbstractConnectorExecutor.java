@@ -6,6 +6,8 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import java.net.http.HttpRequest;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.support.ThreadedActionListener;
@@ -15,6 +17,7 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.model.PredictLatencyRecorder;
 import org.opensearch.ml.common.output.model.ModelTensors;
 
 import lombok.Getter;
@@ -26,6 +29,12 @@ import lombok.extern.log4j.Log4j2;
 @Getter
 public abstract class AbstractConnectorExecutor implements RemoteConnectorExecutor {
     private ConnectorClientConfig connectorClientConfig;
+    private PredictLatencyRecorder latencyRecorder = PredictLatencyRecorder.NOOP;
+    private SubRequestDispatcher subRequestDispatcher;
+    private RemoteEmbeddingCache.ModelEmbeddingCache embeddingCache;
+    private RemoteRequestCoalescer.ModelRequestCoalescer requestCoalescer;
+    private RemoteRequestHedger.ModelRequestHedger requestHedger;
+    private RemoteConnectorCircuitBreakers.ConnectorCircuitBreaker circuitBreaker;
 
     public void initialize(Connector connector) {
         if (connector.getConnectorClientConfig() != null) {
@@ -33,6 +42,11 @@ public abstract class AbstractConnectorExecutor implements RemoteConnectorExecut
         } else {
             connectorClientConfig = new ConnectorClientConfig();
         }
+        // sub-requests of the connector are not sent faster than its HTTP connections can serve them
+        Integer maxConnections = connectorClientConfig.getMaxConnections();
+        subRequestDispatcher = new SubRequestDispatcher(
+            maxConnections != null && maxConnections > 0 ? maxConnections : ConnectorClientConfig.MAX_CONNECTION_DEFAULT_VALUE
+        );
     }
 
     /**
@@ -41,8 +55,20 @@ public abstract class AbstractConnectorExecutor implements RemoteConnectorExecut
      * @param builder HttpRequest.Builder to add headers to
      */
     protected void getMcpRequestHeaders(HttpRequest.Builder builder) {
+        for (Map.Entry<String, String> entry : getMcpRequestHeaders().entrySet()) {
+            builder.setHeader(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Gets MCP request headers from ThreadContext.
+     *
+     * @return MCP request headers which have a value, empty if there is no client
+     */
+    protected Map<String, String> getMcpRequestHeaders() {
+        Map<String, String> headers = new LinkedHashMap<>();
         if (getClient() == null) {
-            return;
+            return headers;
         }
 
         ThreadContext threadContext = getClient().threadPool().getThreadContext();
@@ -58,10 +84,11 @@ public abstract class AbstractConnectorExecutor implements RemoteConnectorExecut
         for (String headerName : mcpHeaders) {
             String headerValue = threadContext.getHeader(headerName);
             if (headerValue != null && !headerValue.isEmpty()) {
-                builder.setHeader(headerName, headerValue);
+                headers.put(headerName, headerValue);
                 log.debug("Get MCP header: {}", headerName);
             }
         }
+        return headers;
     }
 
     /**
@@ -143,12 +143,16 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
                         connector,
                         scriptService,
                         mlGuard,
-                        action
+                        action,
+                        getLatencyRecorder()
                     )
                 )
                 .build();
-            AccessController
+            CompletableFuture<Void> responseFuture = AccessController
                 .doPrivileged((PrivilegedExceptionAction<CompletableFuture<Void>>) () -> getHttpClient().execute(executeRequest));
+            if (responseFuture != null) {
+                executionContext.setCancellation(() -> responseFuture.cancel(true));
+            }
         } catch (RuntimeException exception) {
             log.error("Failed to execute {} in aws connector: {}", action, exception.getMessage(), exception);
             actionListener.onFailure(exception);
@@ -174,7 +178,7 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
             validateLLMInterface(llmInterface);
 
             StreamingHandler handler = StreamingHandlerFactory.createHandler(llmInterface, connector, getHttpClient(), null, parameters);
-            handler.startStream(action, parameters, payload, actionListener);
+            handler.startStream(action, parameters, payload, actionListener, executionContext);
         } catch (Exception e) {
             log.error("Failed to execute streaming", e);
             actionListener.onFailure(new MLException("Fail to execute streaming", e));
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
@@ -40,6 +41,8 @@ import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.MLPostProcessFunction;
 import org.opensearch.ml.common.connector.MLPreProcessFunction;
+import org.opensearch.ml.common.connector.functions.postprocess.BedrockEmbeddingPostProcessFunction;
+import org.opensearch.ml.common.connector.functions.postprocess.EmbeddingPostProcessFunction;
 import org.opensearch.ml.common.connector.functions.preprocess.DefaultPreProcessFunction;
 import org.opensearch.ml.common.connector.functions.preprocess.RemoteInferencePreProcessFunction;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
@@ -291,6 +294,50 @@ public class ConnectorUtils {
         return ModelTensors.builder().mlModelTensors(modelTensors).build();
     }
 
+    /**
+     * Create a reader which builds the output of a remote model while its response is received, instead of parsing
+     * the whole response string after it's received. Only embedding post process functions with a response filter of
+     * fields and array indices are read while streaming.
+     * @return the reader, null if the response needs to be buffered and processed with {@link #processOutput}
+     */
+    public static StreamingOutputReader createStreamingOutputReader(
+        String action,
+        Connector connector,
+        Map<String, String> parameters,
+        MLGuard mlGuard
+    ) throws IOException {
+        Optional<ConnectorAction> connectorAction = connector.findAction(action);
+        if (mlGuard != null || connectorAction.isEmpty()) {
+            return null;
+        }
+        String postProcessFunction = fillProcessFunctionParameter(parameters, connectorAction.get().getPostProcessFunction());
+        if (!isEmbeddingPostProcessFunction(postProcessFunction)) {
+            return null;
+        }
+        BiFunction<Object, MLResultDataType, List<ModelTensor>> function = MLPostProcessFunction.get(postProcessFunction);
+        String responseFilter = parameters.get(RESPONSE_FILTER_FIELD);
+        if (StringUtils.isBlank(responseFilter)) {
+            responseFilter = MLPostProcessFunction.getResponseFilter(postProcessFunction);
+        }
+        MLResultDataType dataType = parseMLResultDataTypeFromResponseFilter(responseFilter);
+        // numbers are read as floats while streaming
+        if (dataType != null && dataType != MLResultDataType.FLOAT32) {
+            return null;
+        }
+        return StreamingOutputReader.create(responseFilter, function, dataType);
+    }
+
+    /**
+     * @return true if the post process function is a built-in function returning one embedding per text doc
+     */
+    public static boolean isEmbeddingPostProcessFunction(String postProcessFunction) {
+        if (!MLPostProcessFunction.contains(postProcessFunction)) {
+            return false;
+        }
+        BiFunction<Object, MLResultDataType, List<ModelTensor>> function = MLPostProcessFunction.get(postProcessFunction);
+        return function instanceof EmbeddingPostProcessFunction || function instanceof BedrockEmbeddingPostProcessFunction;
+    }
+
     private static MLResultDataType parseMLResultDataTypeFromResponseFilter(String responseFilter) {
         for (MLResultDataType type : MLResultDataType.values()) {
             if (StringUtils.containsIgnoreCase(responseFilter, "." + type.name())) {
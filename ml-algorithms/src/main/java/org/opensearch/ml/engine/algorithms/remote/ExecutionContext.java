@@ -5,8 +5,11 @@
 
 package org.opensearch.ml.engine.algorithms.remote;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
 
 /**
  * This class encapsulates several parameters that are used in a split-batch request case.
@@ -15,8 +18,55 @@ import lombok.Data;
  * sequence is used to identify the index of the split request.
  */
 @Data
-@AllArgsConstructor
 public class ExecutionContext {
     // Should never be null
     private int sequence;
+
+    // cancels the call to the remote service, e.g. the losing call of a hedged request
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private Runnable cancellation;
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private boolean cancelled;
+
+    public ExecutionContext(int sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * Set how to cancel the call to the remote service. The call is cancelled right away if the context is cancelled.
+     */
+    public void setCancellation(Runnable cancellation) {
+        synchronized (this) {
+            if (!cancelled) {
+                this.cancellation = cancellation;
+                return;
+            }
+        }
+        cancellation.run();
+    }
+
+    /**
+     * Cancel the call to the remote service.
+     */
+    public void cancel() {
+        Runnable toRun;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            toRun = cancellation;
+            cancellation = null;
+        }
+        if (toRun != null) {
+            toRun.run();
+        }
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
 }
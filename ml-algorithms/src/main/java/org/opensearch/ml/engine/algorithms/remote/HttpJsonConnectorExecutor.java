@@ -142,12 +142,16 @@ public class HttpJsonConnectorExecutor extends AbstractConnectorExecutor {
                         connector,
                         scriptService,
                         mlGuard,
-                        action
+                        action,
+                        getLatencyRecorder()
                     )
                 )
                 .build();
-            AccessController
+            CompletableFuture<Void> responseFuture = AccessController
                 .doPrivileged((PrivilegedExceptionAction<CompletableFuture<Void>>) () -> getHttpClient().execute(executeRequest));
+            if (responseFuture != null) {
+                executionContext.setCancellation(() -> responseFuture.cancel(true));
+            }
         } catch (RuntimeException e) {
             log.error("Fail to execute http connector", e);
             actionListener.onFailure(e);
@@ -174,7 +178,7 @@ public class HttpJsonConnectorExecutor extends AbstractConnectorExecutor {
 
             StreamingHandler handler = StreamingHandlerFactory
                 .createHandler(llmInterface, connector, null, super.getConnectorClientConfig(), parameters);
-            handler.startStream(action, parameters, payload, actionListener);
+            handler.startStream(action, parameters, payload, actionListener, executionContext);
         } catch (Exception e) {
             log.error("Failed to execute streaming", e);
             actionListener.onFailure(new MLException("Fail to execute streaming", e));
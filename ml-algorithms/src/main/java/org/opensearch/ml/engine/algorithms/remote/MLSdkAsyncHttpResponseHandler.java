@@ -7,12 +7,15 @@ package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
 import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.CANCEL_BATCH_PREDICT;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.createStreamingOutputReader;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.collections.MapUtils;
@@ -24,8 +27,11 @@ import org.opensearch.common.collect.Tuple;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.model.MLGuard;
+import org.opensearch.ml.common.model.PredictLatencyRecorder;
+import org.opensearch.ml.common.model.PredictStage;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.script.ScriptService;
 import org.reactivestreams.Publisher;
@@ -43,8 +49,8 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
     public static final String AMZ_ERROR_HEADER = "x-amzn-ErrorType";
     @Getter
     private Integer statusCode;
-    @Getter
-    private final StringBuilder responseBody = new StringBuilder();
+    // raw response body, used when the output can't be read while the response is received
+    private final ByteArrayOutputStream responseBody = new ByteArrayOutputStream();
 
     private final ExecutionContext executionContext;
 
@@ -60,9 +66,25 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
 
     private final MLGuard mlGuard;
 
+    private final PredictLatencyRecorder latencyRecorder;
+
+    // the handler is created right before the request is sent
+    private final long startTime = System.nanoTime();
+
     // used to cache exceptions before the invocation of response()
     private AtomicReference<Exception> exceptionHolder = new AtomicReference<>();
 
+    private final AtomicBoolean responded = new AtomicBoolean();
+
+    // reads the output while the response is received, null if the response body is buffered
+    private StreamingOutputReader outputReader;
+
+    private Exception outputReaderFailure;
+
+    private long receivedBytes;
+
+    private final Integer maxResponseSizeBytes;
+
     public MLSdkAsyncHttpResponseHandler(
         ExecutionContext executionContext,
         ActionListener<Tuple<Integer, ModelTensors>> actionListener,
@@ -71,6 +93,19 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
         ScriptService scriptService,
         MLGuard mlGuard,
         String action
+    ) {
+        this(executionContext, actionListener, parameters, connector, scriptService, mlGuard, action, PredictLatencyRecorder.NOOP);
+    }
+
+    public MLSdkAsyncHttpResponseHandler(
+        ExecutionContext executionContext,
+        ActionListener<Tuple<Integer, ModelTensors>> actionListener,
+        Map<String, String> parameters,
+        Connector connector,
+        ScriptService scriptService,
+        MLGuard mlGuard,
+        String action,
+        PredictLatencyRecorder latencyRecorder
     ) {
         this.executionContext = executionContext;
         this.actionListener = actionListener;
@@ -79,6 +114,16 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
         this.scriptService = scriptService;
         this.mlGuard = mlGuard;
         this.action = action;
+        this.latencyRecorder = latencyRecorder;
+        ConnectorClientConfig clientConfig = connector == null ? null : connector.getConnectorClientConfig();
+        this.maxResponseSizeBytes = clientConfig == null ? null : clientConfig.getMaxResponseSizeBytes();
+    }
+
+    /**
+     * @return the response body received, empty if the output is read while the response is received
+     */
+    public String getResponseBody() {
+        return responseBody.toString(StandardCharsets.UTF_8);
     }
 
     @Override
@@ -95,11 +140,23 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
 
     @Override
     public void onStream(Publisher<ByteBuffer> stream) {
+        boolean successful = statusCode != null && statusCode >= HttpStatus.SC_OK && statusCode <= HttpStatus.SC_MULTIPLE_CHOICES;
+        if (successful && exceptionHolder.get() == null) {
+            try {
+                outputReader = createStreamingOutputReader(action, connector, parameters, mlGuard);
+            } catch (Exception e) {
+                log.debug("Failed to create streaming output reader, buffering the response body", e);
+            }
+        }
         stream.subscribe(new MLResponseSubscriber());
     }
 
     @Override
     public void onError(Throwable error) {
+        if (!responded.compareAndSet(false, true)) {
+            return;
+        }
+        latencyRecorder.recordSince(action, PredictStage.REMOTE_INVOCATION, startTime);
         log.error("Received error from remote service: {}", error.getMessage(), error);
         RestStatus status = (statusCode == null) ? RestStatus.INTERNAL_SERVER_ERROR : RestStatus.fromCode(statusCode);
         String errorMessage = "Error communicating with remote model: " + error.getMessage();
@@ -147,7 +204,32 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            responseBody.append(StandardCharsets.UTF_8.decode(byteBuffer));
+            receivedBytes += byteBuffer.remaining();
+            if (maxResponseSizeBytes != null && receivedBytes > maxResponseSizeBytes) {
+                subscription.cancel();
+                handleException(
+                    new OpenSearchStatusException(
+                        "Remote service response exceeds the max response size of "
+                            + maxResponseSizeBytes
+                            + " bytes, please update max_response_size_bytes in the connector client_config",
+                        RestStatus.BAD_GATEWAY
+                    )
+                );
+                response();
+                return;
+            }
+            if (outputReader == null) {
+                // bytes are decoded once the body is complete, a multibyte character can be split across chunks
+                byte[] bytes = new byte[byteBuffer.remaining()];
+                byteBuffer.get(bytes);
+                responseBody.writeBytes(bytes);
+            } else if (outputReaderFailure == null) {
+                try {
+                    outputReader.feed(byteBuffer);
+                } catch (Exception e) {
+                    outputReaderFailure = e;
+                }
+            }
             subscription.request(Long.MAX_VALUE);
         }
 
@@ -169,8 +251,16 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
     }
 
     private void response() {
-        String body = responseBody.toString();
-        log.debug("Received response from remote service: {}", body);
+        if (!responded.compareAndSet(false, true)) {
+            return;
+        }
+        latencyRecorder.recordSince(action, PredictStage.REMOTE_INVOCATION, startTime);
+        String body = getResponseBody();
+        if (outputReader == null) {
+            log.debug("Received response from remote service: {}", body);
+        } else {
+            log.debug("Received response of {} bytes from remote service", receivedBytes);
+        }
         if (exceptionHolder.get() != null) {
             log.error("Remote server returned exception with status code: {} and body: {}", statusCode, body);
             actionListener.onFailure(exceptionHolder.get());
@@ -189,8 +279,21 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
             return;
         }
 
+        boolean emptyBody;
+        if (outputReader == null) {
+            emptyBody = Strings.isBlank(body);
+        } else {
+            if (outputReaderFailure == null) {
+                try {
+                    outputReader.endOfInput();
+                } catch (Exception e) {
+                    outputReaderFailure = e;
+                }
+            }
+            emptyBody = receivedBytes == 0 || (outputReaderFailure == null && outputReader.isEmpty());
+        }
         // Handle successful status codes with empty body (invalid for most operations)
-        if (Strings.isBlank(body) && !action.equals(CANCEL_BATCH_PREDICT.toString())) {
+        if (emptyBody && !action.equals(CANCEL_BATCH_PREDICT.toString())) {
             log.error("Remote model returned successful status {} but with empty response body", statusCode);
             actionListener
                 .onFailure(
@@ -203,8 +306,15 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
         }
 
         try {
-            ModelTensors tensors = processOutput(action, body, connector, scriptService, parameters, mlGuard);
+            long processStartTime = System.nanoTime();
+            if (outputReaderFailure != null) {
+                throw outputReaderFailure;
+            }
+            ModelTensors tensors = outputReader == null
+                ? processOutput(action, body, connector, scriptService, parameters, mlGuard)
+                : outputReader.finish();
             tensors.setStatusCode(statusCode);
+            latencyRecorder.recordSince(PredictStage.PROCESS_OUTPUT, processStartTime);
             actionListener.onResponse(new Tuple<>(executionContext.getSequence(), tensors));
         } catch (IllegalArgumentException e) {
             actionListener.onFailure(e);
@@ -0,0 +1,281 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.opensearch.ml.common.utils.StringUtils;
+
+import io.modelcontextprotocol.client.McpAsyncClient;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.spec.McpClientTransport;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.publisher.Mono;
+
+/**
+ * Node level pool of long-lived MCP client sessions.
+ *
+ * Sessions are keyed by the MCP server configuration of a connector (protocol, url, endpoint, headers and timeouts),
+ * so agent runs referencing the same connector reuse one initialized session instead of doing the MCP handshake and
+ * tool discovery on every run. A session is health checked with a ping when it hasn't been checked for a while and
+ * reconnected if the check or a request fails at the transport level. Sessions which are not used for the idle timeout are
+ * closed, and the least recently used session is closed when the pool is full.
+ *
+ * The tool listing of a session is cached for a TTL and invalidated when the server sends a
+ * {@code notifications/tools/list_changed} notification.
+ */
+@Log4j2
+public class McpClientSessionPool {
+    public static final Duration DEFAULT_TOOLS_CACHE_TTL = Duration.ofMinutes(5);
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+    public static final Duration DEFAULT_HEALTH_CHECK_INTERVAL = Duration.ofSeconds(30);
+    public static final int DEFAULT_MAX_SESSIONS = 100;
+
+    private static final McpClientSessionPool INSTANCE = new McpClientSessionPool();
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final long toolsCacheTtlNanos;
+    private final long idleTimeoutNanos;
+    private final long healthCheckIntervalNanos;
+    private final int maxSessions;
+
+    public static McpClientSessionPool getInstance() {
+        return INSTANCE;
+    }
+
+    public McpClientSessionPool() {
+        this(System::nanoTime, DEFAULT_TOOLS_CACHE_TTL, DEFAULT_IDLE_TIMEOUT, DEFAULT_HEALTH_CHECK_INTERVAL);
+    }
+
+    McpClientSessionPool(LongSupplier nanoClock, Duration toolsCacheTtl, Duration idleTimeout, Duration healthCheckInterval) {
+        this(nanoClock, toolsCacheTtl, idleTimeout, healthCheckInterval, DEFAULT_MAX_SESSIONS);
+    }
+
+    McpClientSessionPool(
+        LongSupplier nanoClock,
+        Duration toolsCacheTtl,
+        Duration idleTimeout,
+        Duration healthCheckInterval,
+        int maxSessions
+    ) {
+        this.nanoClock = nanoClock;
+        this.toolsCacheTtlNanos = toolsCacheTtl.toNanos();
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.healthCheckIntervalNanos = healthCheckInterval.toNanos();
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * Whether a failed MCP request means the session itself is broken. JSON-RPC errors returned by the server, e.g. for bad
+     * tool arguments, leave the session usable.
+     */
+    public static boolean isTransportFailure(Throwable error) {
+        return !(error instanceof McpError);
+    }
+
+    /**
+     * Build the key of a session. Secrets in the headers are only kept as part of a hash.
+     */
+    public static String sessionKey(
+        String protocol,
+        String url,
+        String endpoint,
+        Map<String, String> headers,
+        Duration connectionTimeout,
+        Duration readTimeout
+    ) {
+        String config = String
+            .join(
+                "\n",
+                protocol,
+                url,
+                endpoint,
+                String.valueOf(headers == null ? null : new TreeMap<>(headers)),
+                String.valueOf(connectionTimeout),
+                String.valueOf(readTimeout)
+            );
+        return protocol + ":" + url + ":" + StringUtils.hashString(config);
+    }
+
+    /**
+     * Get an initialized session, creating or reconnecting it if needed.
+     * @param key session key, see {@link #sessionKey}
+     * @param transportSupplier creates the transport when the session (re)connects
+     * @param requestTimeout timeout of the MCP requests of the session
+     * @return initialized session
+     */
+    public Session getSession(String key, Supplier<McpClientTransport> transportSupplier, Duration requestTimeout) {
+        evictIdleSessions();
+        if (!sessions.containsKey(key)) {
+            evictLeastRecentlyUsedSessions(maxSessions - 1);
+        }
+        Session session = sessions.computeIfAbsent(key, k -> new Session(k, transportSupplier, requestTimeout));
+        session.connect();
+        return session;
+    }
+
+    /**
+     * Close and remove the session which uses the given client, e.g. after a request on the client failed. The next
+     * {@link #getSession} call creates a new session.
+     */
+    public void evict(McpAsyncClient client) {
+        for (Session session : sessions.values()) {
+            if (session.client == client && sessions.remove(session.key, session)) {
+                log.debug("Closing broken MCP session {}", session.key);
+                session.disconnect();
+            }
+        }
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    public void closeAll() {
+        for (String key : sessions.keySet()) {
+            Session session = sessions.remove(key);
+            if (session != null) {
+                session.disconnect();
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsedSessions(int maxSize) {
+        while (sessions.size() > maxSize) {
+            Session leastRecentlyUsed = sessions.values().stream().min(Comparator.comparingLong(it -> it.lastUsedNanos)).orElse(null);
+            if (leastRecentlyUsed == null) {
+                return;
+            }
+            if (sessions.remove(leastRecentlyUsed.key, leastRecentlyUsed)) {
+                log.debug("MCP session pool is full, closing least recently used session {}", leastRecentlyUsed.key);
+                leastRecentlyUsed.disconnect();
+            }
+        }
+    }
+
+    private void evictIdleSessions() {
+        long now = nanoClock.getAsLong();
+        for (Session session : sessions.values()) {
+            if (now - session.lastUsedNanos > idleTimeoutNanos && sessions.remove(session.key, session)) {
+                log.debug("Closing idle MCP session {}", session.key);
+                session.disconnect();
+            }
+        }
+    }
+
+    public class Session {
+        private final String key;
+        private final Supplier<McpClientTransport> transportSupplier;
+        private final Duration requestTimeout;
+        private volatile McpAsyncClient client;
+        private volatile McpSchema.ListToolsResult tools;
+        private volatile long toolsFetchedNanos;
+        private volatile long lastUsedNanos;
+        private volatile long lastCheckedNanos;
+
+        private Session(String key, Supplier<McpClientTransport> transportSupplier, Duration requestTimeout) {
+            this.key = key;
+            this.transportSupplier = transportSupplier;
+            this.requestTimeout = requestTimeout;
+            this.lastUsedNanos = nanoClock.getAsLong();
+        }
+
+        public McpAsyncClient getClient() {
+            return client;
+        }
+
+        /**
+         * Handle a failed request on a client of this session. The session is closed and removed from the pool only if the
+         * failure is at the transport level, so other agent runs sharing the session keep using it on tool errors.
+         */
+        public void onRequestFailure(McpAsyncClient failedClient, Throwable error) {
+            if (isTransportFailure(error)) {
+                evict(failedClient);
+            }
+        }
+
+        /**
+         * Get the tools of the MCP server, from the cache if it's not expired.
+         */
+        public McpSchema.ListToolsResult listTools() {
+            McpSchema.ListToolsResult cachedTools = tools;
+            if (cachedTools != null && nanoClock.getAsLong() - toolsFetchedNanos < toolsCacheTtlNanos) {
+                return cachedTools;
+            }
+            McpAsyncClient currentClient = client;
+            if (currentClient == null) {
+                // the session was evicted concurrently
+                connect();
+                currentClient = client;
+            }
+            try {
+                McpSchema.ListToolsResult result = currentClient.listTools().block(requestTimeout);
+                toolsFetchedNanos = nanoClock.getAsLong();
+                tools = result;
+                return result;
+            } catch (Exception e) {
+                onRequestFailure(currentClient, e);
+                throw e;
+            }
+        }
+
+        private synchronized void connect() {
+            long now = nanoClock.getAsLong();
+            lastUsedNanos = now;
+            if (client != null) {
+                if (now - lastCheckedNanos < healthCheckIntervalNanos) {
+                    return;
+                }
+                try {
+                    client.ping().block(requestTimeout);
+                    lastCheckedNanos = now;
+                    return;
+                } catch (Exception e) {
+                    log.warn("MCP session {} failed the health check, reconnecting", key, e);
+                    disconnect();
+                }
+            }
+            McpAsyncClient newClient = McpClient
+                .async(transportSupplier.get())
+                .requestTimeout(requestTimeout)
+                .capabilities(McpSchema.ClientCapabilities.builder().roots(false).build())
+                .toolsChangeConsumer(changedTools -> Mono.fromRunnable(this::invalidateTools))
+                .build();
+            try {
+                newClient.initialize().block(requestTimeout);
+            } catch (Exception e) {
+                newClient.closeGracefully().subscribe(null, error -> log.debug("Failed to close MCP client", error));
+                throw e;
+            }
+            client = newClient;
+            tools = null;
+            lastCheckedNanos = now;
+        }
+
+        private synchronized void disconnect() {
+            McpAsyncClient currentClient = client;
+            client = null;
+            tools = null;
+            if (currentClient != null) {
+                currentClient.closeGracefully().subscribe(null, error -> log.debug("Failed to close MCP client", error));
+            }
+        }
+
+        private void invalidateTools() {
+            log.debug("Tools of MCP session {} changed", key);
+            tools = null;
+        }
+    }
+}
@@ -6,8 +6,9 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.opensearch.ml.common.CommonValue.ENDPOINT_FIELD;
+import static org.opensearch.ml.common.CommonValue.MCP_ASYNC_CLIENT;
+import static org.opensearch.ml.common.CommonValue.MCP_CLIENT_SESSION;
 import static org.opensearch.ml.common.CommonValue.MCP_DEFAULT_STREAMABLE_HTTP_ENDPOINT;
-import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
 import static org.opensearch.ml.common.CommonValue.MCP_TOOLS_FIELD;
 import static org.opensearch.ml.common.CommonValue.MCP_TOOL_DESCRIPTION_FIELD;
 import static org.opensearch.ml.common.CommonValue.MCP_TOOL_INPUT_SCHEMA_FIELD;
@@ -20,10 +21,12 @@ import java.net.http.HttpRequest;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.collect.Tuple;
@@ -46,8 +49,6 @@ import org.opensearch.transport.client.Client;
 
 import com.google.gson.Gson;
 
-import io.modelcontextprotocol.client.McpClient;
-import io.modelcontextprotocol.client.McpSyncClient;
 import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
 import io.modelcontextprotocol.spec.McpClientTransport;
 import io.modelcontextprotocol.spec.McpSchema;
@@ -64,6 +65,8 @@ public class McpStreamableHttpConnectorExecutor extends AbstractConnectorExecuto
     @Getter
     @Setter
     private Client client;
+    @Setter
+    private McpClientSessionPool sessionPool = McpClientSessionPool.getInstance();
 
     public McpStreamableHttpConnectorExecutor(Connector connector) {
         super.initialize(connector);
@@ -81,18 +84,21 @@ public class McpStreamableHttpConnectorExecutor extends AbstractConnectorExecuto
             Duration connectionTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getConnectionTimeout());
             Duration readTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getReadTimeout());
 
+            // Request headers are captured when the session is created, the session is reused by later requests
+            Map<String, String> headers = new LinkedHashMap<>();
+            if (connector.getDecryptedHeaders() != null) {
+                headers.putAll(connector.getDecryptedHeaders());
+            }
+            // Add MCP request headers from ThreadContext
+            headers.putAll(getMcpRequestHeaders());
             Consumer<HttpRequest.Builder> headerConfig = builder -> {
-                if (connector.getDecryptedHeaders() != null) {
-                    for (Map.Entry<String, String> entry : connector.getDecryptedHeaders().entrySet()) {
-                        builder.header(entry.getKey(), entry.getValue());
-                    }
+                for (Map.Entry<String, String> entry : headers.entrySet()) {
+                    builder.setHeader(entry.getKey(), entry.getValue());
                 }
-                // Add MCP request headers from ThreadContext
-                getMcpRequestHeaders(builder);
             };
 
             // Create streamable HTTP transport
-            McpClientTransport transport = HttpClientStreamableHttpTransport
+            Supplier<McpClientTransport> transportSupplier = () -> HttpClientStreamableHttpTransport
                 .builder(mcpServerUrl)
                 .endpoint(endpoint)
                 .customizeClient(clientBuilder -> {
@@ -102,15 +108,11 @@ public class McpStreamableHttpConnectorExecutor extends AbstractConnectorExecuto
                 .customizeRequest(headerConfig)
                 .build();
 
-            // Create and initialize client
-            McpSyncClient client = McpClient
-                .sync(transport)
-                .requestTimeout(readTimeout)
-                .capabilities(McpSchema.ClientCapabilities.builder().roots(false).build())
-                .build();
-
-            client.initialize();
-            McpSchema.ListToolsResult tools = client.listTools();
+            // Get a pooled session, the MCP handshake only happens when the session is created or reconnected
+            String sessionKey = McpClientSessionPool
+                .sessionKey(connector.getProtocol(), mcpServerUrl, endpoint, headers, connectionTimeout, readTimeout);
+            McpClientSessionPool.Session session = sessionPool.getSession(sessionKey, transportSupplier, readTimeout);
+            McpSchema.ListToolsResult tools = session.listTools();
 
             // Process the results
             Gson gson = new Gson();
@@ -137,7 +139,8 @@ public class McpStreamableHttpConnectorExecutor extends AbstractConnectorExecuto
                     .description(description)
                     .attributes(attributes)
                     .build();
-                mlToolSpec.addRuntimeResource(MCP_SYNC_CLIENT, client);
+                mlToolSpec.addRuntimeResource(MCP_ASYNC_CLIENT, session.getClient());
+                mlToolSpec.addRuntimeResource(MCP_CLIENT_SESSION, session);
                 mcpToolSpecs.add(mlToolSpec);
             }
 
@@ -0,0 +1,258 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.TokenBucket;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * A token bucket where requests wait for a token instead of being rejected immediately.
+ *
+ * Requests which don't get a token are queued in arrival order, up to a max queue size, and are released by a
+ * scheduled task as tokens refill. A request is rejected if the queue is full or it doesn't get a token within the
+ * max wait. Requests arriving while others are queued are queued behind them, so waiting requests are not starved
+ * by new ones.
+ */
+@Log4j2
+public class QueueingTokenBucket extends TokenBucket {
+    private static final long MIN_RELEASE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Records the queue depth and wait time of the requests of a token bucket.
+     */
+    public interface WaitRecorder {
+        WaitRecorder NOOP = new WaitRecorder() {
+        };
+
+        /**
+         * @param queueDepth requests in the queue after a request is queued
+         */
+        default void queued(int queueDepth) {}
+
+        /**
+         * @param waitNanos time a request waited in the queue
+         * @param acquired true if the request got a token, false if it timed out
+         */
+        default void waited(long waitNanos, boolean acquired) {}
+    }
+
+    private final LongSupplier clock;
+    private final long releaseIntervalNanos;
+    private final long maxWaitNanos;
+    private final int maxQueueSize;
+    private final ThreadPool threadPool;
+    private final String executor;
+    private final WaitRecorder recorder;
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+    private boolean releaseScheduled;
+
+    /**
+     * @param clock clock in nanoseconds
+     * @param rate tokens refilled per nanosecond
+     * @param burst max tokens of the bucket
+     * @param maxWait max time a request waits for a token
+     * @param maxQueueSize max requests waiting for a token
+     * @param threadPool thread pool to schedule the release of waiting requests
+     * @param executor executor of the released requests
+     * @param recorder records queue depth and wait time
+     */
+    public QueueingTokenBucket(
+        LongSupplier clock,
+        double rate,
+        double burst,
+        TimeValue maxWait,
+        int maxQueueSize,
+        ThreadPool threadPool,
+        String executor,
+        WaitRecorder recorder
+    ) {
+        super(clock, rate, burst, burst);
+        if (maxQueueSize <= 0) {
+            throw new IllegalArgumentException("max queue size must be positive");
+        }
+        this.clock = clock;
+        this.releaseIntervalNanos = Math.max(MIN_RELEASE_INTERVAL_NANOS, (long) Math.ceil(1 / rate));
+        this.maxWaitNanos = maxWait.nanos();
+        this.maxQueueSize = maxQueueSize;
+        this.threadPool = threadPool;
+        this.executor = executor;
+        this.recorder = recorder == null ? WaitRecorder.NOOP : recorder;
+    }
+
+    /**
+     * Acquire a token from a token bucket. Requests wait for a token if the bucket is a queueing token bucket,
+     * otherwise the result is known immediately.
+     * @param bucket token bucket, null if not rate limited
+     * @param listener true if a token is acquired, false if the request is throttled
+     */
+    public static void acquire(TokenBucket bucket, ActionListener<Boolean> listener) {
+        if (bucket == null) {
+            listener.onResponse(true);
+        } else if (bucket instanceof QueueingTokenBucket) {
+            ((QueueingTokenBucket) bucket).acquire(listener);
+        } else {
+            listener.onResponse(bucket.request());
+        }
+    }
+
+    /**
+     * Acquire a token from a token bucket without waiting. A queueing token bucket doesn't give a token ahead of the
+     * requests waiting in its queue.
+     * @param bucket token bucket, null if not rate limited
+     * @return true if a token is acquired
+     */
+    public static boolean tryAcquire(TokenBucket bucket) {
+        if (bucket == null) {
+            return true;
+        } else if (bucket instanceof QueueingTokenBucket) {
+            return ((QueueingTokenBucket) bucket).tryAcquire();
+        }
+        return bucket.request();
+    }
+
+    private synchronized boolean tryAcquire() {
+        return waiters.isEmpty() && request();
+    }
+
+    /**
+     * Acquire a token, waiting in the queue if no token is available.
+     * @param listener true if a token is acquired, false if the queue is full or the max wait elapsed. The listener
+     *                 of a queued request is called in the thread context of the request.
+     */
+    public void acquire(ActionListener<Boolean> listener) {
+        boolean acquired = false;
+        boolean queued = false;
+        boolean scheduleRelease = false;
+        int queueDepth;
+        synchronized (this) {
+            if (waiters.isEmpty() && request()) {
+                acquired = true;
+            } else if (waiters.size() < maxQueueSize) {
+                waiters.addLast(new Waiter(listener, clock.getAsLong(), threadPool.getThreadContext().newRestorableContext(false)));
+                queued = true;
+                scheduleRelease = !releaseScheduled;
+                releaseScheduled = true;
+            }
+            queueDepth = waiters.size();
+        }
+        if (acquired) {
+            listener.onResponse(true);
+        } else if (!queued) {
+            rejectedCount.incrementAndGet();
+            listener.onResponse(false);
+        } else {
+            recorder.queued(queueDepth);
+            if (scheduleRelease) {
+                scheduleRelease(Math.min(releaseIntervalNanos, maxWaitNanos));
+            }
+        }
+    }
+
+    public synchronized int getQueueDepth() {
+        return waiters.size();
+    }
+
+    /**
+     * Requests rejected because the queue was full.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * Requests rejected because they didn't get a token within the max wait.
+     */
+    public long getTimedOutCount() {
+        return timedOutCount.get();
+    }
+
+    void release() {
+        List<Waiter> released = new ArrayList<>();
+        List<Waiter> expired = new ArrayList<>();
+        long now = clock.getAsLong();
+        long nextReleaseNanos = -1;
+        synchronized (this) {
+            while (!waiters.isEmpty()) {
+                Waiter waiter = waiters.peekFirst();
+                if (now - waiter.queuedNanos >= maxWaitNanos) {
+                    expired.add(waiters.pollFirst());
+                } else if (request()) {
+                    released.add(waiters.pollFirst());
+                } else {
+                    // waiters are queued in order, the first one times out first
+                    nextReleaseNanos = Math.min(releaseIntervalNanos, maxWaitNanos - (now - waiter.queuedNanos));
+                    break;
+                }
+            }
+            releaseScheduled = nextReleaseNanos >= 0;
+        }
+        expired.forEach(waiter -> {
+            timedOutCount.incrementAndGet();
+            waiter.complete(false, now);
+        });
+        released.forEach(waiter -> waiter.complete(true, now));
+        if (nextReleaseNanos >= 0) {
+            scheduleRelease(nextReleaseNanos);
+        }
+    }
+
+    private void scheduleRelease(long delayNanos) {
+        // the release task serves the requests of different users, each waiter restores its own thread context
+        try (ThreadContext.StoredContext ignored = threadPool.getThreadContext().stashContext()) {
+            threadPool.schedule(this::release, TimeValue.timeValueNanos(delayNanos), executor);
+        } catch (Exception e) {
+            log.error("Failed to schedule the release of throttled requests", e);
+            List<Waiter> rejected;
+            synchronized (this) {
+                rejected = new ArrayList<>(waiters);
+                waiters.clear();
+                releaseScheduled = false;
+            }
+            long now = clock.getAsLong();
+            rejected.forEach(waiter -> {
+                rejectedCount.incrementAndGet();
+                waiter.complete(false, now);
+            });
+        }
+    }
+
+    private class Waiter {
+        private final ActionListener<Boolean> listener;
+        private final long queuedNanos;
+        private final Supplier<ThreadContext.StoredContext> context;
+
+        private Waiter(ActionListener<Boolean> listener, long queuedNanos, Supplier<ThreadContext.StoredContext> context) {
+            this.listener = listener;
+            this.queuedNanos = queuedNanos;
+            this.context = context;
+        }
+
+        private void complete(boolean acquired, long now) {
+            recorder.waited(now - queuedNanos, acquired);
+            try (ThreadContext.StoredContext ignored = context.get()) {
+                listener.onResponse(acquired);
+            } catch (Exception e) {
+                log.error("Failed to release throttled request", e);
+            }
+        }
+    }
+}
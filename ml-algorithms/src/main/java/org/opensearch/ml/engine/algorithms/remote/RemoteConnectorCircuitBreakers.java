@@ -0,0 +1,329 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.rest.RestStatus;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level circuit breakers of the remote connectors.
+ *
+ * A breaker is closed until the failure rate of the last calls to its connector reaches the threshold, failures are
+ * timeouts, connection errors and 5xx responses. While open, calls fail fast with a 503 status. After the open duration
+ * the breaker is half open and lets a few probe calls through, it closes once they all succeed and opens again if one
+ * fails. Breakers are keyed by connector id, or by model id for inline connectors.
+ */
+@Log4j2
+public class RemoteConnectorCircuitBreakers {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final ConcurrentMap<String, ConnectorCircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final CounterMetric rejectedCount = new CounterMetric();
+    private final CounterMetric openedCount = new CounterMetric();
+    private volatile boolean enabled;
+    private volatile int failureRateThreshold;
+    private volatile int slidingWindowSize;
+    private volatile int minimumCalls;
+    private volatile long openDurationNanos;
+    private volatile int halfOpenProbes;
+
+    /**
+     * @param enabled whether calls are tracked and rejected while a breaker is open
+     * @param failureRateThreshold failure rate in percent of the calls in the sliding window which opens a breaker
+     * @param slidingWindowSize number of the last calls the failure rate is computed on
+     * @param minimumCalls min number of calls in the sliding window before the failure rate is checked
+     * @param openDuration how long a breaker stays open before it lets probe calls through
+     * @param halfOpenProbes number of probe calls which must succeed to close a half open breaker
+     * @param clock relative clock in nanoseconds
+     */
+    public RemoteConnectorCircuitBreakers(
+        boolean enabled,
+        int failureRateThreshold,
+        int slidingWindowSize,
+        int minimumCalls,
+        TimeValue openDuration,
+        int halfOpenProbes,
+        LongSupplier clock
+    ) {
+        this.enabled = enabled;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumCalls = minimumCalls;
+        this.openDurationNanos = openDuration.nanos();
+        this.halfOpenProbes = halfOpenProbes;
+        this.clock = clock;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            // breakers start closed with an empty window when they're enabled again
+            breakers.values().forEach(ConnectorCircuitBreaker::reset);
+        }
+    }
+
+    public void setFailureRateThreshold(int failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public void setSlidingWindowSize(int slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public void setOpenDuration(TimeValue openDuration) {
+        this.openDurationNanos = openDuration.nanos();
+    }
+
+    public void setHalfOpenProbes(int halfOpenProbes) {
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /**
+     * Get the breaker of a connector, it's shared by the models using the connector.
+     * @param key connector id, or model id for an inline connector
+     */
+    public ConnectorCircuitBreaker forConnector(String key) {
+        return breakers.computeIfAbsent(key, ConnectorCircuitBreaker::new);
+    }
+
+    /**
+     * @param key connector id, or model id for an inline connector
+     * @return state of the breaker, null if breakers are disabled or the connector has not been called
+     */
+    public State getState(String key) {
+        ConnectorCircuitBreaker breaker = breakers.get(key);
+        return enabled && breaker != null ? breaker.getState() : null;
+    }
+
+    /**
+     * @return number of breakers which are open or half open
+     */
+    public long getOpenCount() {
+        if (!enabled) {
+            return 0;
+        }
+        return breakers.values().stream().filter(breaker -> breaker.getState() != State.CLOSED).count();
+    }
+
+    /**
+     * @return number of calls rejected as their breaker was open
+     */
+    public long getRejectedCount() {
+        return rejectedCount.count();
+    }
+
+    /**
+     * @return number of times a breaker opened
+     */
+    public long getOpenedCount() {
+        return openedCount.count();
+    }
+
+    /**
+     * Whether a failed call counts as a failure of the connector. Throttling and other 4xx responses are caused by
+     * the request or the caller, they don't count.
+     */
+    public static boolean isConnectorFailure(Exception e) {
+        Throwable cause = ExceptionsHelper.unwrapCause(e);
+        if (cause instanceof RemoteConnectorThrottlingException) {
+            return false;
+        }
+        if (cause instanceof OpenSearchStatusException) {
+            return ((OpenSearchStatusException) cause).status().getStatus() >= 500;
+        }
+        return ExceptionsHelper.unwrap(e, IOException.class, TimeoutException.class) != null;
+    }
+
+    /**
+     * Permit of a call, its outcome must be recorded on the breaker which issued it.
+     */
+    public static final class Permit {
+        private static final Permit UNTRACKED = new Permit(-1, false);
+
+        private final long generation;
+        private final boolean probe;
+
+        private Permit(long generation, boolean probe) {
+            this.generation = generation;
+            this.probe = probe;
+        }
+    }
+
+    /**
+     * Breaker of a connector.
+     */
+    public final class ConnectorCircuitBreaker {
+        private final String key;
+        private State state = State.CLOSED;
+        // incremented on every state change, outcomes of calls permitted in an earlier state are ignored
+        private long generation;
+        // ring buffer of the outcomes of the last calls, true for a failure
+        private boolean[] window = new boolean[0];
+        private int windowCalls;
+        private int windowFailures;
+        private int windowNext;
+        private long openedAtNanos;
+        private int probesInFlight;
+        private int probeSuccesses;
+
+        private ConnectorCircuitBreaker(String key) {
+            this.key = key;
+        }
+
+        public synchronized State getState() {
+            return state;
+        }
+
+        /**
+         * @return the permit of the call, null if the call is rejected as the breaker is open
+         */
+        public Permit tryAcquirePermit() {
+            if (!enabled) {
+                return Permit.UNTRACKED;
+            }
+            synchronized (this) {
+                if (state == State.OPEN && clock.getAsLong() - openedAtNanos >= openDurationNanos) {
+                    transitionTo(State.HALF_OPEN);
+                }
+                if (state == State.CLOSED) {
+                    return new Permit(generation, false);
+                }
+                if (state == State.HALF_OPEN && probesInFlight + probeSuccesses < halfOpenProbes) {
+                    probesInFlight++;
+                    return new Permit(generation, true);
+                }
+            }
+            rejectedCount.inc();
+            return null;
+        }
+
+        /**
+         * @return failure of a call rejected by the breaker
+         */
+        public OpenSearchStatusException rejection() {
+            return new OpenSearchStatusException(
+                String.format(Locale.ROOT, "Circuit breaker of remote connector %s is open, the request is rejected", key),
+                RestStatus.SERVICE_UNAVAILABLE
+            );
+        }
+
+        public synchronized void onSuccess(Permit permit) {
+            if (permit.generation != generation) {
+                return;
+            }
+            if (permit.probe) {
+                probesInFlight--;
+                if (++probeSuccesses >= halfOpenProbes) {
+                    log.info("Circuit breaker of remote connector {} is closed", key);
+                    transitionTo(State.CLOSED);
+                }
+                return;
+            }
+            record(false);
+        }
+
+        public synchronized void onFailure(Permit permit) {
+            if (permit.generation != generation) {
+                return;
+            }
+            if (permit.probe) {
+                log.warn("Circuit breaker of remote connector {} is open again, a probe call failed", key);
+                open();
+            } else if (record(true) && windowFailures * 100L >= (long) failureRateThreshold * windowCalls) {
+                log
+                    .warn(
+                        "Circuit breaker of remote connector {} is open, {} of the last {} calls failed",
+                        key,
+                        windowFailures,
+                        windowCalls
+                    );
+                open();
+            }
+        }
+
+        /**
+         * Release the permit of a call whose outcome says nothing about the connector, e.g. a cancelled call.
+         */
+        public synchronized void onIgnored(Permit permit) {
+            if (permit.generation == generation && permit.probe) {
+                probesInFlight--;
+            }
+        }
+
+        /**
+         * Record the outcome of a call in the sliding window.
+         * @return true if the window holds enough calls to compute the failure rate
+         */
+        private boolean record(boolean failure) {
+            int size = slidingWindowSize;
+            if (window.length != size) {
+                resetWindow(size);
+            }
+            if (windowCalls == size) {
+                if (window[windowNext]) {
+                    windowFailures--;
+                }
+            } else {
+                windowCalls++;
+            }
+            window[windowNext] = failure;
+            if (failure) {
+                windowFailures++;
+            }
+            windowNext = (windowNext + 1) % size;
+            return windowCalls >= minimumCalls;
+        }
+
+        private void open() {
+            transitionTo(State.OPEN);
+            openedAtNanos = clock.getAsLong();
+            openedCount.inc();
+        }
+
+        private void transitionTo(State newState) {
+            state = newState;
+            generation++;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+            if (newState == State.CLOSED) {
+                resetWindow(slidingWindowSize);
+            }
+        }
+
+        private synchronized void reset() {
+            transitionTo(State.CLOSED);
+        }
+
+        private void resetWindow(int size) {
+            window = new boolean[size];
+            windowCalls = 0;
+            windowFailures = 0;
+            windowNext = 0;
+        }
+    }
+}
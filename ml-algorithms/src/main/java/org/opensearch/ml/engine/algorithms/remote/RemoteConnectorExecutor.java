@@ -12,24 +12,30 @@ import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processI
 import static org.opensearch.ml.engine.processor.ProcessorChain.INPUT_PROCESSORS;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.Logger;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.support.ContextPreservingActionListener;
 import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.action.support.RetryableAction;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.TokenBucket;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
@@ -49,6 +55,9 @@ import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.MLAlgoParams;
 import org.opensearch.ml.common.model.MLGuard;
+import org.opensearch.ml.common.model.PredictLatencyRecorder;
+import org.opensearch.ml.common.model.PredictStage;
+import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.MLTaskResponse;
@@ -66,6 +75,9 @@ public interface RemoteConnectorExecutor {
 
     public String RETRY_EXECUTOR = "opensearch_ml_predict_remote";
     String SKIP_SSL_VERIFICATION = "skip_ssl_verification";
+    String INPUT_DOCS_PROCESSED_STEP_SIZE = "input_docs_processed_step_size";
+    String INPUT_DOCS_MAX_TOKENS_PER_REQUEST = "input_docs_max_tokens_per_request";
+    String INPUT_DOCS_MAX_CONCURRENT_REQUESTS = "input_docs_max_concurrent_requests";
 
     default void executeAction(String action, MLInput mlInput, ActionListener<MLTaskResponse> actionListener) {
         executeAction(action, mlInput, actionListener, null);
@@ -92,29 +104,10 @@ public interface RemoteConnectorExecutor {
 
         try {
             if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
-                TextDocsInputDataSet textDocsInputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
-                Tuple<Integer, Integer> calculatedChunkSize = calculateChunkSize(action, textDocsInputDataSet);
-                GroupedActionListener<Tuple<Integer, ModelTensors>> groupedActionListener = new GroupedActionListener<>(
-                    tensorActionListener,
-                    calculatedChunkSize.v1()
-                );
-                int sequence = 0;
-                for (int processedDocs = 0; processedDocs < textDocsInputDataSet.getDocs().size(); processedDocs += calculatedChunkSize
-                    .v2()) {
-                    List<String> textDocs = textDocsInputDataSet
-                        .getDocs()
-                        .subList(processedDocs, Math.min(processedDocs + calculatedChunkSize.v2(), textDocsInputDataSet.getDocs().size()));
-                    preparePayloadAndInvoke(
-                        action,
-                        MLInput
-                            .builder()
-                            .algorithm(FunctionName.TEXT_EMBEDDING)
-                            .parameters(mlInput.getParameters())
-                            .inputDataset(TextDocsInputDataSet.builder().docs(textDocs).build())
-                            .build(),
-                        new ExecutionContext(sequence++),
-                        groupedActionListener
-                    );
+                if (isEmbeddingCacheable(action)) {
+                    executeWithEmbeddingCache(action, mlInput, tensorActionListener);
+                } else {
+                    dispatchTextDocs(action, mlInput, (TextDocsInputDataSet) mlInput.getInputDataset(), tensorActionListener);
                 }
             } else {
                 preparePayloadAndInvoke(action, mlInput, new ExecutionContext(0), new GroupedActionListener<>(tensorActionListener, 1));
@@ -124,6 +117,259 @@ public interface RemoteConnectorExecutor {
         }
     }
 
+    /**
+     * Split text docs into sub-requests and dispatch them.
+     * @param textDocsInputDataSet text docs to embed, may be a subset of the docs of the request
+     * @param listener results of the sub-requests, the sequence number of a result is the index of its chunk
+     */
+    private void dispatchTextDocs(
+        String action,
+        MLInput mlInput,
+        TextDocsInputDataSet textDocsInputDataSet,
+        ActionListener<Collection<Tuple<Integer, ModelTensors>>> listener
+    ) {
+        List<List<String>> chunks = splitTextDocs(action, textDocsInputDataSet);
+        GroupedActionListener<Tuple<Integer, ModelTensors>> groupedActionListener = new GroupedActionListener<>(listener, chunks.size());
+        Supplier<ThreadContext.StoredContext> requestContext = newRestorableContext();
+        SubRequestDispatcher dispatcher = getSubRequestDispatcher();
+        if (dispatcher == null) {
+            dispatcher = new SubRequestDispatcher(Integer.MAX_VALUE);
+        }
+        AtomicBoolean failed = new AtomicBoolean();
+        dispatcher.dispatch(chunks.size(), getMaxConcurrentRequests(), (sequence, onDone, cancelRequest) -> {
+            // sub-requests may be dispatched on the thread of a sub-request of another request
+            try (ThreadContext.StoredContext ignored = requestContext.get()) {
+                ActionListener<Tuple<Integer, ModelTensors>> chunkListener = ActionListener.runAfter(new ActionListener<>() {
+                    @Override
+                    public void onResponse(Tuple<Integer, ModelTensors> result) {
+                        groupedActionListener.onResponse(result);
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        // fail fast, the request can't succeed anymore, so its chunks which are not sent yet are dropped
+                        if (failed.compareAndSet(false, true)) {
+                            cancelRequest.run();
+                            listener.onFailure(e);
+                        }
+                    }
+                }, onDone);
+                invokeChunk(action, mlInput, chunks.get(sequence), sequence, chunkListener);
+            }
+        });
+    }
+
+    /**
+     * Embeddings are cached if the connector returns one embedding per doc, i.e. its predict action uses a built-in
+     * embedding post process function, and the output is not validated by guardrails.
+     */
+    private boolean isEmbeddingCacheable(String action) {
+        if (getEmbeddingCache() == null || !getEmbeddingCache().isEnabled() || getMlGuard() != null) {
+            return false;
+        }
+        if (!ConnectorAction.ActionType.PREDICT.name().equalsIgnoreCase(action)) {
+            return false;
+        }
+        Optional<ConnectorAction> connectorAction = getConnector().findAction(action);
+        return connectorAction.isPresent() && ConnectorUtils.isEmbeddingPostProcessFunction(connectorAction.get().getPostProcessFunction());
+    }
+
+    /**
+     * Serve the embeddings of the docs from the embedding cache and only send the docs which are not cached, identical
+     * docs of a request are sent once. The result has the same layout as without the cache, one model tensors per
+     * sub-request the docs are split into, holding the embeddings of its docs in order.
+     */
+    private void executeWithEmbeddingCache(
+        String action,
+        MLInput mlInput,
+        ActionListener<Collection<Tuple<Integer, ModelTensors>>> listener
+    ) throws IOException {
+        RemoteEmbeddingCache.ModelEmbeddingCache embeddingCache = getEmbeddingCache();
+        TextDocsInputDataSet textDocsInputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
+        List<String> docs = textDocsInputDataSet.getDocs();
+        List<List<String>> chunks = splitTextDocs(action, textDocsInputDataSet);
+        long parametersHash = mlInput.getParameters() == null ? 0 : getParams(mlInput).hashCode();
+        ModelTensor[] embeddings = new ModelTensor[docs.size()];
+        // status codes of the sub-requests which returned the embeddings of the docs sent
+        Map<Integer, Integer> statusCodes = new HashMap<>();
+        Map<String, List<Integer>> missedDocs = new LinkedHashMap<>();
+        for (int i = 0; i < docs.size(); i++) {
+            String doc = docs.get(i);
+            List<Integer> positions = missedDocs.get(doc);
+            if (positions != null) {
+                positions.add(i);
+            } else if (doc == null || (embeddings[i] = embeddingCache.get(parametersHash, doc)) == null) {
+                missedDocs.computeIfAbsent(doc, it -> new ArrayList<>()).add(i);
+            }
+        }
+        if (missedDocs.isEmpty()) {
+            listener.onResponse(chunksOf(chunks, embeddings, statusCodes));
+            return;
+        }
+        List<String> docsToEmbed = new ArrayList<>(missedDocs.keySet());
+        // false if docs are served from the cache or identical docs are sent once
+        boolean sentAllDocs = missedDocs.size() == docs.size();
+        dispatchTextDocs(action, mlInput, TextDocsInputDataSet.builder().docs(docsToEmbed).build(), ActionListener.wrap(results -> {
+            List<Tuple<Integer, ModelTensors>> sorted = new ArrayList<>(results);
+            sorted.sort((a, b) -> Integer.compare(a.v1(), b.v1()));
+            List<ModelTensor> tensors = new ArrayList<>();
+            List<Integer> tensorStatusCodes = new ArrayList<>();
+            for (Tuple<Integer, ModelTensors> result : sorted) {
+                for (ModelTensor tensor : result.v2().getMlModelTensors()) {
+                    tensors.add(tensor);
+                    tensorStatusCodes.add(result.v2().getStatusCode());
+                }
+            }
+            if (tensors.size() != docsToEmbed.size()) {
+                getLogger()
+                    .warn("Remote model returned {} embeddings for {} docs, embeddings are not cached", tensors.size(), docsToEmbed.size());
+                if (sentAllDocs) {
+                    listener.onResponse(results);
+                } else {
+                    // the embeddings can't be mapped back to the docs, sending all docs again would double the cost
+                    listener
+                        .onFailure(
+                            new OpenSearchStatusException(
+                                "Remote model returned " + tensors.size() + " embeddings for " + docsToEmbed.size() + " docs",
+                                RestStatus.INTERNAL_SERVER_ERROR
+                            )
+                        );
+                }
+                return;
+            }
+            for (int i = 0; i < docsToEmbed.size(); i++) {
+                ModelTensor tensor = tensors.get(i);
+                if (docsToEmbed.get(i) != null) {
+                    embeddingCache.put(parametersHash, docsToEmbed.get(i), tensor);
+                }
+                List<Integer> positions = missedDocs.get(docsToEmbed.get(i));
+                embeddings[positions.get(0)] = tensor;
+                statusCodes.put(positions.get(0), tensorStatusCodes.get(i));
+                for (int j = 1; j < positions.size(); j++) {
+                    embeddings[positions.get(j)] = copyOf(tensor);
+                    statusCodes.put(positions.get(j), tensorStatusCodes.get(i));
+                }
+            }
+            listener.onResponse(chunksOf(chunks, embeddings, statusCodes));
+        }, listener::onFailure));
+    }
+
+    /**
+     * Rebuild the results of the sub-requests the docs are split into from the embeddings of the docs. The status code
+     * of a sub-request is the one of the first of its docs which is sent, or OK if all its docs are cached.
+     */
+    private static List<Tuple<Integer, ModelTensors>> chunksOf(
+        List<List<String>> chunks,
+        ModelTensor[] embeddings,
+        Map<Integer, Integer> statusCodes
+    ) {
+        List<Tuple<Integer, ModelTensors>> results = new ArrayList<>(chunks.size());
+        int offset = 0;
+        for (int sequence = 0; sequence < chunks.size(); sequence++) {
+            int size = chunks.get(sequence).size();
+            Integer statusCode = RestStatus.OK.getStatus();
+            for (int i = offset; i < offset + size; i++) {
+                if (statusCodes.containsKey(i)) {
+                    statusCode = statusCodes.get(i);
+                    break;
+                }
+            }
+            ModelTensors modelTensors = new ModelTensors(new ArrayList<>(Arrays.asList(embeddings).subList(offset, offset + size)));
+            modelTensors.setStatusCode(statusCode);
+            results.add(Tuple.tuple(sequence, modelTensors));
+            offset += size;
+        }
+        return results;
+    }
+
+    private static ModelTensor copyOf(ModelTensor tensor) {
+        return ModelTensor
+            .builder()
+            .name(tensor.getName())
+            .dataType(tensor.getDataType())
+            .shape(tensor.getShape() == null ? null : tensor.getShape().clone())
+            .data(tensor.getData() == null ? null : tensor.getData().clone())
+            .byteBuffer(tensor.getByteBuffer())
+            .result(tensor.getResult())
+            .dataAsMap(tensor.getDataAsMap())
+            .build();
+    }
+
+    /**
+     * Invoke the sub-request of a chunk of text docs. The sequence number of a sub-request is the index of its chunk, so
+     * the results are reassembled in order.
+     */
+    private void invokeChunk(
+        String action,
+        MLInput mlInput,
+        List<String> docs,
+        int sequence,
+        ActionListener<Tuple<Integer, ModelTensors>> chunkListener
+    ) {
+        try {
+            preparePayloadAndInvoke(
+                action,
+                MLInput
+                    .builder()
+                    .algorithm(FunctionName.TEXT_EMBEDDING)
+                    .parameters(mlInput.getParameters())
+                    .inputDataset(TextDocsInputDataSet.builder().docs(docs).build())
+                    .build(),
+                new ExecutionContext(sequence),
+                chunkListener
+            );
+        } catch (Exception e) {
+            chunkListener.onFailure(e);
+        }
+    }
+
+    private Supplier<ThreadContext.StoredContext> newRestorableContext() {
+        if (getClient() == null || getClient().threadPool() == null || getClient().threadPool().getThreadContext() == null) {
+            return () -> () -> {};
+        }
+        return getClient().threadPool().getThreadContext().newRestorableContext(false);
+    }
+
+    /**
+     * Split the text docs into the docs of the sub-requests. If the connector sets a token budget per request, docs are
+     * packed by their estimated tokens and at most as many docs per request as the step size of the chunk size, otherwise
+     * the docs are split by the chunk size.
+     * @param textDocsInputDataSet Input dataset in textDocsInputDataSet format.
+     * @return docs of the sub-requests, in order.
+     */
+    private List<List<String>> splitTextDocs(String action, TextDocsInputDataSet textDocsInputDataSet) {
+        List<String> docs = textDocsInputDataSet.getDocs();
+        Map<String, String> parameters = getConnector().getParameters();
+        if (parameters != null && parameters.containsKey(INPUT_DOCS_MAX_TOKENS_PER_REQUEST)) {
+            int maxTokens = Integer.parseInt(parameters.get(INPUT_DOCS_MAX_TOKENS_PER_REQUEST));
+            // the step size, or the docs the pre process function takes per request, e.g. one for bedrock
+            int maxDocs = Math.max(1, calculateChunkSize(action, textDocsInputDataSet).v2());
+            return new TextDocsPacker(maxTokens, maxDocs).pack(docs);
+        }
+        Tuple<Integer, Integer> calculatedChunkSize = calculateChunkSize(action, textDocsInputDataSet);
+        List<List<String>> chunks = new ArrayList<>(calculatedChunkSize.v1());
+        for (int processedDocs = 0; processedDocs < docs.size(); processedDocs += calculatedChunkSize.v2()) {
+            chunks.add(docs.subList(processedDocs, Math.min(processedDocs + calculatedChunkSize.v2(), docs.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Max number of sub-requests of a request in flight. By default only the limit of the connector applies, see
+     * {@link #getSubRequestDispatcher()}.
+     */
+    private int getMaxConcurrentRequests() {
+        Map<String, String> parameters = getConnector().getParameters();
+        if (parameters == null || !parameters.containsKey(INPUT_DOCS_MAX_CONCURRENT_REQUESTS)) {
+            return Integer.MAX_VALUE;
+        }
+        int maxConcurrentRequests = Integer.parseInt(parameters.get(INPUT_DOCS_MAX_CONCURRENT_REQUESTS));
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("Invalid parameter: input_docs_max_concurrent_requests. It must be positive integer.");
+        }
+        return maxConcurrentRequests;
+    }
+
     /**
      * Calculate the chunk size.
      * @param textDocsInputDataSet Input dataset in textDocsInputDataSet format.
@@ -132,8 +378,8 @@ public interface RemoteConnectorExecutor {
     private Tuple<Integer, Integer> calculateChunkSize(String action, TextDocsInputDataSet textDocsInputDataSet) {
         int textDocsLength = textDocsInputDataSet.getDocs().size();
         Map<String, String> parameters = getConnector().getParameters();
-        if (parameters != null && parameters.containsKey("input_docs_processed_step_size")) {
-            int stepSize = Integer.parseInt(parameters.get("input_docs_processed_step_size"));
+        if (parameters != null && parameters.containsKey(INPUT_DOCS_PROCESSED_STEP_SIZE)) {
+            int stepSize = Integer.parseInt(parameters.get(INPUT_DOCS_PROCESSED_STEP_SIZE));
             // We need to check the parameter on runtime as parameter can be passed into action request
             if (stepSize <= 0) {
                 throw new IllegalArgumentException("Invalid parameter: input_docs_processed_step_size. It must be positive integer.");
@@ -195,6 +441,55 @@ public interface RemoteConnectorExecutor {
 
     default void setMlGuard(MLGuard mlGuard) {}
 
+    default void setLatencyRecorder(PredictLatencyRecorder latencyRecorder) {}
+
+    default PredictLatencyRecorder getLatencyRecorder() {
+        return PredictLatencyRecorder.NOOP;
+    }
+
+    /**
+     * Dispatcher limiting the sub-requests of the connector in flight across requests, null if not limited.
+     */
+    default SubRequestDispatcher getSubRequestDispatcher() {
+        return null;
+    }
+
+    default void setRequestHedger(RemoteRequestHedger.ModelRequestHedger requestHedger) {}
+
+    /**
+     * Hedger of the requests of the model, null if requests are not hedged.
+     */
+    default RemoteRequestHedger.ModelRequestHedger getRequestHedger() {
+        return null;
+    }
+
+    default void setCircuitBreaker(RemoteConnectorCircuitBreakers.ConnectorCircuitBreaker circuitBreaker) {}
+
+    /**
+     * Circuit breaker of the connector of the model, null if calls to the connector are not tracked.
+     */
+    default RemoteConnectorCircuitBreakers.ConnectorCircuitBreaker getCircuitBreaker() {
+        return null;
+    }
+
+    default void setRequestCoalescer(RemoteRequestCoalescer.ModelRequestCoalescer requestCoalescer) {}
+
+    /**
+     * Coalescer of the identical requests of the model in flight, null if requests are not coalesced.
+     */
+    default RemoteRequestCoalescer.ModelRequestCoalescer getRequestCoalescer() {
+        return null;
+    }
+
+    default void setEmbeddingCache(RemoteEmbeddingCache.ModelEmbeddingCache embeddingCache) {}
+
+    /**
+     * Cache of the embeddings of the text docs of the model, null if embeddings are not cached.
+     */
+    default RemoteEmbeddingCache.ModelEmbeddingCache getEmbeddingCache() {
+        return null;
+    }
+
     default void preparePayloadAndInvoke(
         String action,
         MLInput mlInput,
@@ -212,6 +507,7 @@ public interface RemoteConnectorExecutor {
         ActionListener<MLTaskResponse> agentListener,
         TransportChannel channel
     ) {
+        long startTime = System.nanoTime();
         Connector connector = getConnector();
 
         Map<String, String> parameters = new HashMap<>();
@@ -254,53 +550,235 @@ public interface RemoteConnectorExecutor {
         if (!Boolean.parseBoolean(parameters.getOrDefault(SKIP_VALIDATE_MISSING_PARAMETERS, "false"))) {
             connector.validatePayload(payload);
         }
+        getLatencyRecorder().recordSince(PredictStage.PREPARE_PAYLOAD, startTime);
+        TokenBucket userRateLimiter = getUserRateLimiter();
+        if (getRateLimiter() instanceof QueueingTokenBucket || userRateLimiter instanceof QueueingTokenBucket) {
+            // wait for the tokens of the user and the model, the request is invoked when both are acquired. The token of
+            // the user is acquired first, so requests throttled at user level don't take the tokens shared by all users.
+            QueueingTokenBucket.acquire(userRateLimiter, ActionListener.wrap(userAcquired -> {
+                if (!userAcquired) {
+                    throw throttledAtUserLevel();
+                }
+                QueueingTokenBucket.acquire(getRateLimiter(), ActionListener.wrap(modelAcquired -> {
+                    if (!modelAcquired) {
+                        throw throttledAtModelLevel();
+                    }
+                    validateAndInvoke(action, mlInput, parameters, payload, executionContext, actionListener, agentListener, channel);
+                }, actionListener::onFailure));
+            }, actionListener::onFailure));
+        } else if (userRateLimiter != null && !userRateLimiter.request()) {
+            throw throttledAtUserLevel();
+        } else if (getRateLimiter() != null && !getRateLimiter().request()) {
+            throw throttledAtModelLevel();
+        } else {
+            validateAndInvoke(action, mlInput, parameters, payload, executionContext, actionListener, agentListener, channel);
+        }
+    }
+
+    /**
+     * Rate limiter of the user of the request in the thread context, null if the user is not rate limited.
+     */
+    private TokenBucket getUserRateLimiter() {
         String userStr = getClient()
             .threadPool()
             .getThreadContext()
             .getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
         User user = User.parse(userStr);
-        if (getRateLimiter() != null && !getRateLimiter().request()) {
-            getLogger().error("Request is throttled at model level.");
-            throw new OpenSearchStatusException("Request is throttled at model level.", RestStatus.TOO_MANY_REQUESTS);
-        } else if (user != null
-            && getUserRateLimiterMap() != null
-            && getUserRateLimiterMap().get(user.getName()) != null
-            && !getUserRateLimiterMap().get(user.getName()).request()) {
-            getLogger().error("Request is throttled at user level.");
-            throw new OpenSearchStatusException(
-                "Request is throttled at user level. If you think there's an issue, please contact your cluster admin.",
-                RestStatus.TOO_MANY_REQUESTS
+        return user == null || getUserRateLimiterMap() == null ? null : getUserRateLimiterMap().get(user.getName());
+    }
+
+    private OpenSearchStatusException throttledAtModelLevel() {
+        getLogger().error("Request is throttled at model level.");
+        return new OpenSearchStatusException("Request is throttled at model level.", RestStatus.TOO_MANY_REQUESTS);
+    }
+
+    private OpenSearchStatusException throttledAtUserLevel() {
+        getLogger().error("Request is throttled at user level.");
+        return new OpenSearchStatusException(
+            "Request is throttled at user level. If you think there's an issue, please contact your cluster admin.",
+            RestStatus.TOO_MANY_REQUESTS
+        );
+    }
+
+    private void validateAndInvoke(
+        String action,
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ExecutionContext executionContext,
+        ActionListener<Tuple<Integer, ModelTensors>> actionListener,
+        ActionListener<MLTaskResponse> agentListener,
+        TransportChannel channel
+    ) {
+        if (getMlGuard() != null && !getMlGuard().validate(payload, MLGuard.Type.INPUT, parameters)) {
+            getLogger().error("guardrails triggered for user input");
+            throw new IllegalArgumentException("guardrails triggered for user input");
+        }
+        // Check for streaming first as streaming requests are only retried before their first chunk is sent
+        if (parameters.containsKey("stream")) {
+            String memoryId = parameters.get("memory_id");
+            String parentInteractionId = parameters.get("parent_interaction_id");
+            boolean isAgentRequest = parameters.get("agent_type") != null;
+            getLogger()
+                .info(
+                    "RemoteConnectorExecutor: Creating StreamPredictActionListener - isAgentRequest={}, agentListener={}",
+                    isAgentRequest,
+                    agentListener != null ? "present" : "null"
+                );
+            StreamPredictActionListener<MLTaskResponse, ?> streamListener = new StreamPredictActionListener<>(
+                channel,
+                isAgentRequest ? agentListener : null,
+                memoryId,
+                parentInteractionId
             );
+            invokeRemoteServiceStreamWithRetry(action, mlInput, parameters, payload, executionContext, streamListener);
+        } else if (getRequestCoalescer() != null) {
+            // the result of an identical request in flight is returned with the sequence number of this request
+            int sequence = executionContext.getSequence();
+            ActionListener<ModelTensors> coalescedListener = new ContextPreservingActionListener<>(
+                newRestorableContext(),
+                ActionListener.wrap(tensors -> actionListener.onResponse(Tuple.tuple(sequence, tensors)), actionListener::onFailure)
+            );
+            getRequestCoalescer()
+                .execute(
+                    action,
+                    payload,
+                    parameters,
+                    coalescedListener,
+                    listener -> invokeRemoteServiceWithRetryPolicy(
+                        action,
+                        mlInput,
+                        parameters,
+                        payload,
+                        executionContext,
+                        ActionListener.wrap(result -> listener.onResponse(result.v2()), listener::onFailure)
+                    )
+                );
         } else {
-            if (getMlGuard() != null && !getMlGuard().validate(payload, MLGuard.Type.INPUT, parameters)) {
-                getLogger().error("guardrails triggered for user input");
-                throw new IllegalArgumentException("guardrails triggered for user input");
+            invokeRemoteServiceWithRetryPolicy(action, mlInput, parameters, payload, executionContext, actionListener);
+        }
+    }
+
+    /**
+     * Invoke the remote service with a streaming request, which is retried with the retry policy of the connector if
+     * it fails before its first chunk is sent to the client, or if no chunk is received within the first byte timeout.
+     */
+    private void invokeRemoteServiceStreamWithRetry(
+        String action,
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ExecutionContext executionContext,
+        StreamPredictActionListener<MLTaskResponse, ?> streamListener
+    ) {
+        ConnectorClientConfig connectorClientConfig = getConnectorClientConfig();
+        Integer maxRetryTimes = connectorClientConfig.getMaxRetryTimes();
+        if ((maxRetryTimes == null || maxRetryTimes == 0) && connectorClientConfig.getFirstByteTimeoutMillis() == null) {
+            invokeRemoteServiceStream(action, mlInput, parameters, payload, executionContext, streamListener);
+            return;
+        }
+        new RetryableStreamRequest(
+            this,
+            action,
+            mlInput,
+            parameters,
+            payload,
+            executionContext,
+            streamListener,
+            getClient().threadPool(),
+            System::nanoTime
+        ).start();
+    }
+
+    private void invokeRemoteServiceWithRetryPolicy(
+        String action,
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ExecutionContext executionContext,
+        ActionListener<Tuple<Integer, ModelTensors>> actionListener
+    ) {
+        if (getConnectorClientConfig().getMaxRetryTimes() != 0) {
+            invokeRemoteServiceWithRetry(action, mlInput, parameters, payload, executionContext, actionListener);
+        } else {
+            invokeRemoteServiceWithHedging(action, mlInput, parameters, payload, executionContext, actionListener);
+        }
+    }
+
+    /**
+     * Invoke the remote service, a hedged predict request is sent if the connector sets a hedge delay percentile and the
+     * request has not answered after this percentile of the predict latency of the connector. The hedged request takes a
+     * token of the rate limiters of the model and the user, it's not sent if no token is available right away. Other
+     * actions, e.g. batch predict, are not idempotent or have unrelated latencies, so they are never hedged.
+     */
+    default void invokeRemoteServiceWithHedging(
+        String action,
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ExecutionContext executionContext,
+        ActionListener<Tuple<Integer, ModelTensors>> actionListener
+    ) {
+        RemoteRequestHedger.ModelRequestHedger requestHedger = getRequestHedger();
+        Double hedgeDelayPercentile = getConnectorClientConfig().getHedgeDelayPercentile();
+        if (requestHedger == null || hedgeDelayPercentile == null || !ConnectorAction.ActionType.PREDICT.name().equalsIgnoreCase(action)) {
+            invokeRemoteServiceWithCircuitBreaker(action, mlInput, parameters, payload, executionContext, actionListener);
+            return;
+        }
+        TokenBucket rateLimiter = getRateLimiter();
+        TokenBucket userRateLimiter = getUserRateLimiter();
+        requestHedger
+            .execute(
+                hedgeDelayPercentile,
+                executionContext.getSequence(),
+                () -> QueueingTokenBucket.tryAcquire(userRateLimiter) && QueueingTokenBucket.tryAcquire(rateLimiter),
+                actionListener,
+                (context, listener) -> invokeRemoteServiceWithCircuitBreaker(action, mlInput, parameters, payload, context, listener)
+            );
+    }
+
+    /**
+     * Invoke the remote service unless the circuit breaker of the connector is open, in which case the request fails
+     * fast with a 503 status and is not retried. Cancelled calls, e.g. the losing call of a hedged request, are not
+     * recorded on the breaker.
+     */
+    private void invokeRemoteServiceWithCircuitBreaker(
+        String action,
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ExecutionContext executionContext,
+        ActionListener<Tuple<Integer, ModelTensors>> actionListener
+    ) {
+        RemoteConnectorCircuitBreakers.ConnectorCircuitBreaker circuitBreaker = getCircuitBreaker();
+        if (circuitBreaker == null) {
+            invokeRemoteService(action, mlInput, parameters, payload, executionContext, actionListener);
+            return;
+        }
+        RemoteConnectorCircuitBreakers.Permit permit = circuitBreaker.tryAcquirePermit();
+        if (permit == null) {
+            actionListener.onFailure(circuitBreaker.rejection());
+            return;
+        }
+        invokeRemoteService(action, mlInput, parameters, payload, executionContext, new ActionListener<>() {
+            @Override
+            public void onResponse(Tuple<Integer, ModelTensors> response) {
+                circuitBreaker.onSuccess(permit);
+                actionListener.onResponse(response);
             }
-            // Check for streaming first as invokeRemoteServiceWithRetry does not stream
-            // TODO: support streaming with retry policy
-            if (parameters.containsKey("stream")) {
-                String memoryId = parameters.get("memory_id");
-                String parentInteractionId = parameters.get("parent_interaction_id");
-                boolean isAgentRequest = parameters.get("agent_type") != null;
-                getLogger()
-                    .info(
-                        "RemoteConnectorExecutor: Creating StreamPredictActionListener - isAgentRequest={}, agentListener={}",
-                        isAgentRequest,
-                        agentListener != null ? "present" : "null"
-                    );
-                StreamPredictActionListener<MLTaskResponse, ?> streamListener = new StreamPredictActionListener<>(
-                    channel,
-                    isAgentRequest ? agentListener : null,
-                    memoryId,
-                    parentInteractionId
-                );
-                invokeRemoteServiceStream(action, mlInput, parameters, payload, executionContext, streamListener);
-            } else if (getConnectorClientConfig().getMaxRetryTimes() != 0) {
-                invokeRemoteServiceWithRetry(action, mlInput, parameters, payload, executionContext, actionListener);
-            } else {
-                invokeRemoteService(action, mlInput, parameters, payload, executionContext, actionListener);
+
+            @Override
+            public void onFailure(Exception e) {
+                if (executionContext.isCancelled()) {
+                    circuitBreaker.onIgnored(permit);
+                } else if (RemoteConnectorCircuitBreakers.isConnectorFailure(e)) {
+                    circuitBreaker.onFailure(permit);
+                } else {
+                    circuitBreaker.onSuccess(permit);
+                }
+                actionListener.onFailure(e);
             }
-        }
+        });
     }
 
     static Map<String, String> getParams(MLInput mlInput) throws IOException {
@@ -402,7 +880,7 @@ public interface RemoteConnectorExecutor {
             // the listener here is RetryingListener
             // If the request success, or can not retry, will call delegate listener
             args.connectionExecutor
-                .invokeRemoteService(args.action, args.mlInput, args.parameters, args.payload, args.executionContext, listener);
+                .invokeRemoteServiceWithHedging(args.action, args.mlInput, args.parameters, args.payload, args.executionContext, listener);
         }
 
         @Override
@@ -0,0 +1,253 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level cache of the embeddings of text docs returned by remote models.
+ *
+ * The cache is bounded by the estimated memory of its embeddings and evicts the least recently used ones, embeddings
+ * also expire a fixed time after they're cached. An embedding is keyed by the model id, the version of the model
+ * config, a hash of the request parameters and a 128 bit hash of the text, so the texts themselves are not kept in
+ * memory. New embeddings are not cached while the admission check fails, e.g. when the memory circuit breaker is open.
+ */
+@Log4j2
+public class RemoteEmbeddingCache {
+    // estimated memory of an entry besides the embedding: key, cache entry and tensor
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+
+    private final Cache<Key, Embedding> cache;
+    private final BooleanSupplier admission;
+    private volatile boolean enabled;
+
+    /**
+     * @param enabled whether embeddings are cached
+     * @param maxSizeInBytes max estimated memory of the cached embeddings
+     * @param expireAfterWrite time an embedding is cached
+     * @param admission checked before an embedding is cached, embeddings are not cached if it returns false
+     */
+    public RemoteEmbeddingCache(boolean enabled, long maxSizeInBytes, TimeValue expireAfterWrite, BooleanSupplier admission) {
+        CacheBuilder<Key, Embedding> builder = CacheBuilder
+            .<Key, Embedding>builder()
+            .setMaximumWeight(maxSizeInBytes)
+            .weigher((key, embedding) -> embedding.sizeInBytes());
+        if (expireAfterWrite.nanos() > 0) {
+            builder.setExpireAfterWrite(expireAfterWrite);
+        }
+        this.cache = builder.build();
+        this.admission = admission;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Get the view of the cache for a deployed model.
+     * @param modelId model id
+     * @param modelVersion version of the model config, e.g. a hash of its connector and last update time
+     */
+    public ModelEmbeddingCache forModel(String modelId, long modelVersion) {
+        return new ModelEmbeddingCache(modelId, modelVersion);
+    }
+
+    /**
+     * Remove the embeddings of a model, e.g. when the model is updated or undeployed.
+     */
+    public void invalidate(String modelId) {
+        List<Key> keys = new ArrayList<>();
+        for (Key key : cache.keys()) {
+            if (key.modelId.equals(modelId)) {
+                keys.add(key);
+            }
+        }
+        keys.forEach(cache::invalidate);
+        if (!keys.isEmpty()) {
+            log.debug("Invalidated {} cached embeddings of model {}", keys.size(), modelId);
+        }
+    }
+
+    public long getHitCount() {
+        return cache.stats().getHits();
+    }
+
+    public long getMissCount() {
+        return cache.stats().getMisses();
+    }
+
+    public int count() {
+        return cache.count();
+    }
+
+    public long getSizeInBytes() {
+        return cache.weight();
+    }
+
+    /**
+     * Embeddings of a deployed model.
+     */
+    public class ModelEmbeddingCache {
+        private final String modelId;
+        private final long modelVersion;
+
+        private ModelEmbeddingCache(String modelId, long modelVersion) {
+            this.modelId = modelId;
+            this.modelVersion = modelVersion;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @param parametersHash hash of the request parameters
+         * @param text text doc
+         * @return a copy of the cached embedding of the text, null if it's not cached
+         */
+        public ModelTensor get(long parametersHash, String text) {
+            Embedding embedding = cache.get(new Key(modelId, modelVersion, parametersHash, text));
+            return embedding == null ? null : embedding.toModelTensor();
+        }
+
+        /**
+         * Cache the embedding of a text. Tensors which are not embeddings are not cached.
+         * @param parametersHash hash of the request parameters
+         * @param text text doc
+         * @param tensor embedding of the text, copied into the cache
+         */
+        public void put(long parametersHash, String text, ModelTensor tensor) {
+            if (!enabled || !isCacheable(tensor) || !admission.getAsBoolean()) {
+                return;
+            }
+            cache.put(new Key(modelId, modelVersion, parametersHash, text), Embedding.of(tensor));
+        }
+    }
+
+    static boolean isCacheable(ModelTensor tensor) {
+        return tensor != null
+            && tensor.getData() != null
+            && tensor.getByteBuffer() == null
+            && tensor.getResult() == null
+            && tensor.getDataAsMap() == null;
+    }
+
+    private static final class Key {
+        private final String modelId;
+        private final long modelVersion;
+        private final long parametersHash;
+        private final long textHash1;
+        private final long textHash2;
+
+        private Key(String modelId, long modelVersion, long parametersHash, String text) {
+            this.modelId = modelId;
+            this.modelVersion = modelVersion;
+            this.parametersHash = parametersHash;
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            MurmurHash3.Hash128 hash = MurmurHash3.hash128(bytes, 0, bytes.length, 0, new MurmurHash3.Hash128());
+            this.textHash1 = hash.h1;
+            this.textHash2 = hash.h2;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return modelVersion == key.modelVersion
+                && parametersHash == key.parametersHash
+                && textHash1 == key.textHash1
+                && textHash2 == key.textHash2
+                && modelId.equals(key.modelId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(modelId, modelVersion, parametersHash, textHash1, textHash2);
+        }
+    }
+
+    /**
+     * Cached embedding, float32 embeddings are kept as primitive floats.
+     */
+    private static final class Embedding {
+        private final String name;
+        private final MLResultDataType dataType;
+        private final long[] shape;
+        private final float[] floats;
+        private final Number[] numbers;
+
+        private Embedding(String name, MLResultDataType dataType, long[] shape, float[] floats, Number[] numbers) {
+            this.name = name;
+            this.dataType = dataType;
+            this.shape = shape;
+            this.floats = floats;
+            this.numbers = numbers;
+        }
+
+        private static Embedding of(ModelTensor tensor) {
+            Number[] data = tensor.getData();
+            long[] shape = tensor.getShape() == null ? null : tensor.getShape().clone();
+            if (tensor.getDataType() != MLResultDataType.FLOAT32) {
+                return new Embedding(tensor.getName(), tensor.getDataType(), shape, null, data.clone());
+            }
+            float[] floats = new float[data.length];
+            for (int i = 0; i < data.length; i++) {
+                floats[i] = data[i].floatValue();
+            }
+            return new Embedding(tensor.getName(), tensor.getDataType(), shape, floats, null);
+        }
+
+        private long sizeInBytes() {
+            long dataBytes = floats != null ? (long) floats.length * Float.BYTES : (long) numbers.length * 24;
+            return ENTRY_OVERHEAD_BYTES + dataBytes + (shape == null ? 0 : (long) shape.length * Long.BYTES);
+        }
+
+        private ModelTensor toModelTensor() {
+            Number[] data;
+            if (floats != null) {
+                data = new Number[floats.length];
+                for (int i = 0; i < floats.length; i++) {
+                    data[i] = floats[i];
+                }
+            } else {
+                data = numbers.clone();
+            }
+            return ModelTensor
+                .builder()
+                .name(name)
+                .dataType(dataType)
+                .shape(shape == null ? null : shape.clone())
+                .data(data)
+                .build();
+        }
+    }
+}
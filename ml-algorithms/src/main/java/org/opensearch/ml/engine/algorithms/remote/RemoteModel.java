@@ -9,6 +9,7 @@ import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.PRED
 import static org.opensearch.ml.common.settings.MLCommonsSettings.REMOTE_METADATA_GLOBAL_TENANT_ID;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -26,6 +27,7 @@ import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLGuard;
+import org.opensearch.ml.common.model.PredictLatencyRecorder;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.engine.MLEngineClassLoader;
@@ -55,6 +57,11 @@ public class RemoteModel implements Predictable {
     public static final String CONNECTOR_PRIVATE_IP_ENABLED = "connectorPrivateIpEnabled";
     public static final String SDK_CLIENT = "sdk_client";
     public static final String SETTINGS = "settings";
+    public static final String LATENCY_RECORDER = "latency_recorder";
+    public static final String EMBEDDING_CACHE = "embedding_cache";
+    public static final String REQUEST_COALESCER = "request_coalescer";
+    public static final String REQUEST_HEDGER = "request_hedger";
+    public static final String CIRCUIT_BREAKERS = "circuit_breakers";
 
     private RemoteConnectorExecutor connectorExecutor;
 
@@ -95,6 +102,13 @@ public class RemoteModel implements Predictable {
         }
     }
 
+    /**
+     * Key of the circuit breaker of the connector of a model, models using the same standalone connector share it.
+     */
+    public static String circuitBreakerKey(MLModel model) {
+        return model.getConnectorId() != null ? model.getConnectorId() : model.getModelId();
+    }
+
     @Override
     public void close() {
         this.connectorExecutor = null;
@@ -127,6 +141,28 @@ public class RemoteModel implements Predictable {
             this.connectorExecutor.setUserRateLimiterMap((Map<String, TokenBucket>) params.get(USER_RATE_LIMITER_MAP));
             this.connectorExecutor.setMlGuard((MLGuard) params.get(GUARDRAILS));
             this.connectorExecutor.setConnectorPrivateIpEnabled((boolean) params.getOrDefault(CONNECTOR_PRIVATE_IP_ENABLED, false));
+            this.connectorExecutor
+                .setLatencyRecorder((PredictLatencyRecorder) params.getOrDefault(LATENCY_RECORDER, PredictLatencyRecorder.NOOP));
+            RemoteEmbeddingCache embeddingCache = (RemoteEmbeddingCache) params.get(EMBEDDING_CACHE);
+            if (embeddingCache != null) {
+                // embeddings cached for an earlier config of the model are not served after it's updated
+                long modelVersion = Objects.hash(model.getConnector(), model.getLastUpdateTime());
+                this.connectorExecutor.setEmbeddingCache(embeddingCache.forModel(model.getModelId(), modelVersion));
+            }
+            RemoteRequestCoalescer requestCoalescer = (RemoteRequestCoalescer) params.get(REQUEST_COALESCER);
+            if (requestCoalescer != null
+                && model.getDeploySetting() != null
+                && Boolean.TRUE.equals(model.getDeploySetting().getIsRequestCoalescingEnabled())) {
+                this.connectorExecutor.setRequestCoalescer(requestCoalescer.forModel(model.getModelId()));
+            }
+            RemoteRequestHedger requestHedger = (RemoteRequestHedger) params.get(REQUEST_HEDGER);
+            if (requestHedger != null) {
+                this.connectorExecutor.setRequestHedger(requestHedger.forModel(model.getModelId()));
+            }
+            RemoteConnectorCircuitBreakers circuitBreakers = (RemoteConnectorCircuitBreakers) params.get(CIRCUIT_BREAKERS);
+            if (circuitBreakers != null) {
+                this.connectorExecutor.setCircuitBreaker(circuitBreakers.forConnector(circuitBreakerKey(model)));
+            }
             return CompletableFuture.completedStage(true);
         }).exceptionally(e -> {
             log.error("Failed to init remote model.", e);
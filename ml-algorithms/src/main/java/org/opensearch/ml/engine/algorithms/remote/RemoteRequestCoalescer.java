@@ -0,0 +1,220 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level single-flight of remote model requests.
+ *
+ * A request which is identical to a request in flight, i.e. it has the same model, action, payload and parameters,
+ * is not sent to the remote model, it waits for the request in flight and gets a copy of its result or its failure.
+ * Requests are only coalesced while they're in flight, results are not kept after the request completes.
+ */
+@Log4j2
+public class RemoteRequestCoalescer {
+    private final ConcurrentMap<Key, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
+    private final CounterMetric coalescedCount = new CounterMetric();
+
+    /**
+     * Get the coalescer of the requests of a deployed model.
+     */
+    public ModelRequestCoalescer forModel(String modelId) {
+        return new ModelRequestCoalescer(modelId);
+    }
+
+    /**
+     * @return number of requests which waited for an identical request instead of calling the remote model
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.count();
+    }
+
+    public int getInFlightCount() {
+        return inFlightRequests.size();
+    }
+
+    /**
+     * Requests of a deployed model.
+     */
+    public class ModelRequestCoalescer {
+        private final String modelId;
+
+        private ModelRequestCoalescer(String modelId) {
+            this.modelId = modelId;
+        }
+
+        /**
+         * Execute a request unless an identical request is in flight.
+         * @param action connector action
+         * @param payload rendered payload of the request
+         * @param parameters parameters of the request, they're part of the key as they also apply to the response
+         * @param listener listener of the result, it's completed on the thread completing the request in flight
+         * @param invoker sends the request to the remote model, only called if no identical request is in flight
+         */
+        public void execute(
+            String action,
+            String payload,
+            Map<String, String> parameters,
+            ActionListener<ModelTensors> listener,
+            Consumer<ActionListener<ModelTensors>> invoker
+        ) {
+            Key key = new Key(modelId, action, payload, parameters);
+            while (true) {
+                InFlightRequest request = new InFlightRequest();
+                InFlightRequest inFlightRequest = inFlightRequests.putIfAbsent(key, request);
+                if (inFlightRequest == null) {
+                    invoke(key, request, listener, invoker);
+                    return;
+                }
+                if (inFlightRequest.addWaiter(listener)) {
+                    coalescedCount.inc();
+                    return;
+                }
+                // the request in flight completed meanwhile, retry as it's removed already
+            }
+        }
+    }
+
+    private void invoke(
+        Key key,
+        InFlightRequest request,
+        ActionListener<ModelTensors> listener,
+        Consumer<ActionListener<ModelTensors>> invoker
+    ) {
+        try {
+            invoker.accept(new ActionListener<>() {
+                @Override
+                public void onResponse(ModelTensors modelTensors) {
+                    complete(key, request, listener, modelTensors, null);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    complete(key, request, listener, null, e);
+                }
+            });
+        } catch (Exception e) {
+            complete(key, request, listener, null, e);
+        }
+    }
+
+    private void complete(Key key, InFlightRequest request, ActionListener<ModelTensors> listener, ModelTensors result, Exception e) {
+        List<ActionListener<ModelTensors>> waiters = request.complete();
+        if (waiters == null) {
+            log.debug("Remote request of model {} already completed", key.modelId);
+            return;
+        }
+        inFlightRequests.remove(key, request);
+        BytesReference copy = null;
+        if (e == null && !waiters.isEmpty()) {
+            // waiters get their own copy of the result as it may be modified while it's processed
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                result.writeTo(out);
+                copy = out.bytes();
+            } catch (Exception copyFailure) {
+                e = copyFailure;
+            }
+        }
+        for (ActionListener<ModelTensors> waiter : waiters) {
+            if (e != null) {
+                waiter.onFailure(e);
+                continue;
+            }
+            ModelTensors waiterResult;
+            try {
+                waiterResult = new ModelTensors(copy.streamInput());
+            } catch (Exception readFailure) {
+                waiter.onFailure(readFailure);
+                continue;
+            }
+            try {
+                waiter.onResponse(waiterResult);
+            } catch (Exception waiterFailure) {
+                // a failing waiter must not prevent the others from completing
+                log.error("Failed to complete coalesced remote request of model {}", key.modelId, waiterFailure);
+            }
+        }
+        if (result != null) {
+            listener.onResponse(result);
+        } else {
+            listener.onFailure(e);
+        }
+    }
+
+    private static final class InFlightRequest {
+        private List<ActionListener<ModelTensors>> waiters = new ArrayList<>();
+
+        synchronized boolean addWaiter(ActionListener<ModelTensors> listener) {
+            if (waiters == null) {
+                return false;
+            }
+            waiters.add(listener);
+            return true;
+        }
+
+        /**
+         * @return the waiters of the request, null if it was completed already
+         */
+        synchronized List<ActionListener<ModelTensors>> complete() {
+            List<ActionListener<ModelTensors>> completed = waiters;
+            waiters = null;
+            return completed;
+        }
+    }
+
+    private static final class Key {
+        private final String modelId;
+        private final String action;
+        private final String payload;
+        private final Map<String, String> parameters;
+        private final int hash;
+
+        private Key(String modelId, String action, String payload, Map<String, String> parameters) {
+            this.modelId = modelId;
+            this.action = action;
+            this.payload = payload;
+            this.parameters = parameters == null ? Map.of() : new HashMap<>(parameters);
+            this.hash = Objects.hash(modelId, action, payload, this.parameters);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hash == key.hash
+                && modelId.equals(key.modelId)
+                && Objects.equals(action, key.action)
+                && Objects.equals(payload, key.payload)
+                && parameters.equals(key.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level hedging of remote model predict requests.
+ *
+ * If a request has not answered after a percentile of the predict latency of its connector, an identical hedged request is
+ * sent, the first successful response is used and the other request is cancelled. The request only fails if both
+ * fail. Hedged requests are capped by the max number of hedged requests in flight on the node, and a hedged request
+ * is only sent if the admission check passes, e.g. it gets a rate limiter token.
+ */
+@Log4j2
+public class RemoteRequestHedger {
+    // the latency percentiles of a model are refreshed at most once per interval
+    private static final long DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Latency percentiles of the remote predict invocations of the models.
+     */
+    @FunctionalInterface
+    public interface LatencyPercentiles {
+        /**
+         * @param modelId model id
+         * @param percentile percentile between 0 and 100
+         * @return latency in milliseconds, null if not enough latencies are recorded
+         */
+        Double get(String modelId, double percentile);
+    }
+
+    private final ThreadPool threadPool;
+    private final String executor;
+    private final LatencyPercentiles latencyPercentiles;
+    private final LongSupplier clock;
+    private final AtomicInteger inFlightHedges = new AtomicInteger();
+    private final CounterMetric hedgedCount = new CounterMetric();
+    private final CounterMetric hedgeWonCount = new CounterMetric();
+    private volatile int maxInFlightHedges;
+
+    /**
+     * @param threadPool thread pool scheduling the hedged requests
+     * @param executor executor sending the hedged requests
+     * @param maxInFlightHedges max number of hedged requests in flight on the node
+     * @param latencyPercentiles latency percentiles of the models
+     * @param clock relative clock in nanoseconds
+     */
+    public RemoteRequestHedger(
+        ThreadPool threadPool,
+        String executor,
+        int maxInFlightHedges,
+        LatencyPercentiles latencyPercentiles,
+        LongSupplier clock
+    ) {
+        this.threadPool = threadPool;
+        this.executor = executor;
+        this.maxInFlightHedges = maxInFlightHedges;
+        this.latencyPercentiles = latencyPercentiles;
+        this.clock = clock;
+    }
+
+    public void setMaxInFlightHedges(int maxInFlightHedges) {
+        this.maxInFlightHedges = maxInFlightHedges;
+    }
+
+    /**
+     * Get the hedger of the requests of a deployed model.
+     */
+    public ModelRequestHedger forModel(String modelId) {
+        return new ModelRequestHedger(modelId);
+    }
+
+    /**
+     * @return number of hedged requests sent
+     */
+    public long getHedgedCount() {
+        return hedgedCount.count();
+    }
+
+    /**
+     * @return number of hedged requests which answered before the original request
+     */
+    public long getHedgeWonCount() {
+        return hedgeWonCount.count();
+    }
+
+    public int getInFlightHedges() {
+        return inFlightHedges.get();
+    }
+
+    /**
+     * Requests of a deployed model.
+     */
+    public class ModelRequestHedger {
+        private final String modelId;
+        private volatile double cachedPercentile = Double.NaN;
+        private volatile Double cachedDelayInMs;
+        private volatile long cachedAtNanos;
+
+        private ModelRequestHedger(String modelId) {
+            this.modelId = modelId;
+        }
+
+        /**
+         * Execute a request, and send a hedged request if it has not answered after the hedge delay.
+         * @param delayPercentile percentile of the predict latency of the connector after which the request is hedged
+         * @param sequence sequence number of the request
+         * @param admission checked before a hedged request is sent, it's not sent if it returns false
+         * @param listener listener of the first successful response, or of the failure if all requests fail
+         * @param invoker sends a request with its own execution context, which is cancelled if the request loses
+         */
+        public <T> void execute(
+            double delayPercentile,
+            int sequence,
+            BooleanSupplier admission,
+            ActionListener<T> listener,
+            BiConsumer<ExecutionContext, ActionListener<T>> invoker
+        ) {
+            Double delayInMs = getDelay(delayPercentile);
+            if (delayInMs == null || maxInFlightHedges <= 0) {
+                invoker.accept(new ExecutionContext(sequence), listener);
+                return;
+            }
+            HedgedRequest<T> request = new HedgedRequest<>(listener, new ExecutionContext(sequence));
+            invoker.accept(request.primary, request.listener(false));
+            if (request.isDone()) {
+                return;
+            }
+            TimeValue delay = TimeValue.timeValueNanos((long) (delayInMs * 1_000_000));
+            request.setTimer(threadPool.schedule(() -> hedge(request, sequence, admission, invoker), delay, executor));
+        }
+
+        private Double getDelay(double percentile) {
+            long now = clock.getAsLong();
+            if (percentile != cachedPercentile || now - cachedAtNanos >= DELAY_REFRESH_NANOS) {
+                cachedDelayInMs = latencyPercentiles.get(modelId, percentile);
+                cachedPercentile = percentile;
+                cachedAtNanos = now;
+            }
+            return cachedDelayInMs;
+        }
+    }
+
+    private <T> void hedge(
+        HedgedRequest<T> request,
+        int sequence,
+        BooleanSupplier admission,
+        BiConsumer<ExecutionContext, ActionListener<T>> invoker
+    ) {
+        if (request.isDone()) {
+            return;
+        }
+        if (inFlightHedges.incrementAndGet() > maxInFlightHedges) {
+            inFlightHedges.decrementAndGet();
+            log.debug("Request is not hedged as the max number of hedged requests in flight is reached");
+            return;
+        }
+        if (!admission.getAsBoolean()) {
+            inFlightHedges.decrementAndGet();
+            log.debug("Request is not hedged as it's not admitted, e.g. it's throttled");
+            return;
+        }
+        ExecutionContext hedge = new ExecutionContext(sequence);
+        if (!request.startHedge(hedge)) {
+            inFlightHedges.decrementAndGet();
+            return;
+        }
+        hedgedCount.inc();
+        ActionListener<T> hedgeListener = request.listener(true);
+        try {
+            invoker.accept(hedge, hedgeListener);
+        } catch (Exception e) {
+            hedgeListener.onFailure(e);
+        }
+    }
+
+    /**
+     * Original request and its hedged request. The first successful response completes the listener, a failure only
+     * completes it if the other request failed already or won't be sent.
+     */
+    private final class HedgedRequest<T> {
+        private final ActionListener<T> listener;
+        private final ExecutionContext primary;
+        private ExecutionContext hedge;
+        private Scheduler.ScheduledCancellable timer;
+        private boolean primaryInFlight = true;
+        private boolean hedgeInFlight;
+        private Exception primaryFailure;
+        private boolean done;
+
+        private HedgedRequest(ActionListener<T> listener, ExecutionContext primary) {
+            this.listener = listener;
+            this.primary = primary;
+        }
+
+        synchronized boolean isDone() {
+            return done;
+        }
+
+        void setTimer(Scheduler.ScheduledCancellable timer) {
+            boolean cancelTimer;
+            synchronized (this) {
+                this.timer = timer;
+                cancelTimer = done;
+            }
+            if (cancelTimer) {
+                timer.cancel();
+            }
+        }
+
+        synchronized boolean startHedge(ExecutionContext hedge) {
+            if (done) {
+                return false;
+            }
+            this.hedge = hedge;
+            hedgeInFlight = true;
+            return true;
+        }
+
+        ActionListener<T> listener(boolean isHedge) {
+            return new ActionListener<>() {
+                @Override
+                public void onResponse(T response) {
+                    onAttemptResponse(isHedge, response);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    onAttemptFailure(isHedge, e);
+                }
+            };
+        }
+
+        private void onAttemptResponse(boolean isHedge, T response) {
+            ExecutionContext loser;
+            boolean releaseHedge;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                releaseHedge = hedgeInFlight;
+                loser = isHedge ? (primaryInFlight ? primary : null) : (hedgeInFlight ? hedge : null);
+                primaryInFlight = false;
+                hedgeInFlight = false;
+            }
+            finish(releaseHedge, loser);
+            if (isHedge) {
+                hedgeWonCount.inc();
+            }
+            listener.onResponse(response);
+        }
+
+        private void onAttemptFailure(boolean isHedge, Exception e) {
+            boolean releaseHedge = false;
+            Exception failure;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (isHedge) {
+                    releaseHedge = hedgeInFlight;
+                    hedgeInFlight = false;
+                } else {
+                    primaryInFlight = false;
+                    primaryFailure = e;
+                }
+                if (primaryInFlight || hedgeInFlight) {
+                    // the other request may still succeed
+                    if (releaseHedge) {
+                        inFlightHedges.decrementAndGet();
+                    }
+                    return;
+                }
+                done = true;
+                // the failure of the original request is reported if both failed
+                failure = primaryFailure != null ? primaryFailure : e;
+            }
+            finish(releaseHedge, null);
+            listener.onFailure(failure);
+        }
+
+        private void finish(boolean releaseHedge, ExecutionContext loser) {
+            Scheduler.ScheduledCancellable scheduledHedge;
+            synchronized (this) {
+                scheduledHedge = timer;
+            }
+            if (scheduledHedge != null) {
+                scheduledHedge.cancel();
+            }
+            if (releaseHedge) {
+                inFlightHedges.decrementAndGet();
+            }
+            if (loser != null) {
+                try {
+                    loser.cancel();
+                } catch (Exception e) {
+                    log.debug("Failed to cancel the losing request of a hedged request", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.opensearch.ml.engine.algorithms.remote.RemoteConnectorExecutor.RETRY_EXECUTOR;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamPredictActionListener;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * A streaming request to a remote model which is retried with the retry policy of the connector if it fails before
+ * its first chunk is sent to the client. Once a chunk is sent the request is not retried, as the client got a partial
+ * response. If the connector sets a first byte timeout, an attempt which sends no chunk in time is cancelled and fails
+ * with a 504 status, and it's retried like any other transient failure.
+ */
+@Log4j2
+final class RetryableStreamRequest {
+    private final RemoteConnectorExecutor executor;
+    private final String action;
+    private final MLInput mlInput;
+    private final Map<String, String> parameters;
+    private final String payload;
+    private final int sequence;
+    private final StreamPredictActionListener<MLTaskResponse, ?> listener;
+    private final ThreadPool threadPool;
+    private final LongSupplier clock;
+    private final Iterator<TimeValue> backoff;
+    private final int maxRetryTimes;
+    private final long retryDeadlineNanos;
+    private final TimeValue firstByteTimeout;
+    // only updated by the failing attempt, attempts don't overlap
+    private int retryTimes;
+
+    RetryableStreamRequest(
+        RemoteConnectorExecutor executor,
+        String action,
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ExecutionContext executionContext,
+        StreamPredictActionListener<MLTaskResponse, ?> listener,
+        ThreadPool threadPool,
+        LongSupplier clock
+    ) {
+        this.executor = executor;
+        this.action = action;
+        this.mlInput = mlInput;
+        this.parameters = parameters;
+        this.payload = payload;
+        this.sequence = executionContext.getSequence();
+        this.listener = listener;
+        this.threadPool = threadPool;
+        this.clock = clock;
+        ConnectorClientConfig config = executor.getConnectorClientConfig();
+        this.maxRetryTimes = config.getMaxRetryTimes() == null ? 0 : config.getMaxRetryTimes();
+        this.backoff = maxRetryTimes == 0 ? null : executor.getRetryBackoffPolicy(config).iterator();
+        this.retryDeadlineNanos = config.getRetryTimeoutSeconds() == null
+            ? Long.MAX_VALUE
+            : clock.getAsLong() + TimeUnit.SECONDS.toNanos(config.getRetryTimeoutSeconds());
+        this.firstByteTimeout = config.getFirstByteTimeoutMillis() == null
+            ? null
+            : TimeValue.timeValueMillis(config.getFirstByteTimeoutMillis());
+    }
+
+    void start() {
+        attempt();
+    }
+
+    private void attempt() {
+        Attempt attempt = new Attempt(new ExecutionContext(sequence));
+        if (firstByteTimeout != null) {
+            attempt.timer = threadPool.schedule(attempt::onFirstByteTimeout, firstByteTimeout, RETRY_EXECUTOR);
+        }
+        try {
+            executor.invokeRemoteServiceStream(action, mlInput, parameters, payload, attempt.context, attempt);
+        } catch (Exception e) {
+            attempt.onFailure(e);
+        }
+    }
+
+    /**
+     * @return true if a retry of the request is scheduled
+     */
+    private boolean retry(Exception e) {
+        if (!isRetryable(e) || backoff == null || !backoff.hasNext()) {
+            return false;
+        }
+        if (maxRetryTimes != -1 && retryTimes >= maxRetryTimes) {
+            return false;
+        }
+        TimeValue delay = backoff.next();
+        if (clock.getAsLong() + delay.nanos() > retryDeadlineNanos) {
+            return false;
+        }
+        retryTimes++;
+        log.debug(String.format(Locale.ROOT, "The %d-th retry for streaming request of remote model", retryTimes), e);
+        threadPool.schedule(this::attempt, delay, RETRY_EXECUTOR);
+        return true;
+    }
+
+    /**
+     * Throttling, timeouts, connection errors and 5xx responses are transient, other failures fail the request.
+     */
+    static boolean isRetryable(Exception e) {
+        return ExceptionsHelper.unwrapCause(e) instanceof RemoteConnectorThrottlingException
+            || RemoteConnectorCircuitBreakers.isConnectorFailure(e);
+    }
+
+    /**
+     * Listener of an attempt, chunks are forwarded to the listener of the request until the attempt fails.
+     */
+    private final class Attempt extends StreamPredictActionListener<MLTaskResponse, TransportRequest> {
+        private final ExecutionContext context;
+        private volatile Scheduler.ScheduledCancellable timer;
+        private boolean started;
+        private boolean done;
+
+        private Attempt(ExecutionContext context) {
+            super(null);
+            this.context = context;
+        }
+
+        @Override
+        public void onStreamResponse(MLTaskResponse response, boolean isLastBatch) {
+            if (markStarted()) {
+                listener.onStreamResponse(response, isLastBatch);
+            }
+        }
+
+        @Override
+        public void onResponse(MLTaskResponse response) {
+            if (markStarted()) {
+                listener.onResponse(response);
+            }
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            boolean beforeFirstChunk;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                beforeFirstChunk = !started;
+            }
+            complete(e, beforeFirstChunk);
+        }
+
+        private void onFirstByteTimeout() {
+            synchronized (this) {
+                if (started || done) {
+                    return;
+                }
+                done = true;
+            }
+            context.cancel();
+            complete(
+                new OpenSearchStatusException(
+                    "No response from remote model within the first byte timeout of {} ms",
+                    RestStatus.GATEWAY_TIMEOUT,
+                    firstByteTimeout.millis()
+                ),
+                true
+            );
+        }
+
+        /**
+         * @return false if the attempt failed already, its chunks are dropped
+         */
+        private boolean markStarted() {
+            synchronized (this) {
+                if (done) {
+                    return false;
+                }
+                if (started) {
+                    return true;
+                }
+                started = true;
+            }
+            cancelTimer();
+            return true;
+        }
+
+        private void complete(Exception e, boolean beforeFirstChunk) {
+            cancelTimer();
+            if (beforeFirstChunk && retry(e)) {
+                return;
+            }
+            listener.onFailure(e);
+        }
+
+        private void cancelTimer() {
+            Scheduler.ScheduledCancellable scheduled = timer;
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.jayway.jsonpath.PathNotFoundException;
+
+/**
+ * Reads the output of a post process function from a remote model response while the response is received.
+ *
+ * The chunks of the response are fed into a non-blocking JSON parser, only the values matched by the response filter
+ * are built, and arrays of numbers are read into primitive float buffers. The response is neither buffered nor
+ * decoded into a string, which avoids copying large embedding responses several times.
+ *
+ * Only response filters made of fields and array indices or wildcards are supported, e.g. $.data[*].embedding. The
+ * result is the same as the result of JsonPath: a list of the matched values if the path has a wildcard, otherwise
+ * the matched value.
+ */
+public class StreamingOutputReader {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Pattern SEGMENT_PATTERN = Pattern.compile("\\.([A-Za-z_][A-Za-z0-9_\\-]*)|\\[(\\*|\\d+)]");
+
+    private final String responseFilter;
+    private final List<PathSegment> path;
+    private final boolean indefinite;
+    private final BiFunction<Object, MLResultDataType, List<ModelTensor>> postProcessFunction;
+    private final MLResultDataType dataType;
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private final Deque<Object> captured = new ArrayDeque<>();
+    private final Deque<String> capturedFields = new ArrayDeque<>();
+    private final List<Object> matches = new ArrayList<>();
+    private boolean rootRead;
+    private boolean ended;
+
+    private StreamingOutputReader(
+        String responseFilter,
+        List<PathSegment> path,
+        BiFunction<Object, MLResultDataType, List<ModelTensor>> postProcessFunction,
+        MLResultDataType dataType
+    ) throws IOException {
+        this.responseFilter = responseFilter;
+        this.path = path;
+        this.indefinite = path.stream().anyMatch(segment -> segment.wildcard);
+        this.postProcessFunction = postProcessFunction;
+        this.dataType = dataType;
+        this.parser = JSON_FACTORY.createNonBlockingByteBufferParser();
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Create a reader of the output of a post process function.
+     * @param responseFilter JsonPath of the input of the post process function
+     * @param postProcessFunction post process function
+     * @param dataType data type of the output
+     * @return the reader, null if the response filter is not supported
+     */
+    public static StreamingOutputReader create(
+        String responseFilter,
+        BiFunction<Object, MLResultDataType, List<ModelTensor>> postProcessFunction,
+        MLResultDataType dataType
+    ) throws IOException {
+        List<PathSegment> path = parsePath(responseFilter);
+        return path == null ? null : new StreamingOutputReader(responseFilter, path, postProcessFunction, dataType);
+    }
+
+    static List<PathSegment> parsePath(String responseFilter) {
+        if (responseFilter == null || !responseFilter.startsWith("$")) {
+            return null;
+        }
+        List<PathSegment> path = new ArrayList<>();
+        Matcher matcher = SEGMENT_PATTERN.matcher(responseFilter);
+        int position = 1;
+        while (position < responseFilter.length()) {
+            if (!matcher.find(position) || matcher.start() != position) {
+                return null;
+            }
+            if (matcher.group(1) != null) {
+                path.add(PathSegment.field(matcher.group(1)));
+            } else if ("*".equals(matcher.group(2))) {
+                path.add(PathSegment.WILDCARD);
+            } else {
+                path.add(PathSegment.index(Integer.parseInt(matcher.group(2))));
+            }
+            position = matcher.end();
+        }
+        return path;
+    }
+
+    /**
+     * Feed a chunk of the response. The chunk is fully read before this method returns.
+     */
+    public void feed(ByteBuffer chunk) throws IOException {
+        if (!chunk.hasRemaining()) {
+            return;
+        }
+        feeder.feedInput(chunk);
+        readAvailableTokens();
+    }
+
+    /**
+     * @return true if the response has no JSON value, e.g. it's empty or blank. Only final after {@link #endOfInput()}.
+     */
+    public boolean isEmpty() {
+        return !rootRead;
+    }
+
+    /**
+     * Read the rest of the response after its last chunk is fed.
+     */
+    public void endOfInput() throws IOException {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        feeder.endOfInput();
+        readAvailableTokens();
+        if (!frames.isEmpty() || !captured.isEmpty()) {
+            throw new IOException("Unexpected end of remote model response");
+        }
+    }
+
+    /**
+     * Finish reading the response and run the post process function on the matched values.
+     */
+    public ModelTensors finish() throws IOException {
+        endOfInput();
+        Object filteredOutput;
+        if (indefinite) {
+            filteredOutput = matches;
+        } else if (matches.isEmpty()) {
+            throw new PathNotFoundException("No results for path: " + responseFilter);
+        } else {
+            filteredOutput = matches.get(0);
+        }
+        return ModelTensors.builder().mlModelTensors(postProcessFunction.apply(filteredOutput, dataType)).build();
+    }
+
+    private void readAvailableTokens() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (!captured.isEmpty()) {
+                capture(token);
+            } else if (token == JsonToken.FIELD_NAME) {
+                frames.peek().field = parser.currentName();
+            } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                frames.pop();
+            } else {
+                startValue(token);
+            }
+        }
+    }
+
+    private void startValue(JsonToken token) throws IOException {
+        int matched;
+        Frame parent = frames.peek();
+        if (parent == null) {
+            rootRead = true;
+            matched = 0;
+        } else if (parent.matched < 0 || parent.matched >= path.size()) {
+            matched = -1;
+        } else {
+            PathSegment segment = path.get(parent.matched);
+            matched = (parent.array ? segment.matches(parent.index) : segment.matches(parent.field)) ? parent.matched + 1 : -1;
+        }
+        if (parent != null && parent.array) {
+            parent.index++;
+        }
+        if (matched == path.size()) {
+            capture(token);
+        } else if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            frames.push(new Frame(token == JsonToken.START_ARRAY, matched));
+        }
+    }
+
+    private void capture(JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                captured.push(new LinkedHashMap<String, Object>());
+                break;
+            case START_ARRAY:
+                captured.push(new ArrayValue());
+                break;
+            case FIELD_NAME:
+                capturedFields.push(parser.currentName());
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                Object container = captured.pop();
+                addCaptured(container instanceof ArrayValue ? ((ArrayValue) container).build() : container);
+                break;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                if (captured.peek() instanceof ArrayValue) {
+                    // numbers of arrays are read without boxing
+                    ((ArrayValue) captured.peek()).addFloat(parser.getFloatValue());
+                } else {
+                    addCaptured(token == JsonToken.VALUE_NUMBER_INT ? parser.getNumberValue() : parser.getDoubleValue());
+                }
+                break;
+            case VALUE_STRING:
+                addCaptured(parser.getText());
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                addCaptured(token == JsonToken.VALUE_TRUE);
+                break;
+            default:
+                addCaptured(null);
+                break;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addCaptured(Object value) {
+        Object container = captured.peek();
+        if (container == null) {
+            matches.add(value);
+        } else if (container instanceof ArrayValue) {
+            ((ArrayValue) container).add(value);
+        } else {
+            ((Map<String, Object>) container).put(capturedFields.pop(), value);
+        }
+    }
+
+    static final class PathSegment {
+        static final PathSegment WILDCARD = new PathSegment(null, -1, true);
+
+        private final String field;
+        private final int index;
+        private final boolean wildcard;
+
+        private PathSegment(String field, int index, boolean wildcard) {
+            this.field = field;
+            this.index = index;
+            this.wildcard = wildcard;
+        }
+
+        static PathSegment field(String field) {
+            return new PathSegment(field, -1, false);
+        }
+
+        static PathSegment index(int index) {
+            return new PathSegment(null, index, false);
+        }
+
+        boolean matches(String name) {
+            return field != null && field.equals(name);
+        }
+
+        boolean matches(int position) {
+            return wildcard || (field == null && index == position);
+        }
+    }
+
+    private static final class Frame {
+        private final boolean array;
+        // number of path segments matched by the path of this container, -1 if the path doesn't match
+        private final int matched;
+        private String field;
+        private int index;
+
+        private Frame(boolean array, int matched) {
+            this.array = array;
+            this.matched = matched;
+        }
+    }
+
+    /**
+     * Array being read, numbers are kept in a primitive buffer until a value which is not a number is read.
+     */
+    private static final class ArrayValue {
+        private float[] floats = new float[16];
+        private int size;
+        private List<Object> values;
+
+        void addFloat(float value) {
+            if (values != null) {
+                values.add(value);
+                return;
+            }
+            if (size == floats.length) {
+                floats = Arrays.copyOf(floats, size * 2);
+            }
+            floats[size++] = value;
+        }
+
+        void add(Object value) {
+            if (values == null) {
+                values = new ArrayList<>(size + 1);
+                for (int i = 0; i < size; i++) {
+                    values.add(floats[i]);
+                }
+            }
+            values.add(value);
+        }
+
+        List<?> build() {
+            return values != null ? values : new FloatList(floats, size);
+        }
+    }
+
+    /**
+     * Read-only list of numbers backed by a primitive float array.
+     */
+    static final class FloatList extends AbstractList<Number> implements RandomAccess {
+        private final float[] floats;
+        private final int size;
+
+        FloatList(float[] floats, int size) {
+            this.floats = floats;
+            this.size = size;
+        }
+
+        @Override
+        public Number get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return floats[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
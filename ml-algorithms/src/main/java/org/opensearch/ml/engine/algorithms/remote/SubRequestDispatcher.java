@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Dispatches the sub-requests of remote predictions with bounded concurrency.
+ *
+ * A dispatcher is shared by the requests of a connector executor and limits the sub-requests in flight across them,
+ * each request can additionally limit its own sub-requests in flight. Requests waiting for a permit are served round
+ * robin, so a large request doesn't delay smaller requests submitted after it until all of its sub-requests are sent.
+ * A sub-request is dispatched when a permit is released by a completed sub-request. Once a request is cancelled, e.g.
+ * because one of its sub-requests failed, its sub-requests which are not dispatched yet are dropped.
+ */
+@Log4j2
+public class SubRequestDispatcher {
+
+    /**
+     * Invokes a sub-request.
+     */
+    @FunctionalInterface
+    public interface SubRequestInvoker {
+        /**
+         * @param sequence sequence number of the sub-request in its request
+         * @param onDone must be called exactly once when the sub-request completes, successfully or not
+         * @param cancelRequest cancels the request, so its sub-requests which are not dispatched yet are dropped
+         */
+        void invoke(int sequence, Runnable onDone, Runnable cancelRequest);
+    }
+
+    private final int maxInFlight;
+    private final Deque<Request> ready = new ArrayDeque<>();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private int inFlight;
+
+    /**
+     * @param maxInFlight max sub-requests in flight across the requests
+     */
+    public SubRequestDispatcher(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("max in-flight sub-requests must be positive");
+        }
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Dispatch the sub-requests of a request.
+     * @param subRequests number of sub-requests, invoked with sequence numbers from 0
+     * @param maxInFlightPerRequest max sub-requests of the request in flight
+     * @param invoker invokes a sub-request
+     */
+    public void dispatch(int subRequests, int maxInFlightPerRequest, SubRequestInvoker invoker) {
+        if (maxInFlightPerRequest <= 0) {
+            throw new IllegalArgumentException("max in-flight sub-requests per request must be positive");
+        }
+        if (subRequests <= 0) {
+            return;
+        }
+        synchronized (this) {
+            ready.addLast(new Request(subRequests, maxInFlightPerRequest, invoker));
+        }
+        drain();
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueuedRequests() {
+        return ready.size();
+    }
+
+    private void drain() {
+        // sub-requests can complete synchronously and drain again, only one thread dispatches at a time to avoid recursion
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            List<Runnable> dispatches = new ArrayList<>();
+            synchronized (this) {
+                while (inFlight < maxInFlight && !ready.isEmpty()) {
+                    Request request = ready.pollFirst();
+                    if (request.cancelled) {
+                        request.queued = false;
+                        continue;
+                    }
+                    int sequence = request.next++;
+                    request.inFlight++;
+                    inFlight++;
+                    if (request.canDispatch()) {
+                        ready.addLast(request);
+                    } else {
+                        request.queued = false;
+                    }
+                    dispatches.add(() -> invoke(request, sequence));
+                }
+            }
+            dispatches.forEach(Runnable::run);
+        } while (drainRequests.decrementAndGet() != 0);
+    }
+
+    private void invoke(Request request, int sequence) {
+        AtomicInteger done = new AtomicInteger();
+        Runnable onDone = () -> {
+            if (done.getAndIncrement() == 0) {
+                complete(request);
+            }
+        };
+        try {
+            request.invoker.invoke(sequence, onDone, () -> cancel(request));
+        } catch (Exception e) {
+            log.error("Failed to invoke sub-request {}", sequence, e);
+            onDone.run();
+        }
+    }
+
+    private synchronized void cancel(Request request) {
+        if (!request.cancelled) {
+            log.debug("Sub-request dispatch cancelled, dropping {} sub-requests", request.subRequests - request.next);
+            request.cancelled = true;
+        }
+    }
+
+    private void complete(Request request) {
+        synchronized (this) {
+            inFlight--;
+            request.inFlight--;
+            if (!request.queued && request.canDispatch()) {
+                request.queued = true;
+                ready.addLast(request);
+            }
+        }
+        drain();
+    }
+
+    private static class Request {
+        private final int subRequests;
+        private final int maxInFlight;
+        private final SubRequestInvoker invoker;
+        private int next;
+        private int inFlight;
+        private boolean queued = true;
+        private boolean cancelled;
+
+        private Request(int subRequests, int maxInFlight, SubRequestInvoker invoker) {
+            this.subRequests = subRequests;
+            this.maxInFlight = maxInFlight;
+            this.invoker = invoker;
+        }
+
+        private boolean canDispatch() {
+            return !cancelled && next < subRequests && inFlight < maxInFlight;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opensearch.ml.common.contextmanager.CharacterBasedTokenCounter;
+import org.opensearch.ml.common.contextmanager.TokenCounter;
+
+/**
+ * Packs text docs into sub-requests by an estimated token budget and a max number of docs per sub-request.
+ *
+ * Docs keep their order, so the results of the sub-requests can be concatenated in sequence order. A doc which
+ * exceeds the token budget on its own is sent in its own sub-request, the remote model decides whether to truncate
+ * or reject it.
+ */
+public class TextDocsPacker {
+    private static final TokenCounter TOKEN_COUNTER = new CharacterBasedTokenCounter();
+
+    private final int maxTokensPerRequest;
+    private final int maxDocsPerRequest;
+
+    /**
+     * @param maxTokensPerRequest max estimated tokens of the docs of a sub-request
+     * @param maxDocsPerRequest max number of docs of a sub-request
+     */
+    public TextDocsPacker(int maxTokensPerRequest, int maxDocsPerRequest) {
+        if (maxTokensPerRequest <= 0) {
+            throw new IllegalArgumentException("Invalid parameter: input_docs_max_tokens_per_request. It must be positive integer.");
+        }
+        if (maxDocsPerRequest <= 0) {
+            throw new IllegalArgumentException("Invalid parameter: input_docs_processed_step_size. It must be positive integer.");
+        }
+        this.maxTokensPerRequest = maxTokensPerRequest;
+        this.maxDocsPerRequest = maxDocsPerRequest;
+    }
+
+    /**
+     * Pack the docs into sub-requests.
+     * @param docs text docs
+     * @return docs of the sub-requests, in order
+     */
+    public List<List<String>> pack(List<String> docs) {
+        List<List<String>> chunks = new ArrayList<>();
+        int start = 0;
+        int tokens = 0;
+        for (int i = 0; i < docs.size(); i++) {
+            int docTokens = estimateTokens(docs.get(i));
+            boolean full = i - start >= maxDocsPerRequest || tokens + docTokens > maxTokensPerRequest;
+            if (i > start && full) {
+                chunks.add(docs.subList(start, i));
+                start = i;
+                tokens = 0;
+            }
+            tokens += docTokens;
+        }
+        if (start < docs.size()) {
+            chunks.add(docs.subList(start, docs.size()));
+        }
+        return chunks;
+    }
+
+    static int estimateTokens(String doc) {
+        // count at least one token so empty docs still count against the budget
+        return Math.max(1, TOKEN_COUNTER.count(doc));
+    }
+}
@@ -20,6 +20,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.agui.BaseEvent;
 import org.opensearch.ml.common.agui.RunFinishedEvent;
 import org.opensearch.ml.common.agui.TextMessageContentEvent;
@@ -38,6 +40,8 @@ import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.algorithms.agent.AgentUtils;
 import org.opensearch.ml.engine.algorithms.remote.ConnectorUtils;
+import org.opensearch.ml.engine.algorithms.remote.ExecutionContext;
+import org.opensearch.ml.engine.algorithms.remote.RemoteConnectorThrottlingException;
 
 import com.jayway.jsonpath.JsonPath;
 
@@ -95,16 +99,32 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
         Map<String, String> parameters,
         String payload,
         StreamPredictActionListener<MLTaskResponse, ?> actionListener
+    ) {
+        startStream(action, parameters, payload, actionListener, null);
+    }
+
+    @Override
+    public void startStream(
+        String action,
+        Map<String, String> parameters,
+        String payload,
+        StreamPredictActionListener<MLTaskResponse, ?> actionListener,
+        ExecutionContext executionContext
     ) {
         try {
             log.info("Creating SSE connection for streaming request");
             EventSourceListener listener = new HTTPEventSourceListener(actionListener, llmInterface, parameters);
             Request request = ConnectorUtils.buildOKHttpStreamingRequest(action, connector, parameters, payload);
 
-            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-                EventSources.createFactory(okHttpClient).newEventSource(request, listener);
-                return null;
-            });
+            EventSource eventSource = AccessController
+                .doPrivileged(
+                    (PrivilegedExceptionAction<EventSource>) () -> EventSources
+                        .createFactory(okHttpClient)
+                        .newEventSource(request, listener)
+                );
+            if (executionContext != null) {
+                executionContext.setCancellation(eventSource::cancel);
+            }
 
         } catch (Exception e) {
             log.error("Failed to start HTTP streaming", e);
@@ -203,12 +223,22 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
                     streamActionListener.onFailure(new MLException("SSE failure with network error", t));
                 }
             } else if (response != null) {
-                // HTTP error (e.g., 400 Bad Request)
+                // HTTP error (e.g., 400 Bad Request), the status tells whether the request can be retried
+                RestStatus status = RestStatus.fromCode(response.code());
+                if (status == null || status.getStatus() < 400) {
+                    // e.g. a successful response which is not an event stream
+                    status = RestStatus.BAD_GATEWAY;
+                }
                 try {
                     String errorBody = response.body() != null ? response.body().string() : "";
-                    streamActionListener.onFailure(new MLException("Error from remote service: " + errorBody));
+                    String errorMessage = "Error from remote service: " + errorBody;
+                    if (status == RestStatus.TOO_MANY_REQUESTS) {
+                        streamActionListener.onFailure(new RemoteConnectorThrottlingException(errorMessage, status));
+                    } else {
+                        streamActionListener.onFailure(new OpenSearchStatusException(errorMessage, status));
+                    }
                 } catch (IOException e) {
-                    streamActionListener.onFailure(new MLException("SSE failure - unable to read error details"));
+                    streamActionListener.onFailure(new OpenSearchStatusException("SSE failure - unable to read error details", status));
                 }
             } else {
                 // Unknown failure
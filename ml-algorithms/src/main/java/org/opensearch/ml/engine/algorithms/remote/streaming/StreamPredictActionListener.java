@@ -73,7 +73,7 @@ public class StreamPredictActionListener<Response extends TransportResponse, Req
      * @param response the response to send
      */
     @Override
-    public final void onResponse(Response response) {
+    public void onResponse(Response response) {
         onStreamResponse(response, false);
 
         if (agentListener != null) {
@@ -8,6 +8,7 @@ package org.opensearch.ml.engine.algorithms.remote.streaming;
 import java.util.Map;
 
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.engine.algorithms.remote.ExecutionContext;
 
 /**
  * Streaming handler interface.
@@ -20,5 +21,19 @@ public interface StreamingHandler {
         StreamPredictActionListener<MLTaskResponse, ?> listener
     );
 
+    /**
+     * Start a stream which is closed when the execution context is cancelled, e.g. when it sends no chunk in time.
+     * By default the stream is not closed, its chunks are dropped by the listener of the cancelled request.
+     */
+    default void startStream(
+        String action,
+        Map<String, String> parameters,
+        String payload,
+        StreamPredictActionListener<MLTaskResponse, ?> listener,
+        ExecutionContext executionContext
+    ) {
+        startStream(action, parameters, payload, listener);
+    }
+
     void handleError(Throwable error, StreamPredictActionListener<MLTaskResponse, ?> listener);
 }
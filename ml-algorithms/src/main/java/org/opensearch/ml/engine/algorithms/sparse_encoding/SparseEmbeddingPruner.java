@@ -0,0 +1,213 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.sparse_encoding;
+
+import static org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters.PRUNE_RATIO_FIELD;
+import static org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters.PRUNE_TYPE_FIELD;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
+import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters;
+import org.opensearch.ml.common.input.parameter.textembedding.SparsePruneType;
+import org.opensearch.ml.common.model.BaseModelConfig;
+import org.opensearch.ml.common.model.MLModelConfig;
+
+import ai.djl.modality.Input;
+import lombok.Getter;
+
+/**
+ * Prunes the tokens of a sparse embedding before its token weight map is built, so low weight tokens are neither decoded
+ * nor indexed. The prune type is set in the additional config of the model, and a predict request can override it with
+ * its parameters.
+ */
+@Getter
+public final class SparseEmbeddingPruner {
+    public static final String PRUNED_TOKEN_COUNT_FIELD = "pruned_token_count";
+    public static final SparseEmbeddingPruner NONE = new SparseEmbeddingPruner(SparsePruneType.NONE, 0);
+
+    private final SparsePruneType pruneType;
+    private final float pruneRatio;
+
+    private SparseEmbeddingPruner(SparsePruneType pruneType, float pruneRatio) {
+        this.pruneType = pruneType;
+        this.pruneRatio = pruneRatio;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the ratio is not valid for the prune type
+     */
+    public static SparseEmbeddingPruner of(SparsePruneType pruneType, Float pruneRatio) {
+        if (pruneType == null || pruneType == SparsePruneType.NONE) {
+            return NONE;
+        }
+        if (pruneRatio == null) {
+            throw new IllegalArgumentException(
+                PRUNE_RATIO_FIELD + " is required when " + PRUNE_TYPE_FIELD + " is " + pruneType.name().toLowerCase(Locale.ROOT)
+            );
+        }
+        pruneType.validateRatio(pruneRatio);
+        return new SparseEmbeddingPruner(pruneType, pruneRatio);
+    }
+
+    /**
+     * Get the pruner set in the additional config of a model.
+     * @throws IllegalArgumentException if the prune config is not valid
+     */
+    public static SparseEmbeddingPruner fromModelConfig(MLModelConfig modelConfig) {
+        if (!(modelConfig instanceof BaseModelConfig)) {
+            return NONE;
+        }
+        Map<String, Object> additionalConfig = ((BaseModelConfig) modelConfig).getAdditionalConfig();
+        if (additionalConfig == null || additionalConfig.get(PRUNE_TYPE_FIELD) == null) {
+            return NONE;
+        }
+        Object pruneRatio = additionalConfig.get(PRUNE_RATIO_FIELD);
+        try {
+            return of(
+                SparsePruneType.from(additionalConfig.get(PRUNE_TYPE_FIELD).toString()),
+                pruneRatio == null ? null : Float.parseFloat(pruneRatio.toString())
+            );
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + PRUNE_RATIO_FIELD + " in model config: " + pruneRatio);
+        }
+    }
+
+    /**
+     * @return the pruner set in the parameters of a predict request, null if the request doesn't set one
+     */
+    public static SparseEmbeddingPruner fromParameters(MLAlgoParams parameters) {
+        if (parameters instanceof AsymmetricTextEmbeddingParameters) {
+            AsymmetricTextEmbeddingParameters params = (AsymmetricTextEmbeddingParameters) parameters;
+            if (params.getPruneType() != null) {
+                return of(params.getPruneType(), params.getPruneRatio());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the pruner of a predict request, the parameters of the request override the pruner of the model.
+     */
+    public SparseEmbeddingPruner withParameters(MLAlgoParams parameters) {
+        SparseEmbeddingPruner requestPruner = fromParameters(parameters);
+        return requestPruner != null ? requestPruner : this;
+    }
+
+    /**
+     * Add the prune config to the input of the translator, see {@link #fromInput(Input, SparseEmbeddingPruner)}.
+     */
+    public void addTo(Input input) {
+        input.add(PRUNE_TYPE_FIELD, pruneType.name());
+        input.add(PRUNE_RATIO_FIELD, String.valueOf(pruneRatio));
+    }
+
+    /**
+     * @return the pruner added to the input, or the default pruner if there is none
+     */
+    public static SparseEmbeddingPruner fromInput(Input input, SparseEmbeddingPruner defaultPruner) {
+        String pruneType = input.getAsString(PRUNE_TYPE_FIELD);
+        if (pruneType == null) {
+            return defaultPruner;
+        }
+        return of(SparsePruneType.valueOf(pruneType), Float.parseFloat(input.getAsString(PRUNE_RATIO_FIELD)));
+    }
+
+    public boolean isEnabled() {
+        return pruneType != SparsePruneType.NONE;
+    }
+
+    /**
+     * Prune the tokens of a sparse embedding in place, the kept tokens are moved to the start of the arrays in their
+     * original order.
+     * @param ids ids of the tokens
+     * @param weights weights of the tokens, same length as the ids
+     * @return number of kept tokens
+     */
+    public int prune(long[] ids, float[] weights) {
+        int length = weights.length;
+        if (length == 0) {
+            return 0;
+        }
+        switch (pruneType) {
+            case TOP_K:
+                return keepTopK(ids, weights, (int) pruneRatio);
+            case ALPHA_MASS:
+                return keepTopK(ids, weights, alphaMassCount(weights));
+            case MAX_RATIO:
+                float max = weights[0];
+                for (int i = 1; i < length; i++) {
+                    max = Math.max(max, weights[i]);
+                }
+                return keepAtLeast(ids, weights, max * pruneRatio);
+            case ABS_VALUE:
+                return keepAtLeast(ids, weights, pruneRatio);
+            default:
+                return length;
+        }
+    }
+
+    /**
+     * @return number of the highest weights whose sum reaches the prune ratio of the sum of all weights
+     */
+    private int alphaMassCount(float[] weights) {
+        float[] sorted = weights.clone();
+        Arrays.sort(sorted);
+        double total = 0;
+        for (float weight : sorted) {
+            total += weight;
+        }
+        double threshold = total * pruneRatio;
+        double mass = 0;
+        int count = 0;
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            mass += sorted[i];
+            count++;
+            if (mass >= threshold) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private static int keepTopK(long[] ids, float[] weights, int k) {
+        int length = weights.length;
+        if (k >= length) {
+            return length;
+        }
+        float[] sorted = weights.clone();
+        Arrays.sort(sorted);
+        float threshold = sorted[length - k];
+        // tokens weighted as the threshold are kept in their order until k tokens are kept
+        int ties = 0;
+        for (int i = length - k; i < length && sorted[i] == threshold; i++) {
+            ties++;
+        }
+        int kept = 0;
+        for (int i = 0; i < length; i++) {
+            if (weights[i] > threshold || (weights[i] == threshold && ties-- > 0)) {
+                ids[kept] = ids[i];
+                weights[kept] = weights[i];
+                kept++;
+            }
+        }
+        return kept;
+    }
+
+    private static int keepAtLeast(long[] ids, float[] weights, float threshold) {
+        int kept = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] >= threshold) {
+                ids[kept] = ids[i];
+                weights[kept] = weights[i];
+                kept++;
+            }
+        }
+        return kept;
+    }
+}
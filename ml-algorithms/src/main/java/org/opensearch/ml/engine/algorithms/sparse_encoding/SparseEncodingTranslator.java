@@ -6,7 +6,9 @@
 package org.opensearch.ml.engine.algorithms.sparse_encoding;
 
 import static org.opensearch.ml.common.CommonValue.ML_MAP_RESPONSE_KEY;
+import static org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters.PRUNE_TYPE_FIELD;
 import static org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters.SPARSE_EMBEDDING_FORMAT_FIELD;
+import static org.opensearch.ml.engine.algorithms.sparse_encoding.SparseEmbeddingPruner.PRUNED_TOKEN_COUNT_FIELD;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -26,6 +28,18 @@ import ai.djl.ndarray.NDList;
 import ai.djl.translate.TranslatorContext;
 
 public class SparseEncodingTranslator extends SentenceTransformerTranslator {
+    private final SparseEmbeddingPruner pruner;
+
+    public SparseEncodingTranslator() {
+        this(SparseEmbeddingPruner.NONE);
+    }
+
+    /**
+     * @param pruner pruner of the model, used if the input doesn't set one
+     */
+    public SparseEncodingTranslator(SparseEmbeddingPruner pruner) {
+        this.pruner = pruner;
+    }
 
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
@@ -33,6 +47,7 @@ public class SparseEncodingTranslator extends SentenceTransformerTranslator {
         if (embeddingFormat != null) {
             ctx.setAttachment(SPARSE_EMBEDDING_FORMAT_FIELD, embeddingFormat);
         }
+        ctx.setAttachment(PRUNE_TYPE_FIELD, SparseEmbeddingPruner.fromInput(input, pruner));
         return super.processInput(ctx, input);
     }
 
@@ -43,12 +58,24 @@ public class SparseEncodingTranslator extends SentenceTransformerTranslator {
         SparseEmbeddingFormat embeddingFormat = embeddingFormatObject != null
             ? SparseEmbeddingFormat.valueOf(embeddingFormatObject.toString())
             : SparseEmbeddingFormat.WORD;
+        Object prunerObject = ctx.getAttachment(PRUNE_TYPE_FIELD);
+        SparseEmbeddingPruner outputPruner = prunerObject != null ? (SparseEmbeddingPruner) prunerObject : pruner;
 
         List<ModelTensor> outputs = new ArrayList<>();
         for (NDArray ndArray : list) {
             String name = ndArray.getName();
-            Object result = convertOutput(ndArray, embeddingFormat);
-            Map<String, ?> wrappedMap = Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(result));
+            NDArray nonZeroIndices = ndArray.nonzero().squeeze();
+            long[] indices = nonZeroIndices.toLongArray();
+            float[] weights = new float[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                weights[i] = ndArray.getFloat(indices[i]);
+            }
+            // prune before the token weight map is built, pruned tokens are not decoded
+            int kept = outputPruner.prune(indices, weights);
+            Object result = convertOutput(indices, weights, kept, embeddingFormat);
+            Map<String, ?> wrappedMap = outputPruner.isEnabled()
+                ? Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(result), PRUNED_TOKEN_COUNT_FIELD, indices.length - kept)
+                : Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(result));
             ModelTensor tensor = ModelTensor.builder().name(name).dataAsMap(wrappedMap).build();
             outputs.add(tensor);
         }
@@ -58,26 +85,23 @@ public class SparseEncodingTranslator extends SentenceTransformerTranslator {
         return output;
     }
 
-    private Object convertOutput(NDArray array, SparseEmbeddingFormat embeddingFormat) {
-        NDArray nonZeroIndices = array.nonzero().squeeze();
-        long[] indices = nonZeroIndices.toLongArray();
-
+    private Object convertOutput(long[] indices, float[] weights, int length, SparseEmbeddingFormat embeddingFormat) {
         if (embeddingFormat == SparseEmbeddingFormat.TOKEN_ID) {
             // Return token_id format: {"123": 1.1, "456": 2.2}
             Map<String, Float> tokenIdWeights = new HashMap<>();
 
-            for (long index : indices) {
-                tokenIdWeights.put(String.valueOf(index), array.getFloat(index));
+            for (int i = 0; i < length; i++) {
+                tokenIdWeights.put(String.valueOf(indices[i]), weights[i]);
             }
 
             return tokenIdWeights;
         } else {
             // Return word format: {"token": weight, ...}
             Map<String, Float> tokenWeights = new HashMap<>();
-            for (long index : indices) {
-                String token = this.tokenizer.decode(new long[] { index }, true);
+            for (int i = 0; i < length; i++) {
+                String token = this.tokenizer.decode(new long[] { indices[i] }, true);
                 if (!token.isEmpty()) {
-                    tokenWeights.put(token, array.getFloat(index));
+                    tokenWeights.put(token, weights[i]);
                 }
             }
             return tokenWeights;
@@ -23,7 +23,7 @@ public class TextEmbeddingSparseEncodingModel extends TextEmbeddingModel {
 
     @Override
     public Translator<Input, Output> getTranslator(String engine, MLModelConfig modelConfig) {
-        return new SparseEncodingTranslator();
+        return new SparseEncodingTranslator(SparseEmbeddingPruner.fromModelConfig(modelConfig));
     }
 
     @Override
@@ -35,4 +35,14 @@ public class TextEmbeddingSparseEncodingModel extends TextEmbeddingModel {
     protected boolean isAsymmetricModel(MLAlgoParams mlParams) {
         return false;
     }
+
+    @Override
+    protected void addInputParameters(Input input, MLAlgoParams mlParams) {
+        super.addInputParameters(input, mlParams);
+        // the pruner of the request overrides the pruner of the model config in the translator
+        SparseEmbeddingPruner requestPruner = SparseEmbeddingPruner.fromParameters(mlParams);
+        if (requestPruner != null) {
+            requestPruner.addTo(input);
+        }
+    }
 }
@@ -18,10 +18,13 @@
 package org.opensearch.ml.engine.algorithms.text_similarity;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 import org.opensearch.ml.common.FunctionName;
-import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataset.TextSimilarityInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelConfig;
@@ -29,7 +32,9 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.DLModel;
 import org.opensearch.ml.engine.annotation.Function;
+import org.opensearch.ml.engine.encryptor.Encryptor;
 
+import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.translate.TranslateException;
@@ -38,28 +43,83 @@ import ai.djl.translate.TranslatorFactory;
 
 @Function(FunctionName.TEXT_SIMILARITY)
 public class TextSimilarityCrossEncoderModel extends DLModel {
+    public static final String MAX_BATCH_TOKENS = "max_batch_tokens";
+    public static final int DEFAULT_MAX_BATCH_TOKENS = 8192;
+    private static final String WARM_UP_SENTENCE = "warm up sentence";
 
+    private int maxBatchTokens = DEFAULT_MAX_BATCH_TOKENS;
+    private volatile TextSimilarityTranslator translator;
+
+    @Override
+    public void initModel(MLModel model, Map<String, Object> params, Encryptor encryptor) {
+        Object maxBatchTokens = params.get(MAX_BATCH_TOKENS);
+        if (maxBatchTokens != null) {
+            this.maxBatchTokens = (Integer) maxBatchTokens;
+        }
+        super.initModel(model, params, encryptor);
+    }
+
+    @Override
+    public void warmUp(Predictor predictor, String modelId, MLModelConfig modelConfig) throws TranslateException {
+        // First request takes longer time. Predict once to warm up model, this also loads the tokenizer.
+        Input input = new Input();
+        input.add(WARM_UP_SENTENCE);
+        input.add(WARM_UP_SENTENCE);
+        predictor.predict(input);
+    }
+
+    /**
+     * Score all documents against the query. All pairs are tokenized up front and sorted by token count, then
+     * consecutive pairs are grouped into batches whose padded size stays within the max batch tokens, so each batch
+     * runs as one forward pass with little padding. Scores are returned in the order of the input documents.
+     */
     @Override
     public ModelTensorOutput predict(String modelId, MLInput mlInput) throws TranslateException {
-        MLInputDataset inputDataSet = mlInput.getInputDataset();
-        List<ModelTensors> tensorOutputs = new ArrayList<>();
-        Output output;
-        TextSimilarityInputDataSet textSimInput = (TextSimilarityInputDataSet) inputDataSet;
+        TextSimilarityInputDataSet textSimInput = (TextSimilarityInputDataSet) mlInput.getInputDataset();
         String queryText = textSimInput.getQueryText();
-        for (String doc : textSimInput.getTextDocs()) {
-            Input input = new Input();
-            input.add(queryText);
-            input.add(doc);
-            output = getPredictor().predict(input);
-            ModelTensors outputTensors = ModelTensors.fromBytes(output.getData().getAsBytes());
-            tensorOutputs.add(outputTensors);
+        List<String> docs = textSimInput.getTextDocs();
+        Input[] inputs = new Input[docs.size()];
+        Integer[] order = new Integer[docs.size()];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = translator.encode(queryText, docs.get(i));
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> TextSimilarityTranslator.getTokenCount(inputs[i])));
+
+        ModelTensors[] tensorOutputs = new ModelTensors[inputs.length];
+        List<Integer> batch = new ArrayList<>();
+        for (int index : order) {
+            // pairs are sorted by token count, so the current pair is the longest one of the batch
+            int tokenCount = TextSimilarityTranslator.getTokenCount(inputs[index]);
+            if (!batch.isEmpty() && (long) (batch.size() + 1) * tokenCount > maxBatchTokens) {
+                predictBatch(inputs, batch, tensorOutputs);
+                batch.clear();
+            }
+            batch.add(index);
+        }
+        if (!batch.isEmpty()) {
+            predictBatch(inputs, batch, tensorOutputs);
+        }
+        return new ModelTensorOutput(Arrays.asList(tensorOutputs));
+    }
+
+    private void predictBatch(Input[] inputs, List<Integer> batch, ModelTensors[] tensorOutputs) throws TranslateException {
+        List<Input> batchInputs = new ArrayList<>(batch.size());
+        for (int index : batch) {
+            batchInputs.add(inputs[index]);
+        }
+        List<Output> outputs = getPredictor().batchPredict(batchInputs);
+        for (int i = 0; i < batch.size(); i++) {
+            tensorOutputs[batch.get(i)] = ModelTensors.fromBytes(outputs.get(i).getData().getAsBytes());
         }
-        return new ModelTensorOutput(tensorOutputs);
     }
 
     @Override
     public Translator<Input, Output> getTranslator(String engine, MLModelConfig modelConfig) throws IllegalArgumentException {
-        return new TextSimilarityTranslator();
+        // translators of all devices load the same tokenizer, any of them can tokenize the input
+        TextSimilarityTranslator textSimilarityTranslator = new TextSimilarityTranslator();
+        translator = textSimilarityTranslator;
+        return textSimilarityTranslator;
     }
 
     @Override
@@ -30,6 +30,7 @@ import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
+import ai.djl.ndarray.BytesSupplier;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
@@ -38,14 +39,35 @@ import ai.djl.translate.TranslatorContext;
 
 public class TextSimilarityTranslator extends SentenceTransformerTranslator {
     public final String SIMILARITY_NAME = "similarity";
+    public static final String ENCODING_KEY = "encoding";
+
+    /**
+     * Tokenize a sentence pair and create the model input for it. The encoding is attached to the input, so the
+     * pair is not tokenized again when the input is processed.
+     * @param sentence the first sentence, e.g. the query
+     * @param context the second sentence, e.g. the document
+     * @return model input with the encoding of the pair
+     */
+    public Input encode(String sentence, String context) {
+        Input input = new Input();
+        input.add(sentence);
+        input.add(context);
+        input.add(ENCODING_KEY, new PairEncoding(tokenizer.encode(sentence, context)));
+        return input;
+    }
+
+    /**
+     * Get the number of tokens of an input created by {@link #encode(String, String)}.
+     */
+    public static int getTokenCount(Input input) {
+        return ((PairEncoding) input.get(ENCODING_KEY)).encoding.getIds().length;
+    }
 
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
-        String sentence = input.getAsString(0);
-        String context = input.getAsString(1);
         NDManager manager = ctx.getNDManager();
         NDList ndList = new NDList();
-        Encoding encodings = tokenizer.encode(sentence, context);
+        Encoding encodings = getEncoding(input);
         long[] indices = encodings.getIds();
         long[] attentionMask = encodings.getAttentionMask();
         long[] tokenTypes = encodings.getTypeIds();
@@ -65,6 +87,48 @@ public class TextSimilarityTranslator extends SentenceTransformerTranslator {
         return ndList;
     }
 
+    /**
+     * Pad all pairs of the batch to the longest one, padded positions are excluded by the attention mask.
+     */
+    @Override
+    public NDList batchProcessInput(TranslatorContext ctx, List<Input> inputs) {
+        Encoding[] encodings = new Encoding[inputs.size()];
+        int maxLength = 0;
+        for (int i = 0; i < encodings.length; i++) {
+            encodings[i] = getEncoding(inputs.get(i));
+            maxLength = Math.max(maxLength, encodings[i].getIds().length);
+        }
+        long[][] indices = new long[encodings.length][maxLength];
+        long[][] attentionMask = new long[encodings.length][maxLength];
+        long[][] tokenTypes = new long[encodings.length][maxLength];
+        for (int i = 0; i < encodings.length; i++) {
+            int length = encodings[i].getIds().length;
+            System.arraycopy(encodings[i].getIds(), 0, indices[i], 0, length);
+            System.arraycopy(encodings[i].getAttentionMask(), 0, attentionMask[i], 0, length);
+            System.arraycopy(encodings[i].getTypeIds(), 0, tokenTypes[i], 0, length);
+        }
+
+        NDManager manager = ctx.getNDManager();
+        NDArray indicesArray = manager.create(indices);
+        indicesArray.setName("input_ids");
+
+        NDArray attentionMaskArray = manager.create(attentionMask);
+        attentionMaskArray.setName("attention_mask");
+
+        NDArray tokenTypeArray = manager.create(tokenTypes);
+        tokenTypeArray.setName("token_type_ids");
+
+        return new NDList(indicesArray, attentionMaskArray, tokenTypeArray);
+    }
+
+    private Encoding getEncoding(Input input) {
+        BytesSupplier encoding = input.get(ENCODING_KEY);
+        if (encoding instanceof PairEncoding) {
+            return ((PairEncoding) encoding).encoding;
+        }
+        return tokenizer.encode(input.getAsString(0), input.getAsString(1));
+    }
+
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
         Output output = new Output(200, "OK");
@@ -95,4 +159,19 @@ public class TextSimilarityTranslator extends SentenceTransformerTranslator {
         return output;
     }
 
+    private static class PairEncoding implements BytesSupplier {
+        private final Encoding encoding;
+
+        PairEncoding(Encoding encoding) {
+            this.encoding = encoding;
+        }
+
+        @Override
+        public ByteBuffer toByteBuffer() {
+            long[] ids = encoding.getIds();
+            ByteBuffer buffer = ByteBuffer.allocate(ids.length * Long.BYTES);
+            buffer.asLongBuffer().put(ids);
+            return buffer;
+        }
+    }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.ml.engine.algorithms.tokenize;
 
 import static org.opensearch.ml.common.CommonValue.ML_MAP_RESPONSE_KEY;
+import static org.opensearch.ml.engine.algorithms.sparse_encoding.SparseEmbeddingPruner.PRUNED_TOKEN_COUNT_FIELD;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -29,6 +30,7 @@ import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.DLModel;
+import org.opensearch.ml.engine.algorithms.sparse_encoding.SparseEmbeddingPruner;
 import org.opensearch.ml.engine.analysis.DJLUtils;
 import org.opensearch.ml.engine.annotation.Function;
 
@@ -61,6 +63,8 @@ public class SparseTokenizerModel extends DLModel {
 
     private Map<String, Float> idf;
 
+    private SparseEmbeddingPruner pruner = SparseEmbeddingPruner.NONE;
+
     public String IDF_FILE_NAME = "idf.json";
 
     @Override
@@ -77,6 +81,7 @@ public class SparseTokenizerModel extends DLModel {
             AsymmetricTextEmbeddingParameters sparseParams = (AsymmetricTextEmbeddingParameters) parameters;
             sparseEmbeddingFormat = sparseParams.getSparseEmbeddingFormat();
         }
+        SparseEmbeddingPruner requestPruner = pruner.withParameters(parameters);
 
         for (String doc : textDocsInput.getDocs()) {
             Encoding encodings = tokenizer.encode(doc);
@@ -87,20 +92,35 @@ public class SparseTokenizerModel extends DLModel {
                 .mapToObj(value -> this.tokenizer.decode(new long[] { value }, true))
                 .toArray(String[]::new);
 
-            Map<String, Float> tokenWeights = new HashMap<>();
+            // prune the tokens by weight before the token weight map is built
+            long[] positions = new long[uniqueIndices.length];
+            float[] weights = new float[uniqueIndices.length];
+            int count = 0;
             for (int i = 0; i < uniqueIndices.length; i++) {
-                String token = tokens[i];
-                if (token.isEmpty()) {
+                if (tokens[i].isEmpty()) {
                     continue;
                 }
+                positions[count] = i;
+                weights[count] = idf.getOrDefault(tokens[i], 1.0f);
+                count++;
+            }
+            positions = Arrays.copyOf(positions, count);
+            weights = Arrays.copyOf(weights, count);
+            int kept = requestPruner.prune(positions, weights);
+
+            Map<String, Float> tokenWeights = new HashMap<>();
+            for (int i = 0; i < kept; i++) {
+                int position = (int) positions[i];
                 if (sparseEmbeddingFormat == SparseEmbeddingFormat.TOKEN_ID) {
-                    tokenWeights.put(String.valueOf(uniqueIndices[i]), idf.getOrDefault(token, 1.0f));
+                    tokenWeights.put(String.valueOf(uniqueIndices[position]), weights[i]);
                 } else {
-                    tokenWeights.put(token, idf.getOrDefault(token, 1.0f));
+                    tokenWeights.put(tokens[position], weights[i]);
                 }
             }
 
-            Map<String, ?> wrappedMap = Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(tokenWeights));
+            Map<String, ?> wrappedMap = requestPruner.isEnabled()
+                ? Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(tokenWeights), PRUNED_TOKEN_COUNT_FIELD, count - kept)
+                : Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(tokenWeights));
             ModelTensor tensor = ModelTensor.builder().dataAsMap(wrappedMap).build();
             tensorOutputs.add(new ModelTensors(List.of(tensor)));
         }
@@ -122,6 +142,7 @@ public class SparseTokenizerModel extends DLModel {
         if (Files.exists(modelPath.resolve(IDF_FILE_NAME))) {
             idf = DJLUtils.fetchTokenWeights(modelPath.resolve(IDF_FILE_NAME));
         }
+        pruner = SparseEmbeddingPruner.fromModelConfig(modelConfig);
         log.info("sparse tokenize Model {} is successfully deployed", modelId);
     }
 
@@ -6,6 +6,7 @@ package org.opensearch.ml.engine.analysis;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -23,43 +24,61 @@ import com.google.common.io.CharStreams;
 
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.djl.huggingface.tokenizers.jni.CharSpan;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * A Lucene Tokenizer implementation that uses Hugging Face tokenizer for tokenization.
  * Supports token weighting and handles overflow scenarios.
+ * Tokens are emitted without allocating: the sparse embedding format is resolved once per type, token ids are written
+ * into the term buffer, weights are read from an array indexed by token id and written into a reusable payload.
  */
 @Log4j2
 public class HFModelTokenizer extends Tokenizer {
     public static final String NAME = "hf_model_tokenizer";
-    private static final Float DEFAULT_TOKEN_WEIGHT = 1.0f;
+    // max number of chars of a token id
+    private static final int MAX_TOKEN_ID_LENGTH = 11;
 
     private final CharTermAttribute termAtt;
     private final PayloadAttribute payloadAtt;
     private final OffsetAttribute offsetAtt;
     private final TypeAttribute typeAtt;
     private final Supplier<HuggingFaceTokenizer> tokenizerSupplier;
-    private final Supplier<Map<String, Float>> tokenWeightsSupplier;
+    private final TokenWeights tokenWeights;
+    // payload of the current token, the attribute is only valid until the next token
+    private final byte[] payloadBytes = new byte[Float.BYTES];
+    private final BytesRef payload = new BytesRef(payloadBytes);
 
     private Encoding encoding;
     private int tokenIdx = 0;
     private int overflowingIdx = 0;
+    // format of the type the tokens were last emitted with, the type is set by the caller of the tokenizer
+    private String formatType;
+    private SparseEmbeddingFormat format;
 
     public HFModelTokenizer(Supplier<HuggingFaceTokenizer> huggingFaceTokenizerSupplier) {
-        this(huggingFaceTokenizerSupplier, null);
+        this(huggingFaceTokenizerSupplier, (TokenWeights) null);
     }
 
     public HFModelTokenizer(Supplier<HuggingFaceTokenizer> huggingFaceTokenizerSupplier, Supplier<Map<String, Float>> weightsSupplier) {
+        this(huggingFaceTokenizerSupplier, Objects.nonNull(weightsSupplier) ? new TokenWeights(weightsSupplier) : null);
+    }
+
+    /**
+     * @param huggingFaceTokenizerSupplier supplier of the tokenizer, only called if there is some text to tokenize
+     * @param tokenWeights weights of the tokens written to the payload, shared by the tokenizers of an analyzer, no payload if null
+     */
+    public HFModelTokenizer(Supplier<HuggingFaceTokenizer> huggingFaceTokenizerSupplier, TokenWeights tokenWeights) {
         termAtt = addAttribute(CharTermAttribute.class);
         offsetAtt = addAttribute(OffsetAttribute.class);
         typeAtt = addAttribute(TypeAttribute.class);
-        if (Objects.nonNull(weightsSupplier)) {
+        if (Objects.nonNull(tokenWeights)) {
             payloadAtt = addAttribute(PayloadAttribute.class);
         } else {
             payloadAtt = null;
         }
         tokenizerSupplier = huggingFaceTokenizerSupplier;
-        tokenWeightsSupplier = weightsSupplier;
+        this.tokenWeights = tokenWeights;
     }
 
     @Override
@@ -78,13 +97,63 @@ public class HFModelTokenizer extends Tokenizer {
     }
 
     public static byte[] floatToBytes(float value) {
-        return ByteBuffer.allocate(4).putFloat(value).array();
+        byte[] bytes = new byte[Float.BYTES];
+        writeFloat(value, bytes);
+        return bytes;
+    }
+
+    /**
+     * Write a float in big-endian order, like {@link ByteBuffer#putFloat(float)}.
+     */
+    private static void writeFloat(float value, byte[] bytes) {
+        int bits = Float.floatToIntBits(value);
+        bytes[0] = (byte) (bits >>> 24);
+        bytes[1] = (byte) (bits >>> 16);
+        bytes[2] = (byte) (bits >>> 8);
+        bytes[3] = (byte) bits;
     }
 
     public static float bytesToFloat(byte[] bytes) {
         return ByteBuffer.wrap(bytes).getFloat();
     }
 
+    /**
+     * Get the sparse embedding format of the type attribute, it's only resolved again if the type changes.
+     */
+    private SparseEmbeddingFormat getFormat() {
+        String type = typeAtt.type();
+        if (type != formatType) {
+            format = SparseEmbeddingFormat.valueOf(type.toUpperCase(Locale.ROOT));
+            formatType = type;
+        }
+        return format;
+    }
+
+    /**
+     * Write a token id into the term buffer without creating a string.
+     */
+    private void setTokenId(long id) {
+        char[] buffer = termAtt.resizeBuffer(MAX_TOKEN_ID_LENGTH);
+        int length = 0;
+        long remaining = id;
+        if (remaining < 0) {
+            buffer[length++] = '-';
+            remaining = -remaining;
+        }
+        int start = length;
+        do {
+            buffer[length++] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        // digits are written from the least significant one
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            char digit = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = digit;
+        }
+        termAtt.setLength(length);
+    }
+
     /**
      * Clear all attributes except type. Type is used to identify the sparse embedding format.
      * It should be immutable and not needed to be cleared by the tokenizer.
@@ -113,24 +182,19 @@ public class HFModelTokenizer extends Tokenizer {
                 }
                 curEncoding = encoding.getOverflowing()[overflowingIdx];
             } else {
-                SparseEmbeddingFormat sparseEmbeddingFormat = SparseEmbeddingFormat.valueOf(typeAtt.type().toUpperCase());
-                if (sparseEmbeddingFormat == SparseEmbeddingFormat.WORD) {
-                    termAtt.append(curEncoding.getTokens()[tokenIdx]);
+                String token = curEncoding.getTokens()[tokenIdx];
+                long tokenId = curEncoding.getIds()[tokenIdx];
+                if (getFormat() == SparseEmbeddingFormat.WORD) {
+                    termAtt.append(token);
                 } else {
-                    termAtt.append(String.valueOf(curEncoding.getIds()[tokenIdx]));
+                    setTokenId(tokenId);
                 }
-                offsetAtt
-                    .setOffset(curEncoding.getCharTokenSpans()[tokenIdx].getStart(), curEncoding.getCharTokenSpans()[tokenIdx].getEnd());
-                if (Objects.nonNull(tokenWeightsSupplier)) {
+                CharSpan span = curEncoding.getCharTokenSpans()[tokenIdx];
+                offsetAtt.setOffset(span.getStart(), span.getEnd());
+                if (Objects.nonNull(tokenWeights)) {
                     // for neural sparse query, write the token weight to payload field
-                    payloadAtt
-                        .setPayload(
-                            new BytesRef(
-                                floatToBytes(
-                                    tokenWeightsSupplier.get().getOrDefault(curEncoding.getTokens()[tokenIdx], DEFAULT_TOKEN_WEIGHT)
-                                )
-                            )
-                        );
+                    writeFloat(tokenWeights.get((int) tokenId, token), payloadBytes);
+                    payloadAtt.setPayload(payload);
                 }
                 tokenIdx++;
                 return true;
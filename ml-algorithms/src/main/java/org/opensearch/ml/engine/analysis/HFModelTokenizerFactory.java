@@ -116,15 +116,18 @@ public class HFModelTokenizerFactory extends AbstractTokenizerFactory {
         }
     }
 
+    // weights of the bundled tokenizers are shared by all their tokenizer instances, so they're indexed by token id once
+    private static final TokenWeights DEFAULT_TOKEN_WEIGHTS = new TokenWeights(() -> DefaultTokenizerHolder.getInstance().tokenWeights);
+    private static final TokenWeights DEFAULT_MULTILINGUAL_TOKEN_WEIGHTS = new TokenWeights(
+        () -> DefaultMultilingualTokenizerHolder.getInstance().tokenWeights
+    );
+
     /**
      * Creates a default tokenizer instance with predefined settings.
      * @return A new HFModelTokenizer instance with default HuggingFaceTokenizer.
      */
     public static Tokenizer createDefault() {
-        return new HFModelTokenizer(
-            () -> DefaultTokenizerHolder.getInstance().tokenizer,
-            () -> DefaultTokenizerHolder.getInstance().tokenWeights
-        );
+        return new HFModelTokenizer(() -> DefaultTokenizerHolder.getInstance().tokenizer, DEFAULT_TOKEN_WEIGHTS);
     }
 
     /**
@@ -132,10 +135,28 @@ public class HFModelTokenizerFactory extends AbstractTokenizerFactory {
      * @return A new HFModelTokenizer instance with default HuggingFaceTokenizer.
      */
     public static Tokenizer createDefaultMultilingual() {
-        return new HFModelTokenizer(
-            () -> DefaultMultilingualTokenizerHolder.getInstance().tokenizer,
-            () -> DefaultMultilingualTokenizerHolder.getInstance().tokenWeights
-        );
+        return new HFModelTokenizer(() -> DefaultMultilingualTokenizerHolder.getInstance().tokenizer, DEFAULT_MULTILINGUAL_TOKEN_WEIGHTS);
+    }
+
+    /**
+     * Get a bundled Hugging Face tokenizer.
+     * @param name name of the bundled tokenizer, {@value #DEFAULT_TOKENIZER_NAME} or {@value #DEFAULT_MULTILINGUAL_TOKENIZER_NAME}
+     * @return the tokenizer
+     * @throws IllegalArgumentException if there is no bundled tokenizer with the name
+     */
+    public static HuggingFaceTokenizer getBundledTokenizer(String name) {
+        BaseTokenizerHolder holder;
+        if (DEFAULT_TOKENIZER_NAME.equals(name)) {
+            holder = DefaultTokenizerHolder.getInstance();
+        } else if (DEFAULT_MULTILINGUAL_TOKENIZER_NAME.equals(name)) {
+            holder = DefaultMultilingualTokenizerHolder.getInstance();
+        } else {
+            throw new IllegalArgumentException("Unknown tokenizer: " + name);
+        }
+        if (Objects.isNull(holder)) {
+            throw new IllegalStateException("Failed to load tokenizer: " + name);
+        }
+        return holder.tokenizer;
     }
 
     public HFModelTokenizerFactory(IndexSettings indexSettings, Environment environment, String name, Settings settings) {
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.engine.analysis;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Weights of the tokens of a Hugging Face tokenizer, e.g. their IDF, looked up by token id.
+ * The weight of a token is looked up by its text the first time its id is seen, then it's kept in a primitive array
+ * indexed by token id, so the weights of the tokens of a document are looked up without hashing or allocating.
+ * The weights are shared by the tokenizers created for each analysis, and they're fetched on first use.
+ */
+public final class TokenWeights {
+    public static final float DEFAULT_TOKEN_WEIGHT = 1.0f;
+    // ids above are looked up by text every time, vocabularies of the supported tokenizers are much smaller
+    private static final int MAX_CACHED_TOKEN_ID = 1 << 20;
+
+    private final Supplier<Map<String, Float>> weightsSupplier;
+    private volatile Map<String, Float> weights;
+    // weight by token id, NaN if it's not looked up yet. A concurrent resize may drop weights cached meanwhile,
+    // they're looked up again.
+    private volatile float[] weightsById = new float[0];
+
+    public TokenWeights(Supplier<Map<String, Float>> weightsSupplier) {
+        this.weightsSupplier = weightsSupplier;
+    }
+
+    /**
+     * @param id id of the token
+     * @param token text of the token, used if the weight of the id is not cached yet
+     * @return weight of the token, {@value #DEFAULT_TOKEN_WEIGHT} if it has none
+     */
+    public float get(int id, String token) {
+        float[] cached = weightsById;
+        if (id >= 0 && id < cached.length) {
+            float weight = cached[id];
+            if (!Float.isNaN(weight)) {
+                return weight;
+            }
+        }
+        Map<String, Float> tokenWeights = weights;
+        if (tokenWeights == null) {
+            tokenWeights = weightsSupplier.get();
+            weights = tokenWeights;
+        }
+        Float weight = tokenWeights.get(token);
+        float tokenWeight = weight == null ? DEFAULT_TOKEN_WEIGHT : weight;
+        if (id >= 0 && id < MAX_CACHED_TOKEN_ID) {
+            cache(id, tokenWeight);
+        }
+        return tokenWeight;
+    }
+
+    private void cache(int id, float weight) {
+        float[] cached = weightsById;
+        if (id >= cached.length) {
+            synchronized (this) {
+                cached = weightsById;
+                if (id >= cached.length) {
+                    int length = Math.min(MAX_CACHED_TOKEN_ID, Math.max(id + 1, cached.length * 2));
+                    float[] grown = Arrays.copyOf(cached, length);
+                    Arrays.fill(grown, cached.length, length, Float.NaN);
+                    weightsById = grown;
+                    cached = grown;
+                }
+            }
+        }
+        cached[id] = weight;
+    }
+}
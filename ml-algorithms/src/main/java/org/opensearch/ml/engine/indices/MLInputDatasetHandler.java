@@ -5,72 +5,126 @@
 
 package org.opensearch.ml.engine.indices;
 
-import java.util.ArrayList;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TRAINING_DATA_MAX_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TRAINING_DATA_PAGE_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TRAINING_DATA_PIT_KEEP_ALIVE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TRAINING_DATA_SAMPLING_ENABLED;
+
 import java.util.List;
-import java.util.Map;
 
-import org.opensearch.action.search.SearchRequest;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.ml.common.dataframe.DataFrame;
-import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
-import org.opensearch.search.SearchHit;
-import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.SearchService;
 import org.opensearch.transport.client.Client;
 
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
-import lombok.experimental.FieldDefaults;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Convert MLInputDataset to Dataframe
  */
-@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
-@RequiredArgsConstructor
 @Log4j2
 public class MLInputDatasetHandler {
-    Client client;
+    private final Client client;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private final Runnable memoryCheck;
+    private volatile int pageSize;
+    private volatile ByteSizeValue maxSize;
+    private volatile boolean samplingEnabled;
+    private volatile TimeValue pitKeepAlive;
+
+    public MLInputDatasetHandler(Client client) {
+        this(
+            client,
+            new NamedWriteableRegistry(new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables()),
+            Settings.EMPTY,
+            null,
+            () -> {}
+        );
+    }
 
     /**
-     * Create DataFrame based on given search query
+     * Constructor.
+     * @param client client
+     * @param namedWriteableRegistry registry to copy the query of search query input
+     * @param settings node settings
+     * @param clusterService cluster service to listen on dynamic setting updates, can be null
+     * @param memoryCheck check run before each page of search query input is loaded, throws if node memory is under pressure
+     */
+    public MLInputDatasetHandler(
+        Client client,
+        NamedWriteableRegistry namedWriteableRegistry,
+        Settings settings,
+        ClusterService clusterService,
+        Runnable memoryCheck
+    ) {
+        this.client = client;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        this.memoryCheck = memoryCheck;
+        this.pageSize = ML_COMMONS_TRAINING_DATA_PAGE_SIZE.get(settings);
+        this.maxSize = ML_COMMONS_TRAINING_DATA_MAX_SIZE.get(settings);
+        this.samplingEnabled = ML_COMMONS_TRAINING_DATA_SAMPLING_ENABLED.get(settings);
+        this.pitKeepAlive = ML_COMMONS_TRAINING_DATA_PIT_KEEP_ALIVE.get(settings);
+        if (clusterService != null) {
+            clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TRAINING_DATA_PAGE_SIZE, it -> pageSize = it);
+            clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TRAINING_DATA_MAX_SIZE, it -> maxSize = it);
+            clusterService
+                .getClusterSettings()
+                .addSettingsUpdateConsumer(ML_COMMONS_TRAINING_DATA_SAMPLING_ENABLED, it -> samplingEnabled = it);
+            clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TRAINING_DATA_PIT_KEEP_ALIVE, it -> pitKeepAlive = it);
+        }
+    }
+
+    /**
+     * Create DataFrame based on given search query to predict. Like a search, at most 10 documents are read if the query
+     * has no size.
      * @param mlInputDataset MLInputDataset
      * @param listener ActionListener
      */
     public void parseSearchQueryInput(MLInputDataset mlInputDataset, ActionListener<MLInputDataset> listener) {
+        parseSearchQueryInput(mlInputDataset, SearchService.DEFAULT_SIZE, listener);
+    }
+
+    /**
+     * Create DataFrame based on given search query to train. All documents matched by the query are read page by page
+     * with a point in time, bounded by the training data size settings, unless the query has a size.
+     * @param mlInputDataset MLInputDataset
+     * @param listener ActionListener
+     */
+    public void parseTrainingSearchQueryInput(MLInputDataset mlInputDataset, ActionListener<MLInputDataset> listener) {
+        parseSearchQueryInput(mlInputDataset, -1, listener);
+    }
+
+    private void parseSearchQueryInput(MLInputDataset mlInputDataset, int defaultLimit, ActionListener<MLInputDataset> listener) {
         if (!mlInputDataset.getInputDataType().equals(MLInputDataType.SEARCH_QUERY)) {
             throw new IllegalArgumentException("Input dataset is not SEARCH_QUERY type.");
         }
         SearchQueryInputDataset inputDataset = (SearchQueryInputDataset) mlInputDataset;
-        SearchRequest searchRequest = new SearchRequest();
-        searchRequest.source(inputDataset.getSearchSourceBuilder());
-        List<String> indicesList = inputDataset.getIndices();
-        String[] indices = new String[indicesList.size()];
-        indices = indicesList.toArray(indices);
-        searchRequest.indices(indices);
-
-        client.search(searchRequest, ActionListener.wrap(r -> {
-            if (r == null || r.getHits() == null || r.getHits().getTotalHits() == null || r.getHits().getTotalHits().value() == 0) {
-                listener.onFailure(new IllegalArgumentException("No document found"));
-                return;
-            }
-            SearchHits hits = r.getHits();
-            List<Map<String, Object>> input = new ArrayList<>();
-            SearchHit[] searchHits = hits.getHits();
-            for (SearchHit hit : searchHits) {
-                input.add(hit.getSourceAsMap());
-            }
-            DataFrame dataFrame = DataFrameBuilder.load(input);
-            MLInputDataset dfInputDataset = new DataFrameInputDataset(dataFrame);
-            listener.onResponse(dfInputDataset);
-            return;
-        }, e -> {
-            log.error("Failed to search{}", e);
-            listener.onFailure(e);
-        }));
-        return;
+        SearchQueryDataLoader loader = new SearchQueryDataLoader(
+            client,
+            namedWriteableRegistry,
+            pageSize,
+            maxSize.getBytes(),
+            samplingEnabled,
+            pitKeepAlive,
+            memoryCheck
+        );
+        loader
+            .load(
+                inputDataset,
+                defaultLimit,
+                ActionListener.wrap(dataFrame -> listener.onResponse(new DataFrameInputDataset(dataFrame)), e -> {
+                    log.error("Failed to load search query input", e);
+                    listener.onFailure(e);
+                })
+            );
     }
 }
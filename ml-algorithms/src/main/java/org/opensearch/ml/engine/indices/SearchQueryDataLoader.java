@@ -0,0 +1,339 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.indices;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.ColumnType;
+import org.opensearch.ml.common.dataframe.ColumnValue;
+import org.opensearch.ml.common.dataframe.ColumnValueBuilder;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataframe.DefaultDataFrame;
+import org.opensearch.ml.common.dataframe.Row;
+import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.transport.client.Client;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Loads all documents matched by a search query input into a data frame.
+ *
+ * The query is walked page by page with a point in time and search_after, so the result is not capped by the
+ * size of a single search response. Each hit is converted into a data frame row as soon as its page arrives and
+ * the estimated size of the rows is checked against a byte budget. Once the budget is reached the load either
+ * fails or, if sampling is enabled, keeps a uniform reservoir sample of all matched documents.
+ */
+@Log4j2
+public class SearchQueryDataLoader {
+    public static final String SHARD_DOC_SORT_FIELD = "_shard_doc";
+
+    // Rough heap cost of a row and of a single column value, used to estimate the data frame size.
+    private static final long ROW_OVERHEAD_BYTES = 32;
+    private static final long VALUE_OVERHEAD_BYTES = 24;
+
+    private final Client client;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private final int pageSize;
+    private final long maxBytes;
+    private final boolean samplingEnabled;
+    private final TimeValue keepAlive;
+    private final Runnable memoryCheck;
+    private final Random random;
+
+    /**
+     * Constructor.
+     * @param client client to run searches
+     * @param namedWriteableRegistry registry to copy the query of the input
+     * @param pageSize number of hits fetched per page
+     * @param maxBytes estimated size budget of the loaded data frame
+     * @param samplingEnabled whether to reservoir sample documents once the size budget is reached
+     * @param keepAlive point in time keep alive between pages
+     * @param memoryCheck check run before each page, throws if node memory is under pressure
+     */
+    public SearchQueryDataLoader(
+        Client client,
+        NamedWriteableRegistry namedWriteableRegistry,
+        int pageSize,
+        long maxBytes,
+        boolean samplingEnabled,
+        TimeValue keepAlive,
+        Runnable memoryCheck
+    ) {
+        this(client, namedWriteableRegistry, pageSize, maxBytes, samplingEnabled, keepAlive, memoryCheck, new Random());
+    }
+
+    SearchQueryDataLoader(
+        Client client,
+        NamedWriteableRegistry namedWriteableRegistry,
+        int pageSize,
+        long maxBytes,
+        boolean samplingEnabled,
+        TimeValue keepAlive,
+        Runnable memoryCheck,
+        Random random
+    ) {
+        this.client = client;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        this.pageSize = pageSize;
+        this.maxBytes = maxBytes;
+        this.samplingEnabled = samplingEnabled;
+        this.keepAlive = keepAlive;
+        this.memoryCheck = memoryCheck;
+        this.random = random;
+    }
+
+    /**
+     * Load the documents matched by the search query input into a data frame.
+     * The size of the query is treated as the maximum number of documents to load. The query of the input is not modified.
+     * @param inputDataset search query input dataset
+     * @param defaultLimit maximum number of documents to load if the query has no size, -1 to load all matched documents
+     * @param listener action listener of the loaded data frame
+     */
+    public void load(SearchQueryInputDataset inputDataset, int defaultLimit, ActionListener<DataFrame> listener) {
+        String[] indices = inputDataset.getIndices().toArray(new String[0]);
+        CreatePitRequest createPitRequest = new CreatePitRequest(keepAlive, false, indices);
+        client.createPit(createPitRequest, ActionListener.wrap(pitResponse -> {
+            String pitId = pitResponse.getId();
+            ActionListener<DataFrame> releasingListener = ActionListener.runAfter(listener, () -> deletePit(pitId));
+            try {
+                LoadState state = new LoadState(copyOf(inputDataset.getSearchSourceBuilder()), defaultLimit);
+                fetchPage(pitId, state, null, releasingListener);
+            } catch (Exception e) {
+                releasingListener.onFailure(e);
+            }
+        }, e -> {
+            log.error("Failed to create point in time for search query input", e);
+            listener.onFailure(e);
+        }));
+    }
+
+    private void fetchPage(String pitId, LoadState state, Object[] searchAfter, ActionListener<DataFrame> listener) {
+        memoryCheck.run();
+        SearchSourceBuilder pageSource = state.source
+            .shallowCopy()
+            .from(0)
+            .size(state.nextPageSize())
+            .trackTotalHits(false)
+            .pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(keepAlive));
+        if (searchAfter != null) {
+            pageSource.searchAfter(searchAfter);
+        }
+        client.search(new SearchRequest().source(pageSource), ActionListener.wrap(r -> {
+            SearchHit[] hits = r == null || r.getHits() == null ? new SearchHit[0] : r.getHits().getHits();
+            for (SearchHit hit : hits) {
+                state.add(hit);
+            }
+            if (hits.length < pageSource.size() || state.isComplete()) {
+                listener.onResponse(state.toDataFrame());
+                return;
+            }
+            fetchPage(pitId, state, hits[hits.length - 1].getSortValues(), listener);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Copy the query of the input. Sorts are shared between shallow copies, so the query is copied through its wire format.
+     */
+    private SearchSourceBuilder copyOf(SearchSourceBuilder source) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            source.writeTo(out);
+            try (StreamInput in = new NamedWriteableAwareStreamInput(out.bytes().streamInput(), namedWriteableRegistry)) {
+                return new SearchSourceBuilder(in);
+            }
+        }
+    }
+
+    /**
+     * Add the point in time tie breaker as the last sort so search_after walks every document exactly once.
+     * Sorts are shared between shallow copies, so this is done once on the copy of the input query rather than per page.
+     */
+    private static void addTieBreakerSort(SearchSourceBuilder source) {
+        List<SortBuilder<?>> sorts = source.sorts();
+        if (sorts != null) {
+            for (SortBuilder<?> sort : sorts) {
+                if (sort instanceof FieldSortBuilder && SHARD_DOC_SORT_FIELD.equals(((FieldSortBuilder) sort).getFieldName())) {
+                    return;
+                }
+            }
+        }
+        source.sort(SortBuilders.fieldSort(SHARD_DOC_SORT_FIELD));
+    }
+
+    private void deletePit(String pitId) {
+        client
+            .deletePits(
+                new DeletePitRequest(pitId),
+                ActionListener.wrap(r -> {}, e -> log.warn("Failed to delete point in time {}", pitId, e))
+            );
+    }
+
+    /**
+     * Estimate the heap size of a row holding the given column values.
+     * @param values column values
+     * @return estimated size in bytes
+     */
+    static long estimateRowBytes(ColumnValue[] values) {
+        long bytes = ROW_OVERHEAD_BYTES;
+        for (ColumnValue value : values) {
+            bytes += VALUE_OVERHEAD_BYTES;
+            if (value.columnType() == ColumnType.STRING) {
+                bytes += 2L * value.stringValue().length();
+            }
+        }
+        return bytes;
+    }
+
+    private class LoadState {
+        final SearchSourceBuilder source;
+        final int skip;
+        final int limit;
+        final boolean useDocValueFields;
+        final List<Row> rows = new ArrayList<>();
+        ColumnMeta[] columnMetas;
+        Map<String, Integer> columnIndexes;
+        long matched;
+        long estimatedBytes;
+        boolean sampling;
+
+        LoadState(SearchSourceBuilder source, int defaultLimit) {
+            addTieBreakerSort(source);
+            this.source = source;
+            this.skip = Math.max(source.from(), 0);
+            this.limit = source.size() < 0 ? defaultLimit : source.size();
+            this.useDocValueFields = source.docValueFields() != null && !source.docValueFields().isEmpty();
+        }
+
+        int nextPageSize() {
+            if (limit < 0) {
+                return pageSize;
+            }
+            long remaining = skip + limit - matched;
+            return (int) Math.max(1, Math.min(pageSize, remaining));
+        }
+
+        boolean isComplete() {
+            return limit >= 0 && matched >= skip + limit;
+        }
+
+        void add(SearchHit hit) {
+            if (isComplete()) {
+                return;
+            }
+            matched++;
+            if (matched <= skip) {
+                return;
+            }
+            ColumnValue[] values = toColumnValues(hit);
+            if (sampling) {
+                sample(values);
+                return;
+            }
+            long rowBytes = estimateRowBytes(values);
+            if (estimatedBytes + rowBytes > maxBytes) {
+                if (!samplingEnabled || rows.isEmpty()) {
+                    throw new MLLimitExceededException(
+                        "Search query input exceeds the training data size limit of "
+                            + maxBytes
+                            + " bytes after "
+                            + rows.size()
+                            + " documents. Narrow the query or enable training data sampling."
+                    );
+                }
+                log.info("Search query input exceeds the training data size limit, sampling {} documents", rows.size());
+                sampling = true;
+                sample(values);
+                return;
+            }
+            estimatedBytes += rowBytes;
+            rows.add(new Row(values));
+        }
+
+        // reservoir sampling: the n-th document replaces a random kept row with probability capacity / n
+        private void sample(ColumnValue[] values) {
+            long slot = (long) (random.nextDouble() * (matched - skip));
+            if (slot < rows.size()) {
+                rows.set((int) slot, new Row(values));
+            }
+        }
+
+        private ColumnValue[] toColumnValues(SearchHit hit) {
+            Map<String, Object> fields = readFields(hit);
+            if (columnMetas == null) {
+                columnMetas = new ColumnMeta[fields.size()];
+                columnIndexes = new HashMap<>();
+                int index = 0;
+                for (Map.Entry<String, Object> entry : fields.entrySet()) {
+                    columnMetas[index] = ColumnMeta.builder().name(entry.getKey()).columnType(ColumnType.from(entry.getValue())).build();
+                    columnIndexes.put(entry.getKey(), index++);
+                }
+            }
+            if (fields.size() != columnMetas.length) {
+                throw new IllegalArgumentException("input item map size is different in the map");
+            }
+            ColumnValue[] values = new ColumnValue[columnMetas.length];
+            for (Map.Entry<String, Object> entry : fields.entrySet()) {
+                Integer index = columnIndexes.get(entry.getKey());
+                if (index == null) {
+                    throw new IllegalArgumentException("field of input item doesn't exist in columns, filed:" + entry.getKey());
+                }
+                ColumnValue value = ColumnValueBuilder.build(entry.getValue());
+                if (columnMetas[index].getColumnType() != value.columnType()) {
+                    throw new IllegalArgumentException("the same field has different data type");
+                }
+                values[index] = value;
+            }
+            return values;
+        }
+
+        private Map<String, Object> readFields(SearchHit hit) {
+            if (!useDocValueFields) {
+                return hit.getSourceAsMap();
+            }
+            Map<String, Object> fields = new LinkedHashMap<>();
+            if (hit.hasSource()) {
+                fields.putAll(hit.getSourceAsMap());
+            }
+            for (Map.Entry<String, DocumentField> entry : hit.getDocumentFields().entrySet()) {
+                fields.put(entry.getKey(), entry.getValue().getValue());
+            }
+            return fields;
+        }
+
+        DataFrame toDataFrame() {
+            if (rows.isEmpty()) {
+                throw new IllegalArgumentException("No document found");
+            }
+            if (sampling) {
+                log.info("Sampled {} documents out of {} matched by search query input", rows.size(), matched - skip);
+            }
+            return new DefaultDataFrame(columnMetas, rows);
+        }
+    }
+}
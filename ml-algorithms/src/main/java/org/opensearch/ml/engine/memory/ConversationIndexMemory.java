@@ -42,6 +42,7 @@ public class ConversationIndexMemory implements Memory<Message, CreateInteractio
     protected final Client client;
     private final MLIndicesHandler mlIndicesHandler;
     private MLMemoryManager memoryManager;
+    private InteractionTraceWriter traceWriter;
 
     public ConversationIndexMemory(
         Client client,
@@ -71,6 +72,12 @@ public class ConversationIndexMemory implements Memory<Message, CreateInteractio
 
     @Override
     public void save(Message message, String parentId, Integer traceNum, String action) {
+        if (parentId != null && traceNum != null) {
+            // traces are written in bulk, see InteractionTraceWriter
+            ConversationIndexMessage msg = (ConversationIndexMessage) message;
+            getTraceWriter().add(msg.getQuestion(), msg.getResponse(), action, parentId, traceNum);
+            return;
+        }
         this.save(message, parentId, traceNum, action, ActionListener.<CreateInteractionResponse>wrap(r -> {
             log
                 .info(
@@ -92,13 +99,15 @@ public class ConversationIndexMemory implements Memory<Message, CreateInteractio
         ActionListener<CreateInteractionResponse> listener
     ) {
         ConversationIndexMessage msg = (ConversationIndexMessage) message;
-        memoryManager
-            .createInteraction(conversationId, msg.getQuestion(), null, msg.getResponse(), action, null, parentId, traceNum, listener);
+        flushTraces(
+            () -> memoryManager
+                .createInteraction(conversationId, msg.getQuestion(), null, msg.getResponse(), action, null, parentId, traceNum, listener)
+        );
     }
 
     @Override
     public void getMessages(int size, ActionListener listener) {
-        memoryManager.getFinalInteractions(conversationId, size, listener);
+        flushTraces(() -> memoryManager.getFinalInteractions(conversationId, size, listener));
     }
 
     @Override
@@ -108,12 +117,37 @@ public class ConversationIndexMemory implements Memory<Message, CreateInteractio
 
     @Override
     public void update(String messageId, Map<String, Object> updateContent, ActionListener<UpdateResponse> updateListener) {
-        getMemoryManager().updateInteraction(messageId, updateContent, updateListener);
+        flushTraces(() -> getMemoryManager().updateInteraction(messageId, updateContent, updateListener));
     }
 
     @Override
     public void deleteInteractionAndTrace(String interactionId, ActionListener<Boolean> listener) {
-        memoryManager.deleteInteractionAndTrace(interactionId, listener);
+        flushTraces(() -> memoryManager.deleteInteractionAndTrace(interactionId, listener));
+    }
+
+    private synchronized InteractionTraceWriter getTraceWriter() {
+        if (traceWriter == null) {
+            traceWriter = new InteractionTraceWriter(memoryManager, conversationId, client.threadPool());
+        }
+        return traceWriter;
+    }
+
+    /**
+     * Write the buffered traces before running the next memory operation. Failing to write traces doesn't fail the
+     * operation, same as saving a trace without listener.
+     */
+    private void flushTraces(Runnable next) {
+        InteractionTraceWriter writer;
+        synchronized (this) {
+            writer = traceWriter;
+        }
+        if (writer == null) {
+            next.run();
+            return;
+        }
+        ActionListener<Void> flushListener = ActionListener
+            .wrap(r -> {}, e -> log.error("Failed to save traces into memory {}", conversationId, e));
+        writer.flush(ActionListener.runAfter(flushListener, next::run));
     }
 
     public static class Factory implements Memory.Factory<ConversationIndexMemory> {
@@ -0,0 +1,235 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.memory;
+
+import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.INTERACTIONS_ADDITIONAL_INFO_FIELD;
+import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.INTERACTIONS_RESPONSE_FIELD;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import org.opensearch.ml.common.conversation.Interaction;
+
+/**
+ * Node level cache of the latest final interactions (interactions which are not traces) per conversation.
+ *
+ * After the history of a conversation is read from the index, the latest interactions are cached together with the
+ * interactions created on this node, and reads of up to as many interactions are served from the cache without a
+ * search until a TTL since the read expires. The interactions created on this node which the index doesn't show yet
+ * because it isn't refreshed are kept until a read from the index returns them, or until the TTL, so the next turn
+ * always reads the previous one. Interactions written through other nodes may be missing from the cached history for
+ * up to the TTL. Updates of the response or additional info are applied to the cached interaction, other updates and
+ * deletes drop it. The least recently used conversations are dropped when the cache is full.
+ */
+public class InteractionCache {
+    public static final int DEFAULT_MAX_CONVERSATIONS = 1000;
+    public static final int DEFAULT_MAX_INTERACTIONS = 50;
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    private final int maxInteractions;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry> entries;
+
+    public InteractionCache() {
+        this(DEFAULT_MAX_CONVERSATIONS, DEFAULT_MAX_INTERACTIONS, DEFAULT_TTL, System::nanoTime);
+    }
+
+    InteractionCache(int maxConversations, int maxInteractions, Duration ttl, LongSupplier nanoClock) {
+        this.maxInteractions = maxInteractions;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxConversations;
+            }
+        };
+    }
+
+    /**
+     * Get the latest final interactions of a conversation if the cache holds them.
+     * @param conversationId conversation id
+     * @param lastN number of interactions to get
+     * @return at most lastN latest interactions from oldest to newest, or null if they have to be read from the index
+     */
+    public synchronized List<Interaction> getLatest(String conversationId, int lastN) {
+        Entry entry = entries.get(conversationId);
+        if (entry == null || !entry.loaded) {
+            return null;
+        }
+        if (nanoClock.getAsLong() - entry.loadedNanos > ttlNanos) {
+            // only keep the interactions the index may not show yet
+            entry.loaded = false;
+            entry.interactions.removeIf(it -> !it.pending);
+            return null;
+        }
+        if (lastN > entry.interactions.size() && !entry.complete) {
+            return null;
+        }
+        List<Interaction> latest = new ArrayList<>();
+        int skip = entry.interactions.size() - lastN;
+        for (CachedInteraction it : entry.interactions) {
+            if (skip-- <= 0) {
+                latest.add(it.interaction);
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Cache the latest final interactions of a conversation read from the index, merged with the interactions created
+     * on this node which the index doesn't show yet.
+     * @param conversationId conversation id
+     * @param loaded latest final interactions read from the index, from oldest to newest
+     * @param lastN number of interactions requested from the index
+     * @return at most lastN latest interactions from oldest to newest
+     */
+    public synchronized List<Interaction> putLoaded(String conversationId, List<Interaction> loaded, int lastN) {
+        Set<String> loadedIds = new HashSet<>();
+        for (Interaction interaction : loaded) {
+            loadedIds.add(interaction.getId());
+        }
+        long now = nanoClock.getAsLong();
+        Entry entry = entries.computeIfAbsent(conversationId, k -> new Entry());
+        // the index is authoritative for interactions it returns
+        entry.interactions.removeIf(it -> !it.pending || loadedIds.contains(it.interaction.getId()) || now - it.createdNanos > ttlNanos);
+        // older interactions than the loaded ones may exist in the index if the search returned as many as requested
+        boolean complete = loaded.size() < lastN;
+        Instant oldestLoaded = !complete && !loaded.isEmpty() ? loaded.get(0).getCreateTime() : null;
+        List<CachedInteraction> merged = new ArrayList<>(loaded.size() + entry.interactions.size());
+        for (Interaction interaction : loaded) {
+            merged.add(new CachedInteraction(interaction, now, false));
+        }
+        for (CachedInteraction it : entry.interactions) {
+            if (oldestLoaded == null || !it.interaction.getCreateTime().isBefore(oldestLoaded)) {
+                merged.add(it);
+            }
+        }
+        merged.sort(Comparator.comparing(it -> it.interaction.getCreateTime(), Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        entry.interactions.clear();
+        entry.interactions.addAll(merged);
+        entry.loaded = true;
+        entry.complete = complete;
+        entry.loadedNanos = now;
+        entry.trim(maxInteractions);
+
+        List<Interaction> latest = new ArrayList<>();
+        for (CachedInteraction it : merged.subList(Math.max(0, merged.size() - lastN), merged.size())) {
+            latest.add(it.interaction);
+        }
+        return latest;
+    }
+
+    /**
+     * Add a final interaction created on this node.
+     */
+    public synchronized void add(Interaction interaction) {
+        Entry entry = entries.computeIfAbsent(interaction.getConversationId(), k -> new Entry());
+        entry.interactions.addLast(new CachedInteraction(interaction, nanoClock.getAsLong(), true));
+        entry.trim(maxInteractions);
+    }
+
+    /**
+     * Apply an update of an interaction to the cache.
+     * @param interactionId interaction id
+     * @param updateContent updated fields
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void update(String interactionId, Map<String, Object> updateContent) {
+        for (Entry entry : entries.values()) {
+            for (CachedInteraction it : entry.interactions) {
+                if (!it.interaction.getId().equals(interactionId)) {
+                    continue;
+                }
+                Interaction.InteractionBuilder builder = it.interaction.toBuilder().updatedTime(Instant.now());
+                for (Map.Entry<String, Object> field : updateContent.entrySet()) {
+                    Object value = field.getValue();
+                    if (INTERACTIONS_RESPONSE_FIELD.equals(field.getKey()) && (value == null || value instanceof String)) {
+                        builder.response((String) value);
+                    } else if (INTERACTIONS_ADDITIONAL_INFO_FIELD.equals(field.getKey()) && (value == null || value instanceof Map)) {
+                        // same representation as interactions read from the index, see Interaction.fromMap
+                        builder.additionalInfo((Map<String, String>) value);
+                    } else {
+                        // read the history from the index again
+                        entry.interactions.remove(it);
+                        entry.loaded = false;
+                        return;
+                    }
+                }
+                it.interaction = builder.build();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drop an interaction from the cache.
+     * @param interactionId interaction id
+     */
+    public synchronized void invalidateInteraction(String interactionId) {
+        for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext();) {
+            Entry entry = iterator.next();
+            entry.interactions.removeIf(it -> it.interaction.getId().equals(interactionId));
+            if (entry.interactions.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Drop the interactions of a conversation from the cache.
+     * @param conversationId conversation id
+     */
+    public synchronized void invalidate(String conversationId) {
+        entries.remove(conversationId);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry {
+        private final Deque<CachedInteraction> interactions = new ArrayDeque<>();
+        // the interactions are the latest ones of the conversation as of loadedNanos
+        private boolean loaded;
+        // the interactions are all the ones of the conversation
+        private boolean complete;
+        private long loadedNanos;
+
+        private void trim(int maxInteractions) {
+            while (interactions.size() > maxInteractions) {
+                interactions.removeFirst();
+                complete = false;
+            }
+        }
+    }
+
+    private static class CachedInteraction {
+        private Interaction interaction;
+        private final long createdNanos;
+        // created on this node and not returned by a read from the index yet
+        private final boolean pending;
+
+        private CachedInteraction(Interaction interaction, long createdNanos, boolean pending) {
+            this.interaction = interaction;
+            this.createdNanos = createdNanos;
+            this.pending = pending;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.memory;
+
+import static org.opensearch.ml.common.CommonValue.AGENTIC_MEMORY_THREAD_POOL;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.memory.index.InteractionsIndex;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Buffers the trace interactions of an agent run and writes them in bulk requests.
+ *
+ * Traces are flushed when the buffer is full, a short interval after the first buffered trace, and before any other
+ * write or read of the memory so the run reads its own traces. The access to the conversation is checked once per
+ * writer instead of once per trace. Traces are read sorted by trace number, so flushes don't need to be ordered.
+ */
+@Log4j2
+public class InteractionTraceWriter {
+    public static final int DEFAULT_MAX_BUFFERED_TRACES = 20;
+    public static final TimeValue DEFAULT_FLUSH_INTERVAL = TimeValue.timeValueSeconds(1);
+
+    private final MLMemoryManager memoryManager;
+    private final String conversationId;
+    private final ThreadPool threadPool;
+    private final int maxBufferedTraces;
+    private final TimeValue flushInterval;
+    private final List<Map<String, Object>> buffer = new ArrayList<>();
+    private boolean flushScheduled;
+    private volatile boolean accessGranted;
+
+    public InteractionTraceWriter(MLMemoryManager memoryManager, String conversationId, ThreadPool threadPool) {
+        this(memoryManager, conversationId, threadPool, DEFAULT_MAX_BUFFERED_TRACES, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    public InteractionTraceWriter(
+        MLMemoryManager memoryManager,
+        String conversationId,
+        ThreadPool threadPool,
+        int maxBufferedTraces,
+        TimeValue flushInterval
+    ) {
+        this.memoryManager = memoryManager;
+        this.conversationId = conversationId;
+        this.threadPool = threadPool;
+        this.maxBufferedTraces = maxBufferedTraces;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Buffer a trace interaction of the conversation.
+     */
+    public void add(String input, String response, String origin, String parentId, Integer traceNumber) {
+        Map<String, Object> trace = InteractionsIndex
+            .interactionSource(conversationId, input, null, response, origin, null, Instant.now(), parentId, traceNumber);
+        boolean flushNow = false;
+        boolean scheduleFlush = false;
+        synchronized (this) {
+            buffer.add(trace);
+            if (buffer.size() >= maxBufferedTraces) {
+                flushNow = true;
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                scheduleFlush = true;
+            }
+        }
+        if (flushNow) {
+            flush(logFailureListener());
+        } else if (scheduleFlush) {
+            try {
+                threadPool.schedule(() -> flush(logFailureListener()), flushInterval, AGENTIC_MEMORY_THREAD_POOL);
+            } catch (Exception e) {
+                log.warn("Failed to schedule flush of traces of memory {}, flushing now", conversationId, e);
+                flush(logFailureListener());
+            }
+        }
+    }
+
+    /**
+     * Write the buffered traces.
+     * @param listener called when the buffered traces are written
+     */
+    public void flush(ActionListener<Void> listener) {
+        List<Map<String, Object>> traces;
+        synchronized (this) {
+            traces = new ArrayList<>(buffer);
+            buffer.clear();
+            flushScheduled = false;
+        }
+        if (traces.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        checkAccess(ActionListener.wrap(r -> memoryManager.bulkCreateTraceInteractions(traces, ActionListener.wrap(ids -> {
+            log.debug("Saved {} traces into memory {}", ids.size(), conversationId);
+            listener.onResponse(null);
+        }, listener::onFailure)), listener::onFailure));
+    }
+
+    public synchronized int size() {
+        return buffer.size();
+    }
+
+    private void checkAccess(ActionListener<Void> listener) {
+        if (accessGranted) {
+            listener.onResponse(null);
+            return;
+        }
+        memoryManager.checkAccess(conversationId, ActionListener.wrap(access -> {
+            if (access) {
+                accessGranted = true;
+                listener.onResponse(null);
+            } else {
+                listener.onFailure(new OpenSearchSecurityException("User does not have access to memory " + conversationId));
+            }
+        }, listener::onFailure));
+    }
+
+    private ActionListener<Void> logFailureListener() {
+        return ActionListener.wrap(r -> {}, e -> log.error("Failed to save traces into memory {}", conversationId, e));
+    }
+}
@@ -10,12 +10,18 @@ import static org.opensearch.ml.common.conversation.ConversationalIndexConstants
 import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD;
 import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.INTERACTIONS_INDEX_NAME;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.OpenSearchException;
 import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.update.UpdateResponse;
@@ -46,6 +52,7 @@ import org.opensearch.ml.memory.action.conversation.GetTracesResponse;
 import org.opensearch.ml.memory.action.conversation.UpdateInteractionAction;
 import org.opensearch.ml.memory.action.conversation.UpdateInteractionRequest;
 import org.opensearch.ml.memory.index.ConversationMetaIndex;
+import org.opensearch.ml.memory.index.InteractionsIndex;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.sort.SortOrder;
@@ -55,19 +62,36 @@ import org.opensearch.transport.client.Requests;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 
-import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Memory manager for Memories. It contains ML memory related operations like create, read interactions etc.
  */
 @Log4j2
-@AllArgsConstructor
 public class MLMemoryManager {
 
     private Client client;
     private ClusterService clusterService;
     private ConversationMetaIndex conversationMetaIndex;
+    @Getter
+    private InteractionCache interactionCache;
+
+    public MLMemoryManager(Client client, ClusterService clusterService, ConversationMetaIndex conversationMetaIndex) {
+        this(client, clusterService, conversationMetaIndex, new InteractionCache());
+    }
+
+    public MLMemoryManager(
+        Client client,
+        ClusterService clusterService,
+        ConversationMetaIndex conversationMetaIndex,
+        InteractionCache interactionCache
+    ) {
+        this.client = client;
+        this.clusterService = clusterService;
+        this.conversationMetaIndex = conversationMetaIndex;
+        this.interactionCache = interactionCache;
+    }
 
     /**
      * Create a new Conversation
@@ -111,6 +135,28 @@ public class MLMemoryManager {
         Preconditions.checkNotNull(response);
         // additionalInfo cannot be null as flat object
         additionalInfo = (additionalInfo == null) ? new HashMap<>() : additionalInfo;
+        Map<String, String> finalAdditionalInfo = additionalInfo;
+        ActionListener<CreateInteractionResponse> cacheListener = ActionListener.wrap(r -> {
+            if (traceNum == null) {
+                // write through so the next turn reads the interaction even if the index is not refreshed yet
+                interactionCache
+                    .add(
+                        Interaction
+                            .builder()
+                            .id(r.getId())
+                            .createTime(Instant.now())
+                            .updatedTime(Instant.now())
+                            .conversationId(conversationId)
+                            .input(input)
+                            .promptTemplate(promptTemplate)
+                            .response(response)
+                            .origin(origin)
+                            .additionalInfo(finalAdditionalInfo)
+                            .build()
+                    );
+            }
+            actionListener.onResponse(r);
+        }, actionListener::onFailure);
         try {
             client
                 .execute(
@@ -125,13 +171,62 @@ public class MLMemoryManager {
                         parentIntId,
                         traceNum
                     ),
-                    actionListener
+                    cacheListener
                 );
         } catch (Exception exception) {
             actionListener.onFailure(exception);
         }
     }
 
+    /**
+     * Check whether the current user has access to the conversation
+     * @param conversationId the conversation to check
+     * @param actionListener gets whether the user has access
+     */
+    public void checkAccess(String conversationId, ActionListener<Boolean> actionListener) {
+        try {
+            conversationMetaIndex.checkAccess(conversationId, actionListener);
+        } catch (Exception exception) {
+            actionListener.onFailure(exception);
+        }
+    }
+
+    /**
+     * Index trace interactions in one bulk request. Unlike {@link #createInteraction}, this doesn't check the access to
+     * the conversations, callers need to check it with {@link #checkAccess} first.
+     * @param traces sources of the trace interactions, see {@link InteractionsIndex#interactionSource}
+     * @param actionListener gets the IDs of the new interactions
+     */
+    public void bulkCreateTraceInteractions(List<Map<String, Object>> traces, ActionListener<List<String>> actionListener) {
+        if (!clusterService.state().metadata().hasIndex(INTERACTIONS_INDEX_NAME)) {
+            actionListener.onFailure(new IOException("no index to add memory to"));
+            return;
+        }
+        BulkRequest bulkRequest = new BulkRequest();
+        for (Map<String, Object> trace : traces) {
+            bulkRequest.add(Requests.indexRequest(INTERACTIONS_INDEX_NAME).source(trace));
+        }
+        try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<List<String>> internalListener = ActionListener.runBefore(actionListener, threadContext::restore);
+            client.bulk(bulkRequest, ActionListener.wrap(bulkResponse -> {
+                if (bulkResponse.hasFailures()) {
+                    internalListener
+                        .onFailure(new OpenSearchException("Failed to create trace messages: " + bulkResponse.buildFailureMessage()));
+                    return;
+                }
+                List<String> ids = new ArrayList<>(traces.size());
+                for (BulkItemResponse item : bulkResponse.getItems()) {
+                    ids.add(item.getId());
+                }
+                log.debug("Created {} trace messages", ids.size());
+                internalListener.onResponse(ids);
+            }, internalListener::onFailure));
+        } catch (Exception e) {
+            log.error("Failed to create trace messages", e);
+            actionListener.onFailure(e);
+        }
+    }
+
     /**
      * Get the latest interactions associated with this conversation that are not traces, from oldest to newest
      * @param conversationId the conversation whose interactions to get
@@ -167,6 +262,11 @@ public class MLMemoryManager {
 
     @VisibleForTesting
     void innerGetFinalInteractions(String conversationId, int lastNInteraction, ActionListener<List<Interaction>> listener) {
+        List<Interaction> cached = interactionCache.getLatest(conversationId, lastNInteraction);
+        if (cached != null) {
+            listener.onResponse(cached);
+            return;
+        }
         SearchRequest searchRequest = Requests.searchRequest(INTERACTIONS_INDEX_NAME);
 
         // Build the query
@@ -195,7 +295,8 @@ public class MLMemoryManager {
                 for (SearchHit hit : response.getHits()) {
                     result.add(0, Interaction.fromSearchHit(hit));
                 }
-                internalListener.onResponse(result);
+                // add the interactions created on this node which the index doesn't show yet
+                internalListener.onResponse(interactionCache.putLoaded(conversationId, result, lastNInteraction));
             }, e -> { internalListener.onFailure(e); });
             client.search(searchRequest, al);
         } catch (Exception e) {
@@ -231,8 +332,16 @@ public class MLMemoryManager {
     public void updateInteraction(String interactionId, Map<String, Object> updateContent, ActionListener<UpdateResponse> actionListener) {
         Preconditions.checkNotNull(interactionId);
         Preconditions.checkNotNull(updateContent);
+        UpdateInteractionRequest updateInteractionRequest = new UpdateInteractionRequest(interactionId, updateContent);
+        ActionListener<UpdateResponse> cacheListener = ActionListener.wrap(r -> {
+            interactionCache.update(interactionId, updateInteractionRequest.getUpdateContent());
+            actionListener.onResponse(r);
+        }, e -> {
+            interactionCache.invalidateInteraction(interactionId);
+            actionListener.onFailure(e);
+        });
         try {
-            client.execute(UpdateInteractionAction.INSTANCE, new UpdateInteractionRequest(interactionId, updateContent), actionListener);
+            client.execute(UpdateInteractionAction.INSTANCE, updateInteractionRequest, cacheListener);
         } catch (Exception exception) {
             actionListener.onFailure(exception);
         }
@@ -244,11 +353,15 @@ public class MLMemoryManager {
     * @param listener callback for delete result
     */
     public void deleteInteractionAndTrace(String interactionId, ActionListener<Boolean> listener) {
+        interactionCache.invalidateInteraction(interactionId);
         DeleteByQueryRequest deleteByQueryRequest = new DeleteByQueryRequest(INTERACTIONS_INDEX_NAME);
         deleteByQueryRequest.setQuery(buildDeleteInteractionQuery(interactionId));
         deleteByQueryRequest.setRefresh(true);
 
-        innerDeleteInteractionAndTrace(deleteByQueryRequest, interactionId, listener);
+        // invalidate again after the delete in case a concurrent read cached the interaction
+        ActionListener<Boolean> cacheListener = ActionListener
+            .runBefore(listener, () -> interactionCache.invalidateInteraction(interactionId));
+        innerDeleteInteractionAndTrace(deleteByQueryRequest, interactionId, cacheListener);
     }
 
     @VisibleForTesting
@@ -5,20 +5,25 @@
 
 package org.opensearch.ml.engine.tools;
 
-import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
+import static org.opensearch.ml.common.CommonValue.MCP_ASYNC_CLIENT;
+import static org.opensearch.ml.common.CommonValue.MCP_CLIENT_SESSION;
 
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.action.support.ContextPreservingActionListener;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.spi.tools.Parser;
 import org.opensearch.ml.common.spi.tools.ToolAnnotation;
 import org.opensearch.ml.common.spi.tools.WithModelTool;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.common.utils.ToolUtils;
+import org.opensearch.ml.engine.algorithms.remote.McpClientSessionPool;
 import org.opensearch.ml.repackage.com.google.common.annotations.VisibleForTesting;
+import org.opensearch.transport.client.Client;
 
-import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.McpAsyncClient;
 import io.modelcontextprotocol.spec.McpSchema;
 import lombok.Getter;
 import lombok.Setter;
@@ -44,7 +49,9 @@ public class McpSseTool implements WithModelTool {
     @Setter
     private String description = DEFAULT_DESCRIPTION;
     @Getter
-    private McpSyncClient mcpSyncClient;
+    private McpAsyncClient mcpAsyncClient;
+    private McpClientSessionPool.Session session;
+    private Client client;
     @Setter
     private Parser inputParser;
     @Setter
@@ -52,8 +59,14 @@ public class McpSseTool implements WithModelTool {
     @VisibleForTesting
     private Parser outputParser;
 
-    public McpSseTool(McpSyncClient mcpSyncClient) {
-        this.mcpSyncClient = mcpSyncClient;
+    public McpSseTool(McpAsyncClient mcpAsyncClient) {
+        this(mcpAsyncClient, null, null);
+    }
+
+    public McpSseTool(McpAsyncClient mcpAsyncClient, McpClientSessionPool.Session session, Client client) {
+        this.mcpAsyncClient = mcpAsyncClient;
+        this.session = session;
+        this.client = client;
     }
 
     @Override
@@ -62,9 +75,21 @@ public class McpSseTool implements WithModelTool {
             Map<String, String> parameters = ToolUtils.extractInputParameters(originalParameters, attributes);
             String input = parameters.get("input");
             Map<String, Object> inputArgs = StringUtils.fromJson(input, "input");
-            McpSchema.CallToolResult result = mcpSyncClient.callTool(new McpSchema.CallToolRequest(this.name, inputArgs));
-            String resultJson = StringUtils.toJson(result.content());
-            listener.onResponse((T) resultJson);
+            // the response is delivered on a reactor thread, restore the thread context of the agent run there
+            ActionListener<T> contextPreservingListener = client == null
+                ? listener
+                : new ContextPreservingActionListener<>(client.threadPool().getThreadContext().newRestorableContext(false), listener);
+            mcpAsyncClient.callTool(new McpSchema.CallToolRequest(this.name, inputArgs)).subscribe(result -> {
+                String resultJson = StringUtils.toJson(result.content());
+                contextPreservingListener.onResponse((T) resultJson);
+            }, e -> {
+                log.error("Failed to call MCP tool: {}", this.getName(), e);
+                // close the session if it's broken so the next agent run reconnects, tool errors leave it usable
+                if (session != null) {
+                    session.onRequestFailure(mcpAsyncClient, e);
+                }
+                contextPreservingListener.onFailure(e instanceof Exception ? (Exception) e : new MLException(e));
+            });
         } catch (Exception e) {
             log.error("Failed to call MCP tool: {}", this.getName(), e);
             listener.onFailure(e);
@@ -115,11 +140,21 @@ public class McpSseTool implements WithModelTool {
             }
         }
 
+        private Client client;
+
         public void init() {}
 
+        public void init(Client client) {
+            this.client = client;
+        }
+
         @Override
         public McpSseTool create(Map<String, Object> map) {
-            return new McpSseTool((McpSyncClient) map.get(MCP_SYNC_CLIENT));
+            return new McpSseTool(
+                (McpAsyncClient) map.get(MCP_ASYNC_CLIENT),
+                (McpClientSessionPool.Session) map.get(MCP_CLIENT_SESSION),
+                client
+            );
         }
 
         @Override
@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.agent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ReActPromptBuilderTest {
+
+    @Test
+    public void testGetPrompt_EmptyScratchpad() {
+        ReActPromptBuilder builder = new ReActPromptBuilder("Tools: t1\nQuestion: q\n${parameters.scratchpad}\nAnswer:");
+
+        assertEquals("Tools: t1\nQuestion: q\n\nAnswer:", builder.getPrompt());
+    }
+
+    @Test
+    public void testGetPrompt_AppendToolResponses() {
+        ReActPromptBuilder builder = new ReActPromptBuilder("prefix ${parameters.scratchpad}suffix");
+
+        builder.appendToolResponse("response 1");
+        assertEquals("prefix response 1\n\nsuffix", builder.getPrompt());
+
+        builder.appendToolResponse("response 2");
+        assertEquals("prefix response 1\n\nresponse 2\n\nsuffix", builder.getPrompt());
+    }
+
+    @Test
+    public void testGetPrompt_MultiplePlaceholders() {
+        ReActPromptBuilder builder = new ReActPromptBuilder("${parameters.scratchpad}|${parameters.scratchpad}");
+        builder.appendToolResponse("r");
+
+        assertEquals("r\n\n|r\n\n", builder.getPrompt());
+    }
+
+    @Test
+    public void testGetPrompt_NoPlaceholder() {
+        ReActPromptBuilder builder = new ReActPromptBuilder("static prompt ${parameters.question}");
+        builder.appendToolResponse("r");
+
+        assertEquals("static prompt ${parameters.question}", builder.getPrompt());
+    }
+
+    @Test
+    public void testGetPrompt_ToolResponseWithPlaceholderNotSubstituted() {
+        ReActPromptBuilder builder = new ReActPromptBuilder("a ${parameters.scratchpad} b");
+        builder.appendToolResponse("output ${parameters.scratchpad}");
+
+        assertEquals("a output ${parameters.scratchpad}\n\n b", builder.getPrompt());
+    }
+
+    @Test
+    public void testGetInteractions_Empty() {
+        ReActPromptBuilder builder = new ReActPromptBuilder("prompt");
+
+        assertNull(builder.getInteractions(new ArrayList<>()));
+    }
+
+    @Test
+    public void testGetInteractions_Appended() {
+        ReActPromptBuilder builder = new ReActPromptBuilder("prompt");
+        List<String> interactions = new ArrayList<>();
+        interactions.add("{\"role\":\"assistant\"}");
+        interactions.add("{\"role\":\"tool\"}");
+
+        assertEquals(", {\"role\":\"assistant\"}, {\"role\":\"tool\"}", builder.getInteractions(interactions));
+
+        interactions.add("{\"role\":\"user\"}");
+        assertEquals(", " + String.join(", ", interactions), builder.getInteractions(interactions));
+    }
+
+    @Test
+    public void testGetInteractions_ReplacedByContextManager() {
+        ReActPromptBuilder builder = new ReActPromptBuilder("prompt");
+        List<String> interactions = new ArrayList<>(List.of("m1", "m2", "m3"));
+        assertEquals(", m1, m2, m3", builder.getInteractions(interactions));
+
+        interactions.clear();
+        interactions.add("summary");
+        assertEquals(", summary", builder.getInteractions(interactions));
+
+        interactions.set(0, new String("summary"));
+        interactions.add("m4");
+        assertEquals(", summary, m4", builder.getInteractions(interactions));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.contextmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.contextmanager.CachingTokenCounter;
+import org.opensearch.ml.common.contextmanager.CharacterBasedTokenCounter;
+import org.opensearch.ml.common.contextmanager.TokenCounter;
+import org.opensearch.ml.engine.analysis.DJLUtils;
+import org.opensearch.ml.engine.analysis.HFModelAnalyzerTestCase;
+
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+
+public class HuggingFaceTokenCounterTest extends HFModelAnalyzerTestCase {
+    private HuggingFaceTokenCounter tokenCounter;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        HuggingFaceTokenizer tokenizer = DJLUtils
+            .buildHuggingFaceTokenizer(mlEngine.getAnalysisRootPath().resolve("test").resolve("tokenizer.json"));
+        tokenCounter = new HuggingFaceTokenCounter(() -> tokenizer);
+    }
+
+    @Test
+    public void testCount() {
+        assertEquals(0, tokenCounter.count(null));
+        assertEquals(0, tokenCounter.count(""));
+        assertEquals(3, tokenCounter.count("hello world a"));
+        // word pieces are counted as separate tokens
+        assertTrue(tokenCounter.count("tokenization") > 1);
+    }
+
+    @Test
+    public void testTruncateFromEnd() {
+        assertEquals("hello world", tokenCounter.truncateFromEnd("hello world a", 2));
+        assertEquals("hello world a", tokenCounter.truncateFromEnd("hello world a", 3));
+        assertEquals("", tokenCounter.truncateFromEnd("hello world a", 0));
+        assertNull(tokenCounter.truncateFromEnd(null, 2));
+    }
+
+    @Test
+    public void testTruncateFromBeginning() {
+        assertEquals("world a", tokenCounter.truncateFromBeginning("hello world a", 2));
+        assertEquals("hello world a", tokenCounter.truncateFromBeginning("hello world a", 5));
+        assertEquals("", tokenCounter.truncateFromBeginning("hello world a", 0));
+    }
+
+    @Test
+    public void testTruncateMiddle() {
+        assertEquals("helloa", tokenCounter.truncateMiddle("hello world a", 2));
+        assertEquals("hello world a", tokenCounter.truncateMiddle("hello world a", 3));
+    }
+
+    @Test
+    public void testTruncatedTextFitsTokenLimit() {
+        String text = "OpenSearch is a community-driven, open source search and analytics suite.";
+        for (int maxTokens = 1; maxTokens < tokenCounter.count(text); maxTokens++) {
+            assertTrue(tokenCounter.count(tokenCounter.truncateFromEnd(text, maxTokens)) <= maxTokens);
+            assertTrue(tokenCounter.count(tokenCounter.truncateFromBeginning(text, maxTokens)) <= maxTokens);
+        }
+    }
+
+    @Test
+    public void testCreateTokenCounter() {
+        TokenCounter defaultCounter = ContextManagerUtils.createTokenCounter(Map.of());
+        assertTrue(defaultCounter instanceof CachingTokenCounter);
+        assertTrue(((CachingTokenCounter) defaultCounter).getDelegate() instanceof CharacterBasedTokenCounter);
+
+        TokenCounter bertCounter = ContextManagerUtils.createTokenCounter(Map.of(ContextManagerUtils.TOKENIZER_KEY, "bert-uncased"));
+        assertTrue(((CachingTokenCounter) bertCounter).getDelegate() instanceof HuggingFaceTokenCounter);
+        assertEquals(3, bertCounter.count("hello world a"));
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ContextManagerUtils.createTokenCounter(Map.of(ContextManagerUtils.TOKENIZER_KEY, "/etc/tokenizer.json"))
+        );
+    }
+
+    @Test
+    public void testCountUsesSuppliedTokenizerLazily() {
+        HuggingFaceTokenCounter lazyCounter = new HuggingFaceTokenCounter(() -> { throw new IllegalStateException("not loaded"); });
+        assertEquals(0, lazyCounter.count(""));
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> lazyCounter.count("hello"));
+        assertEquals("not loaded", exception.getMessage());
+    }
+}
@@ -7,6 +7,7 @@ package org.opensearch.ml.engine.algorithms.contextmanager;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Assert;
@@ -145,6 +146,22 @@ public class SlidingWindowManagerTest {
         Assert.assertEquals("Tool output 7", interactions[2]);
     }
 
+    @Test
+    public void testExecuteKeepsMostRecentInteractionsWithinTokenLimit() {
+        Map<String, Object> config = new HashMap<>();
+        config.put("max_messages", 20);
+        // each interaction is estimated as 4 tokens
+        config.put("max_tokens", 8);
+        manager.initialize(config);
+
+        addToolInteractionsToContext(7);
+
+        manager.execute(context);
+
+        Assert.assertEquals(List.of("Tool output 6", "Tool output 7"), context.getToolInteractions());
+        Assert.assertEquals(", Tool output 6, Tool output 7", context.getParameters().get("_interactions"));
+    }
+
     @Test
     public void testExecuteWithExactLimit() {
         Map<String, Object> config = new HashMap<>();
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.contextmanager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.contextmanager.ContextManagerContext;
+
+/**
+ * Unit tests for ToolsOutputTruncateManager.
+ */
+public class ToolsOutputTruncateManagerTest {
+
+    private ToolsOutputTruncateManager manager;
+    private ContextManagerContext context;
+
+    @Before
+    public void setUp() {
+        manager = new ToolsOutputTruncateManager();
+        context = ContextManagerContext.builder().parameters(new HashMap<>()).build();
+    }
+
+    @Test
+    public void testExecuteTruncatesByLength() {
+        manager.initialize(Map.of("max_output_length", 5));
+        context.getParameters().put("_current_tool_output", "0123456789");
+
+        manager.execute(context);
+
+        Assert
+            .assertEquals(
+                "01234... [Output truncated - original length: 10 characters]",
+                context.getParameters().get("_current_tool_output")
+            );
+    }
+
+    @Test
+    public void testExecuteTruncatesByTokens() {
+        // 4 characters are estimated as one token
+        manager.initialize(Map.of("max_output_tokens", 2));
+        context.getParameters().put("_current_tool_output", "0123456789");
+
+        manager.execute(context);
+
+        Assert
+            .assertEquals(
+                "01234567... [Output truncated - original length: 3 tokens]",
+                context.getParameters().get("_current_tool_output")
+            );
+    }
+
+    @Test
+    public void testExecuteWithinTokenLimit() {
+        manager.initialize(Map.of("max_output_tokens", 3));
+        context.getParameters().put("_current_tool_output", "0123456789");
+
+        manager.execute(context);
+
+        Assert.assertEquals("0123456789", context.getParameters().get("_current_tool_output"));
+    }
+
+    @Test
+    public void testInvalidMaxOutputTokensConfig() {
+        manager.initialize(Map.of("max_output_tokens", -1, "max_output_length", 5));
+        context.getParameters().put("_current_tool_output", "0123456789");
+
+        manager.execute(context);
+
+        Assert
+            .assertEquals(
+                "01234... [Output truncated - original length: 10 characters]",
+                context.getParameters().get("_current_tool_output")
+            );
+    }
+}
@@ -28,7 +28,9 @@ import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.LLM_INTERFACE
 import static org.opensearch.ml.engine.algorithms.agent.MLChatAgentRunner.LLM_INTERFACE;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -57,6 +59,7 @@ import org.opensearch.ml.common.connector.AwsConnector;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
 import org.opensearch.ml.common.connector.MLPreProcessFunction;
 import org.opensearch.ml.common.connector.RetryBackoffPolicy;
 import org.opensearch.ml.common.dataset.MLInputDataset;
@@ -340,6 +343,260 @@ public class AwsConnectorExecutorTest extends MLStaticMockBase {
         }
     }
 
+    @Test
+    public void executePredict_TextDocsInferenceInput_embeddingCache_onlyInvokesMissedDocs() {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(PREDICT)
+            .method("POST")
+            .url("http://openai.com/mock")
+            .requestBody("{\"input\": ${parameters.input}}")
+            .preProcessFunction(MLPreProcessFunction.TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT)
+            .postProcessFunction(MLPostProcessFunction.OPENAI_EMBEDDING)
+            .build();
+        Map<String, String> credential = ImmutableMap
+            .of(ACCESS_KEY_FIELD, encryptor.encrypt("test_key", null), SECRET_KEY_FIELD, encryptor.encrypt("test_secret_key", null));
+        Map<String, String> parameters = ImmutableMap
+            .of(REGION_FIELD, "us-west-2", SERVICE_NAME_FIELD, "sagemaker", "input_docs_processed_step_size", "1");
+        Connector connector = AwsConnector
+            .awsConnectorBuilder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .parameters(parameters)
+            .credential(credential)
+            .actions(Arrays.asList(predictAction))
+            .connectorClientConfig(new ConnectorClientConfig(10, 10, 10, 1, 1, 0, RetryBackoffPolicy.CONSTANT, null))
+            .build();
+        connector.decrypt(PREDICT.name(), (c, tenantId) -> encryptor.decrypt(c, null), null);
+        AwsConnectorExecutor executor = spy(new AwsConnectorExecutor(connector));
+        RemoteEmbeddingCache embeddingCache = new RemoteEmbeddingCache(true, 1024 * 1024, TimeValue.timeValueHours(1), () -> true);
+        executor.setEmbeddingCache(embeddingCache.forModel("model_id", 1));
+        threadContext = new ThreadContext(Settings.builder().build());
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        List<String> invokedDocs = new ArrayList<>();
+        doAnswer(invocation -> {
+            MLInput mlInput = invocation.getArgument(1);
+            ExecutionContext executionContext = invocation.getArgument(4);
+            ActionListener<Tuple<Integer, ModelTensors>> actionListener = invocation.getArgument(5);
+            String doc = ((TextDocsInputDataSet) mlInput.getInputDataset()).getDocs().get(0);
+            invokedDocs.add(doc);
+            float value = Float.parseFloat(doc.substring(doc.length() - 1));
+            ModelTensor embedding = ModelTensor
+                .builder()
+                .name("sentence_embedding")
+                .dataType(MLResultDataType.FLOAT32)
+                .shape(new long[] { 1 })
+                .data(new Number[] { value })
+                .build();
+            actionListener.onResponse(new Tuple<>(executionContext.getSequence(), new ModelTensors(List.of(embedding))));
+            return null;
+        }).when(executor).invokeRemoteService(any(), any(), any(), any(), any(), any());
+
+        executor
+            .executeAction(
+                PREDICT.name(),
+                MLInput
+                    .builder()
+                    .algorithm(FunctionName.TEXT_EMBEDDING)
+                    .inputDataset(TextDocsInputDataSet.builder().docs(List.of("input1", "input2")).build())
+                    .build(),
+                actionListener
+            );
+        executor
+            .executeAction(
+                PREDICT.name(),
+                MLInput
+                    .builder()
+                    .algorithm(FunctionName.TEXT_EMBEDDING)
+                    .inputDataset(TextDocsInputDataSet.builder().docs(List.of("input2", "input3", "input3")).build())
+                    .build(),
+                actionListener
+            );
+
+        assertEquals(List.of("input1", "input2", "input3"), invokedDocs);
+        assertEquals(1, embeddingCache.getHitCount());
+        ArgumentCaptor<MLTaskResponse> responseCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(actionListener, times(2)).onResponse(responseCaptor.capture());
+        ModelTensorOutput output = (ModelTensorOutput) responseCaptor.getValue().getOutput();
+        // one model tensors per doc as the step size is 1
+        assertEquals(3, output.getMlModelOutputs().size());
+        assertEquals(2f, output.getMlModelOutputs().get(0).getMlModelTensors().get(0).getData()[0]);
+        assertEquals(3f, output.getMlModelOutputs().get(1).getMlModelTensors().get(0).getData()[0]);
+        assertEquals(3f, output.getMlModelOutputs().get(2).getMlModelTensors().get(0).getData()[0]);
+    }
+
+    @Test
+    public void executePredict_TextDocsInferenceInput_embeddingCache_bedrockSameLayoutAsUncached() {
+        List<List<String>> invokedDocs = new ArrayList<>();
+        AwsConnectorExecutor uncachedExecutor = bedrockEmbeddingExecutor(Map.of(), invokedDocs);
+        AwsConnectorExecutor cachedExecutor = bedrockEmbeddingExecutor(Map.of(), invokedDocs);
+        RemoteEmbeddingCache embeddingCache = new RemoteEmbeddingCache(true, 1024 * 1024, TimeValue.timeValueHours(1), () -> true);
+        cachedExecutor.setEmbeddingCache(embeddingCache.forModel("model_id", 1));
+        List<String> docs = List.of("input1", "input2", "input3");
+
+        cachedExecutor.executeAction(PREDICT.name(), textEmbeddingInput(List.of("input2")), actionListener);
+        uncachedExecutor.executeAction(PREDICT.name(), textEmbeddingInput(docs), actionListener);
+        cachedExecutor.executeAction(PREDICT.name(), textEmbeddingInput(docs), actionListener);
+
+        assertEquals(1, embeddingCache.getHitCount());
+        ArgumentCaptor<MLTaskResponse> responseCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(actionListener, times(3)).onResponse(responseCaptor.capture());
+        List<ModelTensors> uncached = ((ModelTensorOutput) responseCaptor.getAllValues().get(1).getOutput()).getMlModelOutputs();
+        List<ModelTensors> cached = ((ModelTensorOutput) responseCaptor.getAllValues().get(2).getOutput()).getMlModelOutputs();
+        // bedrock embeds one doc per request
+        assertEquals(3, uncached.size());
+        assertEquals(uncached.size(), cached.size());
+        for (int i = 0; i < uncached.size(); i++) {
+            assertEquals(1, cached.get(i).getMlModelTensors().size());
+            assertEquals(uncached.get(i).getMlModelTensors().size(), cached.get(i).getMlModelTensors().size());
+            assertEquals(uncached.get(i).getStatusCode(), cached.get(i).getStatusCode());
+            assertEquals(uncached.get(i).getMlModelTensors().get(0).getData()[0], cached.get(i).getMlModelTensors().get(0).getData()[0]);
+        }
+    }
+
+    @Test
+    public void executePredict_TextDocsInferenceInput_maxTokensPerRequest_bedrockSendsOneDocPerRequest() {
+        List<List<String>> invokedDocs = new ArrayList<>();
+        AwsConnectorExecutor executor = bedrockEmbeddingExecutor(Map.of("input_docs_max_tokens_per_request", "100"), invokedDocs);
+
+        executor.executeAction(PREDICT.name(), textEmbeddingInput(List.of("input1", "input2", "input3")), actionListener);
+
+        // the bedrock pre process function only takes the first doc of a request
+        assertEquals(List.of(List.of("input1"), List.of("input2"), List.of("input3")), invokedDocs);
+        ArgumentCaptor<MLTaskResponse> responseCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(actionListener, times(1)).onResponse(responseCaptor.capture());
+        List<ModelTensors> output = ((ModelTensorOutput) responseCaptor.getValue().getOutput()).getMlModelOutputs();
+        assertEquals(3, output.size());
+        assertEquals(3f, output.get(2).getMlModelTensors().get(0).getData()[0]);
+    }
+
+    private AwsConnectorExecutor bedrockEmbeddingExecutor(Map<String, String> connectorParameters, List<List<String>> invokedDocs) {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(PREDICT)
+            .method("POST")
+            .url("http://bedrock.com/mock")
+            .requestBody("{\"inputText\": \"${parameters.inputText}\"}")
+            .preProcessFunction(MLPreProcessFunction.TEXT_DOCS_TO_BEDROCK_EMBEDDING_INPUT)
+            .postProcessFunction(MLPostProcessFunction.BEDROCK_EMBEDDING)
+            .build();
+        Map<String, String> credential = ImmutableMap
+            .of(ACCESS_KEY_FIELD, encryptor.encrypt("test_key", null), SECRET_KEY_FIELD, encryptor.encrypt("test_secret_key", null));
+        Map<String, String> parameters = new HashMap<>(connectorParameters);
+        parameters.put(REGION_FIELD, "us-west-2");
+        parameters.put(SERVICE_NAME_FIELD, "bedrock");
+        Connector connector = AwsConnector
+            .awsConnectorBuilder()
+            .name("test connector")
+            .version("1")
+            .protocol("aws_sigv4")
+            .parameters(parameters)
+            .credential(credential)
+            .actions(Arrays.asList(predictAction))
+            .build();
+        connector.decrypt(PREDICT.name(), (c, tenantId) -> encryptor.decrypt(c, null), null);
+        AwsConnectorExecutor executor = spy(new AwsConnectorExecutor(connector));
+        threadContext = new ThreadContext(Settings.builder().build());
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        doAnswer(invocation -> {
+            MLInput mlInput = invocation.getArgument(1);
+            ExecutionContext executionContext = invocation.getArgument(4);
+            ActionListener<Tuple<Integer, ModelTensors>> listener = invocation.getArgument(5);
+            List<String> docs = ((TextDocsInputDataSet) mlInput.getInputDataset()).getDocs();
+            invokedDocs.add(docs);
+            List<ModelTensor> embeddings = new ArrayList<>();
+            for (String doc : docs) {
+                float value = Float.parseFloat(doc.substring(doc.length() - 1));
+                embeddings
+                    .add(
+                        ModelTensor
+                            .builder()
+                            .name("sentence_embedding")
+                            .dataType(MLResultDataType.FLOAT32)
+                            .shape(new long[] { 1 })
+                            .data(new Number[] { value })
+                            .build()
+                    );
+            }
+            ModelTensors modelTensors = new ModelTensors(embeddings);
+            modelTensors.setStatusCode(RestStatus.OK.getStatus());
+            listener.onResponse(new Tuple<>(executionContext.getSequence(), modelTensors));
+            return null;
+        }).when(executor).invokeRemoteService(any(), any(), any(), any(), any(), any());
+        return executor;
+    }
+
+    private static MLInput textEmbeddingInput(List<String> docs) {
+        return MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(docs).build())
+            .build();
+    }
+
+    @Test
+    public void executePredict_TextDocsInferenceInput_embeddingCache_countMismatch_thenFailWithoutResending() {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(PREDICT)
+            .method("POST")
+            .url("http://openai.com/mock")
+            .requestBody("{\"input\": ${parameters.input}}")
+            .preProcessFunction(MLPreProcessFunction.TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT)
+            .postProcessFunction(MLPostProcessFunction.OPENAI_EMBEDDING)
+            .build();
+        Map<String, String> credential = ImmutableMap
+            .of(ACCESS_KEY_FIELD, encryptor.encrypt("test_key", null), SECRET_KEY_FIELD, encryptor.encrypt("test_secret_key", null));
+        Map<String, String> parameters = ImmutableMap.of(REGION_FIELD, "us-west-2", SERVICE_NAME_FIELD, "sagemaker");
+        Connector connector = AwsConnector
+            .awsConnectorBuilder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .parameters(parameters)
+            .credential(credential)
+            .actions(Arrays.asList(predictAction))
+            .connectorClientConfig(new ConnectorClientConfig(10, 10, 10, 1, 1, 0, RetryBackoffPolicy.CONSTANT, null))
+            .build();
+        connector.decrypt(PREDICT.name(), (c, tenantId) -> encryptor.decrypt(c, null), null);
+        AwsConnectorExecutor executor = spy(new AwsConnectorExecutor(connector));
+        RemoteEmbeddingCache embeddingCache = new RemoteEmbeddingCache(true, 1024 * 1024, TimeValue.timeValueHours(1), () -> true);
+        executor.setEmbeddingCache(embeddingCache.forModel("model_id", 1));
+        threadContext = new ThreadContext(Settings.builder().build());
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        doAnswer(invocation -> {
+            ExecutionContext executionContext = invocation.getArgument(4);
+            ActionListener<Tuple<Integer, ModelTensors>> actionListener = invocation.getArgument(5);
+            // two embeddings for the one distinct doc sent
+            actionListener.onResponse(new Tuple<>(executionContext.getSequence(), new ModelTensors(modelTensors.subList(0, 2))));
+            return null;
+        }).when(executor).invokeRemoteService(any(), any(), any(), any(), any(), any());
+
+        executor
+            .executeAction(
+                PREDICT.name(),
+                MLInput
+                    .builder()
+                    .algorithm(FunctionName.TEXT_EMBEDDING)
+                    .inputDataset(TextDocsInputDataSet.builder().docs(List.of("input1", "input1")).build())
+                    .build(),
+                actionListener
+            );
+
+        verify(executor, times(1)).invokeRemoteService(any(), any(), any(), any(), any(), any());
+        ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener, times(1)).onFailure(exceptionCaptor.capture());
+        assertEquals("Remote model returned 2 embeddings for 1 docs", exceptionCaptor.getValue().getMessage());
+        assertEquals(0, embeddingCache.getHitCount());
+    }
+
     @Test
     public void executePredict_TextDocsInferenceInput_withStepSize_partiallyFailed_thenFail() {
         ConnectorAction predictAction = ConnectorAction
@@ -452,9 +709,8 @@ public class AwsConnectorExecutorTest extends MLStaticMockBase {
         verify(actionListener, times(1)).onFailure(exceptionCaptor.capture());
         assert exceptionCaptor.getValue() instanceof OpenSearchStatusException;
         assertEquals("test failure", exceptionCaptor.getValue().getMessage());
-        assert exceptionCaptor.getValue().getSuppressed().length == 1;
-        assert exceptionCaptor.getValue().getSuppressed()[0] instanceof OpenSearchStatusException;
-        assertEquals("test failure", exceptionCaptor.getValue().getSuppressed()[0].getMessage());
+        // the request fails on the first failed chunk, later failures are not reported
+        assertEquals(0, exceptionCaptor.getValue().getSuppressed().length);
     }
 
     @Test
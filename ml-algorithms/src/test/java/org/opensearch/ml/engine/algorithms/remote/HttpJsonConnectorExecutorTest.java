@@ -11,6 +11,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -20,8 +21,10 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.PREDICT;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
@@ -35,19 +38,25 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.TokenBucket;
 import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.ConfigConstants;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.ConnectorClientConfig;
 import org.opensearch.ml.common.connector.HttpConnector;
+import org.opensearch.ml.common.connector.MLPreProcessFunction;
 import org.opensearch.ml.common.connector.RetryBackoffPolicy;
 import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.httpclient.MLHttpClientFactory;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.engine.MLStaticMockBase;
@@ -543,6 +552,99 @@ public class HttpJsonConnectorExecutorTest extends MLStaticMockBase {
         assertEquals("Fail to execute streaming", captor.getValue().getMessage());
     }
 
+    @Test
+    public void executeAction_packTextDocsWithBoundedConcurrency() {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(PREDICT)
+            .method("POST")
+            .url("http://openai.com/mock")
+            .requestBody("{\"input\": ${parameters.input}}")
+            .preProcessFunction(MLPreProcessFunction.TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT)
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .parameters(Map.of("input_docs_max_tokens_per_request", "3", "input_docs_max_concurrent_requests", "1"))
+            .actions(Arrays.asList(predictAction))
+            .build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+        List<List<String>> requestDocs = new ArrayList<>();
+        List<ActionListener<Tuple<Integer, ModelTensors>>> requestListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            MLInput input = invocation.getArgument(1);
+            requestDocs.add(((TextDocsInputDataSet) input.getInputDataset()).getDocs());
+            requestListeners.add(invocation.getArgument(3));
+            return null;
+        }).when(executor).preparePayloadAndInvoke(any(), any(), any(), any());
+
+        ActionListener<MLTaskResponse> taskListener = mock(ActionListener.class);
+        MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(List.of("aaaa", "aaaa", "aaaaaaaaaaaa", "aaaa")).build();
+        executor
+            .executeAction(
+                PREDICT.name(),
+                MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build(),
+                taskListener
+            );
+
+        // only one sub-request is in flight
+        assertEquals(1, requestDocs.size());
+        for (int i = 0; i < 3; i++) {
+            requestListeners.get(i).onResponse(Tuple.tuple(i, new ModelTensors(List.of())));
+        }
+
+        assertEquals(List.of(List.of("aaaa", "aaaa"), List.of("aaaaaaaaaaaa"), List.of("aaaa")), requestDocs);
+        ArgumentCaptor<MLTaskResponse> captor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(taskListener, times(1)).onResponse(captor.capture());
+        assertEquals(3, ((ModelTensorOutput) captor.getValue().getOutput()).getMlModelOutputs().size());
+    }
+
+    @Test
+    public void preparePayloadAndInvoke_throttledAtUserLevel_keepsModelToken() {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(PREDICT)
+            .method("POST")
+            .url("http://openai.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .actions(Arrays.asList(predictAction))
+            .build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+        executor.setClient(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, "alice||");
+        QueueingTokenBucket modelRateLimiter = new QueueingTokenBucket(
+            () -> 0L,
+            1e-9,
+            1,
+            TimeValue.timeValueSeconds(1),
+            2,
+            threadPool,
+            "executor",
+            null
+        );
+        executor.setRateLimiter(modelRateLimiter);
+        executor.setUserRateLimiterMap(Map.of("alice", new TokenBucket(() -> 0L, 1e-9, 1, 0)));
+
+        executor.preparePayloadAndInvoke(PREDICT.name(), createMLInput(), new ExecutionContext(0), actionListener);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener, times(1)).onFailure(captor.capture());
+        assertTrue(captor.getValue().getMessage().startsWith("Request is throttled at user level."));
+        verify(executor, never()).invokeRemoteService(any(), any(), any(), any(), any(), any());
+        // the token of the model is left to the requests of other users
+        assertTrue(modelRateLimiter.request());
+    }
+
     private MLInput createMLInput() {
         MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
         return MLInput.builder().inputDataset(inputDataSet).algorithm(FunctionName.REMOTE).build();
@@ -5,7 +5,9 @@
 
 package org.opensearch.ml.engine.algorithms.remote;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -15,6 +17,7 @@ import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.PRED
 import static org.opensearch.ml.engine.algorithms.remote.MLSdkAsyncHttpResponseHandler.AMZ_ERROR_HEADER;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -28,8 +31,10 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
 import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.connector.MLPostProcessFunction;
 import org.opensearch.ml.common.output.model.ModelTensors;
@@ -209,7 +214,70 @@ public class MLSdkAsyncHttpResponseHandlerTest {
     public void test_onNext() {
         test_onSubscribe();// set the subscription to non-null.
         responseSubscriber.onNext(ByteBuffer.wrap("hello world".getBytes()));
-        assertEquals("hello world", mlSdkAsyncHttpResponseHandler.getResponseBody().toString());
+        assertEquals("hello world", mlSdkAsyncHttpResponseHandler.getResponseBody());
+    }
+
+    @Test
+    public void test_onNext_multibyteCharacterSplitAcrossChunks() {
+        test_onSubscribe();
+        byte[] bytes = "héllo".getBytes(StandardCharsets.UTF_8);
+        responseSubscriber.onNext(ByteBuffer.wrap(bytes, 0, 2));
+        responseSubscriber.onNext(ByteBuffer.wrap(bytes, 2, bytes.length - 2));
+        assertEquals("héllo", mlSdkAsyncHttpResponseHandler.getResponseBody());
+    }
+
+    @Test
+    public void test_OnStream_embeddingReadWhileStreaming() {
+        byte[] response = "{\"embedding\": [0.5, -0.25, 0.125]}".getBytes(StandardCharsets.UTF_8);
+        Publisher<ByteBuffer> stream = s -> {
+            s.onSubscribe(mock(Subscription.class));
+            s.onNext(ByteBuffer.wrap(response, 0, 20));
+            s.onNext(ByteBuffer.wrap(response, 20, response.length - 20));
+            s.onComplete();
+        };
+        mlSdkAsyncHttpResponseHandler.onHeaders(sdkHttpResponse);
+        mlSdkAsyncHttpResponseHandler.onStream(stream);
+        ArgumentCaptor<Tuple<Integer, ModelTensors>> captor = ArgumentCaptor.forClass(Tuple.class);
+        verify(actionListener).onResponse(captor.capture());
+        assertArrayEquals(new Number[] { 0.5f, -0.25f, 0.125f }, captor.getValue().v2().getMlModelTensors().get(0).getData());
+        // the response is not buffered
+        assertEquals("", mlSdkAsyncHttpResponseHandler.getResponseBody());
+    }
+
+    @Test
+    public void test_OnStream_maxResponseSizeExceeded() {
+        Connector limitedConnector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .actions(connector.getActions())
+            .connectorClientConfig(ConnectorClientConfig.builder().maxResponseSizeBytes(16).build())
+            .build();
+        MLSdkAsyncHttpResponseHandler handler = new MLSdkAsyncHttpResponseHandler(
+            executionContext,
+            actionListener,
+            parameters,
+            limitedConnector,
+            scriptService,
+            null,
+            action
+        );
+        Subscription subscription = mock(Subscription.class);
+        Publisher<ByteBuffer> stream = s -> {
+            s.onSubscribe(subscription);
+            s.onNext(ByteBuffer.wrap("{\"embedding\": [0.5,".getBytes(StandardCharsets.UTF_8)));
+            s.onComplete();
+        };
+        handler.onHeaders(sdkHttpResponse);
+        handler.onStream(stream);
+        handler.onError(new RuntimeException("cancelled"));
+
+        verify(subscription).cancel();
+        ArgumentCaptor<OpenSearchStatusException> captor = ArgumentCaptor.forClass(OpenSearchStatusException.class);
+        verify(actionListener, times(1)).onFailure(captor.capture());
+        assertEquals(RestStatus.BAD_GATEWAY, captor.getValue().status());
+        assertTrue(captor.getValue().getMessage().contains("max_response_size_bytes"));
     }
 
     @Test
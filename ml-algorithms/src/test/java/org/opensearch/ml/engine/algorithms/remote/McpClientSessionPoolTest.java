@@ -0,0 +1,214 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.ml.engine.MLStaticMockBase;
+
+import io.modelcontextprotocol.client.McpAsyncClient;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.spec.McpClientTransport;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import reactor.core.publisher.Mono;
+
+public class McpClientSessionPoolTest extends MLStaticMockBase {
+    private static final String KEY = "key";
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+    @Mock
+    private McpAsyncClient mcpClient;
+    @Mock
+    private McpClient.AsyncSpec builder;
+
+    private MockedStatic<McpClient> mockedMcpClient;
+    private AtomicLong clock;
+    private McpClientSessionPool pool;
+    private McpSchema.ListToolsResult tools;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(builder.requestTimeout(any())).thenReturn(builder);
+        when(builder.capabilities(any())).thenReturn(builder);
+        when(builder.toolsChangeConsumer(any())).thenReturn(builder);
+        when(builder.build()).thenReturn(mcpClient);
+        when(mcpClient.initialize()).thenReturn(Mono.empty());
+        when(mcpClient.ping()).thenReturn(Mono.<Object>just(Map.of()));
+        when(mcpClient.closeGracefully()).thenReturn(Mono.empty());
+        tools = new McpSchema.ListToolsResult(List.of(new McpSchema.Tool("tool1", "desc1", "{\"type\":\"object\"}")), null);
+        when(mcpClient.listTools()).thenReturn(Mono.just(tools));
+        mockedMcpClient = mockStatic(McpClient.class);
+        mockedMcpClient.when(() -> McpClient.async(any(McpClientTransport.class))).thenReturn(builder);
+
+        clock = new AtomicLong();
+        pool = new McpClientSessionPool(clock::get, Duration.ofMinutes(5), Duration.ofMinutes(10), Duration.ofSeconds(30));
+    }
+
+    @After
+    public void tearDown() {
+        mockedMcpClient.close();
+    }
+
+    @Test
+    public void testGetSession_ReusesSession() {
+        McpClientSessionPool.Session session = pool.getSession(KEY, () -> mock(McpClientTransport.class), TIMEOUT);
+        assertSame(session, pool.getSession(KEY, () -> mock(McpClientTransport.class), TIMEOUT));
+        assertSame(mcpClient, session.getClient());
+        assertEquals(1, pool.size());
+        verify(mcpClient, times(1)).initialize();
+    }
+
+    @Test
+    public void testGetSession_HealthCheck() {
+        pool.getSession(KEY, () -> mock(McpClientTransport.class), TIMEOUT);
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        when(mcpClient.ping()).thenReturn(Mono.error(new RuntimeException("connection closed")));
+
+        McpClientSessionPool.Session session = pool.getSession(KEY, () -> mock(McpClientTransport.class), TIMEOUT);
+
+        // the failed session is closed and a new one is initialized
+        assertSame(mcpClient, session.getClient());
+        verify(mcpClient, times(1)).ping();
+        verify(mcpClient, times(1)).closeGracefully();
+        verify(mcpClient, times(2)).initialize();
+    }
+
+    @Test
+    public void testGetSession_EvictsIdleSessions() {
+        pool.getSession(KEY, () -> mock(McpClientTransport.class), TIMEOUT);
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+
+        pool.getSession("other_key", () -> mock(McpClientTransport.class), TIMEOUT);
+
+        assertEquals(1, pool.size());
+        verify(mcpClient, times(1)).closeGracefully();
+    }
+
+    @Test
+    public void testListTools_Cached() {
+        McpClientSessionPool.Session session = pool.getSession(KEY, () -> mock(McpClientTransport.class), TIMEOUT);
+        assertSame(tools, session.listTools());
+        assertSame(tools, session.listTools());
+        verify(mcpClient, times(1)).listTools();
+
+        // expired
+        clock.addAndGet(Duration.ofMinutes(6).toNanos());
+        session.listTools();
+        verify(mcpClient, times(2)).listTools();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testListTools_InvalidatedOnToolsChanged() {
+        ArgumentCaptor<Function<List<McpSchema.Tool>, Mono<Void>>> captor = ArgumentCaptor.forClass(Function.class);
+        McpClientSessionPool.Session session = pool.getSession(KEY, () -> mock(McpClientTransport.class), TIMEOUT);
+        verify(builder).toolsChangeConsumer(captor.capture());
+        session.listTools();
+
+        captor.getValue().apply(List.of()).block();
+
+        session.listTools();
+        verify(mcpClient, times(2)).listTools();
+    }
+
+    @Test
+    public void testEvict() {
+        McpClientSessionPool.Session session = pool.getSession(KEY, () -> mock(McpClientTransport.class), TIMEOUT);
+        pool.evict(mcpClient);
+        verify(mcpClient, times(1)).closeGracefully();
+        assertEquals(0, pool.size());
+
+        // reconnects on the next use
+        session.listTools();
+        assertSame(mcpClient, session.getClient());
+        verify(mcpClient, times(2)).initialize();
+    }
+
+    @Test
+    public void testOnRequestFailure_ToolErrorKeepsSession() {
+        McpClientSessionPool.Session session = pool.getSession(KEY, () -> mock(McpClientTransport.class), TIMEOUT);
+        McpSchema.JSONRPCResponse.JSONRPCError error = new McpSchema.JSONRPCResponse.JSONRPCError(
+            McpSchema.ErrorCodes.INVALID_PARAMS,
+            "bad arguments",
+            null
+        );
+
+        session.onRequestFailure(mcpClient, new McpError(error));
+
+        assertEquals(1, pool.size());
+        assertSame(mcpClient, session.getClient());
+        verify(mcpClient, never()).closeGracefully();
+    }
+
+    @Test
+    public void testOnRequestFailure_TransportErrorEvictsSession() {
+        McpClientSessionPool.Session session = pool.getSession(KEY, () -> mock(McpClientTransport.class), TIMEOUT);
+
+        session.onRequestFailure(mcpClient, new RuntimeException("connection reset"));
+
+        assertEquals(0, pool.size());
+        assertNull(session.getClient());
+        verify(mcpClient, times(1)).closeGracefully();
+    }
+
+    @Test
+    public void testGetSession_EvictsLeastRecentlyUsedSessionWhenFull() {
+        pool = new McpClientSessionPool(clock::get, Duration.ofMinutes(5), Duration.ofMinutes(10), Duration.ofSeconds(30), 2);
+        McpClientSessionPool.Session session1 = pool.getSession("key1", () -> mock(McpClientTransport.class), TIMEOUT);
+        clock.addAndGet(1);
+        pool.getSession("key2", () -> mock(McpClientTransport.class), TIMEOUT);
+        clock.addAndGet(1);
+
+        pool.getSession("key3", () -> mock(McpClientTransport.class), TIMEOUT);
+
+        assertEquals(2, pool.size());
+        assertNull(session1.getClient());
+        verify(mcpClient, times(1)).closeGracefully();
+    }
+
+    @Test
+    public void testSessionKey() {
+        Duration connectionTimeout = Duration.ofSeconds(10);
+        String key = McpClientSessionPool
+            .sessionKey("mcp_sse", "http://localhost", "/sse", Map.of("Authorization", "token1"), connectionTimeout, TIMEOUT);
+        assertEquals(
+            key,
+            McpClientSessionPool
+                .sessionKey("mcp_sse", "http://localhost", "/sse", Map.of("Authorization", "token1"), connectionTimeout, TIMEOUT)
+        );
+        assertNotEquals(
+            key,
+            McpClientSessionPool
+                .sessionKey("mcp_sse", "http://localhost", "/sse", Map.of("Authorization", "token2"), connectionTimeout, TIMEOUT)
+        );
+        assertFalse(key.contains("token1"));
+    }
+}
@@ -24,19 +24,20 @@ import org.opensearch.ml.common.agent.MLToolSpec;
 import org.opensearch.ml.common.connector.McpStreamableHttpConnector;
 import org.opensearch.ml.engine.MLStaticMockBase;
 
+import io.modelcontextprotocol.client.McpAsyncClient;
 import io.modelcontextprotocol.client.McpClient;
-import io.modelcontextprotocol.client.McpSyncClient;
 import io.modelcontextprotocol.spec.McpClientTransport;
 import io.modelcontextprotocol.spec.McpSchema;
+import reactor.core.publisher.Mono;
 
 public class McpStreamableHttpConnectorExecutorTest extends MLStaticMockBase {
 
     @Mock
     private McpStreamableHttpConnector mockConnector;
     @Mock
-    private McpSyncClient mcpClient;
+    private McpAsyncClient mcpClient;
     @Mock
-    private McpClient.SyncSpec builder;
+    private McpClient.AsyncSpec builder;
 
     @Before
     public void setUp() {
@@ -49,7 +50,9 @@ public class McpStreamableHttpConnectorExecutorTest extends MLStaticMockBase {
         /* ---------- stub the fluent builder chain ------------------------ */
         when(builder.requestTimeout(any())).thenReturn(builder);
         when(builder.capabilities(any())).thenReturn(builder);
+        when(builder.toolsChangeConsumer(any())).thenReturn(builder);
         when(builder.build()).thenReturn(mcpClient);
+        when(mcpClient.closeGracefully()).thenReturn(Mono.empty());
     }
 
     @Test
@@ -61,12 +64,13 @@ public class McpStreamableHttpConnectorExecutorTest extends MLStaticMockBase {
         McpSchema.Tool tool = new McpSchema.Tool("tool1", "desc1", inputSchemaJSON);
         McpSchema.ListToolsResult mockTools = new McpSchema.ListToolsResult(List.of(tool), null);
 
-        when(mcpClient.listTools()).thenReturn(mockTools);
-        when(mcpClient.initialize()).thenReturn(null);
+        when(mcpClient.listTools()).thenReturn(Mono.just(mockTools));
+        when(mcpClient.initialize()).thenReturn(Mono.empty());
 
         try (MockedStatic<McpClient> mocked = mockStatic(McpClient.class)) {
-            mocked.when(() -> McpClient.sync(any(McpClientTransport.class))).thenReturn(builder);
+            mocked.when(() -> McpClient.async(any(McpClientTransport.class))).thenReturn(builder);
             McpStreamableHttpConnectorExecutor exec = new McpStreamableHttpConnectorExecutor(mockConnector);
+            exec.setSessionPool(new McpClientSessionPool());
             List<MLToolSpec> specs = exec.getMcpToolSpecs();
 
             Assert.assertEquals(1, specs.size());
@@ -74,8 +78,8 @@ public class McpStreamableHttpConnectorExecutorTest extends MLStaticMockBase {
             Assert.assertEquals("tool1", spec.getName());
             Assert.assertEquals("desc1", spec.getDescription());
             Assert.assertEquals(inputSchemaJSON, spec.getAttributes().get("input_schema"));
-            Assert.assertSame(mcpClient, spec.getRuntimeResources().get("mcp_sync_client"));
-            mocked.verify(() -> McpClient.sync(any(McpClientTransport.class)));
+            Assert.assertSame(mcpClient, spec.getRuntimeResources().get("mcp_async_client"));
+            mocked.verify(() -> McpClient.async(any(McpClientTransport.class)));
             verify(builder, times(1)).build();
             verify(mcpClient, times(1)).initialize();
             verify(mcpClient, times(1)).listTools();
@@ -85,10 +89,11 @@ public class McpStreamableHttpConnectorExecutorTest extends MLStaticMockBase {
     @Test
     public void getMcpToolSpecs_throwsOnInitError() {
 
-        when(mcpClient.initialize()).thenThrow(new RuntimeException("Error initializing"));
+        when(mcpClient.initialize()).thenReturn(Mono.error(new RuntimeException("Error initializing")));
         try (MockedStatic<McpClient> mocked = mockStatic(McpClient.class)) {
-            mocked.when(() -> McpClient.sync(any(McpClientTransport.class))).thenReturn(builder);
+            mocked.when(() -> McpClient.async(any(McpClientTransport.class))).thenReturn(builder);
             McpStreamableHttpConnectorExecutor exec = new McpStreamableHttpConnectorExecutor(mockConnector);
+            exec.setSessionPool(new McpClientSessionPool());
 
             assertThrows(RuntimeException.class, () -> exec.getMcpToolSpecs());
         }
@@ -97,19 +102,45 @@ public class McpStreamableHttpConnectorExecutorTest extends MLStaticMockBase {
     @Test
     public void getMcpToolSpecs_throwsOnListToolsError() {
 
-        when(mcpClient.initialize()).thenReturn(null);
-        when(mcpClient.listTools()).thenThrow(new RuntimeException("Error listing tools"));
+        when(mcpClient.initialize()).thenReturn(Mono.empty());
+        when(mcpClient.listTools()).thenReturn(Mono.error(new RuntimeException("Error listing tools")));
         try (MockedStatic<McpClient> mocked = mockStatic(McpClient.class)) {
-            mocked.when(() -> McpClient.sync(any(McpClientTransport.class))).thenReturn(builder);
+            mocked.when(() -> McpClient.async(any(McpClientTransport.class))).thenReturn(builder);
             McpStreamableHttpConnectorExecutor exec = new McpStreamableHttpConnectorExecutor(mockConnector);
+            exec.setSessionPool(new McpClientSessionPool());
 
             assertThrows(RuntimeException.class, () -> exec.getMcpToolSpecs());
         }
     }
 
+    @Test
+    public void getMcpToolSpecs_reusesPooledSession() {
+        McpSchema.Tool tool = new McpSchema.Tool("tool1", "desc1", "{\"type\":\"object\"}");
+        when(mcpClient.initialize()).thenReturn(Mono.empty());
+        when(mcpClient.listTools()).thenReturn(Mono.just(new McpSchema.ListToolsResult(List.of(tool), null)));
+
+        try (MockedStatic<McpClient> mocked = mockStatic(McpClient.class)) {
+            mocked.when(() -> McpClient.async(any(McpClientTransport.class))).thenReturn(builder);
+            McpClientSessionPool sessionPool = new McpClientSessionPool();
+            for (int i = 0; i < 3; i++) {
+                McpStreamableHttpConnectorExecutor exec = new McpStreamableHttpConnectorExecutor(mockConnector);
+                exec.setSessionPool(sessionPool);
+                List<MLToolSpec> specs = exec.getMcpToolSpecs();
+                Assert.assertEquals(1, specs.size());
+                Assert.assertSame(mcpClient, specs.get(0).getRuntimeResources().get("mcp_async_client"));
+            }
+
+            Assert.assertEquals(1, sessionPool.size());
+            verify(builder, times(1)).build();
+            verify(mcpClient, times(1)).initialize();
+            verify(mcpClient, times(1)).listTools();
+        }
+    }
+
     @Test
     public void testUnimplementedMethods_ThrowUnsupportedOperationException() {
         McpStreamableHttpConnectorExecutor exec = new McpStreamableHttpConnectorExecutor(mockConnector);
+        exec.setSessionPool(new McpClientSessionPool());
 
         assertThrows(UnsupportedOperationException.class, () -> exec.invokeRemoteService(null, null, null, null, null, null));
         assertThrows(UnsupportedOperationException.class, () -> exec.getScriptService());
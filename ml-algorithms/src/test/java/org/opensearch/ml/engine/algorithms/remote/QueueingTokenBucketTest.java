@@ -0,0 +1,160 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.TokenBucket;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.threadpool.ThreadPool;
+
+public class QueueingTokenBucketTest {
+    private static final long REFILL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicLong clock = new AtomicLong();
+    private ThreadPool threadPool;
+    private ThreadContext threadContext;
+    private List<Long> waits;
+    private QueueingTokenBucket bucket;
+
+    @Before
+    public void setUp() {
+        threadPool = mock(ThreadPool.class);
+        threadContext = new ThreadContext(Settings.EMPTY);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        waits = new ArrayList<>();
+        QueueingTokenBucket.WaitRecorder recorder = new QueueingTokenBucket.WaitRecorder() {
+            @Override
+            public void waited(long waitNanos, boolean acquired) {
+                waits.add(acquired ? waitNanos : -waitNanos);
+            }
+        };
+        bucket = newBucket(TimeValue.timeValueSeconds(1), recorder);
+    }
+
+    @Test
+    public void acquire_queuedUntilRefill() {
+        List<Boolean> results = new ArrayList<>();
+        bucket.acquire(ActionListener.wrap(results::add, e -> {}));
+        bucket.acquire(ActionListener.wrap(results::add, e -> {}));
+
+        assertEquals(List.of(true), results);
+        assertEquals(1, bucket.getQueueDepth());
+
+        // no token refilled yet, the release is rescheduled
+        release(1).run();
+        assertEquals(List.of(true), results);
+
+        clock.addAndGet(2 * REFILL_NANOS);
+        release(2).run();
+        assertEquals(List.of(true, true), results);
+        assertEquals(0, bucket.getQueueDepth());
+        assertEquals(List.of(2 * REFILL_NANOS), waits);
+        verify(threadPool, times(2)).schedule(any(), any(), eq("executor"));
+    }
+
+    @Test
+    public void acquire_newRequestsQueuedBehindWaiting() {
+        List<String> results = new ArrayList<>();
+        bucket.acquire(ActionListener.wrap(r -> results.add("a"), e -> {}));
+        bucket.acquire(ActionListener.wrap(r -> results.add("b"), e -> {}));
+        clock.addAndGet(2 * REFILL_NANOS);
+        // a token is available, but b waits for it
+        bucket.acquire(ActionListener.wrap(r -> results.add("c"), e -> {}));
+
+        assertEquals(List.of("a"), results);
+        assertEquals(2, bucket.getQueueDepth());
+        release(1).run();
+        assertEquals(List.of("a", "b"), results);
+    }
+
+    @Test
+    public void acquire_rejectedWhenQueueFull() {
+        List<Boolean> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            bucket.acquire(ActionListener.wrap(results::add, e -> {}));
+        }
+
+        assertEquals(List.of(true, false), results);
+        assertEquals(2, bucket.getQueueDepth());
+        assertEquals(1, bucket.getRejectedCount());
+    }
+
+    @Test
+    public void acquire_timesOut() {
+        List<Boolean> results = new ArrayList<>();
+        bucket = newBucket(TimeValue.timeValueMillis(50), null);
+        bucket.acquire(ActionListener.wrap(results::add, e -> {}));
+        bucket.acquire(ActionListener.wrap(results::add, e -> {}));
+
+        ArgumentCaptor<TimeValue> delay = ArgumentCaptor.forClass(TimeValue.class);
+        verify(threadPool).schedule(any(), delay.capture(), eq("executor"));
+        assertEquals(50, delay.getValue().millis());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(60));
+        release(1).run();
+        assertEquals(List.of(true, false), results);
+        assertEquals(1, bucket.getTimedOutCount());
+        assertEquals(0, bucket.getQueueDepth());
+    }
+
+    @Test
+    public void acquire_releasedInThreadContextOfRequest() {
+        List<String> users = new ArrayList<>();
+        bucket.acquire(ActionListener.wrap(r -> {}, e -> {}));
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putTransient("user", "alice");
+            bucket.acquire(ActionListener.wrap(r -> users.add(threadContext.getTransient("user")), e -> {}));
+        }
+
+        clock.addAndGet(2 * REFILL_NANOS);
+        release(1).run();
+        assertEquals(List.of("alice"), users);
+        assertNull(threadContext.getTransient("user"));
+    }
+
+    @Test
+    public void acquire_plainTokenBucket() {
+        TokenBucket tokenBucket = mock(TokenBucket.class);
+        when(tokenBucket.request()).thenReturn(false);
+        List<Boolean> results = new ArrayList<>();
+
+        QueueingTokenBucket.acquire(tokenBucket, ActionListener.wrap(results::add, e -> {}));
+        QueueingTokenBucket.acquire(null, ActionListener.wrap(results::add, e -> {}));
+
+        assertEquals(List.of(false, true), results);
+        verify(threadPool, never()).schedule(any(), any(), any());
+    }
+
+    private QueueingTokenBucket newBucket(TimeValue maxWait, QueueingTokenBucket.WaitRecorder recorder) {
+        return new QueueingTokenBucket(clock::get, 1.0 / REFILL_NANOS, 1, maxWait, 2, threadPool, "executor", recorder);
+    }
+
+    private Runnable release(int scheduled) {
+        ArgumentCaptor<Runnable> release = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool, times(scheduled)).schedule(release.capture(), any(), eq("executor"));
+        return release.getValue();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.net.ConnectException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.engine.algorithms.remote.RemoteConnectorCircuitBreakers.ConnectorCircuitBreaker;
+import org.opensearch.ml.engine.algorithms.remote.RemoteConnectorCircuitBreakers.Permit;
+import org.opensearch.ml.engine.algorithms.remote.RemoteConnectorCircuitBreakers.State;
+
+public class RemoteConnectorCircuitBreakersTest {
+    private final AtomicLong nanos = new AtomicLong();
+    private final RemoteConnectorCircuitBreakers breakers = new RemoteConnectorCircuitBreakers(
+        true,
+        50,
+        10,
+        4,
+        TimeValue.timeValueSeconds(30),
+        2,
+        nanos::get
+    );
+
+    @Test
+    public void opensWhenFailureRateReached() {
+        ConnectorCircuitBreaker breaker = breakers.forConnector("connector");
+        breaker.onSuccess(breaker.tryAcquirePermit());
+        breaker.onFailure(breaker.tryAcquirePermit());
+        breaker.onFailure(breaker.tryAcquirePermit());
+        assertEquals(State.CLOSED, breaker.getState());
+
+        breaker.onSuccess(breaker.tryAcquirePermit());
+        assertEquals(State.CLOSED, breaker.getState());
+        breaker.onFailure(breaker.tryAcquirePermit());
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(State.OPEN, breakers.getState("connector"));
+        assertEquals(1, breakers.getOpenCount());
+        assertEquals(1, breakers.getOpenedCount());
+    }
+
+    @Test
+    public void rejectsWhileOpen() {
+        ConnectorCircuitBreaker breaker = open("connector");
+        assertNull(breaker.tryAcquirePermit());
+        assertEquals(1, breakers.getRejectedCount());
+        assertEquals(RestStatus.SERVICE_UNAVAILABLE, breaker.rejection().status());
+
+        // other connectors are not affected
+        assertNotNull(breakers.forConnector("other_connector").tryAcquirePermit());
+    }
+
+    @Test
+    public void closesWhenProbesSucceed() {
+        ConnectorCircuitBreaker breaker = open("connector");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        Permit probe1 = breaker.tryAcquirePermit();
+        Permit probe2 = breaker.tryAcquirePermit();
+        assertNotNull(probe1);
+        assertNotNull(probe2);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertNull(breaker.tryAcquirePermit());
+
+        breaker.onSuccess(probe1);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        breaker.onSuccess(probe2);
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(0, breakers.getOpenCount());
+    }
+
+    @Test
+    public void opensAgainWhenProbeFails() {
+        ConnectorCircuitBreaker breaker = open("connector");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        breaker.onFailure(breaker.tryAcquirePermit());
+        assertEquals(State.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquirePermit());
+        assertEquals(2, breakers.getOpenedCount());
+    }
+
+    @Test
+    public void ignoredProbeReleasesPermit() {
+        ConnectorCircuitBreaker breaker = open("connector");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        Permit probe = breaker.tryAcquirePermit();
+        breaker.tryAcquirePermit();
+        assertNull(breaker.tryAcquirePermit());
+
+        breaker.onIgnored(probe);
+        assertNotNull(breaker.tryAcquirePermit());
+    }
+
+    @Test
+    public void staleOutcomesIgnored() {
+        ConnectorCircuitBreaker breaker = breakers.forConnector("connector");
+        Permit stale = breaker.tryAcquirePermit();
+        open("connector");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        breaker.tryAcquirePermit();
+
+        breaker.onFailure(stale);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    public void slidingWindowDropsOldCalls() {
+        ConnectorCircuitBreaker breaker = breakers.forConnector("connector");
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(breaker.tryAcquirePermit());
+            if (i == 0) {
+                for (int j = 0; j < 9; j++) {
+                    breaker.onSuccess(breaker.tryAcquirePermit());
+                }
+            }
+        }
+        // the first failure dropped out of the window of 10 calls, 3 failures of 10 calls
+        assertEquals(State.CLOSED, breaker.getState());
+        breaker.onFailure(breaker.tryAcquirePermit());
+        breaker.onFailure(breaker.tryAcquirePermit());
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void disabledBreakersDontTrackCalls() {
+        ConnectorCircuitBreaker breaker = open("connector");
+        breakers.setEnabled(false);
+
+        assertNull(breakers.getState("connector"));
+        assertEquals(0, breakers.getOpenCount());
+        for (int i = 0; i < 10; i++) {
+            breaker.onFailure(breaker.tryAcquirePermit());
+        }
+        breakers.setEnabled(true);
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void forConnector_sharedBreaker() {
+        assertSame(breakers.forConnector("connector"), breakers.forConnector("connector"));
+    }
+
+    @Test
+    public void isConnectorFailure() {
+        assertTrue(RemoteConnectorCircuitBreakers.isConnectorFailure(new OpenSearchStatusException("error", RestStatus.BAD_GATEWAY)));
+        assertTrue(RemoteConnectorCircuitBreakers.isConnectorFailure(new MLException(new ConnectException("refused"))));
+        assertFalse(RemoteConnectorCircuitBreakers.isConnectorFailure(new OpenSearchStatusException("error", RestStatus.BAD_REQUEST)));
+        assertFalse(
+            RemoteConnectorCircuitBreakers
+                .isConnectorFailure(new RemoteConnectorThrottlingException("throttled", RestStatus.SERVICE_UNAVAILABLE))
+        );
+        assertFalse(RemoteConnectorCircuitBreakers.isConnectorFailure(new IllegalArgumentException("invalid")));
+    }
+
+    private ConnectorCircuitBreaker open(String key) {
+        ConnectorCircuitBreaker breaker = breakers.forConnector(key);
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(breaker.tryAcquirePermit());
+        }
+        assertEquals(State.OPEN, breaker.getState());
+        return breaker;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+public class RemoteEmbeddingCacheTest {
+    private final AtomicBoolean admission = new AtomicBoolean(true);
+    private RemoteEmbeddingCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new RemoteEmbeddingCache(true, 1024 * 1024, TimeValue.timeValueHours(1), admission::get);
+    }
+
+    @Test
+    public void get_returnsCopyOfCachedEmbedding() {
+        RemoteEmbeddingCache.ModelEmbeddingCache modelCache = cache.forModel("model", 1);
+        ModelTensor embedding = embedding(0.5, -1.25);
+        modelCache.put(0, "hello", embedding);
+        embedding.getData()[0] = 100;
+
+        ModelTensor cached = modelCache.get(0, "hello");
+        assertArrayEquals(new Number[] { 0.5f, -1.25f }, cached.getData());
+        assertArrayEquals(new long[] { 2 }, cached.getShape());
+        assertEquals(MLResultDataType.FLOAT32, cached.getDataType());
+        assertEquals("sentence_embedding", cached.getName());
+        assertNotSame(cached.getData(), modelCache.get(0, "hello").getData());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    public void get_keyedByModelVersionParametersAndText() {
+        cache.forModel("model", 1).put(0, "hello", embedding(1));
+
+        assertNull(cache.forModel("model", 2).get(0, "hello"));
+        assertNull(cache.forModel("other_model", 1).get(0, "hello"));
+        assertNull(cache.forModel("model", 1).get(1, "hello"));
+        assertNull(cache.forModel("model", 1).get(0, "hello!"));
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void invalidate_removesEmbeddingsOfModel() {
+        cache.forModel("model", 1).put(0, "hello", embedding(1));
+        cache.forModel("other_model", 1).put(0, "hello", embedding(1));
+
+        cache.invalidate("model");
+        assertNull(cache.forModel("model", 1).get(0, "hello"));
+        assertEquals(1, cache.count());
+    }
+
+    @Test
+    public void put_skippedWhenNotAdmittedOrDisabled() {
+        RemoteEmbeddingCache.ModelEmbeddingCache modelCache = cache.forModel("model", 1);
+        admission.set(false);
+        modelCache.put(0, "hello", embedding(1));
+        assertEquals(0, cache.count());
+
+        admission.set(true);
+        modelCache.put(0, "hello", embedding(1));
+        cache.setEnabled(false);
+        assertEquals(0, cache.count());
+        modelCache.put(0, "hello", embedding(1));
+        assertEquals(0, cache.count());
+    }
+
+    @Test
+    public void put_skipsTensorsWhichAreNotEmbeddings() {
+        RemoteEmbeddingCache.ModelEmbeddingCache modelCache = cache.forModel("model", 1);
+        modelCache.put(0, "hello", new ModelTensor("response", "hello world"));
+        modelCache.put(0, "world", ModelTensor.builder().name("response").dataAsMap(Map.of("a", 1)).build());
+
+        assertEquals(0, cache.count());
+    }
+
+    @Test
+    public void put_evictsLeastRecentlyUsedWhenFull() {
+        cache = new RemoteEmbeddingCache(true, 1024, TimeValue.timeValueHours(1), admission::get);
+        RemoteEmbeddingCache.ModelEmbeddingCache modelCache = cache.forModel("model", 1);
+        for (int i = 0; i < 10; i++) {
+            modelCache.put(0, "text" + i, embedding(new double[64]));
+        }
+
+        assertEquals(1024 / (160 + 64 * 4 + 8), cache.count());
+        assertNull(modelCache.get(0, "text0"));
+    }
+
+    private static ModelTensor embedding(double... values) {
+        Number[] data = new Number[values.length];
+        for (int i = 0; i < values.length; i++) {
+            data[i] = values[i];
+        }
+        return ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .dataType(MLResultDataType.FLOAT32)
+            .shape(new long[] { values.length })
+            .data(data)
+            .build();
+    }
+}
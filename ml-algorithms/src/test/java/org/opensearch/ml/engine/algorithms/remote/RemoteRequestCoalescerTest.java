@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+public class RemoteRequestCoalescerTest {
+    private final RemoteRequestCoalescer coalescer = new RemoteRequestCoalescer();
+    private final List<ActionListener<ModelTensors>> invocations = new ArrayList<>();
+
+    @Test
+    public void execute_identicalRequestsShareResult() {
+        RemoteRequestCoalescer.ModelRequestCoalescer modelCoalescer = coalescer.forModel("model");
+        List<ModelTensors> results = new ArrayList<>();
+        modelCoalescer.execute("predict", "{\"input\":\"a\"}", Map.of("input", "a"), listener(results), invocations::add);
+        modelCoalescer.execute("predict", "{\"input\":\"a\"}", Map.of("input", "a"), listener(results), invocations::add);
+
+        assertEquals(1, invocations.size());
+        assertEquals(1, coalescer.getInFlightCount());
+        ModelTensors result = result(1.5);
+        invocations.get(0).onResponse(result);
+
+        assertEquals(2, results.size());
+        assertSame(result, results.get(1));
+        assertNotSame(result, results.get(0));
+        assertArrayEquals(new Number[] { 1.5f }, results.get(0).getMlModelTensors().get(0).getData());
+        assertEquals(1, coalescer.getCoalescedCount());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    public void execute_differentRequestsNotCoalesced() {
+        ActionListener<ModelTensors> listener = listener(new ArrayList<>());
+        coalescer.forModel("model").execute("predict", "{\"input\":\"a\"}", Map.of("input", "a"), listener, invocations::add);
+        coalescer.forModel("model").execute("predict", "{\"input\":\"b\"}", Map.of("input", "b"), listener, invocations::add);
+        coalescer.forModel("other_model").execute("predict", "{\"input\":\"a\"}", Map.of("input", "a"), listener, invocations::add);
+        coalescer.forModel("model").execute("predict", "{\"input\":\"a\"}", Map.of("input", "b"), listener, invocations::add);
+
+        assertEquals(4, invocations.size());
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    public void execute_failureSharedWithWaiters() {
+        RemoteRequestCoalescer.ModelRequestCoalescer modelCoalescer = coalescer.forModel("model");
+        List<Exception> failures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            modelCoalescer.execute("predict", "{}", Map.of(), ActionListener.wrap(r -> {}, failures::add), invocations::add);
+        }
+        RuntimeException failure = new RuntimeException("remote model failed");
+        invocations.get(0).onFailure(failure);
+
+        assertEquals(List.of(failure, failure, failure), failures);
+        assertEquals(2, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    public void execute_newRequestSentAfterCompletion() {
+        RemoteRequestCoalescer.ModelRequestCoalescer modelCoalescer = coalescer.forModel("model");
+        List<ModelTensors> results = new ArrayList<>();
+        modelCoalescer.execute("predict", "{}", Map.of(), listener(results), invocations::add);
+        invocations.get(0).onResponse(result(1));
+        modelCoalescer.execute("predict", "{}", Map.of(), listener(results), invocations::add);
+
+        assertEquals(2, invocations.size());
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    public void execute_invokerThrows() {
+        List<Exception> failures = new ArrayList<>();
+        coalescer.forModel("model").execute("predict", "{}", Map.of(), ActionListener.wrap(r -> {}, failures::add), listener -> {
+            throw new IllegalArgumentException("invalid request");
+        });
+
+        assertEquals(1, failures.size());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    private static ActionListener<ModelTensors> listener(List<ModelTensors> results) {
+        return ActionListener.wrap(results::add, e -> { throw new AssertionError(e); });
+    }
+
+    private static ModelTensors result(double value) {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .dataType(MLResultDataType.FLOAT32)
+            .shape(new long[] { 1 })
+            .data(new Number[] { (float) value })
+            .build();
+        ModelTensors modelTensors = new ModelTensors(new ArrayList<>(List.of(tensor)));
+        modelTensors.setStatusCode(200);
+        return modelTensors;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RemoteRequestHedgerTest {
+    private ThreadPool threadPool;
+    private Scheduler.ScheduledCancellable timer;
+    private Double delayInMs;
+    private final AtomicBoolean admission = new AtomicBoolean(true);
+    private final List<ExecutionContext> contexts = new ArrayList<>();
+    private final List<ActionListener<String>> invocations = new ArrayList<>();
+    private final List<String> responses = new ArrayList<>();
+    private final List<Exception> failures = new ArrayList<>();
+    private RemoteRequestHedger hedger;
+
+    @Before
+    public void setUp() {
+        threadPool = mock(ThreadPool.class);
+        timer = mock(Scheduler.ScheduledCancellable.class);
+        when(threadPool.schedule(any(), any(), eq("executor"))).thenReturn(timer);
+        delayInMs = 50.0;
+        hedger = new RemoteRequestHedger(threadPool, "executor", 1, (modelId, percentile) -> delayInMs, System::nanoTime);
+    }
+
+    @Test
+    public void execute_notHedgedWithoutLatencies() {
+        delayInMs = null;
+        execute();
+
+        assertEquals(1, invocations.size());
+        verify(threadPool, never()).schedule(any(), any(), any());
+    }
+
+    @Test
+    public void execute_answeredBeforeHedgeDelay() {
+        execute();
+        ArgumentCaptor<TimeValue> delay = ArgumentCaptor.forClass(TimeValue.class);
+        verify(threadPool).schedule(any(), delay.capture(), eq("executor"));
+        assertEquals(50, delay.getValue().millis());
+
+        invocations.get(0).onResponse("primary");
+        assertEquals(List.of("primary"), responses);
+        verify(timer).cancel();
+        assertEquals(0, hedger.getHedgedCount());
+    }
+
+    @Test
+    public void execute_hedgeWins() {
+        execute();
+        hedge(1).run();
+
+        assertEquals(2, invocations.size());
+        assertEquals(1, hedger.getInFlightHedges());
+        invocations.get(1).onResponse("hedge");
+        invocations.get(0).onResponse("primary");
+
+        assertEquals(List.of("hedge"), responses);
+        assertTrue(contexts.get(0).isCancelled());
+        assertFalse(contexts.get(1).isCancelled());
+        assertEquals(3, contexts.get(1).getSequence());
+        assertEquals(1, hedger.getHedgedCount());
+        assertEquals(1, hedger.getHedgeWonCount());
+        assertEquals(0, hedger.getInFlightHedges());
+    }
+
+    @Test
+    public void execute_hedgesCappedInFlight() {
+        execute();
+        execute();
+        ArgumentCaptor<Runnable> hedges = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool, times(2)).schedule(hedges.capture(), any(), eq("executor"));
+        hedges.getAllValues().forEach(Runnable::run);
+
+        assertEquals(3, invocations.size());
+        assertEquals(1, hedger.getHedgedCount());
+    }
+
+    @Test
+    public void execute_notHedgedWhenNotAdmitted() {
+        admission.set(false);
+        execute();
+        hedge(1).run();
+
+        assertEquals(1, invocations.size());
+        assertEquals(0, hedger.getInFlightHedges());
+    }
+
+    @Test
+    public void execute_waitsForHedgeWhenPrimaryFails() {
+        execute();
+        hedge(1).run();
+        invocations.get(0).onFailure(new RuntimeException("primary failed"));
+        assertTrue(failures.isEmpty());
+
+        invocations.get(1).onResponse("hedge");
+        assertEquals(List.of("hedge"), responses);
+        assertEquals(0, hedger.getInFlightHedges());
+    }
+
+    @Test
+    public void execute_failsWhenBothFail() {
+        execute();
+        hedge(1).run();
+        RuntimeException primaryFailure = new RuntimeException("primary failed");
+        invocations.get(1).onFailure(new RuntimeException("hedge failed"));
+        invocations.get(0).onFailure(primaryFailure);
+
+        assertEquals(1, failures.size());
+        assertSame(primaryFailure, failures.get(0));
+        assertEquals(0, hedger.getInFlightHedges());
+    }
+
+    @Test
+    public void execute_primaryFailsBeforeHedgeDelay() {
+        execute();
+        invocations.get(0).onFailure(new RuntimeException("primary failed"));
+        hedge(1).run();
+
+        assertEquals(1, failures.size());
+        assertEquals(1, invocations.size());
+        verify(timer).cancel();
+    }
+
+    private void execute() {
+        hedger.forModel("model").execute(95, 3, admission::get, ActionListener.wrap(responses::add, failures::add), (context, listener) -> {
+            contexts.add(context);
+            invocations.add(listener);
+        });
+    }
+
+    private Runnable hedge(int scheduled) {
+        ArgumentCaptor<Runnable> hedge = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool, times(scheduled)).schedule(hedge.capture(), any(), eq("executor"));
+        return hedge.getValue();
+    }
+}
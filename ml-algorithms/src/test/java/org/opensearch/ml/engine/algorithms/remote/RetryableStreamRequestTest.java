@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamPredictActionListener;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RetryableStreamRequestTest {
+    private RemoteConnectorExecutor executor;
+    private ThreadPool threadPool;
+    private StreamPredictActionListener<MLTaskResponse, ?> listener;
+    private final List<StreamPredictActionListener<MLTaskResponse, ?>> attempts = new ArrayList<>();
+    private final List<ExecutionContext> contexts = new ArrayList<>();
+    private long nanos;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        executor = mock(RemoteConnectorExecutor.class);
+        threadPool = mock(ThreadPool.class);
+        listener = mock(StreamPredictActionListener.class);
+        when(threadPool.schedule(any(), any(), eq(RemoteConnectorExecutor.RETRY_EXECUTOR)))
+            .thenReturn(mock(Scheduler.ScheduledCancellable.class));
+        when(executor.getRetryBackoffPolicy(any()))
+            .thenReturn(BackoffPolicy.constantBackoff(TimeValue.timeValueMillis(100), Integer.MAX_VALUE));
+        doAnswer(invocation -> {
+            contexts.add(invocation.getArgument(4));
+            attempts.add(invocation.getArgument(5));
+            return null;
+        }).when(executor).invokeRemoteServiceStream(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void retriedWhenFailingBeforeFirstChunk() {
+        start(2, null);
+        attempts.get(0).onFailure(new OpenSearchStatusException("unavailable", RestStatus.BAD_GATEWAY));
+        scheduled(1).run();
+
+        assertEquals(2, attempts.size());
+        MLTaskResponse response = mock(MLTaskResponse.class);
+        attempts.get(1).onStreamResponse(response, true);
+        verify(listener).onStreamResponse(response, true);
+        verify(listener, never()).onFailure(any());
+    }
+
+    @Test
+    public void notRetriedAfterFirstChunk() {
+        start(2, null);
+        attempts.get(0).onStreamResponse(mock(MLTaskResponse.class), false);
+        Exception failure = new MLException("network error", new IOException("reset"));
+        attempts.get(0).onFailure(failure);
+
+        verify(listener).onFailure(failure);
+        verify(threadPool, never()).schedule(any(), any(), any());
+    }
+
+    @Test
+    public void notRetriedWhenFailureNotTransient() {
+        start(2, null);
+        Exception failure = new OpenSearchStatusException("bad request", RestStatus.BAD_REQUEST);
+        attempts.get(0).onFailure(failure);
+
+        verify(listener).onFailure(failure);
+        assertEquals(1, attempts.size());
+    }
+
+    @Test
+    public void failsWhenRetriesExhausted() {
+        start(1, null);
+        attempts.get(0).onFailure(new MLException("network error", new IOException("reset")));
+        scheduled(1).run();
+        Exception failure = new RemoteConnectorThrottlingException("throttled", RestStatus.TOO_MANY_REQUESTS);
+        attempts.get(1).onFailure(failure);
+
+        verify(listener).onFailure(failure);
+        assertEquals(2, attempts.size());
+    }
+
+    @Test
+    public void notRetriedAfterRetryTimeout() {
+        start(-1, null);
+        nanos += TimeValue.timeValueSeconds(30).nanos();
+        Exception failure = new OpenSearchStatusException("unavailable", RestStatus.SERVICE_UNAVAILABLE);
+        attempts.get(0).onFailure(failure);
+
+        verify(listener).onFailure(failure);
+    }
+
+    @Test
+    public void firstByteTimeoutCancelsAttempt() {
+        start(1, 500);
+        ArgumentCaptor<TimeValue> delay = ArgumentCaptor.forClass(TimeValue.class);
+        verify(threadPool).schedule(any(), delay.capture(), eq(RemoteConnectorExecutor.RETRY_EXECUTOR));
+        assertEquals(500, delay.getValue().millis());
+
+        scheduled(1).run();
+        assertTrue(contexts.get(0).isCancelled());
+        // chunks and failures of the cancelled attempt are dropped
+        attempts.get(0).onStreamResponse(mock(MLTaskResponse.class), false);
+        attempts.get(0).onFailure(new IOException("canceled"));
+        verify(listener, never()).onStreamResponse(any(), eq(false));
+
+        // the retry is scheduled after the timer of the first attempt
+        scheduled(2).run();
+        assertEquals(2, attempts.size());
+        scheduled(3).run();
+
+        ArgumentCaptor<Exception> failure = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(failure.capture());
+        assertEquals(RestStatus.GATEWAY_TIMEOUT, ((OpenSearchStatusException) failure.getValue()).status());
+    }
+
+    @Test
+    public void firstByteTimeoutIgnoredAfterFirstChunk() {
+        start(0, 500);
+        attempts.get(0).onResponse(mock(MLTaskResponse.class));
+        scheduled(1).run();
+
+        assertFalse(contexts.get(0).isCancelled());
+        verify(listener).onResponse(any());
+        verify(listener, never()).onFailure(any());
+    }
+
+    @Test
+    public void isRetryable() {
+        assertTrue(RetryableStreamRequest.isRetryable(new RemoteConnectorThrottlingException("throttled", RestStatus.TOO_MANY_REQUESTS)));
+        assertTrue(RetryableStreamRequest.isRetryable(new OpenSearchStatusException("error", RestStatus.INTERNAL_SERVER_ERROR)));
+        assertFalse(RetryableStreamRequest.isRetryable(new IllegalArgumentException("Unsupported llm interface")));
+    }
+
+    private void start(int maxRetryTimes, Integer firstByteTimeoutMillis) {
+        ConnectorClientConfig config = ConnectorClientConfig
+            .builder()
+            .maxRetryTimes(maxRetryTimes)
+            .retryTimeoutSeconds(30)
+            .firstByteTimeoutMillis(firstByteTimeoutMillis)
+            .build();
+        when(executor.getConnectorClientConfig()).thenReturn(config);
+        new RetryableStreamRequest(executor, "predict", null, Map.of(), "{}", new ExecutionContext(0), listener, threadPool, () -> nanos)
+            .start();
+    }
+
+    private Runnable scheduled(int count) {
+        ArgumentCaptor<Runnable> runnable = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool, times(count)).schedule(runnable.capture(), any(), eq(RemoteConnectorExecutor.RETRY_EXECUTOR));
+        return runnable.getValue();
+    }
+}
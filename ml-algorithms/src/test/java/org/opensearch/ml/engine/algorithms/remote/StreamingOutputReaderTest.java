@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import com.jayway.jsonpath.PathNotFoundException;
+
+public class StreamingOutputReaderTest {
+    private static final String OPENAI_RESPONSE = "{\"object\":\"list\",\"data\":["
+        + "{\"object\":\"embedding\",\"index\":0,\"embedding\":[0.5,-1.25,3]},"
+        + "{\"object\":\"embedding\",\"index\":1,\"embedding\":[1e-2,2.0,-0.75]}],"
+        + "\"model\":\"text-embedding-ada-002\",\"usage\":{\"prompt_tokens\":4,\"total_tokens\":4}}";
+
+    @Test
+    public void parsePath() {
+        assertEquals(3, StreamingOutputReader.parsePath("$.data[*].embedding").size());
+        assertEquals(0, StreamingOutputReader.parsePath("$").size());
+        assertEquals(2, StreamingOutputReader.parsePath("$.embeddings[0]").size());
+        assertNull(StreamingOutputReader.parsePath("$..embedding"));
+        assertNull(StreamingOutputReader.parsePath("$.data[?(@.index == 0)].embedding"));
+        assertNull(StreamingOutputReader.parsePath("$['data']"));
+        assertNull(StreamingOutputReader.parsePath("data"));
+        assertNull(StreamingOutputReader.parsePath(null));
+    }
+
+    @Test
+    public void finish_textEmbedding_chunkedByByte() throws IOException {
+        StreamingOutputReader reader = StreamingOutputReader
+            .create("$.data[*].embedding", MLPostProcessFunction.get(MLPostProcessFunction.OPENAI_EMBEDDING), null);
+        byte[] bytes = OPENAI_RESPONSE.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            reader.feed(ByteBuffer.wrap(new byte[] { b }));
+        }
+        List<ModelTensor> tensors = reader.finish().getMlModelTensors();
+
+        assertEquals(2, tensors.size());
+        assertArrayEquals(new Number[] { 0.5f, -1.25f, 3f }, tensors.get(0).getData());
+        assertArrayEquals(new Number[] { 0.01f, 2f, -0.75f }, tensors.get(1).getData());
+        assertEquals(MLResultDataType.FLOAT32, tensors.get(0).getDataType());
+        assertArrayEquals(new long[] { 3 }, tensors.get(0).getShape());
+    }
+
+    @Test
+    public void finish_definitePath() throws IOException {
+        StreamingOutputReader reader = StreamingOutputReader
+            .create("$.embedding", MLPostProcessFunction.get(MLPostProcessFunction.BEDROCK_EMBEDDING), null);
+        reader.feed(ByteBuffer.wrap("{\"inputTextTokenCount\":2,\"embed".getBytes(StandardCharsets.UTF_8)));
+        reader.feed(ByteBuffer.wrap("ding\":[0.25,0.1".getBytes(StandardCharsets.UTF_8)));
+        reader.feed(ByteBuffer.wrap("25]}".getBytes(StandardCharsets.UTF_8)));
+        ModelTensors tensors = reader.finish();
+
+        assertArrayEquals(new Number[] { 0.25f, 0.125f }, tensors.getMlModelTensors().get(0).getData());
+    }
+
+    @Test
+    public void finish_capturesNestedValues() throws IOException {
+        List<Object> outputs = new ArrayList<>();
+        StreamingOutputReader reader = StreamingOutputReader.create("$.results[*]", (output, dataType) -> {
+            outputs.add(output);
+            return List.of();
+        }, null);
+        reader.feed(ByteBuffer.wrap("{\"results\":[{\"a\":[1,\"x\"],\"b\":{\"c\":true,\"d\":null}},2]}".getBytes(StandardCharsets.UTF_8)));
+        reader.finish();
+
+        List<?> results = (List<?>) outputs.get(0);
+        Map<?, ?> first = (Map<?, ?>) results.get(0);
+        assertEquals(List.of(1.0f, "x"), first.get("a"));
+        assertEquals(true, ((Map<?, ?>) first.get("b")).get("c"));
+        assertTrue(((Map<?, ?>) first.get("b")).containsKey("d"));
+        assertEquals(2, results.get(1));
+    }
+
+    @Test
+    public void finish_pathNotFound() throws IOException {
+        StreamingOutputReader reader = StreamingOutputReader
+            .create("$.embedding", MLPostProcessFunction.get(MLPostProcessFunction.BEDROCK_EMBEDDING), null);
+        reader.feed(ByteBuffer.wrap("{\"message\":\"error\"}".getBytes(StandardCharsets.UTF_8)));
+
+        assertFalse(reader.isEmpty());
+        assertThrows(PathNotFoundException.class, reader::finish);
+    }
+
+    @Test
+    public void finish_incompleteResponse() throws IOException {
+        StreamingOutputReader reader = StreamingOutputReader
+            .create("$.embedding", MLPostProcessFunction.get(MLPostProcessFunction.BEDROCK_EMBEDDING), null);
+        reader.feed(ByteBuffer.wrap("{\"embedding\":[0.1,".getBytes(StandardCharsets.UTF_8)));
+
+        assertThrows(IOException.class, reader::finish);
+    }
+
+    @Test
+    public void isEmpty_blankResponse() throws IOException {
+        StreamingOutputReader reader = StreamingOutputReader
+            .create("$.embedding", MLPostProcessFunction.get(MLPostProcessFunction.BEDROCK_EMBEDDING), null);
+        reader.feed(ByteBuffer.wrap("  \n".getBytes(StandardCharsets.UTF_8)));
+        reader.endOfInput();
+
+        assertTrue(reader.isEmpty());
+    }
+}
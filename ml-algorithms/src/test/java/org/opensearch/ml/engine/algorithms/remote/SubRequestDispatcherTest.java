@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class SubRequestDispatcherTest {
+
+    @Test
+    public void dispatch_limitsInFlightAcrossRequests() {
+        SubRequestDispatcher dispatcher = new SubRequestDispatcher(2);
+        List<Runnable> pending = new ArrayList<>();
+        List<String> invoked = new ArrayList<>();
+
+        dispatcher.dispatch(3, Integer.MAX_VALUE, (sequence, onDone, cancelRequest) -> {
+            invoked.add("a" + sequence);
+            pending.add(onDone);
+        });
+        dispatcher.dispatch(2, Integer.MAX_VALUE, (sequence, onDone, cancelRequest) -> {
+            invoked.add("b" + sequence);
+            pending.add(onDone);
+        });
+
+        assertEquals(List.of("a0", "a1"), invoked);
+        assertEquals(2, dispatcher.getInFlight());
+        assertEquals(2, dispatcher.getQueuedRequests());
+
+        pending.get(0).run();
+        pending.get(1).run();
+        assertEquals(List.of("a0", "a1", "a2", "b0"), invoked);
+
+        pending.get(2).run();
+        pending.get(3).run();
+        assertEquals(List.of("a0", "a1", "a2", "b0", "b1"), invoked);
+
+        pending.get(4).run();
+        assertEquals(0, dispatcher.getInFlight());
+        assertEquals(0, dispatcher.getQueuedRequests());
+    }
+
+    @Test
+    public void dispatch_roundRobinAcrossRequests() {
+        SubRequestDispatcher dispatcher = new SubRequestDispatcher(1);
+        List<Runnable> pending = new ArrayList<>();
+        List<String> invoked = new ArrayList<>();
+
+        dispatcher.dispatch(5, Integer.MAX_VALUE, (sequence, onDone, cancelRequest) -> {
+            invoked.add("a" + sequence);
+            pending.add(onDone);
+        });
+        dispatcher.dispatch(2, Integer.MAX_VALUE, (sequence, onDone, cancelRequest) -> {
+            invoked.add("b" + sequence);
+            pending.add(onDone);
+        });
+        for (int i = 0; i < 7; i++) {
+            pending.get(i).run();
+        }
+
+        assertEquals(List.of("a0", "a1", "b0", "a2", "b1", "a3", "a4"), invoked);
+        assertEquals(0, dispatcher.getInFlight());
+    }
+
+    @Test
+    public void dispatch_limitsInFlightPerRequest() {
+        SubRequestDispatcher dispatcher = new SubRequestDispatcher(10);
+        List<Runnable> pending = new ArrayList<>();
+        List<Integer> invoked = new ArrayList<>();
+
+        dispatcher.dispatch(3, 1, (sequence, onDone, cancelRequest) -> {
+            invoked.add(sequence);
+            pending.add(onDone);
+        });
+
+        assertEquals(List.of(0), invoked);
+        pending.get(0).run();
+        assertEquals(List.of(0, 1), invoked);
+        // completing a sub-request twice doesn't release two permits
+        pending.get(0).run();
+        assertEquals(List.of(0, 1), invoked);
+        pending.get(1).run();
+        assertEquals(List.of(0, 1, 2), invoked);
+    }
+
+    @Test
+    public void dispatch_synchronousCompletion() {
+        SubRequestDispatcher dispatcher = new SubRequestDispatcher(1);
+        AtomicInteger invoked = new AtomicInteger();
+
+        dispatcher.dispatch(100_000, 1, (sequence, onDone, cancelRequest) -> {
+            invoked.incrementAndGet();
+            onDone.run();
+        });
+
+        assertEquals(100_000, invoked.get());
+        assertEquals(0, dispatcher.getInFlight());
+    }
+
+    @Test
+    public void dispatch_invokerFailureReleasesPermit() {
+        SubRequestDispatcher dispatcher = new SubRequestDispatcher(1);
+        List<Integer> invoked = new ArrayList<>();
+
+        dispatcher.dispatch(2, 1, (sequence, onDone, cancelRequest) -> {
+            invoked.add(sequence);
+            throw new IllegalStateException("failed");
+        });
+
+        assertEquals(List.of(0, 1), invoked);
+        assertEquals(0, dispatcher.getInFlight());
+    }
+
+    @Test
+    public void dispatch_cancelledRequestDropsQueuedSubRequests() {
+        SubRequestDispatcher dispatcher = new SubRequestDispatcher(1);
+        List<Runnable> pending = new ArrayList<>();
+        List<String> invoked = new ArrayList<>();
+
+        dispatcher.dispatch(3, Integer.MAX_VALUE, (sequence, onDone, cancelRequest) -> {
+            invoked.add("a" + sequence);
+            cancelRequest.run();
+            pending.add(onDone);
+        });
+        dispatcher.dispatch(2, Integer.MAX_VALUE, (sequence, onDone, cancelRequest) -> {
+            invoked.add("b" + sequence);
+            pending.add(onDone);
+        });
+        for (int i = 0; i < 3; i++) {
+            pending.get(i).run();
+        }
+
+        assertEquals(List.of("a0", "b0", "b1"), invoked);
+        assertEquals(0, dispatcher.getInFlight());
+        assertEquals(0, dispatcher.getQueuedRequests());
+    }
+
+    @Test
+    public void invalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new SubRequestDispatcher(0));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new SubRequestDispatcher(1).dispatch(1, 0, (sequence, onDone, cancelRequest) -> {})
+        );
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class TextDocsPackerTest {
+
+    @Test
+    public void pack_byTokenBudget() {
+        TextDocsPacker packer = new TextDocsPacker(4, Integer.MAX_VALUE);
+
+        List<List<String>> chunks = packer.pack(List.of("aaaa", "aaaaaaaa", "aaaa", "aaaaaaaaaaaa", "aaaa"));
+
+        assertEquals(List.of(List.of("aaaa", "aaaaaaaa", "aaaa"), List.of("aaaaaaaaaaaa", "aaaa")), chunks);
+    }
+
+    @Test
+    public void pack_byMaxDocs() {
+        TextDocsPacker packer = new TextDocsPacker(100, 2);
+
+        List<List<String>> chunks = packer.pack(List.of("a", "b", "c", "d", "e"));
+
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), chunks);
+    }
+
+    @Test
+    public void pack_docExceedingBudgetSentAlone() {
+        TextDocsPacker packer = new TextDocsPacker(2, 10);
+
+        List<List<String>> chunks = packer.pack(List.of("a", "aaaaaaaaaaaaaaaaaaaa", "a"));
+
+        assertEquals(List.of(List.of("a"), List.of("aaaaaaaaaaaaaaaaaaaa"), List.of("a")), chunks);
+    }
+
+    @Test
+    public void pack_emptyDocsCountAsOneToken() {
+        TextDocsPacker packer = new TextDocsPacker(2, 10);
+
+        List<List<String>> chunks = packer.pack(List.of("", "", ""));
+
+        assertEquals(List.of(List.of("", ""), List.of("")), chunks);
+    }
+
+    @Test
+    public void pack_noDocs() {
+        assertEquals(List.of(), new TextDocsPacker(2, 10).pack(List.of()));
+    }
+
+    @Test
+    public void invalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new TextDocsPacker(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new TextDocsPacker(10, -1));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.sparse_encoding;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Test;
+import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters;
+import org.opensearch.ml.common.input.parameter.textembedding.SparsePruneType;
+import org.opensearch.ml.common.model.BaseModelConfig;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+
+import ai.djl.modality.Input;
+
+public class SparseEmbeddingPrunerTest {
+    private final long[] ids = { 10, 11, 12, 13, 14 };
+    private final float[] weights = { 0.5f, 2.0f, 0.1f, 1.0f, 0.4f };
+
+    @Test
+    public void prune_TopK() {
+        assertKept(SparseEmbeddingPruner.of(SparsePruneType.TOP_K, 2f), new long[] { 11, 13 }, new float[] { 2.0f, 1.0f });
+    }
+
+    @Test
+    public void prune_TopK_Ties() {
+        long[] tiedIds = { 1, 2, 3, 4 };
+        float[] tiedWeights = { 1.0f, 2.0f, 1.0f, 1.0f };
+        int kept = SparseEmbeddingPruner.of(SparsePruneType.TOP_K, 3f).prune(tiedIds, tiedWeights);
+        assertEquals(3, kept);
+        assertArrayEquals(new long[] { 1, 2, 3 }, Arrays.copyOf(tiedIds, kept));
+    }
+
+    @Test
+    public void prune_TopK_MoreThanTokens() {
+        assertKept(SparseEmbeddingPruner.of(SparsePruneType.TOP_K, 10f), ids.clone(), weights.clone());
+    }
+
+    @Test
+    public void prune_AlphaMass() {
+        // 2.0 + 1.0 = 3.0 reaches 0.7 of the total 4.0
+        assertKept(SparseEmbeddingPruner.of(SparsePruneType.ALPHA_MASS, 0.7f), new long[] { 11, 13 }, new float[] { 2.0f, 1.0f });
+    }
+
+    @Test
+    public void prune_MaxRatio() {
+        assertKept(
+            SparseEmbeddingPruner.of(SparsePruneType.MAX_RATIO, 0.2f),
+            new long[] { 10, 11, 13, 14 },
+            new float[] { 0.5f, 2.0f, 1.0f, 0.4f }
+        );
+    }
+
+    @Test
+    public void prune_AbsValue() {
+        assertKept(SparseEmbeddingPruner.of(SparsePruneType.ABS_VALUE, 0.5f), new long[] { 10, 11, 13 }, new float[] { 0.5f, 2.0f, 1.0f });
+    }
+
+    @Test
+    public void prune_None() {
+        assertFalse(SparseEmbeddingPruner.NONE.isEnabled());
+        assertKept(SparseEmbeddingPruner.NONE, ids.clone(), weights.clone());
+        assertEquals(0, SparseEmbeddingPruner.of(SparsePruneType.TOP_K, 1f).prune(new long[0], new float[0]));
+    }
+
+    @Test
+    public void of_InvalidRatio() {
+        assertThrows(IllegalArgumentException.class, () -> SparseEmbeddingPruner.of(SparsePruneType.TOP_K, 1.5f));
+        assertThrows(IllegalArgumentException.class, () -> SparseEmbeddingPruner.of(SparsePruneType.MAX_RATIO, 1f));
+        assertThrows(IllegalArgumentException.class, () -> SparseEmbeddingPruner.of(SparsePruneType.ABS_VALUE, -1f));
+        assertThrows(IllegalArgumentException.class, () -> SparseEmbeddingPruner.of(SparsePruneType.ABS_VALUE, null));
+        assertSame(SparseEmbeddingPruner.NONE, SparseEmbeddingPruner.of(SparsePruneType.NONE, null));
+    }
+
+    @Test
+    public void fromModelConfig() {
+        assertSame(SparseEmbeddingPruner.NONE, SparseEmbeddingPruner.fromModelConfig(null));
+        assertSame(SparseEmbeddingPruner.NONE, SparseEmbeddingPruner.fromModelConfig(modelConfig(Map.of())));
+
+        SparseEmbeddingPruner pruner = SparseEmbeddingPruner.fromModelConfig(modelConfig(Map.of("prune_type", "top_k", "prune_ratio", 3)));
+        assertEquals(SparsePruneType.TOP_K, pruner.getPruneType());
+        assertEquals(3f, pruner.getPruneRatio(), 0f);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> SparseEmbeddingPruner.fromModelConfig(modelConfig(Map.of("prune_type", "max_ratio", "prune_ratio", "high")))
+        );
+    }
+
+    @Test
+    public void withParameters() {
+        SparseEmbeddingPruner modelPruner = SparseEmbeddingPruner.of(SparsePruneType.TOP_K, 3f);
+        assertSame(modelPruner, modelPruner.withParameters(null));
+        assertSame(modelPruner, modelPruner.withParameters(AsymmetricTextEmbeddingParameters.builder().build()));
+        assertNull(SparseEmbeddingPruner.fromParameters(AsymmetricTextEmbeddingParameters.builder().build()));
+
+        AsymmetricTextEmbeddingParameters parameters = AsymmetricTextEmbeddingParameters
+            .builder()
+            .pruneType(SparsePruneType.NONE)
+            .build();
+        assertSame(SparseEmbeddingPruner.NONE, modelPruner.withParameters(parameters));
+    }
+
+    @Test
+    public void addTo_fromInput() {
+        Input input = new Input();
+        SparseEmbeddingPruner defaultPruner = SparseEmbeddingPruner.of(SparsePruneType.TOP_K, 3f);
+        assertSame(defaultPruner, SparseEmbeddingPruner.fromInput(input, defaultPruner));
+
+        SparseEmbeddingPruner.of(SparsePruneType.ALPHA_MASS, 0.5f).addTo(input);
+        SparseEmbeddingPruner pruner = SparseEmbeddingPruner.fromInput(input, defaultPruner);
+        assertTrue(pruner.isEnabled());
+        assertEquals(SparsePruneType.ALPHA_MASS, pruner.getPruneType());
+        assertEquals(0.5f, pruner.getPruneRatio(), 0f);
+    }
+
+    private void assertKept(SparseEmbeddingPruner pruner, long[] expectedIds, float[] expectedWeights) {
+        long[] prunedIds = ids.clone();
+        float[] prunedWeights = weights.clone();
+        int kept = pruner.prune(prunedIds, prunedWeights);
+        assertEquals(expectedIds.length, kept);
+        assertArrayEquals(expectedIds, Arrays.copyOf(prunedIds, kept));
+        assertArrayEquals(expectedWeights, Arrays.copyOf(prunedWeights, kept), 0f);
+    }
+
+    private TextEmbeddingModelConfig modelConfig(Map<String, Object> additionalConfig) {
+        return TextEmbeddingModelConfig
+            .builder()
+            .modelType("bert")
+            .embeddingDimension(768)
+            .frameworkType(BaseModelConfig.FrameworkType.SENTENCE_TRANSFORMERS)
+            .additionalConfig(additionalConfig)
+            .build();
+    }
+}
@@ -3,7 +3,10 @@ package org.opensearch.ml.engine.algorithms.sparse_encoding;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
+import static org.opensearch.ml.common.CommonValue.ML_MAP_RESPONSE_KEY;
+import static org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters.SPARSE_EMBEDDING_FORMAT_FIELD;
 import static org.opensearch.ml.engine.algorithms.DLModel.*;
 
 import java.io.File;
@@ -32,6 +35,7 @@ import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters;
 import org.opensearch.ml.common.input.parameter.textembedding.SparseEmbeddingFormat;
+import org.opensearch.ml.common.input.parameter.textembedding.SparsePruneType;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
@@ -220,6 +224,63 @@ public class TextEmbeddingSparseEncodingModelTest {
         textEmbeddingSparseEncodingModel.close();
     }
 
+    @Test
+    public void test_SparseEncoding_Translator_ProcessOutput_Pruned() throws URISyntaxException, IOException {
+        SparseEncodingTranslator sparseEncodingTranslator = new SparseEncodingTranslator(
+            SparseEmbeddingPruner.of(SparsePruneType.TOP_K, 1f)
+        );
+        TranslatorContext translatorContext = mock(TranslatorContext.class);
+        Model mlModel = mock(Model.class);
+        when(translatorContext.getModel()).thenReturn(mlModel);
+        when(mlModel.getModelPath()).thenReturn(Paths.get(getClass().getResource("../tokenize/tokenizer.json").toURI()).getParent());
+        sparseEncodingTranslator.prepare(translatorContext);
+
+        NDArray ndArray = mock(NDArray.class);
+        when(ndArray.nonzero()).thenReturn(ndArray);
+        when(ndArray.squeeze()).thenReturn(ndArray);
+        when(ndArray.getFloat(10000L)).thenReturn(1.0f);
+        when(ndArray.getFloat(10001L)).thenReturn(2.0f);
+        when(ndArray.toLongArray()).thenReturn(new long[] { 10000, 10001 });
+        when(ndArray.getName()).thenReturn("output");
+        when(translatorContext.getAttachment(SPARSE_EMBEDDING_FORMAT_FIELD)).thenReturn(SparseEmbeddingFormat.TOKEN_ID.name());
+        Output output = sparseEncodingTranslator.processOutput(translatorContext, new NDList(Collections.singletonList(ndArray)));
+
+        ModelTensor modelTensor = ModelTensors.fromBytes(output.getData().getAsBytes()).getMlModelTensors().get(0);
+        Map<String, ?> dataAsMap = modelTensor.getDataAsMap();
+        assertEquals(2, dataAsMap.size());
+        assertEquals(1, ((Number) dataAsMap.get(SparseEmbeddingPruner.PRUNED_TOKEN_COUNT_FIELD)).intValue());
+        Map<?, ?> tokenWeights = (Map<?, ?>) ((List<?>) dataAsMap.get(ML_MAP_RESPONSE_KEY)).get(0);
+        assertEquals(1, tokenWeights.size());
+        assertEquals(2.0, ((Number) tokenWeights.get("10001")).doubleValue(), 0);
+    }
+
+    @Test
+    public void initModel_predict_SparseEncoding_WithPrune() {
+        textEmbeddingSparseEncodingModel.initModel(model, params, encryptor);
+
+        AsymmetricTextEmbeddingParameters parameters = AsymmetricTextEmbeddingParameters
+            .builder()
+            .pruneType(SparsePruneType.TOP_K)
+            .pruneRatio(2f)
+            .build();
+
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.SPARSE_ENCODING)
+            .inputDataset(inputDataSet)
+            .parameters(parameters)
+            .build();
+
+        ModelTensorOutput output = (ModelTensorOutput) textEmbeddingSparseEncodingModel.predict(mlInput);
+        for (ModelTensors tensors : output.getMlModelOutputs()) {
+            Map<String, ?> dataAsMap = tensors.getMlModelTensors().get(0).getDataAsMap();
+            Map<?, ?> tokenWeights = (Map<?, ?>) ((List<?>) dataAsMap.get(ML_MAP_RESPONSE_KEY)).get(0);
+            assertEquals(2, tokenWeights.size());
+            assertTrue(((Number) dataAsMap.get(SparseEmbeddingPruner.PRUNED_TOKEN_COUNT_FIELD)).intValue() > 0);
+        }
+        textEmbeddingSparseEncodingModel.close();
+    }
+
     // Test AsymmetricTextEmbeddingParameters with TOKEN_ID format
     @Test
     public void initModel_predict_SparseEncoding_WithTokenIdFormat() {
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.engine.algorithms.DLModel.*;
+import static org.opensearch.ml.engine.algorithms.text_similarity.TextSimilarityCrossEncoderModel.MAX_BATCH_TOKENS;
 
 import java.io.File;
 import java.io.IOException;
@@ -217,6 +218,42 @@ public class TextSimilarityCrossEncoderModelTest {
         textSimilarityCrossEncoderModel.close();
     }
 
+    @Test
+    public void initModel_predict_BatchedInInputOrder() {
+        List<String> docs = Arrays
+            .asList(
+                "it's summer",
+                "That is a happy dog, it runs in the park all day long when the weather is nice",
+                "summer is hot",
+                "happy dog",
+                "The sun is shining and the sky is blue, it is a beautiful summer day"
+            );
+        TextSimilarityInputDataSet dataSet = TextSimilarityInputDataSet.builder().textDocs(docs).queryText("it's summer").build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_SIMILARITY).inputDataset(dataSet).build();
+
+        // one forward pass per document
+        params.put(MAX_BATCH_TOKENS, 1);
+        textSimilarityCrossEncoderModel.initModel(model, params, encryptor);
+        List<ModelTensors> expectedOutputs = ((ModelTensorOutput) textSimilarityCrossEncoderModel.predict(mlInput)).getMlModelOutputs();
+        textSimilarityCrossEncoderModel.close();
+
+        // all documents in padded batches
+        TextSimilarityCrossEncoderModel batchedModel = new TextSimilarityCrossEncoderModel();
+        params.put(MAX_BATCH_TOKENS, 64);
+        batchedModel.initModel(model, params, encryptor);
+        List<ModelTensors> outputs = ((ModelTensorOutput) batchedModel.predict(mlInput)).getMlModelOutputs();
+        batchedModel.close();
+
+        assertEquals(docs.size(), outputs.size());
+        for (int i = 0; i < docs.size(); i++) {
+            ModelTensor expected = expectedOutputs.get(i).getMlModelTensors().get(0);
+            ModelTensor tensor = outputs.get(i).getMlModelTensors().get(0);
+            assertEquals("similarity", tensor.getName());
+            assertEquals(1, tensor.getData().length);
+            assertEquals(expected.getData()[0].floatValue(), tensor.getData()[0].floatValue(), 1e-3);
+        }
+    }
+
     @Test
     public void initModel_NullModelHelper() throws URISyntaxException {
         Map<String, Object> params = new HashMap<>();
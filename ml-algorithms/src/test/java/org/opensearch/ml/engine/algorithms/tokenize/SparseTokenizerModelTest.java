@@ -29,6 +29,7 @@ import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters;
 import org.opensearch.ml.common.input.parameter.textembedding.SparseEmbeddingFormat;
+import org.opensearch.ml.common.input.parameter.textembedding.SparsePruneType;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
@@ -37,6 +38,7 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.algorithms.sparse_encoding.SparseEmbeddingPruner;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.utils.FileUtils;
@@ -166,6 +168,30 @@ public class SparseTokenizerModelTest {
         }
     }
 
+    @Test
+    public void initModel_predict_Tokenize_WithPrune() throws URISyntaxException, TranslateException {
+        sparseTokenizerModel.initModel(model, params, encryptor);
+        AsymmetricTextEmbeddingParameters parameters = AsymmetricTextEmbeddingParameters
+            .builder()
+            .pruneType(SparsePruneType.TOP_K)
+            .pruneRatio(1f)
+            .build();
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.SPARSE_TOKENIZE)
+            .inputDataset(inputDataSet)
+            .parameters(parameters)
+            .build();
+        ModelTensorOutput output = (ModelTensorOutput) sparseTokenizerModel.predict(mlInput);
+        for (ModelTensors tensors : output.getMlModelOutputs()) {
+            Map<String, ?> resultMap = tensors.getMlModelTensors().get(0).getDataAsMap();
+            assertEquals(2, resultMap.size());
+            assertEquals(2, ((Number) resultMap.get(SparseEmbeddingPruner.PRUNED_TOKEN_COUNT_FIELD)).intValue());
+            List<Map<String, Float>> resultList = (List<Map<String, Float>>) resultMap.get("response");
+            assertEquals(1, resultList.get(0).size());
+        }
+    }
+
     // Test default WORD format (no parameters provided)
     @Test
     public void initModel_predict_Tokenize_DefaultLexicalFormat() throws URISyntaxException, TranslateException {
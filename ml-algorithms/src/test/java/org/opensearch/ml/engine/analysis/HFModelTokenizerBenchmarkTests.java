@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.engine.analysis;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.StringReader;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.tokenattributes.PayloadAttribute;
+import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+import org.apache.lucene.util.BytesRef;
+import org.junit.Before;
+import org.junit.Test;
+
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Microbenchmark of analyzing long documents with {@link HFModelTokenizer}, it measures the time per token spent to
+ * emit the terms and payloads of the tokens, encoding included. Run with
+ * {@code ./gradlew :opensearch-ml-algorithms:test --tests "*HFModelTokenizerBenchmarkTests" -Dtests.benchmark=true}.
+ */
+@Log4j2
+public class HFModelTokenizerBenchmarkTests extends HFModelAnalyzerTestCase {
+    private static final String[] WORDS = { "hello", "world", "neural", "sparse", "search", "opensearch", "tokenizer", "a" };
+    private static final int DOCUMENT_WORDS = 10_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 50;
+
+    private HuggingFaceTokenizer huggingFaceTokenizer;
+    private String document;
+
+    @Before
+    public void setUp() throws Exception {
+        assumeTrue("analysis benchmarks are disabled", Boolean.getBoolean("tests.benchmark"));
+        super.setUp();
+        huggingFaceTokenizer = DJLUtils.buildHuggingFaceTokenizer(mlEngine.getAnalysisRootPath().resolve("test").resolve("tokenizer.json"));
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < DOCUMENT_WORDS; i++) {
+            builder.append(WORDS[i % WORDS.length]).append(' ');
+        }
+        document = builder.toString();
+    }
+
+    @Test
+    public void benchmarkLongDocumentWithTokenIdsAndWeights() {
+        TokenWeights tokenWeights = new TokenWeights(() -> Map.of("hello", 0.5f, "world", 0.3f, "sparse", 2.1f));
+        run("token_id with weights", () -> new HFModelTokenizer(() -> huggingFaceTokenizer, tokenWeights), "token_id");
+    }
+
+    @Test
+    public void benchmarkLongDocumentWithWords() {
+        run("word", () -> new HFModelTokenizer(() -> huggingFaceTokenizer), "word");
+    }
+
+    @SneakyThrows
+    private void run(String name, Supplier<Tokenizer> tokenizerSupplier, String type) {
+        Tokenizer tokenizer = tokenizerSupplier.get();
+        TypeAttribute typeAtt = tokenizer.addAttribute(TypeAttribute.class);
+        PayloadAttribute payloadAtt = tokenizer.addAttribute(PayloadAttribute.class);
+        typeAtt.setType(type);
+        int documentTokens = analyze(tokenizer, payloadAtt);
+        assertTrue(documentTokens >= DOCUMENT_WORDS);
+        for (int i = 1; i < WARMUP_ITERATIONS; i++) {
+            assertEquals(documentTokens, analyze(tokenizer, payloadAtt));
+        }
+        long start = System.nanoTime();
+        long tokens = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            tokens += analyze(tokenizer, payloadAtt);
+        }
+        long elapsed = System.nanoTime() - start;
+        log
+            .info(
+                String
+                    .format(
+                        Locale.ROOT,
+                        "%s: %d documents of %d tokens in %d ms, %.1f ns per token",
+                        name,
+                        MEASURED_ITERATIONS,
+                        documentTokens,
+                        TimeUnit.NANOSECONDS.toMillis(elapsed),
+                        (double) elapsed / tokens
+                    )
+            );
+    }
+
+    @SneakyThrows
+    private int analyze(Tokenizer tokenizer, PayloadAttribute payloadAtt) {
+        tokenizer.setReader(new StringReader(document));
+        tokenizer.reset();
+        int count = 0;
+        while (tokenizer.incrementToken()) {
+            // read the payload like the indexing chain does
+            BytesRef payload = payloadAtt.getPayload();
+            if (payload == null || payload.length == Float.BYTES) {
+                count++;
+            }
+        }
+        tokenizer.end();
+        tokenizer.close();
+        return count;
+    }
+}
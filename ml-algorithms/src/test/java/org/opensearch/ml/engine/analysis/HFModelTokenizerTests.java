@@ -4,6 +4,7 @@
  */
 package org.opensearch.ml.engine.analysis;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -12,6 +13,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -213,6 +215,53 @@ public class HFModelTokenizerTests extends HFModelAnalyzerTestCase {
         assertFalse(tokenizer.incrementToken());
     }
 
+    @SneakyThrows
+    @Test
+    public void testTokenizeWithSharedTokenWeights() {
+        TokenWeights sharedTokenWeights = new TokenWeights(() -> tokenWeights);
+        for (int i = 0; i < 2; i++) {
+            HFModelTokenizer tokenizer = new HFModelTokenizer(() -> huggingFaceTokenizer, sharedTokenWeights);
+            tokenizer.setReader(new StringReader("hello world a"));
+            tokenizer.reset();
+            PayloadAttribute payloadAtt = tokenizer.addAttribute(PayloadAttribute.class);
+
+            assertTrue(tokenizer.incrementToken());
+            assertEquals(0.5f, HFModelTokenizer.bytesToFloat(payloadAtt.getPayload().bytes), 0f);
+            assertTrue(tokenizer.incrementToken());
+            assertEquals(0.3f, HFModelTokenizer.bytesToFloat(payloadAtt.getPayload().bytes), 0f);
+            assertTrue(tokenizer.incrementToken());
+            assertEquals(TokenWeights.DEFAULT_TOKEN_WEIGHT, HFModelTokenizer.bytesToFloat(payloadAtt.getPayload().bytes), 0f);
+            assertFalse(tokenizer.incrementToken());
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void testTokenizeWithTypeChanged() {
+        HFModelTokenizer tokenizer = new HFModelTokenizer(() -> huggingFaceTokenizer);
+        TypeAttribute typeAtt = tokenizer.addAttribute(TypeAttribute.class);
+        CharTermAttribute termAtt = tokenizer.addAttribute(CharTermAttribute.class);
+
+        typeAtt.setType("token_id");
+        tokenizer.setReader(new StringReader("hello world"));
+        tokenizer.reset();
+        assertTrue(tokenizer.incrementToken());
+        assertEquals("7592", termAtt.toString());
+
+        // the format is resolved again for the new type
+        typeAtt.setType("word");
+        assertTrue(tokenizer.incrementToken());
+        assertEquals("world", termAtt.toString());
+        assertFalse(tokenizer.incrementToken());
+    }
+
+    @Test
+    public void testFloatBytesConversion_bigEndian() {
+        for (float value : new float[] { 0f, -0.5f, 1.0f, 3.4028235e38f, Float.MIN_VALUE, Float.NaN }) {
+            assertArrayEquals(ByteBuffer.allocate(4).putFloat(value).array(), HFModelTokenizer.floatToBytes(value));
+        }
+    }
+
     @SneakyThrows
     @Test
     public void testTokenizeWithInvalidType() {
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.engine.analysis;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class TokenWeightsTests {
+    private final AtomicInteger suppliedCount = new AtomicInteger();
+    private final TokenWeights tokenWeights = new TokenWeights(() -> {
+        suppliedCount.incrementAndGet();
+        return Map.of("hello", 0.5f, "world", 0.3f);
+    });
+
+    @Test
+    public void testGet() {
+        assertEquals(0.5f, tokenWeights.get(7592, "hello"), 0f);
+        assertEquals(0.3f, tokenWeights.get(2088, "world"), 0f);
+        assertEquals(TokenWeights.DEFAULT_TOKEN_WEIGHT, tokenWeights.get(1037, "a"), 0f);
+    }
+
+    @Test
+    public void testGet_cachedById() {
+        assertEquals(0.5f, tokenWeights.get(7592, "hello"), 0f);
+        // once cached, the weight of an id is not looked up by text
+        assertEquals(0.5f, tokenWeights.get(7592, "other"), 0f);
+        assertEquals(TokenWeights.DEFAULT_TOKEN_WEIGHT, tokenWeights.get(1037, "a"), 0f);
+        assertEquals(TokenWeights.DEFAULT_TOKEN_WEIGHT, tokenWeights.get(1037, "hello"), 0f);
+    }
+
+    @Test
+    public void testGet_weightsSuppliedOnce() {
+        assertEquals(0, suppliedCount.get());
+        tokenWeights.get(7592, "hello");
+        tokenWeights.get(2088, "world");
+        tokenWeights.get(100000, "hello");
+        assertEquals(1, suppliedCount.get());
+    }
+
+    @Test
+    public void testGet_idNotCached() {
+        assertEquals(0.5f, tokenWeights.get(-1, "hello"), 0f);
+        assertEquals(0.3f, tokenWeights.get(-1, "world"), 0f);
+        assertEquals(0.5f, tokenWeights.get(Integer.MAX_VALUE, "hello"), 0f);
+        assertEquals(0.3f, tokenWeights.get(Integer.MAX_VALUE, "world"), 0f);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.indices;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.transport.client.Client;
+
+public class SearchQueryDataLoaderTest {
+
+    @Mock
+    Client client;
+
+    @Mock
+    CreatePitResponse createPitResponse;
+
+    private final NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(
+        new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables()
+    );
+    private List<SearchHit[]> pages;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        pages = new ArrayList<>();
+        when(createPitResponse.getId()).thenReturn("pit_id");
+        doAnswer(invocation -> {
+            ActionListener<CreatePitResponse> listener = invocation.getArgument(1);
+            listener.onResponse(createPitResponse);
+            return null;
+        }).when(client).createPit(any(), any());
+        doAnswer(invocation -> {
+            SearchResponse response = mock(SearchResponse.class);
+            SearchHit[] hits = pages.isEmpty() ? new SearchHit[0] : pages.remove(0);
+            when(response.getHits()).thenReturn(new SearchHits(hits, null, 0f));
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        }).when(client).search(any(), any());
+    }
+
+    @Test
+    public void testLoad_WalksAllPages() {
+        pages.add(hits(0, 2));
+        pages.add(hits(2, 2));
+        pages.add(hits(4, 1));
+        SearchQueryDataLoader loader = loader(2, Long.MAX_VALUE, false);
+
+        AtomicReference<DataFrame> result = new AtomicReference<>();
+        loader.load(dataset(new SearchSourceBuilder()), -1, ActionListener.wrap(result::set, e -> { throw new AssertionError(e); }));
+
+        assertEquals(5, result.get().size());
+        assertEquals(2, result.get().columnMetas().length);
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(3)).search(requestCaptor.capture(), any());
+        SearchRequest first = requestCaptor.getAllValues().get(0);
+        assertNull(first.source().searchAfter());
+        assertEquals("pit_id", first.source().pointInTimeBuilder().getId());
+        assertEquals(1, requestCaptor.getAllValues().get(1).source().searchAfter()[0]);
+        verify(client).deletePits(any(DeletePitRequest.class), any());
+    }
+
+    @Test
+    public void testLoad_QuerySizeLimitsDocuments() {
+        pages.add(hits(0, 2));
+        pages.add(hits(2, 1));
+        SearchQueryDataLoader loader = loader(2, Long.MAX_VALUE, false);
+
+        AtomicReference<DataFrame> result = new AtomicReference<>();
+        ActionListener<DataFrame> listener = ActionListener.wrap(result::set, e -> { throw new AssertionError(e); });
+        loader.load(dataset(new SearchSourceBuilder().size(3)), -1, listener);
+
+        assertEquals(3, result.get().size());
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(2)).search(requestCaptor.capture(), any());
+        assertEquals(1, requestCaptor.getAllValues().get(1).source().size());
+    }
+
+    @Test
+    public void testLoad_DefaultLimitIfQueryHasNoSize() {
+        pages.add(hits(0, 2));
+        pages.add(hits(2, 2));
+        SearchQueryDataLoader loader = loader(2, Long.MAX_VALUE, false);
+
+        AtomicReference<DataFrame> result = new AtomicReference<>();
+        loader.load(dataset(new SearchSourceBuilder()), 3, ActionListener.wrap(result::set, e -> { throw new AssertionError(e); }));
+
+        assertEquals(3, result.get().size());
+        verify(client, times(2)).search(any(), any());
+    }
+
+    @Test
+    public void testLoad_InputQueryNotModified() {
+        pages.add(hits(0, 2));
+        SearchQueryDataLoader loader = loader(10, Long.MAX_VALUE, false);
+        SearchSourceBuilder source = new SearchSourceBuilder().sort(SortBuilders.fieldSort("id"));
+
+        AtomicReference<DataFrame> result = new AtomicReference<>();
+        loader.load(dataset(source), -1, ActionListener.wrap(result::set, e -> { throw new AssertionError(e); }));
+
+        assertEquals(2, result.get().size());
+        assertEquals(1, source.sorts().size());
+        assertNull(source.pointInTimeBuilder());
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(requestCaptor.capture(), any());
+        List<SortBuilder<?>> sorts = requestCaptor.getValue().source().sorts();
+        assertEquals(2, sorts.size());
+        assertEquals(SearchQueryDataLoader.SHARD_DOC_SORT_FIELD, ((FieldSortBuilder) sorts.get(1)).getFieldName());
+    }
+
+    @Test
+    public void testLoad_ExceedsBudgetWithoutSampling() {
+        pages.add(hits(0, 10));
+        SearchQueryDataLoader loader = loader(10, 300, false);
+
+        AtomicReference<Exception> error = new AtomicReference<>();
+        ActionListener<DataFrame> listener = ActionListener.wrap(r -> { throw new AssertionError("expected failure"); }, error::set);
+        loader.load(dataset(new SearchSourceBuilder()), -1, listener);
+
+        assertTrue(error.get() instanceof MLLimitExceededException);
+        verify(client).deletePits(any(DeletePitRequest.class), any());
+    }
+
+    @Test
+    public void testLoad_ExceedsBudgetWithSampling() {
+        pages.add(hits(0, 10));
+        pages.add(hits(10, 10));
+        SearchQueryDataLoader loader = loader(10, 300, true);
+
+        AtomicReference<DataFrame> result = new AtomicReference<>();
+        loader.load(dataset(new SearchSourceBuilder()), -1, ActionListener.wrap(result::set, e -> { throw new AssertionError(e); }));
+
+        assertTrue(result.get().size() > 0);
+        assertTrue(result.get().size() < 20);
+    }
+
+    @Test
+    public void testLoad_NoDocument() {
+        SearchQueryDataLoader loader = loader(10, Long.MAX_VALUE, false);
+
+        AtomicReference<Exception> error = new AtomicReference<>();
+        ActionListener<DataFrame> listener = ActionListener.wrap(r -> { throw new AssertionError("expected failure"); }, error::set);
+        loader.load(dataset(new SearchSourceBuilder()), -1, listener);
+
+        assertTrue(error.get() instanceof IllegalArgumentException);
+        assertEquals("No document found", error.get().getMessage());
+    }
+
+    @Test
+    public void testLoad_MemoryCheckFails() {
+        pages.add(hits(0, 2));
+        SearchQueryDataLoader loader = new SearchQueryDataLoader(
+            client,
+            namedWriteableRegistry,
+            2,
+            Long.MAX_VALUE,
+            false,
+            TimeValue.timeValueMinutes(1),
+            () -> { throw new IllegalStateException("Memory Circuit Breaker is open"); }
+        );
+
+        AtomicReference<Exception> error = new AtomicReference<>();
+        ActionListener<DataFrame> listener = ActionListener.wrap(r -> { throw new AssertionError("expected failure"); }, error::set);
+        loader.load(dataset(new SearchSourceBuilder()), -1, listener);
+
+        assertEquals("Memory Circuit Breaker is open", error.get().getMessage());
+        verify(client).deletePits(any(DeletePitRequest.class), any());
+    }
+
+    private SearchQueryDataLoader loader(int pageSize, long maxBytes, boolean sampling) {
+        return new SearchQueryDataLoader(
+            client,
+            namedWriteableRegistry,
+            pageSize,
+            maxBytes,
+            sampling,
+            TimeValue.timeValueMinutes(1),
+            () -> {},
+            new Random(0)
+        );
+    }
+
+    private SearchQueryInputDataset dataset(SearchSourceBuilder source) {
+        return SearchQueryInputDataset.builder().indices(List.of("test_index")).searchSourceBuilder(source).build();
+    }
+
+    private SearchHit[] hits(int start, int count) {
+        SearchHit[] hits = new SearchHit[count];
+        for (int i = 0; i < count; i++) {
+            int docId = start + i;
+            try {
+                XContentBuilder content = XContentFactory.jsonBuilder();
+                content.startObject();
+                content.field("f1", docId);
+                content.field("f2", "value_" + docId);
+                content.endObject();
+                hits[i] = new SearchHit(docId, String.valueOf(docId), null, null).sourceRef(BytesReference.bytes(content));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            hits[i].sortValues(new Object[] { docId }, new DocValueFormat[] { DocValueFormat.RAW });
+        }
+        return hits;
+    }
+}
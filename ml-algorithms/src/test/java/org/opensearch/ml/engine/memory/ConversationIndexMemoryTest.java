@@ -2,15 +2,20 @@ package org.opensearch.ml.engine.memory;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.opensearch.ml.engine.memory.ConversationIndexMemory.APP_TYPE;
 import static org.opensearch.ml.engine.memory.ConversationIndexMemory.MEMORY_ID;
 import static org.opensearch.ml.engine.memory.ConversationIndexMemory.MEMORY_NAME;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Assert;
@@ -18,12 +23,15 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.memory.action.conversation.CreateConversationResponse;
 import org.opensearch.ml.memory.action.conversation.CreateInteractionResponse;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
 public class ConversationIndexMemoryTest {
@@ -75,7 +83,7 @@ public class ConversationIndexMemoryTest {
             listener.onResponse(new CreateInteractionResponse("interaction_id"));
             return null;
         }).when(memoryManager).createInteraction(any(), any(), any(), any(), any(), any(), any(), any(), any());
-        indexMemory.save(new ConversationIndexMessage("test", "123", "question", "response", false), "parent_id", 0, "action");
+        indexMemory.save(new ConversationIndexMessage("test", "123", "question", "response", false), null, null, "action");
 
         verify(memoryManager).createInteraction(any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
@@ -87,11 +95,41 @@ public class ConversationIndexMemoryTest {
             listener.onFailure(new RuntimeException());
             return null;
         }).when(memoryManager).createInteraction(any(), any(), any(), any(), any(), any(), any(), any(), any());
-        indexMemory.save(new ConversationIndexMessage("test", "123", "question", "response", false), "parent_id", 0, "action");
+        indexMemory.save(new ConversationIndexMessage("test", "123", "question", "response", false), null, null, "action");
 
         verify(memoryManager).createInteraction(any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
 
+    @Test
+    public void saveTrace_BufferedUntilNextOperation() {
+        doReturn(mock(ThreadPool.class)).when(client).threadPool();
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(1);
+            listener.onResponse(true);
+            return null;
+        }).when(memoryManager).checkAccess(any(), any());
+        doAnswer(invocation -> {
+            ActionListener<List<String>> listener = invocation.getArgument(1);
+            listener.onResponse(List.of("trace_1", "trace_2"));
+            return null;
+        }).when(memoryManager).bulkCreateTraceInteractions(any(), any());
+
+        indexMemory.save(new ConversationIndexMessage("test", "123", "question", "response", false), "parent_id", 1, "action");
+        indexMemory.save(new ConversationIndexMessage("test", "123", "question", "response", false), "parent_id", 2, "action");
+        verify(memoryManager, never()).createInteraction(any(), any(), any(), any(), any(), any(), any(), any(), any());
+        verify(memoryManager, never()).bulkCreateTraceInteractions(any(), any());
+
+        ActionListener<CreateInteractionResponse> listener = mock(ActionListener.class);
+        indexMemory.save(new ConversationIndexMessage("test", "123", "question", "answer", true), "parent_id", 3, "LLM", listener);
+
+        ArgumentCaptor<List<Map<String, Object>>> tracesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(memoryManager, times(1)).checkAccess(eq("test"), any());
+        verify(memoryManager, times(1)).bulkCreateTraceInteractions(tracesCaptor.capture(), any());
+        Assert.assertEquals(2, tracesCaptor.getValue().size());
+        Assert.assertEquals(2, tracesCaptor.getValue().get(1).get(ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD));
+        verify(memoryManager).createInteraction(any(), any(), any(), any(), any(), any(), any(), any(), eq(listener));
+    }
+
     @Test
     public void clear() {
         exceptionRule.expect(RuntimeException.class);
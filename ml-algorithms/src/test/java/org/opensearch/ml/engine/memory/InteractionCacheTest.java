@@ -0,0 +1,210 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.conversation.Interaction;
+
+public class InteractionCacheTest {
+
+    private AtomicLong clock;
+    private InteractionCache cache;
+
+    @Before
+    public void setUp() {
+        clock = new AtomicLong();
+        cache = new InteractionCache(2, 3, Duration.ofMinutes(1), clock::get);
+    }
+
+    @Test
+    public void testGetLatest_NothingCached() {
+        assertNull(cache.getLatest("c1", 10));
+    }
+
+    @Test
+    public void testGetLatest_OnlyLocalInteractions() {
+        cache.add(interaction("c1", "i1", 1));
+
+        // the older history has to be read from the index
+        assertNull(cache.getLatest("c1", 1));
+    }
+
+    @Test
+    public void testPutLoaded_ServesCompleteHistory() {
+        List<Interaction> loaded = List.of(interaction("c1", "i1", 1), interaction("c1", "i2", 2));
+
+        assertEquals(List.of("i1", "i2"), ids(cache.putLoaded("c1", loaded, 10)));
+
+        assertEquals(List.of("i1", "i2"), ids(cache.getLatest("c1", 10)));
+        assertEquals(List.of("i2"), ids(cache.getLatest("c1", 1)));
+    }
+
+    @Test
+    public void testPutLoaded_ServesOnlyLoadedWindow() {
+        cache.putLoaded("c1", List.of(interaction("c1", "i1", 1), interaction("c1", "i2", 2)), 2);
+
+        assertEquals(List.of("i1", "i2"), ids(cache.getLatest("c1", 2)));
+        // the index may have older interactions
+        assertNull(cache.getLatest("c1", 3));
+    }
+
+    @Test
+    public void testPutLoaded_EmptyHistory() {
+        assertEquals(List.of(), cache.putLoaded("c1", List.of(), 10));
+
+        assertEquals(List.of(), cache.getLatest("c1", 10));
+    }
+
+    @Test
+    public void testAdd_AppendedToLoadedHistory() {
+        cache.putLoaded("c1", List.of(interaction("c1", "i1", 1)), 10);
+        cache.add(interaction("c1", "i2", 2));
+
+        assertEquals(List.of("i1", "i2"), ids(cache.getLatest("c1", 10)));
+    }
+
+    @Test
+    public void testPutLoaded_AddsInteractionsNotVisibleInIndex() {
+        cache.add(interaction("c1", "i1", 1));
+        cache.add(interaction("c1", "i2", 2));
+
+        List<Interaction> merged = cache.putLoaded("c1", List.of(interaction("c1", "i0", 0), interaction("c1", "i1", 1)), 10);
+
+        assertEquals(List.of("i0", "i1", "i2"), ids(merged));
+        assertEquals(List.of("i0", "i1", "i2"), ids(cache.getLatest("c1", 10)));
+    }
+
+    @Test
+    public void testPutLoaded_InterleavesWithInteractionsFromOtherNodes() {
+        cache.add(interaction("c1", "i1", 1));
+
+        List<Interaction> merged = cache.putLoaded("c1", List.of(interaction("c1", "i0", 0), interaction("c1", "i2", 2)), 10);
+
+        assertEquals(List.of("i0", "i1", "i2"), ids(merged));
+    }
+
+    @Test
+    public void testPutLoaded_KeepsLastN() {
+        cache.add(interaction("c1", "i0", 0));
+        cache.add(interaction("c1", "i3", 3));
+
+        List<Interaction> merged = cache.putLoaded("c1", List.of(interaction("c1", "i1", 1), interaction("c1", "i2", 2)), 2);
+
+        // i0 is older than the loaded interactions, the index may have newer ones before it
+        assertEquals(List.of("i2", "i3"), ids(merged));
+        assertEquals(List.of("i1", "i2", "i3"), ids(cache.getLatest("c1", 3)));
+    }
+
+    @Test
+    public void testGetLatest_Expired() {
+        cache.putLoaded("c1", List.of(interaction("c1", "i1", 1)), 10);
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        // writes through other nodes are visible after the TTL
+        assertNull(cache.getLatest("c1", 10));
+        assertEquals(List.of("i1", "i2"), ids(cache.putLoaded("c1", List.of(interaction("c1", "i1", 1), interaction("c1", "i2", 2)), 10)));
+    }
+
+    @Test
+    public void testPutLoaded_LocalInteractionExpired() {
+        cache.add(interaction("c1", "i1", 1));
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        assertEquals(List.of(), cache.putLoaded("c1", List.of(), 10));
+    }
+
+    @Test
+    public void testAdd_TrimmedToMaxInteractions() {
+        cache.putLoaded("c1", List.of(), 10);
+        for (int i = 1; i <= 4; i++) {
+            cache.add(interaction("c1", "i" + i, i));
+        }
+
+        assertEquals(List.of("i2", "i3", "i4"), ids(cache.getLatest("c1", 3)));
+        assertNull(cache.getLatest("c1", 4));
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsedConversation() {
+        cache.putLoaded("c1", List.of(interaction("c1", "i1", 1)), 10);
+        cache.putLoaded("c2", List.of(interaction("c2", "i2", 2)), 10);
+        cache.getLatest("c1", 10);
+        cache.putLoaded("c3", List.of(interaction("c3", "i3", 3)), 10);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.getLatest("c2", 10));
+        assertEquals(List.of("i1"), ids(cache.getLatest("c1", 10)));
+    }
+
+    @Test
+    public void testUpdate_AppliedToCachedInteraction() {
+        cache.putLoaded("c1", List.of(), 10);
+        cache.add(interaction("c1", "i1", 1));
+
+        cache.update("i1", Map.of("response", "answer", "additional_info", Map.of("key", "value")));
+
+        Interaction updated = cache.getLatest("c1", 10).get(0);
+        assertEquals("answer", updated.getResponse());
+        assertEquals(Map.of("key", "value"), updated.getAdditionalInfo());
+        assertEquals("question", updated.getInput());
+    }
+
+    @Test
+    public void testUpdate_UnknownFieldDropsInteraction() {
+        cache.putLoaded("c1", List.of(interaction("c1", "i1", 1)), 10);
+
+        cache.update("i1", Map.of("origin", "other"));
+
+        assertNull(cache.getLatest("c1", 10));
+    }
+
+    @Test
+    public void testInvalidateInteraction() {
+        cache.putLoaded("c1", List.of(interaction("c1", "i1", 1)), 10);
+        cache.putLoaded("c2", List.of(interaction("c2", "i2", 2), interaction("c2", "i3", 3)), 10);
+
+        cache.invalidateInteraction("i1");
+        cache.invalidateInteraction("i2");
+
+        assertEquals(1, cache.size());
+        assertNull(cache.getLatest("c1", 10));
+        assertEquals(List.of("i3"), ids(cache.getLatest("c2", 10)));
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.putLoaded("c1", List.of(interaction("c1", "i1", 1)), 10);
+
+        cache.invalidate("c1");
+
+        assertNull(cache.getLatest("c1", 10));
+    }
+
+    private static Interaction interaction(String conversationId, String id, long createSecond) {
+        return Interaction
+            .builder()
+            .id(id)
+            .conversationId(conversationId)
+            .createTime(Instant.ofEpochSecond(createSecond))
+            .input("question")
+            .response("")
+            .build();
+    }
+
+    private static List<String> ids(List<Interaction> interactions) {
+        return interactions.stream().map(Interaction::getId).toList();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.threadpool.ThreadPool;
+
+public class InteractionTraceWriterTest {
+
+    @Mock
+    MLMemoryManager memoryManager;
+
+    @Mock
+    ThreadPool threadPool;
+
+    InteractionTraceWriter writer;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        writer = new InteractionTraceWriter(memoryManager, "memory_id", threadPool, 3, TimeValue.timeValueSeconds(1));
+        mockAccess(true);
+        doAnswer(invocation -> {
+            List<?> traces = invocation.getArgument(0);
+            ActionListener<List<String>> listener = invocation.getArgument(1);
+            listener.onResponse(traces.stream().map(t -> "id").toList());
+            return null;
+        }).when(memoryManager).bulkCreateTraceInteractions(any(), any());
+    }
+
+    @Test
+    public void testAdd_SchedulesFlushOnce() {
+        writer.add("input", "response", "LLM", "parent_id", 1);
+        writer.add("input", "response", "LLM", "parent_id", 2);
+
+        verify(threadPool, times(1)).schedule(any(), eq(TimeValue.timeValueSeconds(1)), any());
+        verify(memoryManager, never()).bulkCreateTraceInteractions(any(), any());
+        assertEquals(2, writer.size());
+    }
+
+    @Test
+    public void testAdd_FlushWhenFull() {
+        for (int i = 1; i <= 3; i++) {
+            writer.add("input", "response", "LLM", "parent_id", i);
+        }
+
+        verify(memoryManager, times(1)).bulkCreateTraceInteractions(any(), any());
+        assertEquals(0, writer.size());
+    }
+
+    @Test
+    public void testFlush_ChecksAccessOnce() {
+        ActionListener<Void> listener = mock(ActionListener.class);
+        writer.add("input", "response", "LLM", "parent_id", 1);
+        writer.flush(listener);
+        writer.add("input", "response", "LLM", "parent_id", 2);
+        writer.flush(listener);
+
+        verify(memoryManager, times(1)).checkAccess(eq("memory_id"), any());
+        verify(memoryManager, times(2)).bulkCreateTraceInteractions(any(), any());
+        verify(listener, times(2)).onResponse(null);
+    }
+
+    @Test
+    public void testFlush_Empty() {
+        ActionListener<Void> listener = mock(ActionListener.class);
+        writer.flush(listener);
+
+        verify(listener, times(1)).onResponse(null);
+        verify(memoryManager, never()).checkAccess(any(), any());
+    }
+
+    @Test
+    public void testFlush_NoAccess() {
+        mockAccess(false);
+        ActionListener<Void> listener = mock(ActionListener.class);
+        writer.add("input", "response", "LLM", "parent_id", 1);
+        writer.flush(listener);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(captor.capture());
+        assertTrue(captor.getValue() instanceof OpenSearchSecurityException);
+        verify(memoryManager, never()).bulkCreateTraceInteractions(any(), any());
+    }
+
+    private void mockAccess(boolean access) {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(1);
+            listener.onResponse(access);
+            return null;
+        }).when(memoryManager).checkAccess(any(), any());
+    }
+}
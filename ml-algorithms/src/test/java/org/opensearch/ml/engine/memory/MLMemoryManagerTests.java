@@ -31,6 +31,8 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.action.search.ShardSearchFailure;
@@ -67,6 +69,7 @@ import org.opensearch.ml.memory.action.conversation.GetTracesResponse;
 import org.opensearch.ml.memory.action.conversation.UpdateInteractionAction;
 import org.opensearch.ml.memory.action.conversation.UpdateInteractionRequest;
 import org.opensearch.ml.memory.index.ConversationMetaIndex;
+import org.opensearch.ml.memory.index.InteractionsIndex;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.InternalAggregations;
@@ -183,8 +186,8 @@ public class MLMemoryManagerTests {
                 1,
                 createInteractionResponseActionListener
             );
-        verify(client, times(1))
-            .execute(eq(CreateInteractionAction.INSTANCE), captor.capture(), eq(createInteractionResponseActionListener));
+        verify(client, times(1)).execute(eq(CreateInteractionAction.INSTANCE), captor.capture(), any());
+        verify(createInteractionResponseActionListener, times(1)).onResponse(any());
         assertEquals("conversationId", captor.getValue().getConversationId());
         assertEquals("input", captor.getValue().getInput());
         assertEquals("prompt", captor.getValue().getPromptTemplate());
@@ -317,6 +320,109 @@ public class MLMemoryManagerTests {
         assertEquals(1, argCaptor.getValue().size());
     }
 
+    @Test
+    public void testGetInteractions_ReadYourWritesNotVisibleInIndex() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> al = invocation.getArgument(1);
+            al.onResponse(true);
+            return null;
+        }).when(conversationMetaIndex).checkAccess(anyString(), any());
+        doAnswer(invocation -> {
+            ActionListener<CreateInteractionResponse> al = invocation.getArgument(2);
+            al.onResponse(new CreateInteractionResponse("new-interaction"));
+            return null;
+        }).when(client).execute(eq(CreateInteractionAction.INSTANCE), any(), any());
+        UpdateResponse updateResponse = new UpdateResponse(
+            new ShardId(new Index("indexName", "uuid"), 1),
+            "new-interaction",
+            1,
+            1,
+            1,
+            DocWriteResponse.Result.UPDATED
+        );
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> al = invocation.getArgument(2);
+            al.onResponse(updateResponse);
+            return null;
+        }).when(client).execute(eq(UpdateInteractionAction.INSTANCE), any(), any());
+        doAnswer(invocation -> {
+            // the new interaction is not visible in the index yet
+            SearchHits searchHits = new SearchHits(new SearchHit[0], null, Float.NaN);
+            SearchResponseSections searchSections = new SearchResponseSections(
+                searchHits,
+                InternalAggregations.EMPTY,
+                null,
+                false,
+                false,
+                null,
+                1
+            );
+            SearchResponse searchResponse = new SearchResponse(
+                searchSections,
+                null,
+                1,
+                1,
+                0,
+                11,
+                ShardSearchFailure.EMPTY_ARRAY,
+                SearchResponse.Clusters.EMPTY
+            );
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(), any());
+
+        mlMemoryManager.createInteraction("cid", "question", null, "", "agent", null, null, null, createInteractionResponseActionListener);
+        mlMemoryManager.getFinalInteractions("cid", 10, interactionListActionListener);
+        mlMemoryManager.updateInteraction("new-interaction", Map.of(INTERACTIONS_RESPONSE_FIELD, "answer"), updateResponseActionListener);
+        mlMemoryManager.getFinalInteractions("cid", 10, interactionListActionListener);
+
+        ArgumentCaptor<List<Interaction>> argCaptor = ArgumentCaptor.forClass(List.class);
+        verify(interactionListActionListener, times(2)).onResponse(argCaptor.capture());
+        assertEquals(1, argCaptor.getAllValues().get(0).size());
+        assertEquals("new-interaction", argCaptor.getAllValues().get(0).get(0).getId());
+        assertEquals("question", argCaptor.getAllValues().get(0).get(0).getInput());
+        assertEquals("answer", argCaptor.getAllValues().get(1).get(0).getResponse());
+        // the second read is served from the cache
+        verify(client, times(1)).search(any(), any());
+    }
+
+    @Test
+    public void testBulkCreateTraceInteractions() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        BulkItemResponse item = Mockito.mock(BulkItemResponse.class);
+        doReturn("trace-id").when(item).getId();
+        BulkResponse bulkResponse = new BulkResponse(new BulkItemResponse[] { item }, 1);
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> al = invocation.getArgument(1);
+            al.onResponse(bulkResponse);
+            return null;
+        }).when(client).bulk(any(), any());
+        ActionListener<List<String>> listener = Mockito.mock(ActionListener.class);
+
+        Map<String, Object> trace = InteractionsIndex
+            .interactionSource("cid", "input", null, "response", "LLM", null, Instant.now(), "pid", 1);
+        mlMemoryManager.bulkCreateTraceInteractions(List.of(trace), listener);
+
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(1)).bulk(captor.capture(), any());
+        assertEquals(1, captor.getValue().numberOfActions());
+        verify(listener, times(1)).onResponse(List.of("trace-id"));
+    }
+
+    @Test
+    public void testBulkCreateTraceInteractions_NoIndex_ThenFail() {
+        doReturn(false).when(metadata).hasIndex(anyString());
+        ActionListener<List<String>> listener = Mockito.mock(ActionListener.class);
+
+        mlMemoryManager.bulkCreateTraceInteractions(List.of(Map.of()), listener);
+
+        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argCaptor.capture());
+        assertEquals("no index to add memory to", argCaptor.getValue().getMessage());
+    }
+
     @Test
     public void testGetInteractionFails_thenFail() {
         doThrow(new RuntimeException("Failure in runtime")).when(threadPool).getThreadContext();
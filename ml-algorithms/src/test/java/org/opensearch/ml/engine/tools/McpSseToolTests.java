@@ -13,7 +13,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.opensearch.ml.common.CommonValue.MCP_SYNC_CLIENT;
+import static org.opensearch.ml.common.CommonValue.MCP_ASYNC_CLIENT;
 
 import java.util.Collections;
 import java.util.Map;
@@ -25,13 +25,14 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.spi.tools.Tool;
 
-import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.McpAsyncClient;
 import io.modelcontextprotocol.spec.McpSchema;
+import reactor.core.publisher.Mono;
 
 public class McpSseToolTests {
 
     @Mock
-    private McpSyncClient mcpSyncClient;
+    private McpAsyncClient mcpAsyncClient;
 
     @Mock
     private ActionListener<String> listener;
@@ -43,7 +44,7 @@ public class McpSseToolTests {
     public void setup() {
         MockitoAnnotations.openMocks(this);
         // Initialize the tool with the mocked mcp client
-        tool = McpSseTool.Factory.getInstance().create(Map.of(MCP_SYNC_CLIENT, mcpSyncClient));
+        tool = McpSseTool.Factory.getInstance().create(Map.of(MCP_ASYNC_CLIENT, mcpAsyncClient));
         validParams = Map.of("input", "{\"foo\":\"bar\"}");
     }
 
@@ -51,7 +52,7 @@ public class McpSseToolTests {
     public void testRunSuccess() {
         // create a CallToolResult wrapping a JSON string
         McpSchema.CallToolResult result = new McpSchema.CallToolResult("{\"foo\":\"bar\"}", false);
-        when(mcpSyncClient.callTool(any(McpSchema.CallToolRequest.class))).thenReturn(result);
+        when(mcpAsyncClient.callTool(any(McpSchema.CallToolRequest.class))).thenReturn(Mono.just(result));
 
         tool.run(validParams, listener);
 
@@ -72,8 +73,8 @@ public class McpSseToolTests {
 
     @Test
     public void testRunClientThrows() {
-        // Simulate the MCP client throwing an exception
-        when(mcpSyncClient.callTool(any())).thenThrow(new RuntimeException("client error"));
+        // Simulate the MCP client returning an error
+        when(mcpAsyncClient.callTool(any())).thenReturn(Mono.error(new RuntimeException("client error")));
 
         tool.run(validParams, listener);
 
@@ -33,6 +33,7 @@ import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteRequest;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
+import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.utils.TenantAwareHelper;
 import org.opensearch.remote.metadata.client.DeleteDataObjectRequest;
 import org.opensearch.remote.metadata.client.DeleteDataObjectResponse;
@@ -56,6 +57,7 @@ public class DeleteConnectorTransportAction extends HandledTransportAction<Actio
     private final NamedXContentRegistry xContentRegistry;
     private final ConnectorAccessControlHelper connectorAccessControlHelper;
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    private final MLStats mlStats;
 
     @Inject
     public DeleteConnectorTransportAction(
@@ -65,7 +67,8 @@ public class DeleteConnectorTransportAction extends HandledTransportAction<Actio
         SdkClient sdkClient,
         NamedXContentRegistry xContentRegistry,
         ConnectorAccessControlHelper connectorAccessControlHelper,
-        MLFeatureEnabledSetting mlFeatureEnabledSetting
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        MLStats mlStats
     ) {
         super(MLConnectorDeleteAction.NAME, transportService, actionFilters, MLConnectorDeleteRequest::new);
         this.client = client;
@@ -73,6 +76,7 @@ public class DeleteConnectorTransportAction extends HandledTransportAction<Actio
         this.xContentRegistry = xContentRegistry;
         this.connectorAccessControlHelper = connectorAccessControlHelper;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.mlStats = mlStats;
     }
 
     @Override
@@ -226,6 +230,7 @@ public class DeleteConnectorTransportAction extends HandledTransportAction<Actio
             try {
                 DeleteResponse deleteResponse = response.deleteResponse();
                 log.info("Connector deletion result: {}, connector id: {}", deleteResponse.getResult(), response.id());
+                mlStats.removeConnectorLatencyStats(connectorId);
                 actionListener.onResponse(deleteResponse);
             } catch (Exception e) {
                 actionListener.onFailure(e);
@@ -313,7 +313,8 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
                             localNodeId,
                             mlTask,
                             eligibleNodes,
-                            deployToAllNodes
+                            deployToAllNodes,
+                            deployModelRequest.isUserInitiatedDeployRequest()
                         )
                     );
             } catch (Exception ex) {
@@ -432,7 +433,8 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
         String localNodeId,
         MLTask mlTask,
         List<DiscoveryNode> eligibleNodes,
-        boolean deployToAllNodes
+        boolean deployToAllNodes,
+        boolean isUserInitiatedDeployRequest
     ) {
         log.debug("Triggering deploy on nodes for modelId: {}", modelId);
         MLDeployModelInput deployModelInput = new MLDeployModelInput(
@@ -475,22 +477,22 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
         });
 
         List<String> workerNodes = eligibleNodes.stream().map(DiscoveryNode::getId).toList();
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put(MLModel.MODEL_STATE_FIELD, MLModelState.DEPLOYING);
+        updatedFields.put(MLModel.PLANNING_WORKER_NODE_COUNT_FIELD, eligibleNodes.size());
+        updatedFields.put(MLModel.PLANNING_WORKER_NODES_FIELD, workerNodes);
+        updatedFields.put(MLModel.DEPLOY_TO_ALL_NODES_FIELD, deployToAllNodes);
+        updatedFields.put(MLModel.IS_EVICTED_FIELD, false);
+        if (isUserInitiatedDeployRequest) {
+            // a deployment plan chosen by the user is the new lower bound of model auto scaling
+            updatedFields.put(MLModel.AUTO_SCALED_WORKER_NODES_FIELD, List.of());
+        }
         log.debug("Updating model state to DEPLOYING for modelId: {}", modelId);
         mlModelManager
             .updateModel(
                 modelId,
                 mlModel.getTenantId(),
-                Map
-                    .of(
-                        MLModel.MODEL_STATE_FIELD,
-                        MLModelState.DEPLOYING,
-                        MLModel.PLANNING_WORKER_NODE_COUNT_FIELD,
-                        eligibleNodes.size(),
-                        MLModel.PLANNING_WORKER_NODES_FIELD,
-                        workerNodes,
-                        MLModel.DEPLOY_TO_ALL_NODES_FIELD,
-                        deployToAllNodes
-                    ),
+                updatedFields,
                 ActionListener
                     .wrap(
                         r -> client.execute(MLDeployModelOnNodeAction.INSTANCE, deployModelRequest, actionListener),
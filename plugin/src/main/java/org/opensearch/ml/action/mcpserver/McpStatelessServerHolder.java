@@ -14,6 +14,7 @@ import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.ml.common.transport.mcpserver.requests.register.McpToolRegisterInput;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
@@ -34,6 +35,8 @@ public class McpStatelessServerHolder {
     private final ThreadPool threadPool;
     private static final int SYNC_MCP_TOOLS_JOB_INTERVAL = 10;
     public static Map<String, Long> IN_MEMORY_MCP_TOOLS = new ConcurrentHashMap<>();
+    // Highest sequence number of the MCP tools index which is synced into IN_MEMORY_MCP_TOOLS
+    private static volatile long syncedToolsSeqNo = SequenceNumbers.UNASSIGNED_SEQ_NO;
     private static volatile McpStatelessAsyncServer mcpStatelessAsyncServer;
     private static volatile OpenSearchMcpStatelessServerTransportProvider mcpStatelessServerTransportProvider;
     private static volatile Boolean initialized = false;
@@ -108,62 +111,127 @@ public class McpStatelessServerHolder {
         return mcpStatelessAsyncServer;
     }
 
+    /**
+     * Load all tools of the MCP tools index into the MCP server and start the sync job.
+     */
     public void autoLoadAllMcpTools(ActionListener<Boolean> listener) {
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<Boolean> restoreListener = ActionListener.runBefore(listener, context::restore);
-            ActionListener<Map<String, Tuple<McpToolRegisterInput, Long>>> searchListener = ActionListener.wrap(r -> {
-                r.forEach((key, value) -> {
-                    // Use putIfAbsent to make check-and-act atomic
-                    Long previousVersion = IN_MEMORY_MCP_TOOLS.putIfAbsent(key, value.v2());
-                    if (previousVersion == null) {
-                        // We successfully added the key, now add the tool
-                        getMcpStatelessAsyncServerInstance().addTool(mcpToolsHelper.createToolSpecification(value.v1())).doOnError(x -> {
-                            // If tool addition fails, remove from memory cache
-                            IN_MEMORY_MCP_TOOLS.remove(key);
-                            log.error("Failed to auto load tool: {}", value.v1().getName(), x);
-                        }).subscribe();
-                    } else if (previousVersion < value.v2()) {
-                        // Chain the operations to avoid race conditions
-                        getMcpStatelessAsyncServerInstance().removeTool(key).onErrorResume(e -> {
-                            log.warn("Failed to remove old tool version: {}", key, e);
-                            return Mono.empty();
-                        })
-                            .then(getMcpStatelessAsyncServerInstance().addTool(mcpToolsHelper.createToolSpecification(value.v1())))
-                            .doOnSuccess(x -> {
-                                IN_MEMORY_MCP_TOOLS.put(key, value.v2());
-                                log.info("Successfully updated tool: {} to version: {}", key, value.v2());
-                            })
-                            .doOnError(x -> log.error("Failed to update tool: {} to version: {}", value.v1().getName(), value.v2(), x))
-                            .subscribe();
-                    }
+            ActionListener<McpToolsHelper.ToolsVersion> versionListener = ActionListener.wrap(version -> {
+                ActionListener<Map<String, Tuple<McpToolRegisterInput, Long>>> searchListener = ActionListener.wrap(r -> {
+                    loadTools(r, true);
+                    syncedToolsSeqNo = version.getMaxSeqNo();
+                    startSyncMcpToolsJob();
+                    restoreListener.onResponse(true);
+                }, e -> {
+                    log.error("Failed to auto load all MCP tools to MCP server", e);
+                    startSyncMcpToolsJob();
+                    restoreListener.onFailure(e);
                 });
-                startSyncMcpToolsJob();
-                restoreListener.onResponse(true);
+                mcpToolsHelper.searchAllToolsWithVersion(searchListener);
             }, e -> {
                 log.error("Failed to auto load all MCP tools to MCP server", e);
+                startSyncMcpToolsJob();
                 restoreListener.onFailure(e);
             });
-            mcpToolsHelper.searchAllToolsWithVersion(searchListener);
+            mcpToolsHelper.getToolsVersion(versionListener);
         } catch (Exception e) {
             log.error("Failed to auto load all MCP tools to MCP server", e);
             listener.onFailure(e);
         }
     }
 
+    /**
+     * Sync the in-memory tools with the MCP tools index. Register, update and remove requests already push the changed
+     * tools to all nodes, so this only catches up on missed notifications: it compares the version of the index with the
+     * synced version, fetches the tools changed since the synced version, and reloads all tools only if the number of
+     * tools still doesn't match, e.g. because a remove notification was missed.
+     * @param listener true if the in-memory tools were reconciled, false if they were up to date
+     */
+    public void syncMcpTools(ActionListener<Boolean> listener) {
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<Boolean> restoreListener = ActionListener.runBefore(listener, context::restore);
+            ActionListener<McpToolsHelper.ToolsVersion> versionListener = ActionListener.wrap(version -> {
+                long syncedSeqNo = syncedToolsSeqNo;
+                if (version.getMaxSeqNo() == syncedSeqNo && version.getToolCount() == IN_MEMORY_MCP_TOOLS.size()) {
+                    restoreListener.onResponse(false);
+                    return;
+                }
+                ActionListener<Map<String, Tuple<McpToolRegisterInput, Long>>> changedToolsListener = ActionListener.wrap(r -> {
+                    loadTools(r, false);
+                    if (version.getToolCount() == IN_MEMORY_MCP_TOOLS.size()) {
+                        syncedToolsSeqNo = version.getMaxSeqNo();
+                        restoreListener.onResponse(true);
+                        return;
+                    }
+                    log.debug("In-memory MCP tools don't match the MCP tools index, reloading all tools");
+                    mcpToolsHelper.searchAllToolsWithVersion(ActionListener.wrap(allTools -> {
+                        loadTools(allTools, true);
+                        syncedToolsSeqNo = version.getMaxSeqNo();
+                        restoreListener.onResponse(true);
+                    }, restoreListener::onFailure));
+                }, restoreListener::onFailure);
+                mcpToolsHelper.searchToolsChangedSince(syncedSeqNo, changedToolsListener);
+            }, restoreListener::onFailure);
+            mcpToolsHelper.getToolsVersion(versionListener);
+        } catch (Exception e) {
+            log.error("Failed to sync MCP tools", e);
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Add or update the given tools in the MCP server.
+     * @param tools tools with their versions
+     * @param removeMissingTools whether the given tools are all tools, so in-memory tools missing from them are removed
+     */
+    private void loadTools(Map<String, Tuple<McpToolRegisterInput, Long>> tools, boolean removeMissingTools) {
+        tools.forEach((key, value) -> {
+            // Use putIfAbsent to make check-and-act atomic
+            Long previousVersion = IN_MEMORY_MCP_TOOLS.putIfAbsent(key, value.v2());
+            if (previousVersion == null) {
+                // We successfully added the key, now add the tool
+                getMcpStatelessAsyncServerInstance().addTool(mcpToolsHelper.createToolSpecification(value.v1())).doOnError(x -> {
+                    // If tool addition fails, remove from memory cache
+                    IN_MEMORY_MCP_TOOLS.remove(key);
+                    log.error("Failed to auto load tool: {}", value.v1().getName(), x);
+                }).subscribe();
+            } else if (previousVersion < value.v2()) {
+                // Chain the operations to avoid race conditions
+                getMcpStatelessAsyncServerInstance().removeTool(key).onErrorResume(e -> {
+                    log.warn("Failed to remove old tool version: {}", key, e);
+                    return Mono.empty();
+                })
+                    .then(getMcpStatelessAsyncServerInstance().addTool(mcpToolsHelper.createToolSpecification(value.v1())))
+                    .doOnSuccess(x -> {
+                        IN_MEMORY_MCP_TOOLS.put(key, value.v2());
+                        log.info("Successfully updated tool: {} to version: {}", key, value.v2());
+                    })
+                    .doOnError(x -> log.error("Failed to update tool: {} to version: {}", value.v1().getName(), value.v2(), x))
+                    .subscribe();
+            }
+        });
+        if (removeMissingTools) {
+            IN_MEMORY_MCP_TOOLS.keySet().stream().filter(key -> !tools.containsKey(key)).toList().forEach(key -> {
+                if (IN_MEMORY_MCP_TOOLS.remove(key) != null) {
+                    getMcpStatelessAsyncServerInstance()
+                        .removeTool(key)
+                        .doOnError(x -> log.warn("Failed to remove tool: {} which is not in the MCP tools index", key, x))
+                        .subscribe();
+                }
+            });
+        }
+    }
+
     /**
      * Start the sync job for auto-reloading MCP tools
      */
     public void startSyncMcpToolsJob() {
-        ActionListener<Boolean> listener = ActionListener
-            .wrap(r -> { log.debug("Auto reload mcp tools schedule job run successfully!"); }, e -> {
-                log.error(e.getMessage(), e);
-            });
+        ActionListener<Boolean> listener = ActionListener.runAfter(ActionListener.wrap(r -> {
+            log.debug("Auto reload mcp tools schedule job run successfully, tools changed: {}", r);
+        }, e -> { log.error(e.getMessage(), e); }), this::startSyncMcpToolsJob);
         threadPool
-            .schedule(
-                () -> autoLoadAllMcpTools(listener),
-                TimeValue.timeValueSeconds(SYNC_MCP_TOOLS_JOB_INTERVAL),
-                MCP_TOOLS_SYNC_THREAD_POOL
-            );
+            .schedule(() -> syncMcpTools(listener), TimeValue.timeValueSeconds(SYNC_MCP_TOOLS_JOB_INTERVAL), MCP_TOOLS_SYNC_THREAD_POOL);
     }
 
 }
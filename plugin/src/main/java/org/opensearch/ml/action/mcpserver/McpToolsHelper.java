@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchException;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
@@ -27,9 +28,12 @@ import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.MLIndex;
 import org.opensearch.ml.common.spi.tools.Tool;
@@ -37,6 +41,8 @@ import org.opensearch.ml.common.transport.mcpserver.requests.McpToolBaseInput;
 import org.opensearch.ml.common.transport.mcpserver.requests.register.McpToolRegisterInput;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.rest.mcpserver.ToolFactoryWrapper;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.metrics.Max;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.transport.client.Client;
 
@@ -44,6 +50,7 @@ import com.google.common.collect.ImmutableMap;
 
 import io.modelcontextprotocol.server.McpStatelessServerFeatures;
 import io.modelcontextprotocol.spec.McpSchema;
+import lombok.Value;
 import lombok.extern.log4j.Log4j2;
 import reactor.core.publisher.Mono;
 
@@ -53,6 +60,7 @@ import reactor.core.publisher.Mono;
 @Log4j2
 public class McpToolsHelper {
     public static final int MAX_TOOL_NUMBER = 1000;
+    static final String MAX_SEQ_NO_AGGREGATION = "max_seq_no";
     private final Client client;
     private final ToolFactoryWrapper toolFactoryWrapper;
 
@@ -218,6 +226,64 @@ public class McpToolsHelper {
     }
 
     public void searchAllToolsWithVersion(ActionListener<Map<String, Tuple<McpToolRegisterInput, Long>>> listener) {
+        searchToolsWithVersion(buildSearchRequest(), listener);
+    }
+
+    /**
+     * Search the tools which are registered or updated after the given sequence number of the MCP tools index.
+     * @param seqNo sequence number of the MCP tools index which is already synced
+     * @param listener tools with their versions
+     */
+    public void searchToolsChangedSince(long seqNo, ActionListener<Map<String, Tuple<McpToolRegisterInput, Long>>> listener) {
+        SearchRequest searchRequest = buildSearchRequest();
+        searchRequest.source().query(QueryBuilders.rangeQuery(SeqNoFieldMapper.NAME).gt(seqNo));
+        searchToolsWithVersion(searchRequest, listener);
+    }
+
+    /**
+     * Get the version of the MCP tools index: the highest sequence number of the tool documents and the number of tools.
+     * Every register and update bumps the highest sequence number and every remove changes the number of tools, so
+     * nodes can check if their in-memory tools are up to date without fetching the tools. A missing index is reported
+     * as a version without tools.
+     */
+    public void getToolsVersion(ActionListener<ToolsVersion> listener) {
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<ToolsVersion> restoreListener = ActionListener.runBefore(listener, context::restore);
+            ActionListener<SearchResponse> actionListener = ActionListener.wrap(r -> {
+                Max maxSeqNo = r.getAggregations() == null ? null : r.getAggregations().get(MAX_SEQ_NO_AGGREGATION);
+                long toolCount = r.getHits().getTotalHits() == null ? 0 : r.getHits().getTotalHits().value();
+                restoreListener.onResponse(new ToolsVersion(toSeqNo(maxSeqNo), toolCount));
+            }, e -> {
+                if (ExceptionsHelper.unwrap(e, IndexNotFoundException.class) != null) {
+                    restoreListener.onResponse(ToolsVersion.EMPTY);
+                    return;
+                }
+                String errMsg = String.format(Locale.ROOT, "Failed to get version of mcp tools index with error: %s", e.getMessage());
+                log.error(errMsg, e);
+                restoreListener.onFailure(new OpenSearchException(errMsg));
+            });
+            SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+                .size(0)
+                .trackTotalHits(true)
+                .aggregation(AggregationBuilders.max(MAX_SEQ_NO_AGGREGATION).field(SeqNoFieldMapper.NAME));
+            client.search(new SearchRequest(MLIndex.MCP_TOOLS.getIndexName()).source(searchSourceBuilder), actionListener);
+        } catch (Exception e) {
+            log.error("Failed to get version of mcp tools index", e);
+            listener.onFailure(e);
+        }
+    }
+
+    private static long toSeqNo(Max maxSeqNo) {
+        if (maxSeqNo == null || Double.isInfinite(maxSeqNo.getValue())) {
+            return SequenceNumbers.NO_OPS_PERFORMED;
+        }
+        return (long) maxSeqNo.getValue();
+    }
+
+    private void searchToolsWithVersion(
+        SearchRequest searchRequest,
+        ActionListener<Map<String, Tuple<McpToolRegisterInput, Long>>> listener
+    ) {
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<Map<String, Tuple<McpToolRegisterInput, Long>>> restoreListener = ActionListener
                 .runBefore(listener, context::restore);
@@ -256,7 +322,7 @@ public class McpToolsHelper {
                 log.error(errMsg, e);
                 restoreListener.onFailure(new OpenSearchException(errMsg));
             });
-            client.search(buildSearchRequest(), actionListener);
+            client.search(searchRequest, actionListener);
         } catch (Exception e) {
             log.error("Failed to search mcp tools index", e);
             listener.onFailure(e);
@@ -289,6 +355,17 @@ public class McpToolsHelper {
         return searchRequest;
     }
 
+    /**
+     * Version of the MCP tools index, see {@link #getToolsVersion}.
+     */
+    @Value
+    public static class ToolsVersion {
+        public static final ToolsVersion EMPTY = new ToolsVersion(SequenceNumbers.NO_OPS_PERFORMED, 0);
+
+        long maxSeqNo;
+        long toolCount;
+    }
+
     private McpToolRegisterInput parseMcpTool(String input) throws IOException {
         try (XContentParser parser = jsonXContent.createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, input)) {
             ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
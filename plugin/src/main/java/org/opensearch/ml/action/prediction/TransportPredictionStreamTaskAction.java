@@ -25,6 +25,7 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.PredictStage;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionStreamTaskAction;
@@ -276,6 +277,7 @@ public class TransportPredictionStreamTaskAction extends HandledTransportAction<
                 long endTime = System.nanoTime();
                 double durationInMs = (endTime - startTime) / 1e6;
                 modelCacheHelper.addPredictRequestDuration(modelId, durationInMs);
+                mlModelManager.recordPredictLatency(modelId, PredictStage.PREDICT_REQUEST, durationInMs);
                 modelCacheHelper.refreshLastAccessTime(modelId);
                 log.debug("completed predict request {} for model {}", requestId, modelId);
             }));
@@ -29,6 +29,7 @@ import org.opensearch.ml.common.connector.ConnectorAction.ActionType;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.PredictStage;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
@@ -279,6 +280,7 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
                     long endTime = System.nanoTime();
                     double durationInMs = (endTime - startTime) / 1e6;
                     modelCacheHelper.addPredictRequestDuration(modelId, durationInMs);
+                    mlModelManager.recordPredictLatency(modelId, PredictStage.PREDICT_REQUEST, durationInMs);
                     modelCacheHelper.refreshLastAccessTime(modelId);
                     log.debug("completed predict request {} for model {}", requestId, modelId);
                 })
@@ -5,9 +5,12 @@
 
 package org.opensearch.ml.action.stats;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_6_0;
+
 import java.io.IOException;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 import org.opensearch.action.support.nodes.BaseNodeResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -16,12 +19,15 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.model.PredictStage;
 import org.opensearch.ml.stats.MLAlgoStats;
+import org.opensearch.ml.stats.MLLatencyHistogram;
 import org.opensearch.ml.stats.MLModelStats;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStatsInput;
 
 public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentFragment {
+    public static final String CONNECTORS = "connectors";
     /**
      * Node level stats.
      */
@@ -38,6 +44,12 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
      * Example: {model_id: { predict: { request_count: 1} }}
      */
     private Map<String, MLModelStats> modelStats;
+    /**
+     * Connector latency stats.
+     *
+     * Example: {connector_id: { remote_invocation: { count: 1, p50: 10.0 } }}
+     */
+    private Map<String, Map<PredictStage, MLLatencyHistogram>> connectorLatencyStats;
 
     /**
      * Constructor
@@ -56,6 +68,13 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
         if (in.readBoolean()) {
             this.modelStats = in.readMap(stream -> stream.readOptionalString(), MLModelStats::new);
         }
+        if (in.getVersion().onOrAfter(VERSION_3_6_0) && in.readBoolean()) {
+            this.connectorLatencyStats = in
+                .readMap(
+                    StreamInput::readString,
+                    stream -> stream.readMap(s -> s.readEnum(PredictStage.class), MLLatencyHistogram::new)
+                );
+        }
     }
 
     public MLStatsNodeResponse(DiscoveryNode node, Map<MLNodeLevelStat, Object> nodeStats) {
@@ -68,15 +87,26 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
         Map<MLNodeLevelStat, Object> nodeStats,
         Map<FunctionName, MLAlgoStats> algorithmStats,
         Map<String, MLModelStats> modelStats
+    ) {
+        this(node, nodeStats, algorithmStats, modelStats, null);
+    }
+
+    public MLStatsNodeResponse(
+        DiscoveryNode node,
+        Map<MLNodeLevelStat, Object> nodeStats,
+        Map<FunctionName, MLAlgoStats> algorithmStats,
+        Map<String, MLModelStats> modelStats,
+        Map<String, Map<PredictStage, MLLatencyHistogram>> connectorLatencyStats
     ) {
         super(node);
         this.nodeStats = nodeStats;
         this.algorithmStats = algorithmStats;
         this.modelStats = modelStats;
+        this.connectorLatencyStats = connectorLatencyStats;
     }
 
     public boolean isEmpty() {
-        return getNodeLevelStatSize() == 0 && getAlgorithmStatSize() == 0 && getModelStatSize() == 0;
+        return getNodeLevelStatSize() == 0 && getAlgorithmStatSize() == 0 && getModelStatSize() == 0 && getConnectorStatSize() == 0;
     }
 
     /**
@@ -111,6 +141,20 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
         } else {
             out.writeBoolean(false);
         }
+        if (out.getVersion().onOrAfter(VERSION_3_6_0)) {
+            if (connectorLatencyStats != null) {
+                out.writeBoolean(true);
+                out
+                    .writeMap(
+                        connectorLatencyStats,
+                        StreamOutput::writeString,
+                        (stream, stats) -> stream
+                            .writeMap(stats, (s, v) -> s.writeEnum(v), (s, histogram) -> histogram.writeTo(s))
+                    );
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
@@ -137,6 +181,17 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
             }
             builder.endObject();
         }
+        if (connectorLatencyStats != null && connectorLatencyStats.size() > 0) {
+            builder.startObject(CONNECTORS);
+            for (Map.Entry<String, Map<PredictStage, MLLatencyHistogram>> stat : connectorLatencyStats.entrySet()) {
+                builder.startObject(stat.getKey());
+                builder.startObject(MLModelStats.LATENCY_FIELD);
+                MLModelStats.toLatencyXContent(builder, params, stat.getValue());
+                builder.endObject();
+                builder.endObject();
+            }
+            builder.endObject();
+        }
         return builder;
     }
 
@@ -156,6 +211,18 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
         return modelStats == null ? 0 : modelStats.size();
     }
 
+    public int getConnectorStatSize() {
+        return connectorLatencyStats == null ? 0 : connectorLatencyStats.size();
+    }
+
+    public Set<String> getConnectorIds() {
+        return connectorLatencyStats == null ? Set.of() : connectorLatencyStats.keySet();
+    }
+
+    public Set<String> getModelIds() {
+        return modelStats == null ? Set.of() : modelStats.keySet();
+    }
+
     public boolean hasAlgorithmStats(FunctionName algorithm) {
         return algorithmStats != null && algorithmStats.containsKey(algorithm);
     }
@@ -172,6 +239,10 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
         return modelStats == null ? null : modelStats.get(modelId);
     }
 
+    public Map<PredictStage, MLLatencyHistogram> getConnectorLatencyStats(String connectorId) {
+        return connectorLatencyStats == null ? null : connectorLatencyStats.get(connectorId);
+    }
+
     public void removeAlgorithmStats(FunctionName algorithm) {
         if (algorithmStats != null) {
             algorithmStats.remove(algorithm);
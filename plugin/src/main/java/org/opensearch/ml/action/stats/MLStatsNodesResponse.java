@@ -6,7 +6,10 @@
 package org.opensearch.ml.action.stats;
 
 import java.io.IOException;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.support.nodes.BaseNodesResponse;
@@ -16,9 +19,14 @@ import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.model.PredictStage;
+import org.opensearch.ml.stats.MLLatencyHistogram;
+import org.opensearch.ml.stats.MLModelStats;
+import org.opensearch.ml.stats.MLStatsInput;
 
 public class MLStatsNodesResponse extends BaseNodesResponse<MLStatsNodeResponse> implements ToXContentObject {
     private static final String NODES_KEY = "nodes";
+    public static final String LATENCY_KEY = "latency";
 
     /**
      * Constructor
@@ -71,4 +79,60 @@ public class MLStatsNodesResponse extends BaseNodesResponse<MLStatsNodeResponse>
         builder.endObject();
         return builder;
     }
+
+    /**
+     * Write the latency histograms of all nodes merged by model and by connector.
+     *
+     * Example: {latency: { models: { model_id: { remote_invocation: { count: 2, p50: 10.0 } } }, connectors: {...} }}
+     */
+    public XContentBuilder toMergedLatencyXContent(XContentBuilder builder, Params params) throws IOException {
+        Map<String, Map<PredictStage, MLLatencyHistogram>> models = new TreeMap<>();
+        Map<String, Map<PredictStage, MLLatencyHistogram>> connectors = new TreeMap<>();
+        for (MLStatsNodeResponse nodeStats : getNodes()) {
+            for (String modelId : nodeStats.getModelIds()) {
+                mergeLatencyStats(models, modelId, nodeStats.getModelStats(modelId).getLatencyStats());
+            }
+            for (String connectorId : nodeStats.getConnectorIds()) {
+                mergeLatencyStats(connectors, connectorId, nodeStats.getConnectorLatencyStats(connectorId));
+            }
+        }
+        if (models.isEmpty() && connectors.isEmpty()) {
+            return builder;
+        }
+        builder.startObject(LATENCY_KEY);
+        latencyToXContent(builder, params, MLStatsInput.MODELS, models);
+        latencyToXContent(builder, params, MLStatsNodeResponse.CONNECTORS, connectors);
+        builder.endObject();
+        return builder;
+    }
+
+    private void mergeLatencyStats(
+        Map<String, Map<PredictStage, MLLatencyHistogram>> merged,
+        String id,
+        Map<PredictStage, MLLatencyHistogram> latencyStats
+    ) {
+        if (latencyStats == null || latencyStats.isEmpty()) {
+            return;
+        }
+        Map<PredictStage, MLLatencyHistogram> mergedStats = merged.computeIfAbsent(id, it -> new EnumMap<>(PredictStage.class));
+        latencyStats.forEach((stage, histogram) -> mergedStats.computeIfAbsent(stage, it -> new MLLatencyHistogram()).merge(histogram));
+    }
+
+    private void latencyToXContent(
+        XContentBuilder builder,
+        Params params,
+        String field,
+        Map<String, Map<PredictStage, MLLatencyHistogram>> latencyStats
+    ) throws IOException {
+        if (latencyStats.isEmpty()) {
+            return;
+        }
+        builder.startObject(field);
+        for (Map.Entry<String, Map<PredictStage, MLLatencyHistogram>> entry : latencyStats.entrySet()) {
+            builder.startObject(entry.getKey());
+            MLModelStats.toLatencyXContent(builder, params, entry.getValue());
+            builder.endObject();
+        }
+        builder.endObject();
+    }
 }
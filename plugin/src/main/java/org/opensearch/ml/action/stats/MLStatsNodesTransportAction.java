@@ -21,10 +21,12 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.env.Environment;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.model.PredictStage;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionStats;
 import org.opensearch.ml.stats.MLAlgoStats;
+import org.opensearch.ml.stats.MLLatencyHistogram;
 import org.opensearch.ml.stats.MLModelStats;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStatLevel;
@@ -116,7 +118,8 @@ public class MLStatsNodesTransportAction extends
         Map<MLNodeLevelStat, Object> nodeLevelStats = getNodeLevelStats(request.getMlStatsInput());
         Map<FunctionName, MLAlgoStats> algoStats = getAlgorithmStats(request.getMlStatsInput());
         Map<String, MLModelStats> modelStats = getModelStats(request);
-        return new MLStatsNodeResponse(clusterService.localNode(), nodeLevelStats, algoStats, modelStats);
+        Map<String, Map<PredictStage, MLLatencyHistogram>> connectorLatencyStats = getConnectorLatencyStats(request.getMlStatsInput());
+        return new MLStatsNodeResponse(clusterService.localNode(), nodeLevelStats, algoStats, modelStats, connectorLatencyStats);
     }
 
     private Map<MLNodeLevelStat, Object> getNodeLevelStats(MLStatsInput input) {
@@ -171,13 +174,27 @@ public class MLStatsNodesTransportAction extends
                         request.getMlStatsInput()
                     );
                     boolean isHidden = hiddenModels.contains(modelId);
-                    stats.put(modelId, new MLModelStats(actionStats, isHidden));
+                    Map<PredictStage, MLLatencyHistogram> latencyStats = null;
+                    if (request.getMlStatsInput().retrieveStatsForAction(ActionName.PREDICT)) {
+                        latencyStats = mlStats.getModelLatencyStats(modelId);
+                    }
+                    stats.put(modelId, new MLModelStats(actionStats, isHidden, latencyStats));
                 }
             }
         }
         return stats;
     }
 
+    private Map<String, Map<PredictStage, MLLatencyHistogram>> getConnectorLatencyStats(MLStatsInput input) {
+        Map<String, Map<PredictStage, MLLatencyHistogram>> stats = new HashMap<>();
+        if (input.includeModelStats() && input.retrieveStatsForAction(ActionName.PREDICT)) {
+            for (String connectorId : mlStats.getAllConnectors()) {
+                stats.put(connectorId, mlStats.getConnectorLatencyStats(connectorId));
+            }
+        }
+        return stats;
+    }
+
     @VisibleForTesting
     boolean isSuperAdminUserWrapper(ClusterService clusterService, Client client) {
         return RestActionUtils.isSuperAdminUser(clusterService, client);
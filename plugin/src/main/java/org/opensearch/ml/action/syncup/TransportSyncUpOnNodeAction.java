@@ -12,6 +12,8 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -65,6 +67,13 @@ public class TransportSyncUpOnNodeAction extends
 
     private volatile Integer mlTaskTimeout;
 
+    // Version of the model routing table synced from sync up cron. It's reset to null when the routing table is changed
+    // by other actions, so the cron sends the full routing table instead of a delta in the next sync up.
+    private Long routingVersion;
+    // Version of the local state reported to sync up cron, increased whenever the reported state changes.
+    private long localStateVersion;
+    private List<Set<String>> lastReportedState;
+
     private final MLModelCacheHelper mlModelCacheHelper;
 
     @Inject
@@ -143,41 +152,75 @@ public class TransportSyncUpOnNodeAction extends
         // and all values in this map is false.
         Map<String, Boolean> deployToAllNodes = syncUpInput.getDeployToAllNodes();
 
-        if (addedWorkerNodes != null && addedWorkerNodes.size() > 0) {
-            for (Map.Entry<String, String[]> entry : addedWorkerNodes.entrySet()) {
-                mlModelManager.addModelWorkerNode(entry.getKey(), entry.getValue());
-            }
-        }
-        if (removedWorkerNodes != null && removedWorkerNodes.size() > 0) {
-            for (Map.Entry<String, String[]> entry : removedWorkerNodes.entrySet()) {
-                mlModelManager
-                    .removeModelWorkerNode(
-                        entry.getKey(),
-                        Optional.ofNullable(deployToAllNodes).orElse(ImmutableMap.of()).containsKey(entry.getKey()),
-                        entry.getValue()
-                    );
-            }
-        }
-
         String[] deployedModelIds = null;
         String[] runningDeployModelTaskIds = null;
         String[] runningDeployModelIds = null;
         String[] expiredModelIds = null;
-        if (syncUpInput.isGetDeployedModels()) {
-            deployedModelIds = mlModelManager.getLocalDeployedModels();
-            List<String[]> localRunningDeployModel = mlTaskManager.getLocalRunningDeployModelTasks();
-            runningDeployModelTaskIds = localRunningDeployModel.get(0);
-            runningDeployModelIds = localRunningDeployModel.get(1);
-            expiredModelIds = mlModelManager.getExpiredModels();
-        }
+        Long stateVersion = null;
+        boolean stateUnchanged = false;
+        Long currentRoutingVersion;
+        synchronized (this) {
+            boolean routingChanged = false;
+            if (addedWorkerNodes != null && addedWorkerNodes.size() > 0) {
+                routingChanged = true;
+                for (Map.Entry<String, String[]> entry : addedWorkerNodes.entrySet()) {
+                    mlModelManager.addModelWorkerNode(entry.getKey(), entry.getValue());
+                }
+            }
+            if (removedWorkerNodes != null && removedWorkerNodes.size() > 0) {
+                routingChanged = true;
+                for (Map.Entry<String, String[]> entry : removedWorkerNodes.entrySet()) {
+                    mlModelManager
+                        .removeModelWorkerNode(
+                            entry.getKey(),
+                            Optional.ofNullable(deployToAllNodes).orElse(ImmutableMap.of()).containsKey(entry.getKey()),
+                            entry.getValue()
+                        );
+                }
+            }
+
+            if (syncUpInput.isGetDeployedModels()) {
+                deployedModelIds = mlModelManager.getLocalDeployedModels();
+                List<String[]> localRunningDeployModel = mlTaskManager.getLocalRunningDeployModelTasks();
+                runningDeployModelTaskIds = localRunningDeployModel.get(0);
+                runningDeployModelIds = localRunningDeployModel.get(1);
+                expiredModelIds = mlModelManager.getExpiredModels();
+
+                List<Set<String>> localState = Arrays
+                    .asList(toSet(deployedModelIds), toSet(runningDeployModelIds), toSet(runningDeployModelTaskIds), toSet(expiredModelIds));
+                if (!localState.equals(lastReportedState)) {
+                    localStateVersion++;
+                    lastReportedState = localState;
+                }
+                stateVersion = localStateVersion;
+                Map<String, Long> acknowledgedVersions = syncUpInput.getNodeStateVersions();
+                Long acknowledgedVersion = acknowledgedVersions == null ? null : acknowledgedVersions.get(clusterService.localNode().getId());
+                if (acknowledgedVersion != null && acknowledgedVersion == localStateVersion) {
+                    // sync up cron already has the same state, no need to send it again
+                    stateUnchanged = true;
+                    deployedModelIds = null;
+                    runningDeployModelTaskIds = null;
+                    runningDeployModelIds = null;
+                    expiredModelIds = null;
+                }
+            }
 
-        if (syncUpInput.isClearRoutingTable()) {
-            mlModelManager.clearRoutingTable();
-        } else if (modelRoutingTable != null) {
-            for (Map.Entry<String, Set<String>> entry : modelRoutingTable.entrySet()) {
-                log.debug("latest routing table for model: {}:  {}", entry.getKey(), entry.getValue().toArray(new String[0]));
+            if (syncUpInput.isClearRoutingTable()) {
+                mlModelManager.clearRoutingTable();
+                routingVersion = syncUpInput.getRoutingVersion();
+            } else if (modelRoutingTable != null) {
+                for (Map.Entry<String, Set<String>> entry : modelRoutingTable.entrySet()) {
+                    log.debug("latest routing table for model: {}:  {}", entry.getKey(), entry.getValue().toArray(new String[0]));
+                }
+                mlModelManager.syncModelWorkerNodes(modelRoutingTable);
+                routingVersion = syncUpInput.getRoutingVersion();
+            } else if (syncUpInput.getBaseRoutingVersion() != null) {
+                // routing delta from sync up cron can only be applied on the routing table it's based on
+                routingVersion = syncUpInput.getBaseRoutingVersion().equals(routingVersion) ? syncUpInput.getRoutingVersion() : null;
+            } else if (routingChanged) {
+                routingVersion = null;
             }
-            mlModelManager.syncModelWorkerNodes(modelRoutingTable);
+            currentRoutingVersion = routingVersion;
         }
 
         cleanUpLocalCache(runningDeployModelTasks);
@@ -189,10 +232,17 @@ public class TransportSyncUpOnNodeAction extends
             deployedModelIds,
             runningDeployModelIds,
             runningDeployModelTaskIds,
-            expiredModelIds
+            expiredModelIds,
+            stateVersion,
+            stateUnchanged,
+            currentRoutingVersion
         );
     }
 
+    private static Set<String> toSet(String[] ids) {
+        return ids == null ? Collections.emptySet() : new HashSet<>(Arrays.asList(ids));
+    }
+
     @VisibleForTesting
     void cleanUpLocalCache(Map<String, Set<String>> runningDeployModelTasks) {
         String[] allTaskIds = mlTaskManager.getAllTaskIds();
@@ -10,6 +10,7 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.ml.common.CommonValue.ML_CONNECTOR_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
 import static org.opensearch.ml.common.MLTask.REMOTE_JOB_FIELD;
+import static org.opensearch.ml.common.MLTask.REMOTE_JOB_LAST_POLLED_TIME_FIELD;
 import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.common.MLTaskState.CANCELLED;
 import static org.opensearch.ml.common.MLTaskState.CANCELLING;
@@ -474,6 +475,10 @@ public class GetTaskTransportAction extends HandledTransportAction<ActionRequest
         connectorExecutor.setClusterService(clusterService);
         connectorExecutor.setClient(client);
         connectorExecutor.setXContentRegistry(xContentRegistry);
+        if (!isUserInitiatedGetTaskRequest) {
+            // saved with the remote job status, so the batch task poller can spread the polling of tasks
+            remoteJob.put(REMOTE_JOB_LAST_POLLED_TIME_FIELD, Instant.now().toEpochMilli());
+        }
         connectorExecutor.executeAction(BATCH_PREDICT_STATUS.name(), mlInput, ActionListener.wrap(taskResponse -> {
             processTaskResponse(
                 mlTask,
@@ -178,6 +178,7 @@ public class TransportUndeployModelAction extends
                         updateDocument.put(MLModel.PLANNING_WORKER_NODE_COUNT_FIELD, 0);
                         updateDocument.put(MLModel.CURRENT_WORKER_NODE_COUNT_FIELD, 0);
                         updateDocument.put(MLModel.MODEL_STATE_FIELD, MLModelState.UNDEPLOYED);
+                        updateDocument.put(MLModel.IS_EVICTED_FIELD, false);
                     } else { // undeploy partial nodes.
                         // TODO (to fix) when undeploy partial nodes, the original model status could be partially_deployed,
                         // and the user could be undeploying not running model nodes, and we should update model status to deployed.
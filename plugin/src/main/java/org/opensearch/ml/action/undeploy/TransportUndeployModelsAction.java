@@ -240,6 +240,7 @@ public class TransportUndeployModelsAction extends HandledTransportAction<Action
             updateDocument.put(MLModel.PLANNING_WORKER_NODE_COUNT_FIELD, 0);
             updateDocument.put(MLModel.LAST_UPDATED_TIME_FIELD, Instant.now().toEpochMilli());
             updateDocument.put(MLModel.CURRENT_WORKER_NODE_COUNT_FIELD, 0);
+            updateDocument.put(MLModel.IS_EVICTED_FIELD, false);
 
             UpdateDataObjectRequest updateRequest = UpdateDataObjectRequest
                 .builder()
@@ -0,0 +1,378 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.autoscale;
+
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_COOLDOWN;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_MAX_WORKER_NODES;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_SUSTAINED_INTERVALS;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_UP_PREDICT_RATE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_UP_QUEUE_DEPTH;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.action.stats.MLStatsNodeResponse;
+import org.opensearch.ml.action.stats.MLStatsNodesAction;
+import org.opensearch.ml.action.stats.MLStatsNodesRequest;
+import org.opensearch.ml.action.stats.MLStatsNodesResponse;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelRequest;
+import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsAction;
+import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.stats.ActionName;
+import org.opensearch.ml.stats.MLActionLevelStat;
+import org.opensearch.ml.stats.MLActionStats;
+import org.opensearch.ml.stats.MLClusterLevelStat;
+import org.opensearch.ml.stats.MLModelStats;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStatLevel;
+import org.opensearch.ml.stats.MLStatsInput;
+import org.opensearch.transport.client.Client;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Adds worker nodes to local models whose prediction load stays high and removes them again once the model goes idle.
+ * Runs periodically on the cluster manager node. Prediction rate comes from the per model predict request count and queue
+ * depth from the executing task count of the worker nodes. Worker nodes added by the auto scaler are persisted with the model
+ * and only those are removed, so the deployment plan chosen by the user is the lower bound, also across cluster manager changes.
+ */
+@Log4j2
+public class MLModelAutoScaler implements Runnable {
+
+    private final Client client;
+    private final DiscoveryNodeHelper nodeHelper;
+    private final MLModelManager mlModelManager;
+    private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
+
+    private volatile int scaleUpPredictRate;
+    private volatile int scaleUpQueueDepth;
+    private volatile int sustainedIntervals;
+    private volatile int maxWorkerNodes;
+    private volatile TimeValue cooldown;
+    private volatile boolean allowCustomDeploymentPlan;
+
+    private final Map<String, ModelScaleState> modelScaleStates = new ConcurrentHashMap<>();
+
+    public MLModelAutoScaler(
+        Client client,
+        ClusterService clusterService,
+        Settings settings,
+        DiscoveryNodeHelper nodeHelper,
+        MLModelManager mlModelManager,
+        MLFeatureEnabledSetting mlFeatureEnabledSetting
+    ) {
+        this.client = client;
+        this.nodeHelper = nodeHelper;
+        this.mlModelManager = mlModelManager;
+        this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+
+        scaleUpPredictRate = ML_COMMONS_MODEL_AUTO_SCALE_UP_PREDICT_RATE.get(settings);
+        scaleUpQueueDepth = ML_COMMONS_MODEL_AUTO_SCALE_UP_QUEUE_DEPTH.get(settings);
+        sustainedIntervals = ML_COMMONS_MODEL_AUTO_SCALE_SUSTAINED_INTERVALS.get(settings);
+        maxWorkerNodes = ML_COMMONS_MODEL_AUTO_SCALE_MAX_WORKER_NODES.get(settings);
+        cooldown = ML_COMMONS_MODEL_AUTO_SCALE_COOLDOWN.get(settings);
+        allowCustomDeploymentPlan = ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN.get(settings);
+
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_SCALE_UP_PREDICT_RATE, it -> scaleUpPredictRate = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_SCALE_UP_QUEUE_DEPTH, it -> scaleUpQueueDepth = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_SCALE_SUSTAINED_INTERVALS, it -> sustainedIntervals = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_SCALE_MAX_WORKER_NODES, it -> maxWorkerNodes = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_SCALE_COOLDOWN, it -> cooldown = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN, it -> allowCustomDeploymentPlan = it);
+    }
+
+    @Override
+    public void run() {
+        if (mlFeatureEnabledSetting.isMultiTenancyEnabled()) {
+            log.debug("Model auto scaling is not supported when multi-tenancy is enabled");
+            return;
+        }
+        if (!allowCustomDeploymentPlan) {
+            log.debug("Model auto scaling requires custom deployment plan to be allowed, skip this round");
+            return;
+        }
+        String[] modelIds = mlModelManager.getAllModelIds();
+        if (modelIds == null || modelIds.length == 0) {
+            modelScaleStates.clear();
+            return;
+        }
+        MLStatsInput mlStatsInput = MLStatsInput
+            .builder()
+            .targetStatLevels(EnumSet.of(MLStatLevel.NODE, MLStatLevel.MODEL))
+            .clusterLevelStats(EnumSet.noneOf(MLClusterLevelStat.class))
+            .nodeLevelStats(EnumSet.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT))
+            .actionLevelStats(EnumSet.of(MLActionLevelStat.ML_ACTION_REQUEST_COUNT))
+            .nodeIds(new HashSet<>())
+            .algorithms(EnumSet.noneOf(FunctionName.class))
+            .models(new HashSet<>(Arrays.asList(modelIds)))
+            .actions(EnumSet.of(ActionName.PREDICT))
+            .build();
+        MLStatsNodesRequest mlStatsNodesRequest = new MLStatsNodesRequest(nodeHelper.getAllNodeIds(), mlStatsInput);
+        client
+            .execute(
+                MLStatsNodesAction.INSTANCE,
+                mlStatsNodesRequest,
+                ActionListener
+                    .wrap(
+                        response -> evaluate(response, Instant.now()),
+                        e -> log.error("Failed to collect model stats for auto scaling", e)
+                    )
+            );
+    }
+
+    /**
+     * Clear the load history of all models, called when the local node is no longer the cluster manager.
+     */
+    public void clear() {
+        modelScaleStates.clear();
+    }
+
+    @VisibleForTesting
+    void evaluate(MLStatsNodesResponse response, Instant now) {
+        Map<String, Long> nodeTaskCounts = new HashMap<>();
+        Map<String, Long> modelPredictCounts = new HashMap<>();
+        for (MLStatsNodeResponse nodeResponse : response.getNodes()) {
+            long executingTaskCount = toLong(nodeResponse.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT));
+            nodeTaskCounts.put(nodeResponse.getNode().getId(), executingTaskCount);
+            for (String modelId : nodeResponse.getModelIds()) {
+                MLModelStats modelStats = nodeResponse.getModelStats(modelId);
+                MLActionStats predictStats = modelStats == null ? null : modelStats.getActionStats(ActionName.PREDICT);
+                if (predictStats != null) {
+                    long predictCount = toLong(predictStats.getActionStat(MLActionLevelStat.ML_ACTION_REQUEST_COUNT));
+                    modelPredictCounts.merge(modelId, predictCount, Long::sum);
+                }
+            }
+        }
+
+        Set<String> activeModels = new HashSet<>();
+        for (String modelId : mlModelManager.getAllModelIds()) {
+            String[] workerNodes = mlModelManager.getWorkerNodes(modelId, null);
+            if (workerNodes == null || workerNodes.length == 0) {
+                continue;
+            }
+            activeModels.add(modelId);
+            ModelScaleState state = modelScaleStates.computeIfAbsent(modelId, it -> new ModelScaleState());
+            if (state.unscalable) {
+                continue;
+            }
+            long predictCount = modelPredictCounts.getOrDefault(modelId, 0L);
+            Instant lastSampleTime = state.lastSampleTime;
+            long lastPredictCount = state.lastPredictCount;
+            state.lastSampleTime = now;
+            state.lastPredictCount = predictCount;
+            if (lastSampleTime == null) {
+                continue;
+            }
+
+            long predictDelta = Math.max(0, predictCount - lastPredictCount);
+            double elapsedSeconds = Math.max(1, Duration.between(lastSampleTime, now).toSeconds());
+            double predictRatePerNode = predictDelta / elapsedSeconds / workerNodes.length;
+            double queueDepth = Arrays
+                .stream(workerNodes)
+                .mapToLong(nodeId -> nodeTaskCounts.getOrDefault(nodeId, 0L))
+                .average()
+                .orElse(0);
+            if (predictRatePerNode >= scaleUpPredictRate || queueDepth >= scaleUpQueueDepth) {
+                state.hotIntervals++;
+                state.idleIntervals = 0;
+            } else if (predictDelta == 0) {
+                state.idleIntervals++;
+                state.hotIntervals = 0;
+            } else {
+                state.hotIntervals = 0;
+                state.idleIntervals = 0;
+            }
+
+            if (state.inProgress || isCoolingDown(state, now)) {
+                continue;
+            }
+            if (state.hotIntervals >= sustainedIntervals && workerNodes.length < maxWorkerNodes) {
+                log
+                    .info(
+                        "Model {} is hot, predict rate per node: {}, queue depth: {}, adding a worker node",
+                        modelId,
+                        predictRatePerNode,
+                        queueDepth
+                    );
+                scaleUp(modelId, state, workerNodes, nodeTaskCounts, now);
+            } else if (state.idleIntervals >= sustainedIntervals) {
+                scaleDown(modelId, state, workerNodes, now);
+            }
+        }
+        modelScaleStates.keySet().retainAll(activeModels);
+    }
+
+    private void scaleUp(String modelId, ModelScaleState state, String[] workerNodes, Map<String, Long> nodeTaskCounts, Instant now) {
+        state.inProgress = true;
+        mlModelManager.getModel(modelId, ActionListener.wrap(mlModel -> {
+            if (mlModel.getAlgorithm() == FunctionName.REMOTE) {
+                state.unscalable = true;
+                state.inProgress = false;
+                return;
+            }
+            if (mlModel.isDeployToAllNodes()) {
+                log.debug("Model {} is deployed to all eligible nodes, no worker node to add", modelId);
+                state.resetIntervals();
+                state.inProgress = false;
+                return;
+            }
+            Optional<String> targetNode = selectTargetNode(mlModel, workerNodes, nodeTaskCounts);
+            if (targetNode.isEmpty()) {
+                log.debug("No eligible node to add for model {}", modelId);
+                state.resetIntervals();
+                state.inProgress = false;
+                return;
+            }
+            String nodeId = targetNode.get();
+            String[] targetNodeIds = Arrays.copyOf(workerNodes, workerNodes.length + 1);
+            targetNodeIds[workerNodes.length] = nodeId;
+            MLDeployModelRequest deployModelRequest = new MLDeployModelRequest(modelId, null, targetNodeIds, false, true, false);
+            client.execute(MLDeployModelAction.INSTANCE, deployModelRequest, ActionListener.wrap(r -> {
+                log.info("Deploying model {} to node {} to serve its prediction load, task id: {}", modelId, nodeId, r.getTaskId());
+                List<String> autoScaledWorkerNodes = getAutoScaledWorkerNodes(mlModel, workerNodes);
+                autoScaledWorkerNodes.add(nodeId);
+                updateAutoScaledWorkerNodes(modelId, autoScaledWorkerNodes);
+                state.scaled(now);
+            }, e -> {
+                log.error("Failed to add worker node {} for model {}", nodeId, modelId, e);
+                state.scaled(now);
+            }));
+        }, e -> {
+            log.error("Failed to get model {} for auto scaling", modelId, e);
+            state.scaled(now);
+        }));
+    }
+
+    private void scaleDown(String modelId, ModelScaleState state, String[] workerNodes, Instant now) {
+        state.inProgress = true;
+        mlModelManager.getModel(modelId, ActionListener.wrap(mlModel -> {
+            if (mlModel.getAlgorithm() == FunctionName.REMOTE) {
+                state.unscalable = true;
+                state.inProgress = false;
+                return;
+            }
+            List<String> autoScaledWorkerNodes = getAutoScaledWorkerNodes(mlModel, workerNodes);
+            if (autoScaledWorkerNodes.isEmpty()) {
+                state.resetIntervals();
+                state.inProgress = false;
+                return;
+            }
+            String nodeId = autoScaledWorkerNodes.remove(autoScaledWorkerNodes.size() - 1);
+            log.info("Model {} is idle, removing worker node {} added by auto scaling", modelId, nodeId);
+            String[] modelIds = new String[] { modelId };
+            MLUndeployModelsRequest undeployModelsRequest = new MLUndeployModelsRequest(modelIds, new String[] { nodeId }, null);
+            client.execute(MLUndeployModelsAction.INSTANCE, undeployModelsRequest, ActionListener.wrap(r -> {
+                updateAutoScaledWorkerNodes(modelId, autoScaledWorkerNodes);
+                state.scaled(now);
+            }, e -> {
+                log.error("Failed to remove worker node {} for model {}", nodeId, modelId, e);
+                state.scaled(now);
+            }));
+        }, e -> {
+            log.error("Failed to get model {} for auto scaling", modelId, e);
+            state.scaled(now);
+        }));
+    }
+
+    /**
+     * Get the worker nodes added by auto scaling that still serve the model, in the order they were added.
+     */
+    private List<String> getAutoScaledWorkerNodes(MLModel mlModel, String[] workerNodes) {
+        List<String> autoScaledWorkerNodes = new ArrayList<>();
+        if (mlModel.getAutoScaledWorkerNodes() != null) {
+            Set<String> currentWorkerNodes = new HashSet<>(Arrays.asList(workerNodes));
+            Arrays.stream(mlModel.getAutoScaledWorkerNodes()).filter(currentWorkerNodes::contains).forEach(autoScaledWorkerNodes::add);
+        }
+        return autoScaledWorkerNodes;
+    }
+
+    private void updateAutoScaledWorkerNodes(String modelId, List<String> autoScaledWorkerNodes) {
+        mlModelManager
+            .updateModel(
+                modelId,
+                null,
+                Map.of(MLModel.AUTO_SCALED_WORKER_NODES_FIELD, autoScaledWorkerNodes),
+                ActionListener
+                    .wrap(
+                        r -> log.debug("Updated worker nodes added by auto scaling for model {}: {}", modelId, autoScaledWorkerNodes),
+                        e -> log.error("Failed to update worker nodes added by auto scaling for model {}", modelId, e)
+                    )
+            );
+    }
+
+    private Optional<String> selectTargetNode(MLModel mlModel, String[] workerNodes, Map<String, Long> nodeTaskCounts) {
+        Set<String> currentWorkerNodes = new HashSet<>(Arrays.asList(workerNodes));
+        return Arrays
+            .stream(nodeHelper.getEligibleNodes(mlModel.getAlgorithm()))
+            .map(DiscoveryNode::getId)
+            .filter(nodeId -> !currentWorkerNodes.contains(nodeId) && nodeTaskCounts.containsKey(nodeId))
+            .min(Comparator.comparingLong(nodeTaskCounts::get));
+    }
+
+    private boolean isCoolingDown(ModelScaleState state, Instant now) {
+        return state.lastScaleTime != null && state.lastScaleTime.plusMillis(cooldown.millis()).isAfter(now);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
+    private static class ModelScaleState {
+        private volatile Instant lastSampleTime;
+        private volatile long lastPredictCount;
+        private volatile int hotIntervals;
+        private volatile int idleIntervals;
+        private volatile Instant lastScaleTime;
+        private volatile boolean inProgress;
+        private volatile boolean unscalable;
+
+        private void resetIntervals() {
+            hotIntervals = 0;
+            idleIntervals = 0;
+        }
+
+        private void scaled(Instant time) {
+            lastScaleTime = time;
+            resetIntervals();
+            inProgress = false;
+        }
+    }
+}
@@ -5,6 +5,9 @@
 
 package org.opensearch.ml.cluster;
 
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_INTERVAL_IN_SECONDS;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_SYNC_UP_JOB_FULL_SYNC_INTERVAL_IN_SECONDS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
 
@@ -17,6 +20,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.autoredeploy.MLModelAutoReDeployer;
+import org.opensearch.ml.autoscale.MLModelAutoScaler;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
@@ -36,14 +40,19 @@ public class MLCommonsClusterManagerEventListener implements LocalNodeClusterMan
 
     private ThreadPool threadPool;
     private Scheduler.Cancellable syncModelRoutingCron;
+    private Scheduler.Cancellable modelAutoScaleCron;
     private DiscoveryNodeHelper nodeHelper;
     private final MLIndicesHandler mlIndicesHandler;
     private final Encryptor encryptor;
 
     private volatile Integer jobInterval;
+    private volatile Integer fullSyncInterval;
+    private volatile boolean modelAutoScaleEnabled;
+    private volatile Integer modelAutoScaleInterval;
 
     private final MLModelAutoReDeployer mlModelAutoReDeployer;
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    private final MLModelAutoScaler mlModelAutoScaler;
 
     public MLCommonsClusterManagerEventListener(
         ClusterService clusterService,
@@ -55,7 +64,8 @@ public class MLCommonsClusterManagerEventListener implements LocalNodeClusterMan
         MLIndicesHandler mlIndicesHandler,
         Encryptor encryptor,
         MLModelAutoReDeployer modelAutoReDeployer,
-        MLFeatureEnabledSetting mlFeatureEnabledSetting
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        MLModelAutoScaler mlModelAutoScaler
     ) {
         this.clusterService = clusterService;
         this.client = client;
@@ -67,6 +77,7 @@ public class MLCommonsClusterManagerEventListener implements LocalNodeClusterMan
         this.encryptor = encryptor;
         this.mlModelAutoReDeployer = modelAutoReDeployer;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.mlModelAutoScaler = mlModelAutoScaler;
 
         this.jobInterval = ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS, it -> {
@@ -74,6 +85,22 @@ public class MLCommonsClusterManagerEventListener implements LocalNodeClusterMan
             cancel(syncModelRoutingCron);
             startSyncModelRoutingCron();
         });
+        this.fullSyncInterval = ML_COMMONS_SYNC_UP_JOB_FULL_SYNC_INTERVAL_IN_SECONDS.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_SYNC_UP_JOB_FULL_SYNC_INTERVAL_IN_SECONDS, it -> {
+            fullSyncInterval = it;
+            cancel(syncModelRoutingCron);
+            startSyncModelRoutingCron();
+        });
+        this.modelAutoScaleEnabled = ML_COMMONS_MODEL_AUTO_SCALE_ENABLED.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_SCALE_ENABLED, it -> {
+            modelAutoScaleEnabled = it;
+            restartModelAutoScaleCron();
+        });
+        this.modelAutoScaleInterval = ML_COMMONS_MODEL_AUTO_SCALE_INTERVAL_IN_SECONDS.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_SCALE_INTERVAL_IN_SECONDS, it -> {
+            modelAutoScaleInterval = it;
+            restartModelAutoScaleCron();
+        });
     }
 
     @Override
@@ -95,6 +122,7 @@ public class MLCommonsClusterManagerEventListener implements LocalNodeClusterMan
                 TimeValue.timeValueSeconds(jobInterval),
                 GENERAL_THREAD_POOL
             );
+        startModelAutoScaleCron();
     }
 
     private void startSyncModelRoutingCron() {
@@ -102,7 +130,16 @@ public class MLCommonsClusterManagerEventListener implements LocalNodeClusterMan
             log.info("Starting ML sync up job...");
             syncModelRoutingCron = threadPool
                 .scheduleWithFixedDelay(
-                    new MLSyncUpCron(client, sdkClient, clusterService, nodeHelper, mlIndicesHandler, encryptor, mlFeatureEnabledSetting),
+                    new MLSyncUpCron(
+                        client,
+                        sdkClient,
+                        clusterService,
+                        nodeHelper,
+                        mlIndicesHandler,
+                        encryptor,
+                        mlFeatureEnabledSetting,
+                        fullSyncInterval
+                    ),
                     TimeValue.timeValueSeconds(jobInterval),
                     GENERAL_THREAD_POOL
                 );
@@ -118,10 +155,32 @@ public class MLCommonsClusterManagerEventListener implements LocalNodeClusterMan
         });
     }
 
+    private void startModelAutoScaleCron() {
+        if (modelAutoScaleEnabled && modelAutoScaleCron == null) {
+            log.info("Starting ML model auto scale job...");
+            modelAutoScaleCron = threadPool
+                .scheduleWithFixedDelay(mlModelAutoScaler, TimeValue.timeValueSeconds(modelAutoScaleInterval), GENERAL_THREAD_POOL);
+        }
+    }
+
+    private void stopModelAutoScaleCron() {
+        cancel(modelAutoScaleCron);
+        modelAutoScaleCron = null;
+        mlModelAutoScaler.clear();
+    }
+
+    private void restartModelAutoScaleCron() {
+        stopModelAutoScaleCron();
+        if (clusterService.state().nodes().isLocalNodeElectedClusterManager()) {
+            startModelAutoScaleCron();
+        }
+    }
+
     @Override
     public void offClusterManager() {
         cancel(syncModelRoutingCron);
         syncModelRoutingCron = null;
+        stopModelAutoScaleCron();
     }
 
     private void cancel(Scheduler.Cancellable cron) {
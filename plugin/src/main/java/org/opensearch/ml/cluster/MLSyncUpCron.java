@@ -9,13 +9,16 @@ import static org.opensearch.ml.common.CommonValue.CREATE_TIME_FIELD;
 import static org.opensearch.ml.common.CommonValue.MASTER_KEY;
 import static org.opensearch.ml.common.CommonValue.ML_CONFIG_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_SYNC_UP_JOB_FULL_SYNC_INTERVAL_IN_SECONDS;
 import static org.opensearch.ml.utils.RestActionUtils.getAllNodes;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,6 +33,8 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Randomness;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.query.BoolQueryBuilder;
@@ -60,6 +65,7 @@ import org.opensearch.transport.client.Client;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 
+import lombok.Value;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -74,9 +80,23 @@ public class MLSyncUpCron implements Runnable {
     private Encryptor encryptor;
     private volatile Boolean mlConfigInited;
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    private final long fullSyncIntervalInMillis;
     @VisibleForTesting
     Semaphore updateModelStateSemaphore;
 
+    // The fields below keep the state of last sync up, so only the changes need to be transferred in the next sync up.
+    // key is node id, value is the last local state reported by the node
+    private final Map<String, MLSyncUpNodeResponse> nodeStates = new HashMap<>();
+    // key is model id, value is set of worker node ids; null if routing table not sent to nodes yet
+    private Map<String, Set<String>> modelRoutingTable;
+    // Routing versions carry a random id of this cron instance in the high 32 bits and a counter in the low 32 bits, so a
+    // version reported by a node for the routing table of a previous cluster manager never matches a version of this one.
+    @VisibleForTesting
+    final long routingVersionBase = ((long) Randomness.get().nextInt()) << 32;
+    private long routingVersion = routingVersionBase;
+    private Set<String> syncedNodeIds = new HashSet<>();
+    private long lastFullSyncTime;
+
     public MLSyncUpCron(
         Client client,
         SdkClient sdkClient,
@@ -85,6 +105,28 @@ public class MLSyncUpCron implements Runnable {
         MLIndicesHandler mlIndicesHandler,
         Encryptor encryptor,
         MLFeatureEnabledSetting mlFeatureEnabledSetting
+    ) {
+        this(
+            client,
+            sdkClient,
+            clusterService,
+            nodeHelper,
+            mlIndicesHandler,
+            encryptor,
+            mlFeatureEnabledSetting,
+            ML_COMMONS_SYNC_UP_JOB_FULL_SYNC_INTERVAL_IN_SECONDS.getDefault(Settings.EMPTY)
+        );
+    }
+
+    public MLSyncUpCron(
+        Client client,
+        SdkClient sdkClient,
+        ClusterService clusterService,
+        DiscoveryNodeHelper nodeHelper,
+        MLIndicesHandler mlIndicesHandler,
+        Encryptor encryptor,
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        int fullSyncIntervalInSeconds
     ) {
         this.client = client;
         this.sdkClient = sdkClient;
@@ -95,6 +137,7 @@ public class MLSyncUpCron implements Runnable {
         this.mlConfigInited = false;
         this.encryptor = encryptor;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.fullSyncIntervalInMillis = fullSyncIntervalInSeconds * 1000L;
     }
 
     @Override
@@ -107,7 +150,11 @@ public class MLSyncUpCron implements Runnable {
         }
         log.debug("ML sync job starts");
         DiscoveryNode[] allNodes = nodeHelper.getAllNodes();
-        MLSyncUpInput gatherInfoInput = MLSyncUpInput.builder().getDeployedModels(true).build();
+        MLSyncUpInput gatherInfoInput = MLSyncUpInput
+            .builder()
+            .getDeployedModels(true)
+            .nodeStateVersions(getAcknowledgedNodeStateVersions())
+            .build();
         MLSyncUpNodesRequest gatherInfoRequest = new MLSyncUpNodesRequest(allNodes, gatherInfoInput);
 
         // gather running model/tasks on nodes
@@ -122,84 +169,23 @@ public class MLSyncUpCron implements Runnable {
                         r.failures().stream().map(Exception::getMessage).collect(Collectors.joining(", "))
                     );
             }
-            // key is model id, value is set of worker node ids
-            Map<String, Set<String>> modelWorkerNodes = new HashMap<>();
-            // key is task id, value is set of worker node ids
-            Map<String, Set<String>> runningDeployModelTasks = new HashMap<>();
-            // key is model id, value is set of worker node ids
-            Map<String, Set<String>> deployingModels = new HashMap<>();
-            // key is expired model_id, value is set of worker node ids
-            Map<String, Set<String>> expiredModelToNodes = new HashMap<>();
-            for (MLSyncUpNodeResponse response : responses) {
-                String nodeId = response.getNode().getId();
-                log.debug("Processing sync response from node: {}", nodeId);
-                String[] expiredModelIds = response.getExpiredModelIds();
-                if (expiredModelIds != null && expiredModelIds.length > 0) {
-                    Arrays
-                        .stream(expiredModelIds)
-                        .forEach(modelId -> { expiredModelToNodes.computeIfAbsent(modelId, it -> new HashSet<>()).add(nodeId); });
-                }
-
-                String[] deployedModelIds = response.getDeployedModelIds();
-                if (deployedModelIds != null) {
-                    for (String modelId : deployedModelIds) {
-                        Set<String> workerNodes = modelWorkerNodes.computeIfAbsent(modelId, it -> new HashSet<>());
-                        workerNodes.add(nodeId);
-                    }
-                }
-                String[] runningModelIds = response.getRunningDeployModelIds();
-                if (runningModelIds != null) {
-                    for (String modelId : runningModelIds) {
-                        Set<String> workerNodes = deployingModels.computeIfAbsent(modelId, it -> new HashSet<>());
-                        workerNodes.add(nodeId);
-                    }
-                }
-
-                String[] runningDeployModelTaskIds = response.getRunningDeployModelTaskIds();
-                if (runningDeployModelTaskIds != null) {
-                    for (String taskId : runningDeployModelTaskIds) {
-                        Set<String> workerNodes = runningDeployModelTasks.computeIfAbsent(taskId, it -> new HashSet<>());
-                        workerNodes.add(nodeId);
-                    }
-                }
-            }
+            SyncUpPlan plan = planSyncUp(allNodes, responses);
+            Map<String, Set<String>> modelWorkerNodes = plan.getModelWorkerNodes();
+            Map<String, Set<String>> deployingModels = plan.getDeployingModels();
+            Set<String> modelsToUndeploy = plan.getModelsToUndeploy();
 
-            Set<String> modelsToUndeploy = new HashSet<>();
-            for (String modelId : expiredModelToNodes.keySet()) {
-                if (modelWorkerNodes.containsKey(modelId)
-                    && expiredModelToNodes.get(modelId).size() == modelWorkerNodes.get(modelId).size()) {
-                    // this model has expired in all the nodes
-                    modelsToUndeploy.add(modelId);
-                }
-            }
-
-            for (Map.Entry<String, Set<String>> entry : modelWorkerNodes.entrySet()) {
-                String modelId = entry.getKey();
-                log.debug("will sync model worker nodes for model: {}: {}", modelId, entry.getValue().toArray(new String[0]));
-            }
-            for (Map.Entry<String, Set<String>> entry : runningDeployModelTasks.entrySet()) {
-                log.debug("will sync running task: {}: {}", entry.getKey(), entry.getValue().toArray(new String[0]));
-            }
-            MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
-                .builder()
-                .syncRunningDeployModelTasks(true)
-                .runningDeployModelTasks(runningDeployModelTasks);
-            if (modelWorkerNodes.isEmpty()) {
-                log.debug("No deployed model found. Will clear model routing on all nodes");
-                inputBuilder.clearRoutingTable(true);
-            } else {
-                inputBuilder.modelRoutingTable(modelWorkerNodes);
-            }
-            MLSyncUpInput syncUpInput = inputBuilder.build();
-            MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(allNodes, syncUpInput);
             // sync up running model/tasks on nodes
-            client.execute(MLSyncUpAction.INSTANCE, syncUpRequest, ActionListener.wrap(re -> {
+            syncUp(plan.getSyncUpRequests().iterator(), () -> {
                 log.debug("sync model routing job finished");
                 if (!modelsToUndeploy.isEmpty()) {
                     // Undeploy expired models
                     undeployExpiredModels(modelsToUndeploy, modelWorkerNodes, deployingModels);
                     return;
                 }
+                if (!plan.isRefreshModelState()) {
+                    log.debug("Model routing and deploying tasks not changed, skip refreshing model state");
+                    return;
+                }
                 // refresh model status
                 mlIndicesHandler.initModelIndexIfAbsent(ActionListener.wrap(res -> {
                     if (!res) {
@@ -208,10 +194,228 @@ public class MLSyncUpCron implements Runnable {
                     }
                     refreshModelState(modelWorkerNodes, deployingModels);
                 }, e -> { log.error("Failed to init model index", e); }));
-            }, ex -> { log.error("Failed to sync model routing", ex); }));
+            });
         }, e -> { log.error("Failed to sync model routing", e); }));
     }
 
+    private void syncUp(Iterator<MLSyncUpNodesRequest> syncUpRequests, Runnable onComplete) {
+        if (!syncUpRequests.hasNext()) {
+            onComplete.run();
+            return;
+        }
+        client
+            .execute(
+                MLSyncUpAction.INSTANCE,
+                syncUpRequests.next(),
+                ActionListener.wrap(r -> syncUp(syncUpRequests, onComplete), e -> { log.error("Failed to sync model routing", e); })
+            );
+    }
+
+    private synchronized Map<String, Long> getAcknowledgedNodeStateVersions() {
+        Map<String, Long> nodeStateVersions = new HashMap<>();
+        for (Map.Entry<String, MLSyncUpNodeResponse> entry : nodeStates.entrySet()) {
+            if (entry.getValue().getStateVersion() != null) {
+                nodeStateVersions.put(entry.getKey(), entry.getValue().getStateVersion());
+            }
+        }
+        return nodeStateVersions;
+    }
+
+    /**
+     * Merge the node responses with the state of last sync up and decide which routing changes should be sent to nodes.
+     * The full routing table is sent to all nodes when nodes join or leave the cluster, or the full sync interval has
+     * passed. Otherwise only the added/removed worker nodes are sent to the nodes which have the latest routing
+     * version, and the full routing table is sent to the nodes which fall behind.
+     *
+     * @param allNodes all nodes in cluster
+     * @param responses sync up responses from nodes
+     * @return sync up plan
+     */
+    @VisibleForTesting
+    synchronized SyncUpPlan planSyncUp(DiscoveryNode[] allNodes, List<MLSyncUpNodeResponse> responses) {
+        boolean stateChanged = false;
+        Set<String> upToDateNodeIds = new HashSet<>();
+        Map<String, MLSyncUpNodeResponse> latestNodeStates = new HashMap<>();
+        for (MLSyncUpNodeResponse response : responses) {
+            String nodeId = response.getNode().getId();
+            MLSyncUpNodeResponse lastState = nodeStates.get(nodeId);
+            boolean sameVersion = lastState != null
+                && response.getStateVersion() != null
+                && response.getStateVersion().equals(lastState.getStateVersion());
+            if (response.isStateUnchanged()) {
+                if (!sameVersion) {
+                    // Should not happen as only the cached state version is acknowledged. Drop the node state so the node
+                    // reports its full state in next sync up.
+                    log.debug("No state found for node {} with version {}", nodeId, response.getStateVersion());
+                    stateChanged = true;
+                    continue;
+                }
+                latestNodeStates.put(nodeId, lastState);
+            } else {
+                stateChanged |= !sameVersion;
+                latestNodeStates.put(nodeId, response);
+            }
+            if (modelRoutingTable != null && response.getRoutingVersion() != null && response.getRoutingVersion() == routingVersion) {
+                upToDateNodeIds.add(nodeId);
+            }
+        }
+        stateChanged |= !latestNodeStates.keySet().equals(nodeStates.keySet());
+        nodeStates.clear();
+        nodeStates.putAll(latestNodeStates);
+
+        // key is model id, value is set of worker node ids
+        Map<String, Set<String>> modelWorkerNodes = new HashMap<>();
+        // key is task id, value is set of worker node ids
+        Map<String, Set<String>> runningDeployModelTasks = new HashMap<>();
+        // key is model id, value is set of worker node ids
+        Map<String, Set<String>> deployingModels = new HashMap<>();
+        // key is expired model_id, value is set of worker node ids
+        Map<String, Set<String>> expiredModelToNodes = new HashMap<>();
+        for (Map.Entry<String, MLSyncUpNodeResponse> entry : latestNodeStates.entrySet()) {
+            String nodeId = entry.getKey();
+            MLSyncUpNodeResponse response = entry.getValue();
+            log.debug("Processing sync response from node: {}", nodeId);
+            String[] expiredModelIds = response.getExpiredModelIds();
+            if (expiredModelIds != null && expiredModelIds.length > 0) {
+                Arrays
+                    .stream(expiredModelIds)
+                    .forEach(modelId -> { expiredModelToNodes.computeIfAbsent(modelId, it -> new HashSet<>()).add(nodeId); });
+            }
+
+            String[] deployedModelIds = response.getDeployedModelIds();
+            if (deployedModelIds != null) {
+                for (String modelId : deployedModelIds) {
+                    Set<String> workerNodes = modelWorkerNodes.computeIfAbsent(modelId, it -> new HashSet<>());
+                    workerNodes.add(nodeId);
+                }
+            }
+            String[] runningModelIds = response.getRunningDeployModelIds();
+            if (runningModelIds != null) {
+                for (String modelId : runningModelIds) {
+                    Set<String> workerNodes = deployingModels.computeIfAbsent(modelId, it -> new HashSet<>());
+                    workerNodes.add(nodeId);
+                }
+            }
+
+            String[] runningDeployModelTaskIds = response.getRunningDeployModelTaskIds();
+            if (runningDeployModelTaskIds != null) {
+                for (String taskId : runningDeployModelTaskIds) {
+                    Set<String> workerNodes = runningDeployModelTasks.computeIfAbsent(taskId, it -> new HashSet<>());
+                    workerNodes.add(nodeId);
+                }
+            }
+        }
+
+        Set<String> modelsToUndeploy = new HashSet<>();
+        for (String modelId : expiredModelToNodes.keySet()) {
+            if (modelWorkerNodes.containsKey(modelId) && expiredModelToNodes.get(modelId).size() == modelWorkerNodes.get(modelId).size()) {
+                // this model has expired in all the nodes
+                modelsToUndeploy.add(modelId);
+            }
+        }
+
+        for (Map.Entry<String, Set<String>> entry : modelWorkerNodes.entrySet()) {
+            String modelId = entry.getKey();
+            log.debug("will sync model worker nodes for model: {}: {}", modelId, entry.getValue().toArray(new String[0]));
+        }
+        for (Map.Entry<String, Set<String>> entry : runningDeployModelTasks.entrySet()) {
+            log.debug("will sync running task: {}: {}", entry.getKey(), entry.getValue().toArray(new String[0]));
+        }
+
+        List<MLSyncUpNodesRequest> syncUpRequests = new ArrayList<>();
+        Set<String> allNodeIds = Arrays.stream(allNodes).map(DiscoveryNode::getId).collect(Collectors.toSet());
+        long now = Instant.now().toEpochMilli();
+        boolean fullSync = modelRoutingTable == null
+            || !allNodeIds.equals(syncedNodeIds)
+            || now - lastFullSyncTime >= fullSyncIntervalInMillis;
+        boolean routingChanged;
+        if (fullSync) {
+            log.debug("Sync full model routing table with version {} to all nodes", routingVersion + 1);
+            routingVersion++;
+            routingChanged = true;
+            syncUpRequests.add(new MLSyncUpNodesRequest(allNodes, buildFullSyncUpInput(modelWorkerNodes, runningDeployModelTasks)));
+            syncedNodeIds = allNodeIds;
+            lastFullSyncTime = now;
+        } else {
+            // key is model id, value is added/removed worker node ids
+            Map<String, String[]> addedWorkerNodes = diffWorkerNodes(modelWorkerNodes, modelRoutingTable);
+            Map<String, String[]> removedWorkerNodes = diffWorkerNodes(modelRoutingTable, modelWorkerNodes);
+            routingChanged = !addedWorkerNodes.isEmpty() || !removedWorkerNodes.isEmpty();
+            List<DiscoveryNode> upToDateNodes = new ArrayList<>();
+            List<DiscoveryNode> outdatedNodes = new ArrayList<>();
+            for (DiscoveryNode node : allNodes) {
+                if (upToDateNodeIds.contains(node.getId())) {
+                    upToDateNodes.add(node);
+                } else {
+                    outdatedNodes.add(node);
+                }
+            }
+            if (routingChanged) {
+                long baseRoutingVersion = routingVersion++;
+                if (!upToDateNodes.isEmpty()) {
+                    log.debug("Sync model routing delta from version {} to {}", baseRoutingVersion, routingVersion);
+                    MLSyncUpInput deltaSyncUpInput = MLSyncUpInput
+                        .builder()
+                        .addedWorkerNodes(addedWorkerNodes)
+                        .removedWorkerNodes(removedWorkerNodes)
+                        .baseRoutingVersion(baseRoutingVersion)
+                        .routingVersion(routingVersion)
+                        .syncRunningDeployModelTasks(true)
+                        .runningDeployModelTasks(runningDeployModelTasks)
+                        .build();
+                    syncUpRequests.add(new MLSyncUpNodesRequest(upToDateNodes.toArray(new DiscoveryNode[0]), deltaSyncUpInput));
+                }
+            }
+            if (!outdatedNodes.isEmpty()) {
+                log.debug("Sync full model routing table with version {} to {} outdated nodes", routingVersion, outdatedNodes.size());
+                syncUpRequests
+                    .add(
+                        new MLSyncUpNodesRequest(
+                            outdatedNodes.toArray(new DiscoveryNode[0]),
+                            buildFullSyncUpInput(modelWorkerNodes, runningDeployModelTasks)
+                        )
+                    );
+            }
+        }
+        modelRoutingTable = modelWorkerNodes;
+
+        boolean refreshModelState = fullSync || routingChanged || stateChanged || !deployingModels.isEmpty();
+        return new SyncUpPlan(modelWorkerNodes, deployingModels, modelsToUndeploy, syncUpRequests, refreshModelState);
+    }
+
+    private MLSyncUpInput buildFullSyncUpInput(
+        Map<String, Set<String>> modelWorkerNodes,
+        Map<String, Set<String>> runningDeployModelTasks
+    ) {
+        MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
+            .builder()
+            .syncRunningDeployModelTasks(true)
+            .runningDeployModelTasks(runningDeployModelTasks)
+            .routingVersion(routingVersion);
+        if (modelWorkerNodes.isEmpty()) {
+            log.debug("No deployed model found. Will clear model routing on all nodes");
+            inputBuilder.clearRoutingTable(true);
+        } else {
+            inputBuilder.modelRoutingTable(modelWorkerNodes);
+        }
+        return inputBuilder.build();
+    }
+
+    /**
+     * Find the worker nodes which are in the source routing table but not in the target routing table.
+     */
+    private Map<String, String[]> diffWorkerNodes(Map<String, Set<String>> source, Map<String, Set<String>> target) {
+        Map<String, String[]> diff = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : source.entrySet()) {
+            Set<String> targetWorkerNodes = target.getOrDefault(entry.getKey(), Collections.emptySet());
+            String[] nodeIds = entry.getValue().stream().filter(nodeId -> !targetWorkerNodes.contains(nodeId)).toArray(String[]::new);
+            if (nodeIds.length > 0) {
+                diff.put(entry.getKey(), nodeIds);
+            }
+        }
+        return diff;
+    }
+
     private void undeployExpiredModels(
         Set<String> expiredModels,
         Map<String, Set<String>> modelWorkerNodes,
@@ -318,7 +522,8 @@ public class MLSyncUpCron implements Runnable {
                         MLModel.PLANNING_WORKER_NODES_FIELD,
                         MLModel.PLANNING_WORKER_NODE_COUNT_FIELD,
                         MLModel.LAST_UPDATED_TIME_FIELD,
-                        MLModel.CURRENT_WORKER_NODE_COUNT_FIELD },
+                        MLModel.CURRENT_WORKER_NODE_COUNT_FIELD,
+                        MLModel.IS_EVICTED_FIELD },
                     null
                 );
             SearchDataObjectRequest searchRequest = SearchDataObjectRequest
@@ -354,6 +559,7 @@ public class MLSyncUpCron implements Runnable {
                                 : 0;
                             boolean deployToAllNodes = sourceAsMap.containsKey(MLModel.DEPLOY_TO_ALL_NODES_FIELD)
                                 && (boolean) sourceAsMap.get(MLModel.DEPLOY_TO_ALL_NODES_FIELD);
+                            boolean evicted = Boolean.TRUE.equals(sourceAsMap.get(MLModel.IS_EVICTED_FIELD));
                             List<String> planningWorkNodes = sourceAsMap.containsKey(MLModel.PLANNING_WORKER_NODES_FIELD)
                                 ? (List<String>) sourceAsMap.get(MLModel.PLANNING_WORKER_NODES_FIELD)
                                 : new ArrayList<>();
@@ -375,7 +581,8 @@ public class MLSyncUpCron implements Runnable {
                                 state,
                                 lastUpdateTime,
                                 planningWorkerNodeCount,
-                                currentWorkerNodeCountInIndex
+                                currentWorkerNodeCountInIndex,
+                                evicted
                             );
                             if (mlModelState != null) {
                                 newModelStates.put(modelId, mlModelState);
@@ -405,7 +612,8 @@ public class MLSyncUpCron implements Runnable {
         MLModelState state,
         Long lastUpdateTime,
         int planningWorkerNodeCount,
-        int currentWorkerNodeCountInIndex
+        int currentWorkerNodeCountInIndex,
+        boolean evicted
     ) {
         Set<String> deployModelTaskNodes = deployingModels.get(modelId);
         if (deployModelTaskNodes != null && !deployModelTaskNodes.isEmpty() && state != MLModelState.DEPLOYING) {
@@ -413,6 +621,11 @@ public class MLSyncUpCron implements Runnable {
             return MLModelState.DEPLOYING;
         }
         int currentWorkerNodeCount = modelWorkerNodes.containsKey(modelId) ? modelWorkerNodes.get(modelId).size() : 0;
+        if (currentWorkerNodeCount == 0 && evicted) {
+            // The model was evicted from all its worker nodes under memory pressure, keep its state, so it is deployed
+            // again on demand.
+            return null;
+        }
         if (currentWorkerNodeCount == 0
             && state != MLModelState.DEPLOY_FAILED
             && !(state == MLModelState.DEPLOYING
@@ -496,4 +709,13 @@ public class MLSyncUpCron implements Runnable {
             updateModelStateSemaphore.release();
         }
     }
+
+    @Value
+    static class SyncUpPlan {
+        Map<String, Set<String>> modelWorkerNodes;
+        Map<String, Set<String>> deployingModels;
+        Set<String> modelsToUndeploy;
+        List<MLSyncUpNodesRequest> syncUpRequests;
+        boolean refreshModelState;
+    }
 }
@@ -5,34 +5,88 @@
 
 package org.opensearch.ml.jobs.processors;
 
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.MLTask.REMOTE_JOB_FIELD;
+import static org.opensearch.ml.common.MLTask.REMOTE_JOB_LAST_POLLED_TIME_FIELD;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_JOB_POLL_MAX_CONCURRENT_REQUESTS_PER_CONNECTOR;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_JOB_POLL_MAX_INTERVAL;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_JOB_POLL_MAX_REQUESTS_PER_CONNECTOR;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.transport.task.MLTaskGetAction;
 import org.opensearch.ml.common.transport.task.MLTaskGetRequest;
+import org.opensearch.ml.common.transport.task.MLTaskGetResponse;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.Value;
+
+/**
+ * Polls the status of running remote batch prediction tasks.
+ *
+ * All pending tasks are paged through, but a task is only polled when its poll interval has passed since the last
+ * poll. The poll interval grows with the age of the task, so long-running jobs are polled less often than new ones.
+ * Status requests are grouped by connector, and each connector gets a limited number of requests per run, sent with
+ * limited concurrency, so the status API of the remote service is not flooded.
+ */
 public class MLBatchTaskUpdateProcessor extends MLJobProcessor {
 
     private static final Logger log = LogManager.getLogger(MLBatchTaskUpdateProcessor.class);
 
+    @VisibleForTesting
+    static final int PAGE_SIZE = 100;
+    private static final TimeValue PIT_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+    private static final String SHARD_DOC_SORT_FIELD = "_shard_doc";
+    // Poll interval of a task relative to its age, a task running for 1 hour is polled every 6 minutes.
+    private static final double POLL_INTERVAL_TO_AGE_RATIO = 0.1;
+    // A polling run which takes longer than this is considered lost, and won't block the next runs.
+    private static final long POLLING_TIMEOUT_IN_MILLIS = TimeValue.timeValueMinutes(10).millis();
+
     private static MLBatchTaskUpdateProcessor instance;
 
+    private volatile int maxConcurrentRequestsPerConnector;
+    private volatile int maxRequestsPerConnector;
+    private volatile TimeValue maxPollInterval;
+    // start time of the polling in progress, 0 if no polling is in progress
+    private final AtomicLong pollingStartTime = new AtomicLong();
+
     public static MLBatchTaskUpdateProcessor getInstance(ClusterService clusterService, Client client, ThreadPool threadPool) {
         if (instance != null) {
             return instance;
@@ -57,11 +111,118 @@ public class MLBatchTaskUpdateProcessor extends MLJobProcessor {
 
     public MLBatchTaskUpdateProcessor(ClusterService clusterService, Client client, ThreadPool threadPool) {
         super(clusterService, client, threadPool);
+        Settings settings = clusterService.getSettings();
+        this.maxConcurrentRequestsPerConnector = ML_COMMONS_REMOTE_JOB_POLL_MAX_CONCURRENT_REQUESTS_PER_CONNECTOR.get(settings);
+        this.maxRequestsPerConnector = ML_COMMONS_REMOTE_JOB_POLL_MAX_REQUESTS_PER_CONNECTOR.get(settings);
+        this.maxPollInterval = ML_COMMONS_REMOTE_JOB_POLL_MAX_INTERVAL.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_REMOTE_JOB_POLL_MAX_CONCURRENT_REQUESTS_PER_CONNECTOR,
+                it -> maxConcurrentRequestsPerConnector = it
+            );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_JOB_POLL_MAX_REQUESTS_PER_CONNECTOR, it -> maxRequestsPerConnector = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_REMOTE_JOB_POLL_MAX_INTERVAL, it -> maxPollInterval = it);
     }
 
     @Override
     public void run() {
-        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        long now = Instant.now().toEpochMilli();
+        long startTime = pollingStartTime.get();
+        if (startTime > 0 && now - startTime < POLLING_TIMEOUT_IN_MILLIS) {
+            log.debug("Polling of tasks started at {} is still in progress, skip this run", Instant.ofEpochMilli(startTime));
+            return;
+        }
+        if (!pollingStartTime.compareAndSet(startTime, now)) {
+            return;
+        }
+        Runnable onPollingDone = () -> pollingStartTime.compareAndSet(now, 0);
+
+        searchPendingTasks(ActionListener.wrap(pendingTasks -> {
+            if (pendingTasks.isEmpty()) {
+                log.info("No pending tasks found to be polled by the job");
+                onPollingDone.run();
+                return;
+            }
+            List<PendingTask> dueTasks = pendingTasks.stream().filter(task -> isDue(task, now)).collect(Collectors.toList());
+            log.debug("Found {} pending tasks, {} of them are due to be polled", pendingTasks.size(), dueTasks.size());
+            if (dueTasks.isEmpty()) {
+                onPollingDone.run();
+                return;
+            }
+            groupByConnector(dueTasks, tasksByConnector -> pollTasks(tasksByConnector, onPollingDone));
+        }, e -> {
+            onPollingDone.run();
+            if (e instanceof IndexNotFoundException) {
+                log.info("No tasks found to be polled by the job");
+            } else {
+                log.error("Failed to search for tasks to be polled by the job ", e);
+            }
+        }));
+    }
+
+    @VisibleForTesting
+    boolean isDue(PendingTask task, long now) {
+        if (task.getLastPolledTime() == null || task.getState() == MLTaskState.CANCELLING) {
+            return true;
+        }
+        long age = task.getCreateTime() == null ? 0 : now - task.getCreateTime();
+        long pollInterval = Math.min((long) (age * POLL_INTERVAL_TO_AGE_RATIO), maxPollInterval.millis());
+        return now - task.getLastPolledTime() >= pollInterval;
+    }
+
+    /**
+     * Search all pending tasks. Most clusters have fewer pending tasks than a page, so the first page is searched
+     * without point in time, and all tasks are paged through with point in time only if the first page is full.
+     */
+    private void searchPendingTasks(ActionListener<List<PendingTask>> listener) {
+        SearchRequest searchRequest = new SearchRequest(ML_TASK_INDEX);
+        searchRequest.source(pendingTasksSource());
+        client.search(searchRequest, ActionListener.wrap(response -> {
+            if (response == null || response.getHits() == null || response.getHits().getHits().length == 0) {
+                listener.onResponse(new ArrayList<>());
+                return;
+            }
+            SearchHit[] hits = response.getHits().getHits();
+            if (hits.length < PAGE_SIZE) {
+                listener.onResponse(parsePendingTasks(hits, new ArrayList<>()));
+                return;
+            }
+            CreatePitRequest createPitRequest = new CreatePitRequest(PIT_KEEP_ALIVE, false, ML_TASK_INDEX);
+            client.createPit(createPitRequest, ActionListener.wrap(pitResponse -> {
+                String pitId = pitResponse.getId();
+                fetchPendingTasks(pitId, null, new ArrayList<>(), ActionListener.runAfter(listener, () -> deletePit(pitId)));
+            }, listener::onFailure));
+        }, listener::onFailure));
+    }
+
+    private void fetchPendingTasks(
+        String pitId,
+        Object[] searchAfter,
+        List<PendingTask> pendingTasks,
+        ActionListener<List<PendingTask>> listener
+    ) {
+        SearchSourceBuilder sourceBuilder = pendingTasksSource()
+            .pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(PIT_KEEP_ALIVE))
+            .sort(SortBuilders.fieldSort(SHARD_DOC_SORT_FIELD));
+        if (searchAfter != null) {
+            sourceBuilder.searchAfter(searchAfter);
+        }
+        // the indices of a point in time search are given by the point in time
+        client.search(new SearchRequest().source(sourceBuilder), ActionListener.wrap(response -> {
+            SearchHit[] hits = response.getHits() == null ? new SearchHit[0] : response.getHits().getHits();
+            parsePendingTasks(hits, pendingTasks);
+            if (hits.length < PAGE_SIZE) {
+                listener.onResponse(pendingTasks);
+                return;
+            }
+            fetchPendingTasks(pitId, hits[hits.length - 1].getSortValues(), pendingTasks, listener);
+        }, listener::onFailure));
+    }
+
+    private SearchSourceBuilder pendingTasksSource() {
         BoolQueryBuilder boolQuery = QueryBuilders
             .boolQuery()
             .must(QueryBuilders.termQuery("task_type", MLTaskType.BATCH_PREDICTION))
@@ -72,43 +233,164 @@ public class MLBatchTaskUpdateProcessor extends MLJobProcessor {
                     .should(QueryBuilders.termQuery("state", MLTaskState.RUNNING))
                     .should(QueryBuilders.termQuery("state", MLTaskState.CANCELLING))
             );
+        return new SearchSourceBuilder()
+            .query(boolQuery)
+            .size(PAGE_SIZE)
+            .trackTotalHits(false)
+            .fetchSource(
+                new String[] {
+                    MLTask.MODEL_ID_FIELD,
+                    MLTask.STATE_FIELD,
+                    MLTask.CREATE_TIME_FIELD,
+                    REMOTE_JOB_FIELD + "." + REMOTE_JOB_LAST_POLLED_TIME_FIELD },
+                null
+            );
+    }
 
-        sourceBuilder.query(boolQuery);
-        sourceBuilder.size(100);
-        sourceBuilder.fetchSource(new String[] { "_id" }, null);
-
-        SearchRequest searchRequest = new SearchRequest(ML_TASK_INDEX);
-        searchRequest.source(sourceBuilder);
+    private List<PendingTask> parsePendingTasks(SearchHit[] hits, List<PendingTask> pendingTasks) {
+        for (SearchHit hit : hits) {
+            Map<String, Object> source = hit.getSourceAsMap();
+            if (source == null) {
+                source = Map.of();
+            }
+            Object remoteJob = source.get(REMOTE_JOB_FIELD);
+            Object lastPolledTime = remoteJob instanceof Map ? ((Map<?, ?>) remoteJob).get(REMOTE_JOB_LAST_POLLED_TIME_FIELD) : null;
+            Object state = source.get(MLTask.STATE_FIELD);
+            pendingTasks
+                .add(
+                    new PendingTask(
+                        hit.getId(),
+                        (String) source.get(MLTask.MODEL_ID_FIELD),
+                        state == null ? MLTaskState.RUNNING : MLTaskState.valueOf(state.toString()),
+                        toEpochMillis(source.get(MLTask.CREATE_TIME_FIELD)),
+                        toEpochMillis(lastPolledTime)
+                    )
+                );
+        }
+        return pendingTasks;
+    }
 
-        client.search(searchRequest, ActionListener.wrap(response -> {
-            if (response == null || response.getHits() == null || response.getHits().getHits().length == 0) {
-                log.info("No pending tasks found to be polled by the job");
-                return;
+    private static Long toEpochMillis(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Long.parseLong((String) value);
+            } catch (NumberFormatException e) {
+                return Instant.parse((String) value).toEpochMilli();
             }
+        }
+        return null;
+    }
 
-            SearchHit[] searchHits = response.getHits().getHits();
-            for (SearchHit searchHit : searchHits) {
-                String taskId = searchHit.getId();
-                log.debug("Starting polling for task: {} at {}", taskId, Instant.now());
-                MLTaskGetRequest mlTaskGetRequest = MLTaskGetRequest.builder().taskId(taskId).isUserInitiatedGetTaskRequest(false).build();
-
-                client
-                    .execute(
-                        MLTaskGetAction.INSTANCE,
-                        mlTaskGetRequest,
-                        ActionListener
-                            .wrap(
-                                taskResponse -> log.info("Updated Task status for taskId: {} at {}", taskId, Instant.now()),
-                                exception -> log.error("Failed to get task status for task: {}", taskId, exception)
-                            )
-                    );
+    /**
+     * Group tasks by the connector of their model. Tasks of models which can't be found are grouped by model id.
+     */
+    private void groupByConnector(List<PendingTask> tasks, Consumer<Map<String, List<PendingTask>>> consumer) {
+        Set<String> modelIds = tasks.stream().map(PendingTask::getModelId).filter(id -> id != null).collect(Collectors.toSet());
+        if (modelIds.size() <= 1) {
+            // all tasks belong to the same connector
+            consumer.accept(groupTasks(tasks, Map.of()));
+            return;
+        }
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+            .query(QueryBuilders.idsQuery().addIds(modelIds.toArray(new String[0])))
+            .size(modelIds.size())
+            .fetchSource(new String[] { MLModel.CONNECTOR_ID_FIELD }, null);
+        client.search(new SearchRequest(ML_MODEL_INDEX).source(sourceBuilder), ActionListener.wrap(response -> {
+            Map<String, String> modelConnectors = new HashMap<>();
+            if (response != null && response.getHits() != null) {
+                for (SearchHit hit : response.getHits().getHits()) {
+                    Map<String, Object> source = hit.getSourceAsMap();
+                    if (source != null && source.get(MLModel.CONNECTOR_ID_FIELD) != null) {
+                        modelConnectors.put(hit.getId(), (String) source.get(MLModel.CONNECTOR_ID_FIELD));
+                    }
+                }
             }
+            consumer.accept(groupTasks(tasks, modelConnectors));
         }, e -> {
-            if (e instanceof IndexNotFoundException) {
-                log.info("No tasks found to be polled by the job");
-            } else {
-                log.error("Failed to search for tasks to be polled by the job ", e);
-            }
+            log.debug("Failed to get connectors of models, group tasks by model", e);
+            consumer.accept(groupTasks(tasks, Map.of()));
         }));
     }
+
+    private Map<String, List<PendingTask>> groupTasks(List<PendingTask> tasks, Map<String, String> modelConnectors) {
+        Map<String, List<PendingTask>> tasksByConnector = new HashMap<>();
+        for (PendingTask task : tasks) {
+            String connectorId = task.getModelId() == null ? "" : modelConnectors.getOrDefault(task.getModelId(), task.getModelId());
+            tasksByConnector.computeIfAbsent(connectorId, it -> new ArrayList<>()).add(task);
+        }
+        return tasksByConnector;
+    }
+
+    private void pollTasks(Map<String, List<PendingTask>> tasksByConnector, Runnable onPollingDone) {
+        AtomicInteger remainingConnectors = new AtomicInteger(tasksByConnector.size());
+        Runnable onConnectorDone = () -> {
+            if (remainingConnectors.decrementAndGet() == 0) {
+                onPollingDone.run();
+            }
+        };
+        int maxRequests = maxRequestsPerConnector;
+        int maxConcurrentRequests = maxConcurrentRequestsPerConnector;
+        for (Map.Entry<String, List<PendingTask>> entry : tasksByConnector.entrySet()) {
+            List<PendingTask> tasks = entry.getValue();
+            // tasks never polled or polled longest ago go first
+            tasks.sort(Comparator.comparing(PendingTask::getLastPolledTime, Comparator.nullsFirst(Comparator.naturalOrder())));
+            if (tasks.size() > maxRequests) {
+                log.debug("Poll {} of {} due tasks of connector {} in this run", maxRequests, tasks.size(), entry.getKey());
+                tasks = tasks.subList(0, maxRequests);
+            }
+            Queue<PendingTask> queue = new ConcurrentLinkedQueue<>(tasks);
+            int workers = Math.min(maxConcurrentRequests, queue.size());
+            AtomicInteger remainingWorkers = new AtomicInteger(workers);
+            Runnable onWorkerDone = () -> {
+                if (remainingWorkers.decrementAndGet() == 0) {
+                    onConnectorDone.run();
+                }
+            };
+            for (int i = 0; i < workers; i++) {
+                pollNext(queue, onWorkerDone);
+            }
+        }
+    }
+
+    private void pollNext(Queue<PendingTask> queue, Runnable onDone) {
+        PendingTask task = queue.poll();
+        if (task == null) {
+            onDone.run();
+            return;
+        }
+        String taskId = task.getTaskId();
+        log.debug("Starting polling for task: {} at {}", taskId, Instant.now());
+        MLTaskGetRequest mlTaskGetRequest = MLTaskGetRequest.builder().taskId(taskId).isUserInitiatedGetTaskRequest(false).build();
+        ActionListener<MLTaskGetResponse> listener = ActionListener
+            .wrap(
+                taskResponse -> log.info("Updated Task status for taskId: {} at {}", taskId, Instant.now()),
+                exception -> log.error("Failed to get task status for task: {}", taskId, exception)
+            );
+        try {
+            client.execute(MLTaskGetAction.INSTANCE, mlTaskGetRequest, ActionListener.runAfter(listener, () -> pollNext(queue, onDone)));
+        } catch (Exception e) {
+            log.error("Failed to get task status for task: {}", taskId, e);
+            pollNext(queue, onDone);
+        }
+    }
+
+    private void deletePit(String pitId) {
+        client
+            .deletePits(
+                new DeletePitRequest(pitId),
+                ActionListener.wrap(r -> {}, e -> log.warn("Failed to delete point in time {}", pitId, e))
+            );
+    }
+
+    @Value
+    static class PendingTask {
+        String taskId;
+        String modelId;
+        MLTaskState state;
+        Long createTime;
+        Long lastPolledTime;
+    }
 }
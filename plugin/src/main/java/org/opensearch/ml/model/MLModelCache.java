@@ -6,14 +6,11 @@
 package org.opensearch.ml.model;
 
 import java.time.Instant;
-import java.util.DoubleSummaryStatistics;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.DoubleStream;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.ml.common.FunctionName;
@@ -23,8 +20,7 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.profile.MLPredictRequestStats;
-
-import com.google.common.math.Quantiles;
+import org.opensearch.ml.stats.MLLatencyHistogram;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -43,8 +39,8 @@ public class MLModelCache {
     private final Set<String> targetWorkerNodes;
     private final Set<String> workerNodes;
     private MLModel modelInfo;
-    private final Queue<Double> modelInferenceDurationQueue;
-    private final Queue<Double> predictRequestDurationQueue;
+    private final AtomicReference<LatencyWindow> modelInferenceDurations;
+    private final AtomicReference<LatencyWindow> predictRequestDurations;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationCPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLGuard mlGuard;
@@ -59,8 +55,8 @@ public class MLModelCache {
     public MLModelCache() {
         targetWorkerNodes = ConcurrentHashMap.newKeySet();
         workerNodes = ConcurrentHashMap.newKeySet();
-        modelInferenceDurationQueue = new ConcurrentLinkedQueue<>();
-        predictRequestDurationQueue = new ConcurrentLinkedQueue<>();
+        modelInferenceDurations = new AtomicReference<>(new LatencyWindow());
+        predictRequestDurations = new AtomicReference<>(new LatencyWindow());
     }
 
     public void setTargetWorkerNodes(List<String> targetWorkerNodes) {
@@ -164,8 +160,8 @@ public class MLModelCache {
         functionName = null;
         workerNodes.clear();
         modelInfo = null;
-        modelInferenceDurationQueue.clear();
-        predictRequestDurationQueue.clear();
+        modelInferenceDurations.set(new LatencyWindow());
+        predictRequestDurations.set(new LatencyWindow());
         if (predictor != null) {
             predictor.close();
         }
@@ -182,58 +178,87 @@ public class MLModelCache {
     }
 
     public void addModelInferenceDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, modelInferenceDurationQueue);
+        addInferenceDuration(duration, maxRequestCount, modelInferenceDurations);
     }
 
     public void addPredictRequestDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, predictRequestDurationQueue);
+        addInferenceDuration(duration, maxRequestCount, predictRequestDurations);
     }
 
-    private void addInferenceDuration(double duration, long maxRequestCount, Queue<Double> queue) {
-        resizeInferenceQueue(maxRequestCount, queue);
-        if (maxRequestCount > 0) {
-            queue.add(duration);
+    /**
+     * The durations are recorded into two rotating windows, each of them holds half of the monitored requests. When the
+     * current window is full, it becomes the previous window, so both windows cover the most recent requests.
+     */
+    private void addInferenceDuration(double duration, long maxRequestCount, AtomicReference<LatencyWindow> durations) {
+        if (maxRequestCount <= 0) {
+            resizeInferenceWindow(maxRequestCount, durations);
+            return;
         }
+        long windowSize = (maxRequestCount + 1) / 2;
+        LatencyWindow window = durations.get();
+        if (window.current.getCount() >= windowSize) {
+            LatencyWindow rotated = new LatencyWindow(window.current, new MLLatencyHistogram());
+            window = durations.compareAndSet(window, rotated) ? rotated : durations.get();
+        }
+        window.current.record(duration);
     }
 
     public void resizeMonitoringQueue(long maxRequestCount) {
-        log.debug("resize inference duration monitoring queue with size {}", maxRequestCount);
-        resizeInferenceQueue(maxRequestCount, predictRequestDurationQueue);
-        resizeInferenceQueue(maxRequestCount, modelInferenceDurationQueue);
+        log.debug("resize inference duration monitoring window with size {}", maxRequestCount);
+        resizeInferenceWindow(maxRequestCount, predictRequestDurations);
+        resizeInferenceWindow(maxRequestCount, modelInferenceDurations);
     }
 
-    private void resizeInferenceQueue(long maxRequestCount, Queue<Double> queue) {
+    private void resizeInferenceWindow(long maxRequestCount, AtomicReference<LatencyWindow> durations) {
+        LatencyWindow window = durations.get();
         if (maxRequestCount <= 0) {
-            queue.clear();
-        } else {
-            while (queue.size() >= maxRequestCount) {
-                queue.poll();
+            if (!window.isEmpty()) {
+                durations.set(new LatencyWindow());
             }
+        } else if (window.previous.getCount() + window.current.getCount() > maxRequestCount) {
+            // drop the older requests exceeding the new size
+            durations.compareAndSet(window, new LatencyWindow(new MLLatencyHistogram(), window.current));
         }
     }
 
     public MLPredictRequestStats getInferenceStats(boolean modelInference) {
-        Queue<Double> queue = modelInference ? modelInferenceDurationQueue : predictRequestDurationQueue;
-        if (queue.size() > 0) {
-            MLPredictRequestStats.MLPredictRequestStatsBuilder statsBuilder = MLPredictRequestStats.builder();
-            DoubleStream doubleStream = queue.stream().mapToDouble(v -> v);
-            DoubleSummaryStatistics doubleSummaryStatistics = doubleStream.summaryStatistics();
-            statsBuilder.count(doubleSummaryStatistics.getCount());
-            statsBuilder.max(doubleSummaryStatistics.getMax());
-            statsBuilder.min(doubleSummaryStatistics.getMin());
-            statsBuilder.average(doubleSummaryStatistics.getAverage());
-
-            Quantiles.Scale percentiles = Quantiles.percentiles();
-            statsBuilder.p50(percentiles.index(50).compute(queue));
-            statsBuilder.p90(percentiles.index(90).compute(queue));
-            statsBuilder.p99(percentiles.index(99).compute(queue));
-
-            return statsBuilder.build();
+        LatencyWindow window = modelInference ? modelInferenceDurations.get() : predictRequestDurations.get();
+        if (window.isEmpty()) {
+            return null;
         }
-        return null;
+        MLLatencyHistogram histogram = window.current.copy();
+        histogram.merge(window.previous);
+        return MLPredictRequestStats
+            .builder()
+            .count(histogram.getCount())
+            .max(histogram.getMax())
+            .min(histogram.getMin())
+            .average(histogram.getAverage())
+            .p50(histogram.getPercentile(50))
+            .p90(histogram.getPercentile(90))
+            .p99(histogram.getPercentile(99))
+            .build();
     }
 
     public boolean isValidCache() {
         return modelState != null || workerNodes.size() > 0;
     }
+
+    private static class LatencyWindow {
+        private final MLLatencyHistogram previous;
+        private final MLLatencyHistogram current;
+
+        LatencyWindow() {
+            this(new MLLatencyHistogram(), new MLLatencyHistogram());
+        }
+
+        LatencyWindow(MLLatencyHistogram previous, MLLatencyHistogram current) {
+            this.previous = previous;
+            this.current = current;
+        }
+
+        boolean isEmpty() {
+            return previous.isEmpty() && current.isEmpty();
+        }
+    }
 }
@@ -9,6 +9,7 @@ import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MON
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -403,6 +404,27 @@ public class MLModelCacheHelper {
             .toArray(new String[0]);
     }
 
+    /**
+     * Get local models deployed on node which have not been used for the min idle time, least recently used first.
+     *
+     * @param minIdleTime min time since the last use of the models
+     * @return array of model ids
+     */
+    public String[] getEvictableLocalModels(Duration minIdleTime) {
+        Instant idleSince = Instant.now().minus(minIdleTime);
+        return modelCaches
+            .entrySet()
+            .stream()
+            .filter(
+                entry -> entry.getValue().getModelState() == MLModelState.DEPLOYED
+                    && entry.getValue().getFunctionName() != FunctionName.REMOTE
+                    && !entry.getValue().getLastAccessTime().isAfter(idleSince)
+            )
+            .sorted(Comparator.comparing(entry -> entry.getValue().getLastAccessTime()))
+            .map(Map.Entry::getKey)
+            .toArray(String[]::new);
+    }
+
     /**
      * Get expired models on node.
      *
@@ -27,16 +27,35 @@ import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_EVICTION_CHECK_INTERVAL;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_EVICTION_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_EVICTION_MIN_IDLE_TIME;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_HALF_OPEN_PROBES;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_MINIMUM_CALLS;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_OPEN_DURATION;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_EMBEDDING_CACHE_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_EMBEDDING_CACHE_EXPIRE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_EMBEDDING_CACHE_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_HEDGED_REQUESTS_MAX_IN_FLIGHT;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TEXT_SIMILARITY_MAX_BATCH_TOKENS;
 import static org.opensearch.ml.common.utils.StringUtils.getErrorMessage;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CIRCUIT_BREAKERS;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CLIENT;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CLUSTER_SERVICE;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CONNECTOR_PRIVATE_IP_ENABLED;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.EMBEDDING_CACHE;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.GUARDRAILS;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.LATENCY_RECORDER;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.RATE_LIMITER;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.REQUEST_COALESCER;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.REQUEST_HEDGER;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.SCRIPT_SERVICE;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.SDK_CLIENT;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.SETTINGS;
@@ -45,10 +64,13 @@ import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.XCONTENT_RE
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
+import static org.opensearch.ml.engine.algorithms.text_similarity.TextSimilarityCrossEncoderModel.MAX_BATCH_TOKENS;
 import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.REMOTE_PREDICT_THREAD_POOL;
 import static org.opensearch.ml.stats.ActionName.REGISTER;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
 import static org.opensearch.ml.utils.MLExceptionUtils.CONTROLLER_DISABLED_ERR_MSG;
@@ -59,6 +81,7 @@ import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegist
 import java.io.File;
 import java.nio.file.Path;
 import java.security.PrivilegedActionException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Base64;
@@ -95,7 +118,9 @@ import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
@@ -108,6 +133,8 @@ import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.ml.breaker.BreakerName;
+import org.opensearch.ml.breaker.CircuitBreaker;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
@@ -117,6 +144,7 @@ import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.controller.MLController;
 import org.opensearch.ml.common.controller.MLRateLimiter;
 import org.opensearch.ml.common.exception.MLException;
@@ -126,24 +154,39 @@ import org.opensearch.ml.common.exception.MLValidationException;
 import org.opensearch.ml.common.model.Guardrails;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.model.PredictLatencyRecorder;
+import org.opensearch.ml.common.model.PredictStage;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelRequest;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.remote.QueueingTokenBucket;
+import org.opensearch.ml.engine.algorithms.remote.RemoteConnectorCircuitBreakers;
+import org.opensearch.ml.engine.algorithms.remote.RemoteEmbeddingCache;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModel;
+import org.opensearch.ml.engine.algorithms.remote.RemoteRequestCoalescer;
+import org.opensearch.ml.engine.algorithms.remote.RemoteRequestHedger;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.engine.utils.FileUtils;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.otel.counters.MLOperationalMetricsCounter;
+import org.opensearch.ml.stats.otel.metrics.OperationalMetric;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.ml.utils.MLExceptionUtils;
 import org.opensearch.ml.utils.MLNodeUtils;
@@ -156,6 +199,8 @@ import org.opensearch.remote.metadata.client.UpdateDataObjectResponse;
 import org.opensearch.remote.metadata.common.SdkClientUtils;
 import org.opensearch.script.ScriptService;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.telemetry.metrics.tags.Tags;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
@@ -174,6 +219,12 @@ public class MLModelManager {
 
     public static final int TIMEOUT_IN_MILLIS = 5000;
     public static final long MODEL_FILE_SIZE_LIMIT = 4L * 1024 * 1024 * 1024;// 4GB
+    private static final String MODEL_ID_TAG = "model_id";
+    private static final String CONNECTOR_ID_TAG = "connector_id";
+    private static final String STAGE_TAG = "stage";
+    private static final String USER_TAG = "user";
+    // requests are only hedged once the latency percentiles are based on enough remote invocations
+    private static final long MIN_HEDGE_LATENCY_COUNT = 100;
 
     private final Client client;
     private final SdkClient sdkClient;
@@ -198,6 +249,18 @@ public class MLModelManager {
     private volatile Integer maxDeployTasksPerNode;
     private volatile Integer maxBatchInferenceTasks;
     private volatile Integer maxBatchIngestionTasks;
+    private volatile Integer textSimilarityMaxBatchTokens;
+    private volatile boolean modelEvictionEnabled;
+    private volatile TimeValue modelEvictionMinIdleTime;
+    private volatile TimeValue modelEvictionCheckInterval;
+    private Scheduler.Cancellable modelEvictionCron;
+    private final CounterMetric evictedModelCount = new CounterMetric();
+    // set once a model is evicted while the memory breakers are open, reset when they close
+    private final AtomicBoolean evictedUnderMemoryPressure = new AtomicBoolean();
+    private final RemoteEmbeddingCache remoteEmbeddingCache;
+    private final RemoteRequestCoalescer remoteRequestCoalescer = new RemoteRequestCoalescer();
+    private final RemoteRequestHedger remoteRequestHedger;
+    private final RemoteConnectorCircuitBreakers remoteCircuitBreakers;
 
     public static final ImmutableSet<MLModelState> MODEL_DONE_STATES = ImmutableSet
         .of(
@@ -266,6 +329,119 @@ public class MLModelManager {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MAX_BATCH_INGESTION_TASKS, it -> maxBatchIngestionTasks = it);
+
+        textSimilarityMaxBatchTokens = ML_COMMONS_TEXT_SIMILARITY_MAX_BATCH_TOKENS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_TEXT_SIMILARITY_MAX_BATCH_TOKENS, it -> textSimilarityMaxBatchTokens = it);
+
+        modelEvictionEnabled = ML_COMMONS_MODEL_EVICTION_ENABLED.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MODEL_EVICTION_ENABLED, it -> {
+            modelEvictionEnabled = it;
+            restartModelEvictionCron();
+        });
+        modelEvictionMinIdleTime = ML_COMMONS_MODEL_EVICTION_MIN_IDLE_TIME.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_EVICTION_MIN_IDLE_TIME, it -> modelEvictionMinIdleTime = it);
+        modelEvictionCheckInterval = ML_COMMONS_MODEL_EVICTION_CHECK_INTERVAL.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MODEL_EVICTION_CHECK_INTERVAL, it -> {
+            modelEvictionCheckInterval = it;
+            restartModelEvictionCron();
+        });
+        restartModelEvictionCron();
+        mlStats.createStatIfAbsent(MLNodeLevelStat.ML_EVICTED_MODEL_COUNT, () -> new MLStat<>(false, evictedModelCount::count));
+
+        // new embeddings are not cached while the memory circuit breaker is open
+        remoteEmbeddingCache = new RemoteEmbeddingCache(
+            ML_COMMONS_REMOTE_EMBEDDING_CACHE_ENABLED.get(settings),
+            ML_COMMONS_REMOTE_EMBEDDING_CACHE_SIZE.get(settings).getBytes(),
+            ML_COMMONS_REMOTE_EMBEDDING_CACHE_EXPIRE.get(settings),
+            () -> {
+                CircuitBreaker memoryBreaker = mlCircuitBreakerService.getBreaker(BreakerName.MEMORY);
+                return memoryBreaker == null || !memoryBreaker.isOpen();
+            }
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_EMBEDDING_CACHE_ENABLED, remoteEmbeddingCache::setEnabled);
+        mlStats
+            .createStatIfAbsent(
+                MLNodeLevelStat.ML_REMOTE_EMBEDDING_CACHE_HIT_COUNT,
+                () -> new MLStat<>(false, remoteEmbeddingCache::getHitCount)
+            );
+        mlStats
+            .createStatIfAbsent(
+                MLNodeLevelStat.ML_REMOTE_EMBEDDING_CACHE_MISS_COUNT,
+                () -> new MLStat<>(false, remoteEmbeddingCache::getMissCount)
+            );
+        mlStats
+            .createStatIfAbsent(
+                MLNodeLevelStat.ML_REMOTE_COALESCED_REQUEST_COUNT,
+                () -> new MLStat<>(false, remoteRequestCoalescer::getCoalescedCount)
+            );
+
+        remoteRequestHedger = new RemoteRequestHedger(
+            threadPool,
+            REMOTE_PREDICT_THREAD_POOL,
+            ML_COMMONS_REMOTE_HEDGED_REQUESTS_MAX_IN_FLIGHT.get(settings),
+            this::getRemotePredictLatencyPercentile,
+            System::nanoTime
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_HEDGED_REQUESTS_MAX_IN_FLIGHT, remoteRequestHedger::setMaxInFlightHedges);
+        mlStats
+            .createStatIfAbsent(
+                MLNodeLevelStat.ML_REMOTE_HEDGED_REQUEST_COUNT,
+                () -> new MLStat<>(false, remoteRequestHedger::getHedgedCount)
+            );
+        mlStats
+            .createStatIfAbsent(
+                MLNodeLevelStat.ML_REMOTE_HEDGE_WON_COUNT,
+                () -> new MLStat<>(false, remoteRequestHedger::getHedgeWonCount)
+            );
+
+        remoteCircuitBreakers = new RemoteConnectorCircuitBreakers(
+            ML_COMMONS_REMOTE_CIRCUIT_BREAKER_ENABLED.get(settings),
+            ML_COMMONS_REMOTE_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD.get(settings),
+            ML_COMMONS_REMOTE_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE.get(settings),
+            ML_COMMONS_REMOTE_CIRCUIT_BREAKER_MINIMUM_CALLS.get(settings),
+            ML_COMMONS_REMOTE_CIRCUIT_BREAKER_OPEN_DURATION.get(settings),
+            ML_COMMONS_REMOTE_CIRCUIT_BREAKER_HALF_OPEN_PROBES.get(settings),
+            System::nanoTime
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_CIRCUIT_BREAKER_ENABLED, remoteCircuitBreakers::setEnabled);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_REMOTE_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD,
+                remoteCircuitBreakers::setFailureRateThreshold
+            );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE, remoteCircuitBreakers::setSlidingWindowSize);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_CIRCUIT_BREAKER_MINIMUM_CALLS, remoteCircuitBreakers::setMinimumCalls);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_CIRCUIT_BREAKER_OPEN_DURATION, remoteCircuitBreakers::setOpenDuration);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_CIRCUIT_BREAKER_HALF_OPEN_PROBES, remoteCircuitBreakers::setHalfOpenProbes);
+        mlStats
+            .createStatIfAbsent(
+                MLNodeLevelStat.ML_REMOTE_CIRCUIT_BREAKER_OPEN_COUNT,
+                () -> new MLStat<>(false, remoteCircuitBreakers::getOpenCount)
+            );
+        mlStats
+            .createStatIfAbsent(
+                MLNodeLevelStat.ML_REMOTE_CIRCUIT_BREAKER_REJECTED_COUNT,
+                () -> new MLStat<>(false, remoteCircuitBreakers::getRejectedCount)
+            );
     }
 
     public void registerModelMeta(MLRegisterModelMetaInput mlRegisterModelMetaInput, ActionListener<String> listener) {
@@ -1175,7 +1351,9 @@ public class MLModelManager {
             listener.onResponse("successful");
             return;
         }
-        if (functionName != FunctionName.REMOTE && modelCacheHelper.getLocalDeployedModels().length >= maxModelPerNode) {
+        if (functionName != FunctionName.REMOTE
+            && modelCacheHelper.getLocalDeployedModels().length >= maxModelPerNode
+            && !evictLeastRecentlyUsedModel()) {
             listener.onFailure(new IllegalArgumentException("Exceed max local model per node limit"));
             return;
         }
@@ -1230,7 +1408,8 @@ public class MLModelManager {
                 setupMLGuard(modelId, tenantId, mlModel.getGuardrails());
                 setupModelInterface(modelId, mlModel.getModelInterface());
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
-                // check circuit breaker before deploying custom model chunks
+                // check circuit breaker before deploying custom model chunks, make room for the model under memory pressure
+                evictModelUnderMemoryPressure();
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
                 retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
                     String hash = calculateFileHash(modelZipFile);
@@ -1241,7 +1420,17 @@ public class MLModelManager {
                         return;
                     }
                     log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
+                    Map<String, Object> params = Map
+                        .of(
+                            MODEL_ZIP_FILE,
+                            modelZipFile,
+                            MODEL_HELPER,
+                            modelHelper,
+                            ML_ENGINE,
+                            mlEngine,
+                            MAX_BATCH_TOKENS,
+                            textSimilarityMaxBatchTokens
+                        );
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
                         try {
@@ -1326,7 +1515,9 @@ public class MLModelManager {
             listener.onResponse("successful");
             return;
         }
-        if (functionName != FunctionName.REMOTE && modelCacheHelper.getLocalDeployedModels().length >= maxModelPerNode) {
+        if (functionName != FunctionName.REMOTE
+            && modelCacheHelper.getLocalDeployedModels().length >= maxModelPerNode
+            && !evictLeastRecentlyUsedModel()) {
             listener.onFailure(new IllegalArgumentException("Exceed max local model per node limit"));
             return;
         }
@@ -1381,7 +1572,8 @@ public class MLModelManager {
                 setupMLGuard(modelId, mlModel.getTenantId(), mlModel.getGuardrails());
                 setupModelInterface(modelId, mlModel.getModelInterface());
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
-                // check circuit breaker before deploying custom model chunks
+                // check circuit breaker before deploying custom model chunks, make room for the model under memory pressure
+                evictModelUnderMemoryPressure();
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
                 retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
                     String hash = calculateFileHash(modelZipFile);
@@ -1392,7 +1584,17 @@ public class MLModelManager {
                         return;
                     }
                     log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
+                    Map<String, Object> params = Map
+                        .of(
+                            MODEL_ZIP_FILE,
+                            modelZipFile,
+                            MODEL_HELPER,
+                            modelHelper,
+                            ML_ENGINE,
+                            mlEngine,
+                            MAX_BATCH_TOKENS,
+                            textSimilarityMaxBatchTokens
+                        );
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
                         try {
@@ -1467,6 +1669,8 @@ public class MLModelManager {
     }
 
     private void setupParamsAndPredictable(String modelId, MLModel mlModel, ActionListener<String> listener) {
+        // the model is deployed with a new config, e.g. after it's updated
+        remoteEmbeddingCache.invalidate(modelId);
         Map<String, Object> params = setUpParameterMap(modelId, mlModel.getTenantId());
         ActionListener<Predictable> wrappedListener = ActionListener.wrap(r -> {
             modelCacheHelper.setPredictor(modelId, r);
@@ -1509,6 +1713,24 @@ public class MLModelManager {
             log.info("Setting up ML guard parameter for ML predictor.");
         }
         params.put(CONNECTOR_PRIVATE_IP_ENABLED, mlFeatureEnabledSetting.isConnectorPrivateIpEnabled());
+        params.put(LATENCY_RECORDER, new PredictLatencyRecorder() {
+            @Override
+            public void record(PredictStage stage, double durationInMs) {
+                recordPredictLatency(modelId, stage, durationInMs);
+            }
+
+            @Override
+            public void record(String action, PredictStage stage, double durationInMs) {
+                recordPredictLatency(modelId, stage, durationInMs);
+                if (stage == PredictStage.REMOTE_INVOCATION) {
+                    mlStats.recordRemoteActionLatency(modelId, getConnectorId(modelId), action, durationInMs);
+                }
+            }
+        });
+        params.put(EMBEDDING_CACHE, remoteEmbeddingCache);
+        params.put(REQUEST_COALESCER, remoteRequestCoalescer);
+        params.put(REQUEST_HEDGER, remoteRequestHedger);
+        params.put(CIRCUIT_BREAKERS, remoteCircuitBreakers);
         params.put(SDK_CLIENT, sdkClient);
         params.put(SETTINGS, settings);
         return Collections.unmodifiableMap(params);
@@ -1766,7 +1988,7 @@ public class MLModelManager {
 
     private void setupRateLimiter(String modelId, Integer eligibleNodeCount, MLRateLimiter rateLimiter) {
         if (rateLimiter != null) {
-            modelCacheHelper.setRateLimiter(modelId, createTokenBucket(eligibleNodeCount, rateLimiter));
+            modelCacheHelper.setRateLimiter(modelId, createTokenBucket(modelId, null, eligibleNodeCount, rateLimiter));
         } else {
             modelCacheHelper.removeRateLimiter(modelId);
         }
@@ -1775,7 +1997,9 @@ public class MLModelManager {
     private void setupUserRateLimiterMap(String modelId, Integer eligibleNodeCount, Map<String, MLRateLimiter> userRateLimiter) {
         if (userRateLimiter != null && !userRateLimiter.isEmpty()) {
             Map<String, TokenBucket> userRateLimiterMap = new HashMap<>();
-            userRateLimiter.forEach((user, rateLimiter) -> userRateLimiterMap.put(user, createTokenBucket(eligibleNodeCount, rateLimiter)));
+            userRateLimiter.forEach((user, rateLimiter) -> {
+                userRateLimiterMap.put(user, createTokenBucket(modelId, user, eligibleNodeCount, rateLimiter));
+            });
             modelCacheHelper.setUserRateLimiterMap(modelId, userRateLimiterMap);
         } else {
             modelCacheHelper.removeUserRateLimiterMap(modelId);
@@ -1787,13 +2011,16 @@ public class MLModelManager {
     }
 
     /**
-     * Construct a TokenBucket object from its rate limiter config.
+     * Construct a TokenBucket object from its rate limiter config. If waiting is enabled, requests of remote models
+     * wait for a token up to the max wait instead of being rejected immediately.
      *
+     * @param modelId           model id
+     * @param user              user name for user-level rate limiter, null for model-level rate limiter
      * @param eligibleNodeCount eligible node count
      * @param rateLimiter       model rate limiter config
      * @return a TokenBucket object to enable throttling
      */
-    private TokenBucket createTokenBucket(Integer eligibleNodeCount, MLRateLimiter rateLimiter) {
+    private TokenBucket createTokenBucket(String modelId, String user, Integer eligibleNodeCount, MLRateLimiter rateLimiter) {
         if (rateLimiter.isValid()) {
             double limit = Double.parseDouble(rateLimiter.getLimit());
             TimeUnit unit = rateLimiter.getUnit();
@@ -1806,6 +2033,18 @@ public class MLModelManager {
                     eligibleNodeCount
                 );
             // Burst token must be greater than 1 to accept request
+            if (rateLimiter.isWaitingEnabled()) {
+                return new QueueingTokenBucket(
+                    System::nanoTime,
+                    limit / unit.toNanos(1) / eligibleNodeCount,
+                    Math.max(limit / eligibleNodeCount, 1),
+                    rateLimiter.getMaxWait(),
+                    rateLimiter.getMaxQueueSizeOrDefault(),
+                    threadPool,
+                    REMOTE_PREDICT_THREAD_POOL,
+                    rateLimitWaitRecorder(modelId, user)
+                );
+            }
             return new TokenBucket(
                 System::nanoTime,
                 limit / unit.toNanos(1) / eligibleNodeCount,
@@ -1816,6 +2055,43 @@ public class MLModelManager {
         return null;
     }
 
+    /**
+     * Record the queue depth and wait time of the requests waiting for a rate limiter token. Wait time is added to the
+     * latency stats of the model, both are exported to the operational metrics per model and user if metric
+     * collection is enabled.
+     */
+    private QueueingTokenBucket.WaitRecorder rateLimitWaitRecorder(String modelId, String user) {
+        return new QueueingTokenBucket.WaitRecorder() {
+            @Override
+            public void queued(int queueDepth) {
+                if (mlFeatureEnabledSetting.isMetricCollectionEnabled()) {
+                    MLOperationalMetricsCounter
+                        .getInstance()
+                        .recordHistogram(OperationalMetric.MODEL_RATE_LIMIT_QUEUE_DEPTH, queueDepth, rateLimitTags(modelId, user));
+                }
+            }
+
+            @Override
+            public void waited(long waitNanos, boolean acquired) {
+                double durationInMs = waitNanos / 1e6;
+                mlStats.recordLatency(modelId, null, PredictStage.RATE_LIMIT_WAIT, durationInMs);
+                if (mlFeatureEnabledSetting.isMetricCollectionEnabled()) {
+                    MLOperationalMetricsCounter
+                        .getInstance()
+                        .recordHistogram(OperationalMetric.MODEL_RATE_LIMIT_WAIT, durationInMs, rateLimitTags(modelId, user));
+                }
+            }
+        };
+    }
+
+    private Tags rateLimitTags(String modelId, String user) {
+        Tags tags = Tags.create().addTag(MODEL_ID_TAG, modelId);
+        if (user != null) {
+            tags.addTag(USER_TAG, user);
+        }
+        return tags;
+    }
+
     /**
      * Get model-level rate limiter with model id.
      *
@@ -2414,8 +2690,135 @@ public class MLModelManager {
     }
 
     private void removeModel(String modelId) {
+        MLModel modelInfo = modelCacheHelper.getModelInfo(modelId);
         modelCacheHelper.removeModel(modelId);
+        remoteEmbeddingCache.invalidate(modelId);
         modelHelper.deleteFileCache(modelId);
+        mlStats.removeModelLatencyStats(modelId);
+        String connectorId = modelInfo == null ? null : modelInfo.getConnectorId();
+        if (connectorId != null && !isConnectorUsedByModelOnNode(connectorId)) {
+            mlStats.removeConnectorLatencyStats(connectorId);
+        }
+    }
+
+    private boolean isConnectorUsedByModelOnNode(String connectorId) {
+        for (String modelId : modelCacheHelper.getAllModels()) {
+            MLModel modelInfo = modelCacheHelper.getModelInfo(modelId);
+            if (modelInfo != null && connectorId.equals(modelInfo.getConnectorId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isModelEvictionEnabled() {
+        return modelEvictionEnabled;
+    }
+
+    /**
+     * Check the memory circuit breakers of this node periodically while model eviction is enabled. The check runs on its
+     * own schedule on the general thread pool, so undeploying the evicted model doesn't block the sync up of the node.
+     */
+    private synchronized void restartModelEvictionCron() {
+        if (modelEvictionCron != null) {
+            modelEvictionCron.cancel();
+            modelEvictionCron = null;
+        }
+        if (modelEvictionEnabled) {
+            modelEvictionCron = threadPool.scheduleWithFixedDelay(() -> {
+                try {
+                    evictModelUnderMemoryPressure();
+                } catch (Exception e) {
+                    log.error("Failed to evict model under memory pressure", e);
+                }
+            }, modelEvictionCheckInterval, GENERAL_THREAD_POOL);
+        }
+    }
+
+    /**
+     * Evict the least recently used idle local model from this node when the memory or native memory circuit breaker
+     * opens. If the breakers are still open on the next check, evicting did not relieve the memory pressure, e.g. the
+     * heap is used by something else than the models, so no other model is evicted until the breakers close.
+     *
+     * @return true if a model was evicted
+     */
+    public boolean evictModelUnderMemoryPressure() {
+        if (!modelEvictionEnabled) {
+            return false;
+        }
+        if (!isMemoryBreakerOpen()) {
+            evictedUnderMemoryPressure.set(false);
+            return false;
+        }
+        if (!evictedUnderMemoryPressure.compareAndSet(false, true)) {
+            log.debug("Memory pressure persists after evicting a model, not evicting more models until it's relieved");
+            return false;
+        }
+        if (!evictLeastRecentlyUsedModel()) {
+            evictedUnderMemoryPressure.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Evict the least recently used local model which has been idle for the min idle time from this node, if model
+     * eviction is enabled. The node is removed from the routing table of the model on all nodes, so the model is
+     * predicted on its other worker nodes, or deployed again on demand.
+     *
+     * @return true if a model was evicted
+     */
+    public boolean evictLeastRecentlyUsedModel() {
+        if (!modelEvictionEnabled) {
+            return false;
+        }
+        String[] evictableModelIds = modelCacheHelper.getEvictableLocalModels(Duration.ofMillis(modelEvictionMinIdleTime.millis()));
+        if (evictableModelIds.length == 0) {
+            log.debug("No idle model to evict from node");
+            return false;
+        }
+        String modelId = evictableModelIds[0];
+        if (!UNDEPLOYED.equals(undeployModel(new String[] { modelId }).get(modelId))) {
+            return false;
+        }
+        log.info("Evicted least recently used model {} from node", modelId);
+        evictedModelCount.inc();
+        removeEvictedWorkerNode(modelId);
+        markModelEvicted(modelId);
+        return true;
+    }
+
+    /**
+     * Mark the model evicted in the model index, so the sync up cron doesn't set a model evicted from all its worker nodes
+     * as DEPLOY_FAILED and predict requests deploy it again on demand. The mark is cleared when the model is deployed or
+     * undeployed by users.
+     */
+    private void markModelEvicted(String modelId) {
+        updateModel(modelId, Map.of(MLModel.IS_EVICTED_FIELD, true), ActionListener.wrap(r -> {
+            if (r.status() != RestStatus.OK) {
+                log.error("Failed to mark model {} evicted, status: {}", modelId, r.status());
+            }
+        }, e -> log.error("Failed to mark model {} evicted", modelId, e)));
+    }
+
+    private boolean isMemoryBreakerOpen() {
+        CircuitBreaker memoryBreaker = mlCircuitBreakerService.getBreaker(BreakerName.MEMORY);
+        CircuitBreaker nativeMemoryBreaker = mlCircuitBreakerService.getBreaker(BreakerName.NATIVE_MEMORY);
+        return (memoryBreaker != null && memoryBreaker.isOpen()) || (nativeMemoryBreaker != null && nativeMemoryBreaker.isOpen());
+    }
+
+    private void removeEvictedWorkerNode(String modelId) {
+        String localNodeId = clusterService.localNode().getId();
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder().removedWorkerNodes(Map.of(modelId, new String[] { localNodeId })).build();
+        MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(nodeHelper.getAllNodes(), syncUpInput);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<MLSyncUpNodesResponse> listener = ActionListener
+                .wrap(
+                    r -> log.debug("Removed evicted model {} from routing table of node {}", modelId, localNodeId),
+                    e -> log.error("Failed to remove evicted model {} from routing table of node {}", modelId, localNodeId, e)
+                );
+            client.execute(MLSyncUpAction.INSTANCE, syncUpRequest, ActionListener.runBefore(listener, context::restore));
+        }
     }
 
     /**
@@ -2481,6 +2884,10 @@ public class MLModelManager {
         return modelCacheHelper.getPredictor(modelId);
     }
 
+    public void refreshLastAccessTime(String modelId) {
+        modelCacheHelper.refreshLastAccessTime(modelId);
+    }
+
     /**
      * Get all model ids in cache, both local model id and remote model in routing
      * table.
@@ -2538,7 +2945,15 @@ public class MLModelManager {
     }
 
     public MLModelProfile getModelProfile(String modelId) {
-        return modelCacheHelper.getModelProfile(modelId);
+        MLModelProfile modelProfile = modelCacheHelper.getModelProfile(modelId);
+        MLModel modelInfo = modelCacheHelper.getModelInfo(modelId);
+        if (modelProfile != null && modelInfo != null && modelInfo.getAlgorithm() == FunctionName.REMOTE) {
+            RemoteConnectorCircuitBreakers.State state = remoteCircuitBreakers.getState(RemoteModel.circuitBreakerKey(modelInfo));
+            if (state != null) {
+                modelProfile.setCircuitBreakerState(state.name());
+            }
+        }
+        return modelProfile;
     }
 
     public <T> T trackPredictDuration(String modelId, Supplier<T> supplier) {
@@ -2547,6 +2962,7 @@ public class MLModelManager {
         long end = System.nanoTime();
         double durationInMs = (end - start) / 1e6;
         modelCacheHelper.addModelInferenceDuration(modelId, durationInMs);
+        recordPredictLatency(modelId, PredictStage.MODEL_INFERENCE, durationInMs);
         return t;
     }
 
@@ -2554,6 +2970,54 @@ public class MLModelManager {
         long end = System.nanoTime();
         double durationInMs = (end - startTime) / 1e6;
         modelCacheHelper.addModelInferenceDuration(modelId, durationInMs);
+        recordPredictLatency(modelId, PredictStage.MODEL_INFERENCE, durationInMs);
+    }
+
+    /**
+     * Record the latency of a predict stage into the model and connector latency stats, and export it to the
+     * operational metrics if metric collection is enabled.
+     *
+     * @param modelId      model id
+     * @param stage        predict stage
+     * @param durationInMs latency in milliseconds
+     */
+    public void recordPredictLatency(String modelId, PredictStage stage, double durationInMs) {
+        if (modelId == null) {
+            return;
+        }
+        String connectorId = getConnectorId(modelId);
+        mlStats.recordLatency(modelId, connectorId, stage, durationInMs);
+        if (mlFeatureEnabledSetting.isMetricCollectionEnabled()) {
+            Tags tags = Tags.create().addTag(MODEL_ID_TAG, modelId).addTag(STAGE_TAG, stage.name().toLowerCase(Locale.ROOT));
+            if (connectorId != null) {
+                tags.addTag(CONNECTOR_ID_TAG, connectorId);
+            }
+            MLOperationalMetricsCounter.getInstance().recordHistogram(OperationalMetric.MODEL_PREDICT_STAGE_LATENCY, durationInMs, tags);
+        }
+    }
+
+    /**
+     * Get a percentile of the remote invocation latency of the predict action of a model, measured per connector if the
+     * model uses a standalone connector. Predict requests are hedged after this latency.
+     *
+     * @param modelId    model id
+     * @param percentile percentile between 0 and 100
+     * @return latency in milliseconds, null if too few latencies are recorded
+     */
+    private Double getRemotePredictLatencyPercentile(String modelId, double percentile) {
+        return mlStats
+            .getRemoteActionLatencyPercentile(
+                modelId,
+                getConnectorId(modelId),
+                ConnectorAction.ActionType.PREDICT.name(),
+                percentile,
+                MIN_HEDGE_LATENCY_COUNT
+            );
+    }
+
+    private String getConnectorId(String modelId) {
+        MLModel modelInfo = modelCacheHelper.getModelInfo(modelId);
+        return modelInfo == null ? null : modelInfo.getConnectorId();
     }
 
     public FunctionName getModelFunctionName(String modelId) {
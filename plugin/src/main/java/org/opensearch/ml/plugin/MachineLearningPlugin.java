@@ -13,6 +13,7 @@ import static org.opensearch.ml.common.settings.MLCommonsSettings.REMOTE_METADAT
 import static org.opensearch.ml.common.settings.MLCommonsSettings.REMOTE_METADATA_REGION;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.REMOTE_METADATA_SERVICE_NAME;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.REMOTE_METADATA_TYPE;
+import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
 import static org.opensearch.remote.metadata.common.CommonValue.REMOTE_METADATA_ENDPOINT_KEY;
 import static org.opensearch.remote.metadata.common.CommonValue.REMOTE_METADATA_GLOBAL_RESOURCE_CACHE_TTL_KEY;
 import static org.opensearch.remote.metadata.common.CommonValue.REMOTE_METADATA_GLOBAL_TENANT_ID_KEY;
@@ -22,6 +23,7 @@ import static org.opensearch.remote.metadata.common.CommonValue.REMOTE_METADATA_
 import static org.opensearch.remote.metadata.common.CommonValue.TENANT_AWARE_KEY;
 import static org.opensearch.remote.metadata.common.CommonValue.TENANT_ID_FIELD_KEY;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -146,12 +148,14 @@ import org.opensearch.ml.action.upload_chunk.MLModelChunkUploader;
 import org.opensearch.ml.action.upload_chunk.TransportRegisterModelMetaAction;
 import org.opensearch.ml.action.upload_chunk.TransportUploadModelChunkAction;
 import org.opensearch.ml.autoredeploy.MLModelAutoReDeployer;
+import org.opensearch.ml.autoscale.MLModelAutoScaler;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.cluster.MLCommonsClusterEventListener;
 import org.opensearch.ml.cluster.MLCommonsClusterManagerEventListener;
 import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLCommonsClassLoader;
 import org.opensearch.ml.common.input.execute.anomalylocalization.AnomalyLocalizationInput;
 import org.opensearch.ml.common.input.execute.metricscorrelation.MetricsCorrelationInput;
 import org.opensearch.ml.common.input.execute.samplecalculator.LocalSampleCalculatorInput;
@@ -256,6 +260,7 @@ import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.algorithms.agent.MLAgentExecutor;
 import org.opensearch.ml.engine.algorithms.anomalylocalization.AnomalyLocalizerImpl;
 import org.opensearch.ml.engine.algorithms.metrics_correlation.MetricsCorrelation;
+import org.opensearch.ml.engine.algorithms.remote.McpClientSessionPool;
 import org.opensearch.ml.engine.algorithms.sample.LocalSampleCalculator;
 import org.opensearch.ml.engine.algorithms.tool.MLToolExecutor;
 import org.opensearch.ml.engine.analysis.DJLUtils;
@@ -731,7 +736,13 @@ public class MachineLearningPlugin extends Plugin
         mlFeatureEnabledSetting.addListener(mlTaskManager);
         modelHelper = new ModelHelper(mlEngine);
 
-        mlInputDatasetHandler = new MLInputDatasetHandler(client);
+        mlInputDatasetHandler = new MLInputDatasetHandler(
+            client,
+            namedWriteableRegistry,
+            settings,
+            clusterService,
+            () -> checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats)
+        );
         modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
         connectorAccessControlHelper = new ConnectorAccessControlHelper(clusterService, settings);
 
@@ -830,8 +841,8 @@ public class MachineLearningPlugin extends Plugin
 
         MLModelTool.Factory.getInstance().init(client);
         IndexInsightTool.Factory.getInstance().init(client);
-        McpSseTool.Factory.getInstance().init();
-        McpStreamableHttpTool.Factory.getInstance().init();
+        McpSseTool.Factory.getInstance().init(client);
+        McpStreamableHttpTool.Factory.getInstance().init(client);
         AgentTool.Factory.getInstance().init(client);
         ListIndexTool.Factory.getInstance().init(client, clusterService);
         IndexMappingTool.Factory.getInstance().init(client);
@@ -899,6 +910,9 @@ public class MachineLearningPlugin extends Plugin
 
         MLToolExecutor toolExecutor = new MLToolExecutor(client, sdkClient, settings, clusterService, xContentRegistry, toolFactories);
         MLEngineClassLoader.register(FunctionName.TOOL, toolExecutor);
+        // map the annotated classes which are not in the generated registries once, lookups of requests never scan
+        MLCommonsClassLoader.scanExtensionClassMapping();
+        MLEngineClassLoader.scanExtensionClassMapping();
 
         MLSearchHandler mlSearchHandler = new MLSearchHandler(
             client,
@@ -914,6 +928,14 @@ public class MachineLearningPlugin extends Plugin
             mlModelManager,
             new MLModelAutoReDeployer.SearchRequestBuilderFactory()
         );
+        MLModelAutoScaler mlModelAutoScaler = new MLModelAutoScaler(
+            client,
+            clusterService,
+            settings,
+            nodeHelper,
+            mlModelManager,
+            mlFeatureEnabledSetting
+        );
         MLCommonsClusterEventListener mlCommonsClusterEventListener = new MLCommonsClusterEventListener(
             clusterService,
             mlModelManager,
@@ -933,7 +955,8 @@ public class MachineLearningPlugin extends Plugin
             mlIndicesHandler,
             encryptor,
             mlModelAutoRedeployer,
-            mlFeatureEnabledSetting
+            mlFeatureEnabledSetting,
+            mlModelAutoScaler
         );
 
         MLJobRunner
@@ -1350,6 +1373,12 @@ public class MachineLearningPlugin extends Plugin
             );
     }
 
+    @Override
+    public void close() throws IOException {
+        McpClientSessionPool.getInstance().closeAll();
+        super.close();
+    }
+
     @Override
     public List<Setting<?>> getSettings() {
         List<Setting<?>> settings = ImmutableList
@@ -1358,11 +1387,37 @@ public class MachineLearningPlugin extends Plugin
                 MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE,
                 MLCommonsSettings.ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS,
+                MLCommonsSettings.ML_COMMONS_SYNC_UP_JOB_FULL_SYNC_INTERVAL_IN_SECONDS,
                 MLCommonsSettings.ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS,
                 MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT,
+                MLCommonsSettings.ML_COMMONS_TEXT_SIMILARITY_MAX_BATCH_TOKENS,
+                MLCommonsSettings.ML_COMMONS_REMOTE_EMBEDDING_CACHE_ENABLED,
+                MLCommonsSettings.ML_COMMONS_REMOTE_EMBEDDING_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_REMOTE_EMBEDDING_CACHE_EXPIRE,
+                MLCommonsSettings.ML_COMMONS_REMOTE_HEDGED_REQUESTS_MAX_IN_FLIGHT,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_ENABLED,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_MINIMUM_CALLS,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_OPEN_DURATION,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_HALF_OPEN_PROBES,
+                MLCommonsSettings.ML_COMMONS_MODEL_EVICTION_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MODEL_EVICTION_MIN_IDLE_TIME,
+                MLCommonsSettings.ML_COMMONS_MODEL_EVICTION_CHECK_INTERVAL,
+                MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_INTERVAL_IN_SECONDS,
+                MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_UP_PREDICT_RATE,
+                MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_UP_QUEUE_DEPTH,
+                MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_SUSTAINED_INTERVALS,
+                MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_MAX_WORKER_NODES,
+                MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_COOLDOWN,
                 MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
+                MLCommonsSettings.ML_COMMONS_TRAINING_DATA_PAGE_SIZE,
+                MLCommonsSettings.ML_COMMONS_TRAINING_DATA_MAX_SIZE,
+                MLCommonsSettings.ML_COMMONS_TRAINING_DATA_SAMPLING_ENABLED,
+                MLCommonsSettings.ML_COMMONS_TRAINING_DATA_PIT_KEEP_ALIVE,
                 MLCommonsSettings.ML_COMMONS_TRUSTED_URL_REGEX,
                 MLCommonsSettings.ML_COMMONS_NATIVE_MEM_THRESHOLD,
                 MLCommonsSettings.ML_COMMONS_DISK_FREE_SPACE_THRESHOLD,
@@ -1393,6 +1448,9 @@ public class MachineLearningPlugin extends Plugin
                 MLCommonsSettings.ML_COMMONS_REMOTE_JOB_STATUS_CANCELLING_REGEX,
                 MLCommonsSettings.ML_COMMONS_REMOTE_JOB_STATUS_EXPIRED_REGEX,
                 MLCommonsSettings.ML_COMMONS_REMOTE_JOB_STATUS_FAILED_REGEX,
+                MLCommonsSettings.ML_COMMONS_REMOTE_JOB_POLL_MAX_CONCURRENT_REQUESTS_PER_CONNECTOR,
+                MLCommonsSettings.ML_COMMONS_REMOTE_JOB_POLL_MAX_REQUESTS_PER_CONNECTOR,
+                MLCommonsSettings.ML_COMMONS_REMOTE_JOB_POLL_MAX_INTERVAL,
                 MLCommonsSettings.ML_COMMONS_CONTROLLER_ENABLED,
                 MLCommonsSettings.ML_COMMONS_OFFLINE_BATCH_INGESTION_ENABLED,
                 MLCommonsSettings.ML_COMMONS_OFFLINE_BATCH_INFERENCE_ENABLED,
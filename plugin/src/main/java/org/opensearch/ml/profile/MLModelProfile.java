@@ -13,6 +13,7 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 
@@ -35,6 +36,9 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
     private final Long memSizeEstimationGPU;
     @Setter
     private Boolean isHidden;
+    // state of the circuit breaker of the connector of a remote model
+    @Setter
+    private String circuitBreakerState;
 
     @Builder
     public MLModelProfile(
@@ -87,6 +91,9 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (isHidden != null && isHidden) {
             builder.field("is_hidden", true);
         }
+        if (circuitBreakerState != null) {
+            builder.field("circuit_breaker_state", circuitBreakerState);
+        }
         builder.endObject();
         return builder;
     }
@@ -116,6 +123,9 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (streamInputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             this.isHidden = in.readOptionalBoolean();
         }
+        if (streamInputVersion.onOrAfter(CommonValue.VERSION_3_6_0)) {
+            this.circuitBreakerState = in.readOptionalString();
+        }
     }
 
     @Override
@@ -147,5 +157,8 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (streamOutputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             out.writeOptionalBoolean(isHidden);
         }
+        if (streamOutputVersion.onOrAfter(CommonValue.VERSION_3_6_0)) {
+            out.writeOptionalString(circuitBreakerState);
+        }
     }
 }
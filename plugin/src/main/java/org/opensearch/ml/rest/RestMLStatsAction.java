@@ -253,6 +253,8 @@ public class RestMLStatsAction extends BaseRestHandler {
                     // builder.startObject("nodes");
                     r.toXContent(builder, ToXContent.EMPTY_PARAMS);
                     // builder.endObject();
+                    // latency of models and connectors merged across nodes
+                    r.toMergedLatencyXContent(builder, ToXContent.EMPTY_PARAMS);
                 }
                 builder.endObject();
                 channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
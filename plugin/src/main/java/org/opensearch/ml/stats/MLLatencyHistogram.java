@@ -0,0 +1,222 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Lock-free latency histogram with HDR-style log-linear buckets.
+ *
+ * Latencies are recorded in microseconds. Each power of two range is split into {@value #SUB_BUCKET_COUNT} linear
+ * sub-buckets, so percentiles keep about 3% relative precision from 1 microsecond up to days with a fixed number of
+ * buckets. Recording only updates atomic counters, and histograms can be merged, e.g. to combine the histograms of
+ * several nodes or time windows. Count, sum, min and max are tracked exactly.
+ */
+public class MLLatencyHistogram implements ToXContentFragment, Writeable {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // Values above 2^41 microseconds (about 25 days) are recorded into the last bucket.
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts;
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final AtomicLong min;
+    private final AtomicLong max;
+
+    public MLLatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.min = new AtomicLong(Long.MAX_VALUE);
+        this.max = new AtomicLong(0);
+    }
+
+    public MLLatencyHistogram(StreamInput in) throws IOException {
+        this();
+        count.add(in.readVLong());
+        sum.add(in.readVLong());
+        min.set(in.readLong());
+        max.set(in.readVLong());
+        int buckets = in.readVInt();
+        for (int i = 0; i < buckets; i++) {
+            int index = in.readVInt();
+            counts.set(index, in.readVLong());
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        // only non-empty buckets are written
+        int buckets = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            if (snapshot[i] > 0) {
+                buckets++;
+            }
+        }
+        out.writeVLong(count.sum());
+        out.writeVLong(sum.sum());
+        out.writeLong(min.get());
+        out.writeVLong(max.get());
+        out.writeVInt(buckets);
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (snapshot[i] > 0) {
+                out.writeVInt(i);
+                out.writeVLong(snapshot[i]);
+            }
+        }
+    }
+
+    /**
+     * Record a latency.
+     * @param durationInMs latency in milliseconds
+     */
+    public void record(double durationInMs) {
+        if (Double.isNaN(durationInMs)) {
+            return;
+        }
+        long value = Math.max(0, Math.round(durationInMs * 1000));
+        counts.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        min.accumulateAndGet(value, Math::min);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Add the latencies recorded by another histogram to this histogram.
+     * @param other histogram to merge
+     */
+    public void merge(MLLatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long bucketCount = other.counts.get(i);
+            if (bucketCount > 0) {
+                counts.addAndGet(i, bucketCount);
+            }
+        }
+        count.add(other.count.sum());
+        sum.add(other.sum.sum());
+        min.accumulateAndGet(other.min.get(), Math::min);
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    /**
+     * Create a copy of this histogram which isn't affected by the latencies recorded afterwards.
+     * @return copy of this histogram
+     */
+    public MLLatencyHistogram copy() {
+        MLLatencyHistogram copy = new MLLatencyHistogram();
+        copy.merge(this);
+        return copy;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public boolean isEmpty() {
+        return getCount() == 0;
+    }
+
+    public Double getMin() {
+        return isEmpty() ? null : min.get() / 1000.0;
+    }
+
+    public Double getMax() {
+        return isEmpty() ? null : max.get() / 1000.0;
+    }
+
+    public Double getAverage() {
+        long total = getCount();
+        return total == 0 ? null : sum.sum() / 1000.0 / total;
+    }
+
+    /**
+     * Get the latency at the given percentile. The result is the middle of the bucket containing the percentile, bounded
+     * by the exact min and max latency.
+     * @param percentile percentile between 0 and 100
+     * @return latency in milliseconds, null if no latency is recorded
+     */
+    public Double getPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        int index = BUCKET_COUNT - 1;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                index = i;
+                break;
+            }
+        }
+        double value = bucketLowerBound(index) + (bucketWidth(index) - 1) / 2.0;
+        value = Math.min(Math.max(value, min.get()), max.get());
+        return value / 1000.0;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("count", getCount());
+        if (!isEmpty()) {
+            builder.field("min", getMin());
+            builder.field("max", getMax());
+            builder.field("average", getAverage());
+            builder.field("p50", getPercentile(50));
+            builder.field("p90", getPercentile(90));
+            builder.field("p99", getPercentile(99));
+            builder.field("p999", getPercentile(99.9));
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    static long bucketLowerBound(int index) {
+        int bucket = index >>> SUB_BUCKET_BITS;
+        int subBucket = index & (SUB_BUCKET_COUNT - 1);
+        if (bucket == 0) {
+            return subBucket;
+        }
+        return (long) (subBucket + SUB_BUCKET_COUNT) << (bucket - 1);
+    }
+
+    static long bucketWidth(int index) {
+        int bucket = index >>> SUB_BUCKET_BITS;
+        return bucket == 0 ? 1 : 1L << (bucket - 1);
+    }
+}
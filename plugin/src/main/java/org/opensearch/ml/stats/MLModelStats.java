@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.stats;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_6_0;
+
 import java.io.IOException;
 import java.util.Locale;
 import java.util.Map;
@@ -15,11 +17,13 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.model.PredictStage;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 
 import lombok.Getter;
 
 public class MLModelStats implements ToXContentFragment, Writeable {
+    public static final String LATENCY_FIELD = "latency";
 
     /**
      * Model stats.
@@ -31,6 +35,13 @@ public class MLModelStats implements ToXContentFragment, Writeable {
     private Map<ActionName, MLActionStats> modelStats;
     @Getter
     private Boolean isHidden;
+    /**
+     * Latency histograms of predict stages.
+     *
+     * Example: {remote_invocation: { count: 1, p50: 10.0, ...}}
+     */
+    @Getter
+    private Map<PredictStage, MLLatencyHistogram> latencyStats;
 
     public MLModelStats(StreamInput in) throws IOException {
         Version streamInputVersion = in.getVersion();
@@ -40,12 +51,19 @@ public class MLModelStats implements ToXContentFragment, Writeable {
         if (streamInputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             this.isHidden = in.readOptionalBoolean();
         }
-
+        if (streamInputVersion.onOrAfter(VERSION_3_6_0) && in.readBoolean()) {
+            this.latencyStats = in.readMap(stream -> stream.readEnum(PredictStage.class), MLLatencyHistogram::new);
+        }
     }
 
     public MLModelStats(Map<ActionName, MLActionStats> modelStats, Boolean isHidden) {
+        this(modelStats, isHidden, null);
+    }
+
+    public MLModelStats(Map<ActionName, MLActionStats> modelStats, Boolean isHidden, Map<PredictStage, MLLatencyHistogram> latencyStats) {
         this.modelStats = modelStats;
         this.isHidden = isHidden;
+        this.latencyStats = latencyStats;
     }
 
     @Override
@@ -60,6 +78,14 @@ public class MLModelStats implements ToXContentFragment, Writeable {
         if (streamOutputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             out.writeOptionalBoolean(isHidden);
         }
+        if (streamOutputVersion.onOrAfter(VERSION_3_6_0)) {
+            if (latencyStats != null && latencyStats.size() > 0) {
+                out.writeBoolean(true);
+                out.writeMap(latencyStats, (stream, v) -> stream.writeEnum(v), (stream, histogram) -> histogram.writeTo(stream));
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 
     @Override
@@ -74,10 +100,26 @@ public class MLModelStats implements ToXContentFragment, Writeable {
         if (isHidden != null && isHidden) {
             builder.field("is_hidden", true);
         }
+        if (latencyStats != null && latencyStats.size() > 0) {
+            builder.startObject(LATENCY_FIELD);
+            toLatencyXContent(builder, params, latencyStats);
+            builder.endObject();
+        }
         return builder;
     }
 
     public MLActionStats getActionStats(ActionName action) {
         return modelStats == null ? null : modelStats.get(action);
     }
+
+    /**
+     * Write latency histograms as fields keyed by predict stage.
+     */
+    public static void toLatencyXContent(XContentBuilder builder, Params params, Map<PredictStage, MLLatencyHistogram> latencyStats)
+        throws IOException {
+        for (Map.Entry<PredictStage, MLLatencyHistogram> entry : latencyStats.entrySet()) {
+            builder.field(entry.getKey().name().toLowerCase(Locale.ROOT));
+            entry.getValue().toXContent(builder, params);
+        }
+    }
 }
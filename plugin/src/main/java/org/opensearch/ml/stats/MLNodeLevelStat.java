@@ -16,7 +16,15 @@ public enum MLNodeLevelStat {
     ML_REQUEST_COUNT,
     ML_FAILURE_COUNT,
     ML_DEPLOYED_MODEL_COUNT,
-    ML_CIRCUIT_BREAKER_TRIGGER_COUNT;
+    ML_CIRCUIT_BREAKER_TRIGGER_COUNT,
+    ML_REMOTE_EMBEDDING_CACHE_HIT_COUNT,
+    ML_REMOTE_EMBEDDING_CACHE_MISS_COUNT,
+    ML_REMOTE_COALESCED_REQUEST_COUNT,
+    ML_REMOTE_HEDGED_REQUEST_COUNT,
+    ML_REMOTE_HEDGE_WON_COUNT,
+    ML_REMOTE_CIRCUIT_BREAKER_OPEN_COUNT, // How many remote connector circuit breakers are open or half open currently.
+    ML_REMOTE_CIRCUIT_BREAKER_REJECTED_COUNT,
+    ML_EVICTED_MODEL_COUNT; // How many idle local models were evicted from the node under memory pressure.
 
     public static MLNodeLevelStat from(String value) {
         try {
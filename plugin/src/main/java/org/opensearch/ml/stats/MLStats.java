@@ -5,12 +5,15 @@
 
 package org.opensearch.ml.stats;
 
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.model.PredictStage;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 
 import lombok.Getter;
@@ -23,6 +26,10 @@ public class MLStats {
     private Map<Enum, MLStat<?>> stats;
     private Map<FunctionName, Map<ActionName, Map<MLActionLevelStat, MLStat>>> algoStats;// {"kmeans":{"train":{"request_count":10}}}
     private Map<String, Map<ActionName, Map<MLActionLevelStat, MLStat>>> modelStats;// {"model_id":{"train":{"request_count":10}}}
+    private Map<String, Map<PredictStage, MLLatencyHistogram>> modelLatencyStats;// {"model_id":{"remote_invocation":histogram}}
+    private Map<String, Map<PredictStage, MLLatencyHistogram>> connectorLatencyStats;// {"connector_id":{"remote_invocation":histogram}}
+    private Map<String, Map<String, MLLatencyHistogram>> modelRemoteActionLatencyStats;// {"model_id":{"predict":histogram}}
+    private Map<String, Map<String, MLLatencyHistogram>> connectorRemoteActionLatencyStats;// {"connector_id":{"predict":histogram}}
 
     /**
      * Constructor
@@ -33,6 +40,10 @@ public class MLStats {
         this.stats = stats;
         this.algoStats = new ConcurrentHashMap<>();
         this.modelStats = new ConcurrentHashMap<>();
+        this.modelLatencyStats = new ConcurrentHashMap<>();
+        this.connectorLatencyStats = new ConcurrentHashMap<>();
+        this.modelRemoteActionLatencyStats = new ConcurrentHashMap<>();
+        this.connectorRemoteActionLatencyStats = new ConcurrentHashMap<>();
     }
 
     /**
@@ -154,6 +165,116 @@ public class MLStats {
         return modelActionStats;
     }
 
+    /**
+     * Record the latency of a predict stage for the model and its connector.
+     * @param modelId model id
+     * @param connectorId connector id, null for local models and models with internal connector
+     * @param stage predict stage
+     * @param durationInMs latency in milliseconds
+     */
+    public void recordLatency(String modelId, String connectorId, PredictStage stage, double durationInMs) {
+        if (modelId != null) {
+            getLatencyHistogram(modelLatencyStats, modelId, stage).record(durationInMs);
+        }
+        if (connectorId != null) {
+            getLatencyHistogram(connectorLatencyStats, connectorId, stage).record(durationInMs);
+        }
+    }
+
+    /**
+     * Record the remote invocation latency of a connector action for the model and its connector, separately from the
+     * latencies of the other actions.
+     * @param modelId model id
+     * @param connectorId connector id, null for models with internal connector
+     * @param action connector action, e.g. predict
+     * @param durationInMs latency in milliseconds
+     */
+    public void recordRemoteActionLatency(String modelId, String connectorId, String action, double durationInMs) {
+        String actionKey = action.toLowerCase(Locale.ROOT);
+        if (modelId != null) {
+            getLatencyHistogram(modelRemoteActionLatencyStats, modelId, actionKey).record(durationInMs);
+        }
+        if (connectorId != null) {
+            getLatencyHistogram(connectorRemoteActionLatencyStats, connectorId, actionKey).record(durationInMs);
+        }
+    }
+
+    /**
+     * Remove the latency stats of a model, e.g. when the model is removed from this node.
+     * @param modelId model id
+     */
+    public void removeModelLatencyStats(String modelId) {
+        modelLatencyStats.remove(modelId);
+        modelRemoteActionLatencyStats.remove(modelId);
+    }
+
+    /**
+     * Remove the latency stats of a connector, e.g. when the connector is deleted.
+     * @param connectorId connector id
+     */
+    public void removeConnectorLatencyStats(String connectorId) {
+        connectorLatencyStats.remove(connectorId);
+        connectorRemoteActionLatencyStats.remove(connectorId);
+    }
+
+    private <K> MLLatencyHistogram getLatencyHistogram(Map<String, Map<K, MLLatencyHistogram>> stats, String id, K key) {
+        Map<K, MLLatencyHistogram> keyStats = stats.computeIfAbsent(id, it -> new ConcurrentHashMap<>());
+        MLLatencyHistogram histogram = keyStats.get(key);
+        return histogram != null ? histogram : keyStats.computeIfAbsent(key, it -> new MLLatencyHistogram());
+    }
+
+    /**
+     * Get latency stats of specific model.
+     * @param modelId model id
+     * @return copy of latency histograms: key is predict stage, value is latency histogram
+     */
+    public Map<PredictStage, MLLatencyHistogram> getModelLatencyStats(String modelId) {
+        return copyLatencyStats(modelLatencyStats.get(modelId));
+    }
+
+    /**
+     * Get latency stats of specific connector.
+     * @param connectorId connector id
+     * @return copy of latency histograms: key is predict stage, value is latency histogram
+     */
+    public Map<PredictStage, MLLatencyHistogram> getConnectorLatencyStats(String connectorId) {
+        return copyLatencyStats(connectorLatencyStats.get(connectorId));
+    }
+
+    /**
+     * Get a percentile of the remote invocation latency of a connector action without copying the histogram. The latency
+     * of the connector is used if the connector id is set, otherwise the latency of the model.
+     * @param modelId model id
+     * @param connectorId connector id, null for models with internal connector
+     * @param action connector action, e.g. predict
+     * @param percentile percentile between 0 and 100
+     * @param minCount min number of recorded latencies
+     * @return latency in milliseconds, null if fewer latencies are recorded
+     */
+    public Double getRemoteActionLatencyPercentile(String modelId, String connectorId, String action, double percentile, long minCount) {
+        Map<String, MLLatencyHistogram> actionStats = connectorId != null
+            ? connectorRemoteActionLatencyStats.get(connectorId)
+            : modelId == null ? null : modelRemoteActionLatencyStats.get(modelId);
+        MLLatencyHistogram histogram = actionStats == null ? null : actionStats.get(action.toLowerCase(Locale.ROOT));
+        if (histogram == null || histogram.getCount() < minCount) {
+            return null;
+        }
+        return histogram.getPercentile(percentile);
+    }
+
+    private Map<PredictStage, MLLatencyHistogram> copyLatencyStats(Map<PredictStage, MLLatencyHistogram> stats) {
+        if (stats == null) {
+            return null;
+        }
+        Map<PredictStage, MLLatencyHistogram> copy = new EnumMap<>(PredictStage.class);
+        stats.forEach((stage, histogram) -> copy.put(stage, histogram.copy()));
+        return copy;
+    }
+
+    public String[] getAllConnectors() {
+        return connectorLatencyStats.keySet().toArray(new String[0]);
+    }
+
     public FunctionName[] getAllAlgorithms() {
         return algoStats.keySet().toArray(new FunctionName[0]);
     }
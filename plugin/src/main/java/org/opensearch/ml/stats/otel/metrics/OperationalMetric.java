@@ -10,7 +10,10 @@ import lombok.Getter;
 @Getter
 public enum OperationalMetric {
     MODEL_PREDICT_COUNT("Total number of predict calls made", MetricType.COUNTER),
-    MODEL_PREDICT_LATENCY("Latency for model predict", MetricType.HISTOGRAM);
+    MODEL_PREDICT_LATENCY("Latency for model predict", MetricType.HISTOGRAM),
+    MODEL_PREDICT_STAGE_LATENCY("Latency for each stage of model predict", MetricType.HISTOGRAM),
+    MODEL_RATE_LIMIT_QUEUE_DEPTH("Requests waiting for a rate limiter token when a request is queued", MetricType.HISTOGRAM),
+    MODEL_RATE_LIMIT_WAIT("Time requests waited for a rate limiter token", MetricType.HISTOGRAM);
 
     private final String description;
     private final MetricType type;
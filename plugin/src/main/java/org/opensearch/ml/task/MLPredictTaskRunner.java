@@ -57,6 +57,8 @@ import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.model.PredictStage;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
@@ -296,6 +298,12 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                         }), context::restore));
                     }
                     return;
+                } else if (isEvictedModelAutoDeployEnabled(functionName)) {
+                    if (workerNodes == null || workerNodes.length == 0) {
+                        autoDeployEvictedModel(modelId, functionName, request, actionListener, listener);
+                        return;
+                    }
+                    // the model was evicted from some of its worker nodes, predict on the others
                 } else if (FunctionName.needDeployFirst(functionName)) {
                     listener.onFailure(new IllegalArgumentException("Model not ready yet. Please deploy the model first."));
                     return;
@@ -397,11 +405,57 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             case TEXT_DOCS:
             default:
                 String threadPoolName = getPredictThreadPool(functionName);
-                threadPool.executor(threadPoolName).execute(() -> { predict(modelId, tenantId, mlTask, mlInput, listener, channel); });
+                long queuedTime = System.nanoTime();
+                threadPool.executor(threadPoolName).execute(() -> {
+                    mlModelManager.recordPredictLatency(modelId, PredictStage.QUEUE, (System.nanoTime() - queuedTime) / 1e6);
+                    predict(modelId, tenantId, mlTask, mlInput, listener, channel);
+                });
                 break;
         }
     }
 
+    /**
+     * Local models evicted from nodes under memory pressure are deployed again on demand if model auto deploy is enabled.
+     */
+    private boolean isEvictedModelAutoDeployEnabled(FunctionName functionName) {
+        return autoDeploymentEnabled
+            && mlModelManager.isModelEvictionEnabled()
+            && functionName != FunctionName.REMOTE
+            && FunctionName.needDeployFirst(functionName);
+    }
+
+    /**
+     * Dispatch the predict request of a local model evicted from all its worker nodes to one of its planning worker
+     * nodes, which deploys the model again before predicting. Only models marked evicted in the model index are deployed
+     * again, the mark is cleared when users deploy or undeploy the model.
+     */
+    private void autoDeployEvictedModel(
+        String modelId,
+        FunctionName functionName,
+        MLPredictionTaskRequest request,
+        ActionListener<DiscoveryNode> dispatchListener,
+        ActionListener<MLTaskResponse> listener
+    ) {
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            mlModelManager.getModel(modelId, request.getTenantId(), ActionListener.runBefore(ActionListener.wrap(model -> {
+                boolean evicted = Boolean.TRUE.equals(model.getIsEvicted()) && model.getModelState() != MLModelState.UNDEPLOYED;
+                if (!evicted || !checkModelAutoDeployEnabled(model)) {
+                    listener.onFailure(new IllegalArgumentException("Model not ready yet. Please deploy the model first."));
+                    return;
+                }
+                String[] planningWorkerNodes = model.isDeployToAllNodes() ? null : model.getPlanningWorkerNodes();
+                if (planningWorkerNodes == null || planningWorkerNodes.length == 0) {
+                    planningWorkerNodes = nodeHelper.getEligibleNodeIds(functionName);
+                }
+                log.info(getErrorMessage("Automatically deploy evicted model", modelId, model.getIsHidden()));
+                mlTaskDispatcher.dispatchPredictTask(planningWorkerNodes, dispatchListener);
+            }, e -> {
+                log.error("Failed to get model " + modelId, e);
+                listener.onFailure(e);
+            }), context::restore));
+        }
+    }
+
     private boolean checkModelAutoDeployEnabled(MLModel mlModel) {
         if (mlModel.getDeploySetting() == null || mlModel.getDeploySetting().getIsAutoDeployEnabled() == null) {
             return true;
@@ -436,7 +490,9 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         FunctionName functionName = mlInput.getFunctionName();
         Predictable predictor = mlModelManager.getPredictor(modelId);
         boolean modelReady = predictor != null && predictor.isModelReady();
-        if (!modelReady && FunctionName.isAutoDeployEnabled(autoDeploymentEnabled, functionName)) {
+        boolean autoDeployEnabled = FunctionName.isAutoDeployEnabled(autoDeploymentEnabled, functionName)
+            || isEvictedModelAutoDeployEnabled(functionName);
+        if (!modelReady && autoDeployEnabled) {
             log.info("Auto deploy model {} to local node", modelId);
             Instant now = Instant.now();
             MLTask mlDeployTask = MLTask
@@ -523,6 +579,8 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     if (!predictor.isModelReady()) {
                         throw new IllegalArgumentException("Model not ready: " + modelId);
                     }
+                    // last use of the model on this node, least recently used models are evicted first
+                    mlModelManager.refreshLastAccessTime(modelId);
                     if (mlInput.getAlgorithm() == FunctionName.REMOTE) {
                         long startTime = System.nanoTime();
                         ActionListener<MLTaskResponse> trackPredictDurationListener = ActionListener.wrap(output -> {
@@ -121,7 +121,7 @@ public class MLTrainAndPredictTaskRunner extends MLTaskRunner<MLTrainingTaskRequ
                 handlePredictFailure(mlTask, listener, e, false);
             });
             mlInputDatasetHandler
-                .parseSearchQueryInput(
+                .parseTrainingSearchQueryInput(
                     inputDataset,
                     new ThreadedActionListener<>(log, threadPool, TRAIN_THREAD_POOL, dataFrameActionListener, false)
                 );
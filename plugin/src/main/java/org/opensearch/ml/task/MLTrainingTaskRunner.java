@@ -170,7 +170,7 @@ public class MLTrainingTaskRunner extends MLTaskRunner<MLTrainingTaskRequest, ML
                     internalListener.onFailure(e);
                 });
                 mlInputDatasetHandler
-                    .parseSearchQueryInput(
+                    .parseTrainingSearchQueryInput(
                         mlInput.getInputDataset(),
                         new ThreadedActionListener<>(log, threadPool, TRAIN_THREAD_POOL, dataFrameActionListener, false)
                     );
@@ -48,6 +48,7 @@ import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteRequest;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
+import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.utils.TestHelper;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
@@ -98,6 +99,9 @@ public class DeleteConnectorTransportActionTests extends OpenSearchTestCase {
     @Mock
     private MLFeatureEnabledSetting mlFeatureEnabledSetting;
 
+    @Mock
+    private MLStats mlStats;
+
     @Before
     public void setup() throws IOException {
         MockitoAnnotations.openMocks(this);
@@ -114,7 +118,8 @@ public class DeleteConnectorTransportActionTests extends OpenSearchTestCase {
                 sdkClient,
                 xContentRegistry,
                 connectorAccessControlHelper,
-                mlFeatureEnabledSetting
+                mlFeatureEnabledSetting,
+                mlStats
             )
         );
 
@@ -155,6 +160,7 @@ public class DeleteConnectorTransportActionTests extends OpenSearchTestCase {
         assertEquals(deleteResponse.getIndex(), actualResponse.getIndex());
         assertEquals(deleteResponse.getVersion(), actualResponse.getVersion());
         assertEquals(deleteResponse.getResult(), actualResponse.getResult());
+        verify(mlStats).removeConnectorLatencyStats(CONNECTOR_ID);
     }
 
     public void testDeleteConnector_ModelIndexNotFoundSuccess() throws InterruptedException {
@@ -558,6 +558,7 @@ public class TransportDeployModelActionTests extends OpenSearchTestCase {
                 localNodeId,
                 mlTask,
                 List.of(discoveryNode),
+                true,
                 true
             );
 
@@ -566,6 +567,8 @@ public class TransportDeployModelActionTests extends OpenSearchTestCase {
         Map<String, Object> map = captor.getValue();
         assertNotNull(map.get(MLModel.PLANNING_WORKER_NODES_FIELD));
         assertEquals(1, (((List<?>) map.get(MLModel.PLANNING_WORKER_NODES_FIELD)).size()));
+        assertEquals(List.of(), map.get(MLModel.AUTO_SCALED_WORKER_NODES_FIELD));
+        assertEquals(false, map.get(MLModel.IS_EVICTED_FIELD));
     }
 
     public void testUpdateModelDeployStatusAndTriggerOnNodesAction_whenMLTaskManagerThrowException_ListenerOnFailureExecuted() {
@@ -579,6 +582,7 @@ public class TransportDeployModelActionTests extends OpenSearchTestCase {
                 localNodeId,
                 mlTask,
                 eligibleNodes,
+                false,
                 false
             );
         verify(mlTaskManager).updateMLTask(anyString(), any(), anyMap(), anyLong(), anyBoolean());
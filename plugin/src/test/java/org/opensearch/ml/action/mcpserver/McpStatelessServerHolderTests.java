@@ -6,10 +6,12 @@
 package org.opensearch.ml.action.mcpserver;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -81,6 +83,7 @@ public class McpStatelessServerHolderTests extends OpenSearchTestCase {
         Settings settings = Settings.builder().put(MLCommonsSettings.ML_COMMONS_MCP_SERVER_ENABLED.getKey(), true).build();
         TestHelper.mockClientStashContext(client, settings);
         when(threadPool.schedule(any(Runnable.class), any(TimeValue.class), anyString())).thenReturn(null);
+        mockToolsVersion(1L, 1L);
 
         holder = new McpStatelessServerHolder(mcpToolsHelper, client, threadPool);
     }
@@ -440,6 +443,107 @@ public class McpStatelessServerHolderTests extends OpenSearchTestCase {
         assertEquals("Tool version should be 2", Long.valueOf(2L), McpStatelessServerHolder.IN_MEMORY_MCP_TOOLS.get("ListIndexTool"));
     }
 
+    // ==================== SYNC TESTS ====================
+
+    @Test
+    public void test_syncMcpTools_upToDate() throws Exception {
+        setUpInitializedServer();
+        mockAllTools(Map.of("ListIndexTool", Tuple.tuple(getRegisterMcpTool(), 1L)));
+        holder.autoLoadAllMcpTools(mock(ActionListener.class));
+
+        ActionListener<Boolean> listener = mock(ActionListener.class);
+        holder.syncMcpTools(listener);
+
+        verify(listener).onResponse(false);
+        verify(mcpToolsHelper, never()).searchToolsChangedSince(anyLong(), any());
+        verify(mcpToolsHelper, times(1)).searchAllToolsWithVersion(any());
+    }
+
+    @Test
+    public void test_syncMcpTools_fetchChangedTools() throws Exception {
+        setUpInitializedServer();
+        when(mcpStatelessAsyncServer.removeTool(any())).thenReturn(Mono.empty());
+        mockAllTools(Map.of("ListIndexTool", Tuple.tuple(getRegisterMcpTool(), 1L)));
+        holder.autoLoadAllMcpTools(mock(ActionListener.class));
+
+        mockToolsVersion(5L, 1L);
+        doAnswer(invocationOnMock -> {
+            ActionListener<Map<String, Tuple<McpToolRegisterInput, Long>>> listener = invocationOnMock.getArgument(1);
+            listener.onResponse(Map.of("ListIndexTool", Tuple.tuple(getRegisterMcpTool(), 2L)));
+            return null;
+        }).when(mcpToolsHelper).searchToolsChangedSince(eq(1L), any());
+
+        ActionListener<Boolean> listener = mock(ActionListener.class);
+        holder.syncMcpTools(listener);
+
+        verify(listener).onResponse(true);
+        verify(mcpToolsHelper, times(1)).searchAllToolsWithVersion(any());
+        assertEquals(Long.valueOf(2L), McpStatelessServerHolder.IN_MEMORY_MCP_TOOLS.get("ListIndexTool"));
+
+        // the next run only compares the version
+        ActionListener<Boolean> nextListener = mock(ActionListener.class);
+        holder.syncMcpTools(nextListener);
+        verify(nextListener).onResponse(false);
+        verify(mcpToolsHelper, times(1)).searchToolsChangedSince(anyLong(), any());
+    }
+
+    @Test
+    public void test_syncMcpTools_reloadAllToolsWhenToolRemoved() throws Exception {
+        setUpInitializedServer();
+        when(mcpStatelessAsyncServer.removeTool(any())).thenReturn(Mono.empty());
+        mockAllTools(Map.of("ListIndexTool", Tuple.tuple(getRegisterMcpTool(), 1L)));
+        holder.autoLoadAllMcpTools(mock(ActionListener.class));
+        // the remove notification of this tool was missed
+        McpStatelessServerHolder.IN_MEMORY_MCP_TOOLS.put("RemovedTool", 1L);
+        doAnswer(invocationOnMock -> {
+            ActionListener<Map<String, Tuple<McpToolRegisterInput, Long>>> listener = invocationOnMock.getArgument(1);
+            listener.onResponse(Map.of());
+            return null;
+        }).when(mcpToolsHelper).searchToolsChangedSince(anyLong(), any());
+
+        ActionListener<Boolean> listener = mock(ActionListener.class);
+        holder.syncMcpTools(listener);
+
+        verify(listener).onResponse(true);
+        verify(mcpToolsHelper, times(2)).searchAllToolsWithVersion(any());
+        verify(mcpStatelessAsyncServer).removeTool("RemovedTool");
+        assertFalse(McpStatelessServerHolder.IN_MEMORY_MCP_TOOLS.containsKey("RemovedTool"));
+        assertTrue(McpStatelessServerHolder.IN_MEMORY_MCP_TOOLS.containsKey("ListIndexTool"));
+    }
+
+    @Test
+    public void test_syncMcpTools_versionFailure() {
+        doAnswer(invocationOnMock -> {
+            ActionListener<McpToolsHelper.ToolsVersion> listener = invocationOnMock.getArgument(0);
+            listener.onFailure(new OpenSearchException("Network issue"));
+            return null;
+        }).when(mcpToolsHelper).getToolsVersion(any());
+
+        ActionListener<Boolean> listener = mock(ActionListener.class);
+        holder.syncMcpTools(listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("Network issue", argumentCaptor.getValue().getMessage());
+    }
+
+    @Test
+    public void test_startSyncMcpToolsJob_reschedulesAfterFailure() {
+        doAnswer(invocationOnMock -> {
+            ActionListener<McpToolsHelper.ToolsVersion> listener = invocationOnMock.getArgument(0);
+            listener.onFailure(new OpenSearchException("Network issue"));
+            return null;
+        }).when(mcpToolsHelper).getToolsVersion(any());
+        holder.startSyncMcpToolsJob();
+        ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(runnableCaptor.capture(), any(TimeValue.class), anyString());
+
+        runnableCaptor.getValue().run();
+
+        verify(mcpToolsHelper).getToolsVersion(any());
+        verify(threadPool, times(2)).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+    }
+
     // ==================== UTILITY TESTS ====================
 
     @Test
@@ -455,6 +559,33 @@ public class McpStatelessServerHolderTests extends OpenSearchTestCase {
 
     // ==================== HELPER METHODS ====================
 
+    private void setUpInitializedServer() throws Exception {
+        java.lang.reflect.Field initializedField = McpStatelessServerHolder.class.getDeclaredField("initialized");
+        initializedField.setAccessible(true);
+        initializedField.set(null, true);
+
+        java.lang.reflect.Field serverField = McpStatelessServerHolder.class.getDeclaredField("mcpStatelessAsyncServer");
+        serverField.setAccessible(true);
+        serverField.set(null, mcpStatelessAsyncServer);
+        when(mcpStatelessAsyncServer.addTool(any())).thenReturn(Mono.empty());
+    }
+
+    private void mockToolsVersion(long maxSeqNo, long toolCount) {
+        doAnswer(invocationOnMock -> {
+            ActionListener<McpToolsHelper.ToolsVersion> listener = invocationOnMock.getArgument(0);
+            listener.onResponse(new McpToolsHelper.ToolsVersion(maxSeqNo, toolCount));
+            return null;
+        }).when(mcpToolsHelper).getToolsVersion(any());
+    }
+
+    private void mockAllTools(Map<String, Tuple<McpToolRegisterInput, Long>> tools) {
+        doAnswer(invocationOnMock -> {
+            ActionListener<Map<String, Tuple<McpToolRegisterInput, Long>>> listener = invocationOnMock.getArgument(0);
+            listener.onResponse(tools);
+            return null;
+        }).when(mcpToolsHelper).searchAllToolsWithVersion(any());
+    }
+
     private McpToolRegisterInput getRegisterMcpTool() {
         McpToolRegisterInput registerMcpTool = new McpToolRegisterInput(
             "ListIndexTool",
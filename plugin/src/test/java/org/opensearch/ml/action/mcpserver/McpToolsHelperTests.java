@@ -6,6 +6,7 @@
 package org.opensearch.ml.action.mcpserver;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -27,6 +28,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchException;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.ShardSearchFailure;
 import org.opensearch.cluster.service.ClusterService;
@@ -39,6 +41,9 @@ import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.ml.common.settings.MLCommonsSettings;
 import org.opensearch.ml.common.spi.tools.Tool;
 import org.opensearch.ml.common.transport.mcpserver.requests.McpToolBaseInput;
@@ -46,9 +51,11 @@ import org.opensearch.ml.common.transport.mcpserver.requests.register.McpToolReg
 import org.opensearch.ml.engine.tools.ListIndexTool;
 import org.opensearch.ml.rest.mcpserver.ToolFactoryWrapper;
 import org.opensearch.ml.utils.TestHelper;
+import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.metrics.InternalMax;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.profile.SearchProfileShardResults;
 import org.opensearch.search.suggest.Suggest;
@@ -113,6 +120,73 @@ public class McpToolsHelperTests extends OpenSearchTestCase {
         assertEquals(1, argumentCaptor.getValue().size());
     }
 
+    @Test
+    public void test_getToolsVersion_success() {
+        InternalMax maxSeqNo = new InternalMax(McpToolsHelper.MAX_SEQ_NO_AGGREGATION, 42, DocValueFormat.RAW, Map.of());
+        mockSearchResponse(createVersionResponse(maxSeqNo, 3));
+        ActionListener<McpToolsHelper.ToolsVersion> listener = mock(ActionListener.class);
+        mcpToolsHelper.getToolsVersion(listener);
+
+        verify(listener).onResponse(new McpToolsHelper.ToolsVersion(42, 3));
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(requestCaptor.capture(), isA(ActionListener.class));
+        assertEquals(0, requestCaptor.getValue().source().size());
+    }
+
+    @Test
+    public void test_getToolsVersion_noTools() {
+        mockSearchResponse(
+            createVersionResponse(
+                new InternalMax(McpToolsHelper.MAX_SEQ_NO_AGGREGATION, Double.NEGATIVE_INFINITY, DocValueFormat.RAW, Map.of()),
+                0
+            )
+        );
+        ActionListener<McpToolsHelper.ToolsVersion> listener = mock(ActionListener.class);
+        mcpToolsHelper.getToolsVersion(listener);
+        verify(listener).onResponse(McpToolsHelper.ToolsVersion.EMPTY);
+    }
+
+    @Test
+    public void test_getToolsVersion_indexNotFound() {
+        doAnswer(invocationOnMock -> {
+            ActionListener<SearchResponse> listener = invocationOnMock.getArgument(1);
+            listener.onFailure(new IndexNotFoundException(".plugins-ml-mcp-tools"));
+            return null;
+        }).when(client).search(any(), isA(ActionListener.class));
+        ActionListener<McpToolsHelper.ToolsVersion> listener = mock(ActionListener.class);
+        mcpToolsHelper.getToolsVersion(listener);
+        verify(listener).onResponse(McpToolsHelper.ToolsVersion.EMPTY);
+    }
+
+    @Test
+    public void test_getToolsVersion_searchException() {
+        doAnswer(invocationOnMock -> {
+            ActionListener<SearchResponse> listener = invocationOnMock.getArgument(1);
+            listener.onFailure(new RuntimeException("Network issue"));
+            return null;
+        }).when(client).search(any(), isA(ActionListener.class));
+        ActionListener<McpToolsHelper.ToolsVersion> listener = mock(ActionListener.class);
+        mcpToolsHelper.getToolsVersion(listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("Failed to get version of mcp tools index with error: Network issue", argumentCaptor.getValue().getMessage());
+    }
+
+    @Test
+    public void test_searchToolsChangedSince_success() {
+        ActionListener<Map<String, Tuple<McpToolRegisterInput, Long>>> listener = mock(ActionListener.class);
+        mcpToolsHelper.searchToolsChangedSince(7L, listener);
+
+        verify(listener).onResponse(argThat(map -> map.size() == 1 && map.get("ListIndexTool").v2() == 1L));
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(requestCaptor.capture(), isA(ActionListener.class));
+        RangeQueryBuilder query = (RangeQueryBuilder) requestCaptor.getValue().source().query();
+        assertEquals(SeqNoFieldMapper.NAME, query.fieldName());
+        assertEquals(7L, query.from());
+        assertFalse(query.includeLower());
+        assertEquals(McpToolsHelper.MAX_TOOL_NUMBER, requestCaptor.getValue().source().size());
+    }
+
     @Test
     public void test_searchAllTools_success() {
         ActionListener<List<McpToolRegisterInput>> actionListener = mock(ActionListener.class);
@@ -312,6 +386,35 @@ public class McpToolsHelperTests extends OpenSearchTestCase {
         );
     }
 
+    private SearchResponse createVersionResponse(InternalMax maxSeqNo, long toolCount) {
+        return new SearchResponse(
+            new InternalSearchResponse(
+                new SearchHits(new SearchHit[0], new TotalHits(toolCount, TotalHits.Relation.EQUAL_TO), 1.0f),
+                InternalAggregations.from(List.of(maxSeqNo)),
+                new Suggest(Collections.emptyList()),
+                new SearchProfileShardResults(Collections.emptyMap()),
+                false,
+                false,
+                1
+            ),
+            "",
+            1,
+            1,
+            0,
+            100,
+            ShardSearchFailure.EMPTY_ARRAY,
+            SearchResponse.Clusters.EMPTY
+        );
+    }
+
+    private void mockSearchResponse(SearchResponse searchResponse) {
+        doAnswer(invocationOnMock -> {
+            ActionListener<SearchResponse> listener = invocationOnMock.getArgument(1);
+            listener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(), isA(ActionListener.class));
+    }
+
     private void setupMalformedJsonResponse() throws IOException {
         String malformedJson =
             "{\"name\":\"test\",\"type\":\"test\",\"description\":\"test\",\"parameters\":{},\"attributes\":{},\"version\":1,\"malformed\":}";
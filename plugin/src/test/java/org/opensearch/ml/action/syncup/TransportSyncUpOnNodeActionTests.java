@@ -264,6 +264,72 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         testFolder.delete();
     }
 
+    @Test
+    public void testNodeOperation_IncrementalSyncUp() throws IOException {
+        testFolder.create();
+        File folder = testFolder.newFolder();
+        DiscoveryNode localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(mlEngine.getRegisterModelRootPath()).thenReturn(Paths.get(folder.getCanonicalPath()));
+        when(mlEngine.getDeployModelRootPath()).thenReturn(Paths.get(folder.getCanonicalPath()));
+        when(mlEngine.getModelCacheRootPath()).thenReturn(Paths.get(folder.getCanonicalPath()));
+        when(mlModelManager.getLocalDeployedModels()).thenReturn(new String[] { "model1" });
+
+        // first sync up reports full local state
+        MLSyncUpNodeResponse response = nodeOperation(MLSyncUpInput.builder().getDeployedModels(true).build());
+        assertFalse(response.isStateUnchanged());
+        assertEquals(1L, response.getStateVersion().longValue());
+        assertArrayEquals(new String[] { "model1" }, response.getDeployedModelIds());
+        assertNull(response.getRoutingVersion());
+
+        // full routing table sync
+        Map<String, Set<String>> modelRoutingTable = new HashMap<>();
+        modelRoutingTable.put("model1", ImmutableSet.of("foo0"));
+        response = nodeOperation(MLSyncUpInput.builder().modelRoutingTable(modelRoutingTable).routingVersion(1L).build());
+        assertEquals(1L, response.getRoutingVersion().longValue());
+        verify(mlModelManager).syncModelWorkerNodes(modelRoutingTable);
+
+        // local state not changed since the acknowledged version
+        response = nodeOperation(MLSyncUpInput.builder().getDeployedModels(true).nodeStateVersions(Map.of("foo0", 1L)).build());
+        assertTrue(response.isStateUnchanged());
+        assertNull(response.getDeployedModelIds());
+        assertEquals(1L, response.getStateVersion().longValue());
+
+        // local state changed since the acknowledged version
+        when(mlModelManager.getLocalDeployedModels()).thenReturn(new String[] { "model1", "model2" });
+        response = nodeOperation(MLSyncUpInput.builder().getDeployedModels(true).nodeStateVersions(Map.of("foo0", 1L)).build());
+        assertFalse(response.isStateUnchanged());
+        assertEquals(2L, response.getStateVersion().longValue());
+        assertEquals(2, response.getDeployedModelIds().length);
+
+        // routing delta based on current routing version
+        Map<String, String[]> addedWorkerNodes = Map.of("model2", new String[] { "foo0" });
+        response = nodeOperation(MLSyncUpInput.builder().addedWorkerNodes(addedWorkerNodes).baseRoutingVersion(1L).routingVersion(2L).build());
+        assertEquals(2L, response.getRoutingVersion().longValue());
+        verify(mlModelManager).addModelWorkerNode("model2", "foo0");
+
+        // routing delta based on another routing version
+        response = nodeOperation(MLSyncUpInput.builder().addedWorkerNodes(addedWorkerNodes).baseRoutingVersion(5L).routingVersion(6L).build());
+        assertNull(response.getRoutingVersion());
+
+        // routing changed by other actions
+        nodeOperation(MLSyncUpInput.builder().modelRoutingTable(modelRoutingTable).routingVersion(7L).build());
+        response = nodeOperation(MLSyncUpInput.builder().removedWorkerNodes(Map.of("model1", new String[] { "foo0" })).build());
+        assertNull(response.getRoutingVersion());
+        testFolder.delete();
+    }
+
+    private MLSyncUpNodeResponse nodeOperation(MLSyncUpInput syncUpInput) {
+        return action.nodeOperation(action.newNodeRequest(new MLSyncUpNodesRequest(new String[] {}, syncUpInput)));
+    }
+
     @Test
     public void testCleanUpLocalCache_NoTasks() {
         when(mlTaskManager.getAllTaskIds()).thenReturn(null);
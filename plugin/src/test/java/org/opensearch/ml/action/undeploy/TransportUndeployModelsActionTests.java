@@ -254,6 +254,7 @@ public class TransportUndeployModelsActionTests extends OpenSearchTestCase {
         assertEquals(0, updateDoc.get(MLModel.CURRENT_WORKER_NODE_COUNT_FIELD));
         assertEquals(0, updateDoc.get(MLModel.PLANNING_WORKER_NODE_COUNT_FIELD));
         assertEquals(List.of(), updateDoc.get(MLModel.PLANNING_WORKER_NODES_FIELD));
+        assertEquals(false, updateDoc.get(MLModel.IS_EVICTED_FIELD));
         assertTrue(updateDoc.containsKey(MLModel.LAST_UPDATED_TIME_FIELD));
 
         verify(actionListener).onResponse(any(MLUndeployModelsResponse.class));
@@ -0,0 +1,285 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.autoscale;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_COOLDOWN;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_MAX_WORKER_NODES;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_SUSTAINED_INTERVALS;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_UP_PREDICT_RATE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_SCALE_UP_QUEUE_DEPTH;
+import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.action.stats.MLStatsNodeResponse;
+import org.opensearch.ml.action.stats.MLStatsNodesResponse;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelRequest;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
+import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsAction;
+import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsRequest;
+import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsResponse;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.stats.ActionName;
+import org.opensearch.ml.stats.MLActionLevelStat;
+import org.opensearch.ml.stats.MLActionStats;
+import org.opensearch.ml.stats.MLModelStats;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.client.Client;
+
+public class MLModelAutoScalerTests extends OpenSearchTestCase {
+
+    private static final String MODEL_ID = "test_model_id";
+
+    @Mock
+    private Client client;
+    @Mock
+    private ClusterService clusterService;
+    @Mock
+    private DiscoveryNodeHelper nodeHelper;
+    @Mock
+    private MLModelManager mlModelManager;
+    @Mock
+    private MLFeatureEnabledSetting mlFeatureEnabledSetting;
+
+    private DiscoveryNode node1;
+    private DiscoveryNode node2;
+    private DiscoveryNode node3;
+    private MLModel mlModel;
+    private Instant startTime;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        node1 = createNode("node1");
+        node2 = createNode("node2");
+        node3 = createNode("node3");
+        mlModel = MLModel.builder().modelId(MODEL_ID).algorithm(FunctionName.TEXT_EMBEDDING).deployToAllNodes(false).build();
+        startTime = Instant.now();
+
+        when(mlModelManager.getAllModelIds()).thenReturn(new String[] { MODEL_ID });
+        when(mlModelManager.getWorkerNodes(MODEL_ID, null)).thenReturn(new String[] { "node1" });
+        when(nodeHelper.getEligibleNodes(FunctionName.TEXT_EMBEDDING)).thenReturn(new DiscoveryNode[] { node1, node2, node3 });
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(1);
+            listener.onResponse(mlModel);
+            return null;
+        }).when(mlModelManager).getModel(eq(MODEL_ID), any(ActionListener.class));
+        doAnswer(invocation -> {
+            Map<String, Object> updatedFields = invocation.getArgument(2);
+            List<String> autoScaledWorkerNodes = (List<String>) updatedFields.get(MLModel.AUTO_SCALED_WORKER_NODES_FIELD);
+            mlModel = mlModel.toBuilder().autoScaledWorkerNodes(autoScaledWorkerNodes.toArray(new String[0])).build();
+            ActionListener<UpdateResponse> listener = invocation.getArgument(3);
+            listener.onResponse(mock(UpdateResponse.class));
+            return null;
+        }).when(mlModelManager).updateModel(eq(MODEL_ID), any(), any(Map.class), any(ActionListener.class));
+        doAnswer(invocation -> {
+            ActionListener<MLDeployModelResponse> listener = invocation.getArgument(2);
+            listener.onResponse(mock(MLDeployModelResponse.class));
+            return null;
+        }).when(client).execute(eq(MLDeployModelAction.INSTANCE), any(MLDeployModelRequest.class), any(ActionListener.class));
+        doAnswer(invocation -> {
+            ActionListener<MLUndeployModelsResponse> listener = invocation.getArgument(2);
+            listener.onResponse(mock(MLUndeployModelsResponse.class));
+            return null;
+        }).when(client).execute(eq(MLUndeployModelsAction.INSTANCE), any(MLUndeployModelsRequest.class), any(ActionListener.class));
+    }
+
+    public void testEvaluate_HotModel_AddsLeastLoadedNode() {
+        MLModelAutoScaler autoScaler = createAutoScaler(Settings.EMPTY);
+
+        autoScaler.evaluate(createStatsResponse(0, 0), startTime);
+        autoScaler.evaluate(createStatsResponse(6000, 0), startTime.plusSeconds(60));
+
+        ArgumentCaptor<MLDeployModelRequest> captor = ArgumentCaptor.forClass(MLDeployModelRequest.class);
+        verify(client).execute(eq(MLDeployModelAction.INSTANCE), captor.capture(), any(ActionListener.class));
+        assertEquals(MODEL_ID, captor.getValue().getModelId());
+        assertArrayEquals(new String[] { "node1", "node3" }, captor.getValue().getModelNodeIds());
+        assertFalse(captor.getValue().isUserInitiatedDeployRequest());
+        assertArrayEquals(new String[] { "node3" }, mlModel.getAutoScaledWorkerNodes());
+    }
+
+    public void testEvaluate_DeepQueue_AddsNode() {
+        MLModelAutoScaler autoScaler = createAutoScaler(Settings.EMPTY);
+
+        autoScaler.evaluate(createStatsResponse(0, 20), startTime);
+        autoScaler.evaluate(createStatsResponse(10, 20), startTime.plusSeconds(60));
+
+        verify(client).execute(eq(MLDeployModelAction.INSTANCE), any(MLDeployModelRequest.class), any(ActionListener.class));
+    }
+
+    public void testEvaluate_IdleModel_RemovesAddedNodeOnly() {
+        MLModelAutoScaler autoScaler = createAutoScaler(Settings.EMPTY);
+        autoScaler.evaluate(createStatsResponse(0, 0), startTime);
+        autoScaler.evaluate(createStatsResponse(6000, 0), startTime.plusSeconds(60));
+
+        when(mlModelManager.getWorkerNodes(MODEL_ID, null)).thenReturn(new String[] { "node1", "node3" });
+        autoScaler.evaluate(createStatsResponse(6000, 0), startTime.plusSeconds(120));
+        autoScaler.evaluate(createStatsResponse(6000, 0), startTime.plusSeconds(180));
+
+        ArgumentCaptor<MLUndeployModelsRequest> captor = ArgumentCaptor.forClass(MLUndeployModelsRequest.class);
+        verify(client, times(1)).execute(eq(MLUndeployModelsAction.INSTANCE), captor.capture(), any(ActionListener.class));
+        assertArrayEquals(new String[] { MODEL_ID }, captor.getValue().getModelIds());
+        assertArrayEquals(new String[] { "node3" }, captor.getValue().getNodeIds());
+        assertArrayEquals(new String[0], mlModel.getAutoScaledWorkerNodes());
+    }
+
+    public void testEvaluate_IdleModel_RemovesPersistedAutoScaledNode() {
+        mlModel = mlModel.toBuilder().autoScaledWorkerNodes(new String[] { "node2", "node3" }).build();
+        when(mlModelManager.getWorkerNodes(MODEL_ID, null)).thenReturn(new String[] { "node1", "node3" });
+        MLModelAutoScaler autoScaler = createAutoScaler(Settings.EMPTY);
+
+        autoScaler.evaluate(createStatsResponse(6000, 0), startTime);
+        autoScaler.evaluate(createStatsResponse(6000, 0), startTime.plusSeconds(60));
+
+        ArgumentCaptor<MLUndeployModelsRequest> captor = ArgumentCaptor.forClass(MLUndeployModelsRequest.class);
+        verify(client, times(1)).execute(eq(MLUndeployModelsAction.INSTANCE), captor.capture(), any(ActionListener.class));
+        assertArrayEquals(new String[] { "node3" }, captor.getValue().getNodeIds());
+        assertArrayEquals(new String[0], mlModel.getAutoScaledWorkerNodes());
+    }
+
+    public void testEvaluate_IdleModel_KeepsUserPlannedNodes() {
+        when(mlModelManager.getWorkerNodes(MODEL_ID, null)).thenReturn(new String[] { "node1", "node3" });
+        MLModelAutoScaler autoScaler = createAutoScaler(Settings.EMPTY);
+
+        autoScaler.evaluate(createStatsResponse(6000, 0), startTime);
+        autoScaler.evaluate(createStatsResponse(6000, 0), startTime.plusSeconds(60));
+
+        verify(mlModelManager, times(1)).getModel(eq(MODEL_ID), any(ActionListener.class));
+        verify(client, never()).execute(eq(MLUndeployModelsAction.INSTANCE), any(MLUndeployModelsRequest.class), any(ActionListener.class));
+        verify(mlModelManager, never()).updateModel(eq(MODEL_ID), any(), any(Map.class), any(ActionListener.class));
+    }
+
+    public void testEvaluate_Cooldown_SkipsScaling() {
+        Settings settings = Settings.builder().put(ML_COMMONS_MODEL_AUTO_SCALE_COOLDOWN.getKey(), "10m").build();
+        MLModelAutoScaler autoScaler = createAutoScaler(settings);
+        autoScaler.evaluate(createStatsResponse(0, 0), startTime);
+        autoScaler.evaluate(createStatsResponse(6000, 0), startTime.plusSeconds(60));
+
+        when(mlModelManager.getWorkerNodes(MODEL_ID, null)).thenReturn(new String[] { "node1", "node3" });
+        autoScaler.evaluate(createStatsResponse(20000, 0), startTime.plusSeconds(120));
+        autoScaler.evaluate(createStatsResponse(20000, 0), startTime.plusSeconds(180));
+
+        verify(client, times(1)).execute(eq(MLDeployModelAction.INSTANCE), any(MLDeployModelRequest.class), any(ActionListener.class));
+        verify(client, never()).execute(eq(MLUndeployModelsAction.INSTANCE), any(MLUndeployModelsRequest.class), any(ActionListener.class));
+    }
+
+    public void testEvaluate_MaxWorkerNodesReached() {
+        when(mlModelManager.getWorkerNodes(MODEL_ID, null)).thenReturn(new String[] { "node1", "node2" });
+        Settings settings = Settings.builder().put(ML_COMMONS_MODEL_AUTO_SCALE_MAX_WORKER_NODES.getKey(), 2).build();
+        MLModelAutoScaler autoScaler = createAutoScaler(settings);
+
+        autoScaler.evaluate(createStatsResponse(0, 0), startTime);
+        autoScaler.evaluate(createStatsResponse(12000, 0), startTime.plusSeconds(60));
+
+        verify(mlModelManager, never()).getModel(eq(MODEL_ID), any(ActionListener.class));
+        verify(client, never()).execute(eq(MLDeployModelAction.INSTANCE), any(MLDeployModelRequest.class), any(ActionListener.class));
+    }
+
+    public void testEvaluate_RemoteModel_NotScaled() {
+        mlModel = MLModel.builder().modelId(MODEL_ID).algorithm(FunctionName.REMOTE).build();
+        MLModelAutoScaler autoScaler = createAutoScaler(Settings.EMPTY);
+
+        autoScaler.evaluate(createStatsResponse(0, 0), startTime);
+        autoScaler.evaluate(createStatsResponse(6000, 0), startTime.plusSeconds(60));
+        autoScaler.evaluate(createStatsResponse(12000, 0), startTime.plusSeconds(120));
+
+        verify(mlModelManager, times(1)).getModel(eq(MODEL_ID), any(ActionListener.class));
+        verify(client, never()).execute(eq(MLDeployModelAction.INSTANCE), any(MLDeployModelRequest.class), any(ActionListener.class));
+    }
+
+    public void testRun_CustomDeploymentPlanNotAllowed() {
+        Settings settings = Settings.builder().put(ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN.getKey(), false).build();
+        MLModelAutoScaler autoScaler = createAutoScaler(settings);
+
+        autoScaler.run();
+
+        verify(mlModelManager, never()).getAllModelIds();
+    }
+
+    private MLModelAutoScaler createAutoScaler(Settings customSettings) {
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_MODEL_AUTO_SCALE_UP_PREDICT_RATE.getKey(), 10)
+            .put(ML_COMMONS_MODEL_AUTO_SCALE_UP_QUEUE_DEPTH.getKey(), 5)
+            .put(ML_COMMONS_MODEL_AUTO_SCALE_SUSTAINED_INTERVALS.getKey(), 1)
+            .put(ML_COMMONS_MODEL_AUTO_SCALE_MAX_WORKER_NODES.getKey(), 3)
+            .put(ML_COMMONS_MODEL_AUTO_SCALE_COOLDOWN.getKey(), "0s")
+            .put(ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN.getKey(), true)
+            .put(customSettings)
+            .build();
+        ClusterSettings clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_MODEL_AUTO_SCALE_UP_PREDICT_RATE,
+            ML_COMMONS_MODEL_AUTO_SCALE_UP_QUEUE_DEPTH,
+            ML_COMMONS_MODEL_AUTO_SCALE_SUSTAINED_INTERVALS,
+            ML_COMMONS_MODEL_AUTO_SCALE_MAX_WORKER_NODES,
+            ML_COMMONS_MODEL_AUTO_SCALE_COOLDOWN,
+            ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        return new MLModelAutoScaler(client, clusterService, settings, nodeHelper, mlModelManager, mlFeatureEnabledSetting);
+    }
+
+    private MLStatsNodesResponse createStatsResponse(long predictCount, long workerTaskCount) {
+        MLActionStats predictStats = new MLActionStats(Map.of(MLActionLevelStat.ML_ACTION_REQUEST_COUNT, predictCount));
+        MLModelStats modelStats = new MLModelStats(Map.of(ActionName.PREDICT, predictStats), false);
+        List<MLStatsNodeResponse> nodeResponses = new ArrayList<>();
+        nodeResponses.add(createNodeResponse(node1, workerTaskCount, Map.of(MODEL_ID, modelStats)));
+        nodeResponses.add(createNodeResponse(node2, 3, Map.of()));
+        nodeResponses.add(createNodeResponse(node3, 1, Map.of()));
+        return new MLStatsNodesResponse(new ClusterName("test"), nodeResponses, Collections.emptyList());
+    }
+
+    private MLStatsNodeResponse createNodeResponse(DiscoveryNode node, long executingTaskCount, Map<String, MLModelStats> modelStats) {
+        Map<MLNodeLevelStat, Object> nodeStats = Map.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, executingTaskCount);
+        return new MLStatsNodeResponse(node, nodeStats, Map.of(), modelStats);
+    }
+
+    private DiscoveryNode createNode(String nodeId) {
+        return new DiscoveryNode(
+            nodeId,
+            nodeId,
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(ML_ROLE),
+            Version.CURRENT
+        );
+    }
+}
@@ -70,6 +70,7 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodeResponse;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
@@ -239,6 +240,172 @@ public class MLSyncUpCronTests extends OpenSearchTestCase {
         verify(client, times(1)).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
     }
 
+    public void testPlanSyncUp_IncrementalSyncUp() {
+        syncUpCron = new MLSyncUpCron(
+            client,
+            sdkClient,
+            clusterService,
+            nodeHelper,
+            mlIndicesHandler,
+            encryptor,
+            mlFeatureEnabledSetting,
+            3600
+        );
+        DiscoveryNode[] allNodes = new DiscoveryNode[] { mlNode1, mlNode2 };
+
+        // first sync up sends full routing table to all nodes
+        MLSyncUpCron.SyncUpPlan plan = syncUpCron
+            .planSyncUp(allNodes, Arrays.asList(nodeState(mlNode1, 1L, null, "model1"), nodeState(mlNode2, 1L, null)));
+        assertEquals(1, plan.getSyncUpRequests().size());
+        MLSyncUpNodesRequest request = plan.getSyncUpRequests().get(0);
+        assertEquals(2, request.concreteNodes().length);
+        assertEquals(ImmutableSet.of(mlNode1Id), request.getSyncUpInput().getModelRoutingTable().get("model1"));
+        assertEquals(version(1), request.getSyncUpInput().getRoutingVersion().longValue());
+        assertTrue(plan.isRefreshModelState());
+
+        // model deployed to another node, only send routing delta
+        plan = syncUpCron
+            .planSyncUp(
+                allNodes,
+                Arrays.asList(unchangedNodeState(mlNode1, 1L, version(1)), nodeState(mlNode2, 2L, version(1), "model1"))
+            );
+        assertEquals(ImmutableSet.of(mlNode1Id, mlNode2Id), plan.getModelWorkerNodes().get("model1"));
+        assertEquals(1, plan.getSyncUpRequests().size());
+        request = plan.getSyncUpRequests().get(0);
+        assertEquals(2, request.concreteNodes().length);
+        assertNull(request.getSyncUpInput().getModelRoutingTable());
+        assertArrayEquals(new String[] { mlNode2Id }, request.getSyncUpInput().getAddedWorkerNodes().get("model1"));
+        assertEquals(version(1), request.getSyncUpInput().getBaseRoutingVersion().longValue());
+        assertEquals(version(2), request.getSyncUpInput().getRoutingVersion().longValue());
+        assertTrue(plan.isRefreshModelState());
+
+        // nothing changed, no need to sync up
+        plan = syncUpCron
+            .planSyncUp(
+                allNodes,
+                Arrays.asList(unchangedNodeState(mlNode1, 1L, version(2)), unchangedNodeState(mlNode2, 2L, version(2)))
+            );
+        assertEquals(ImmutableSet.of(mlNode1Id, mlNode2Id), plan.getModelWorkerNodes().get("model1"));
+        assertTrue(plan.getSyncUpRequests().isEmpty());
+        assertFalse(plan.isRefreshModelState());
+
+        // routing table changed on node by other actions, send full routing table to the node
+        plan = syncUpCron
+            .planSyncUp(
+                allNodes,
+                Arrays.asList(unchangedNodeState(mlNode1, 1L, version(2)), unchangedNodeState(mlNode2, 2L, null))
+            );
+        assertEquals(1, plan.getSyncUpRequests().size());
+        request = plan.getSyncUpRequests().get(0);
+        assertArrayEquals(new DiscoveryNode[] { mlNode2 }, request.concreteNodes());
+        assertEquals(ImmutableSet.of(mlNode1Id, mlNode2Id), request.getSyncUpInput().getModelRoutingTable().get("model1"));
+        assertEquals(version(2), request.getSyncUpInput().getRoutingVersion().longValue());
+
+        // model undeployed from node
+        plan = syncUpCron
+            .planSyncUp(
+                allNodes,
+                Arrays.asList(nodeState(mlNode1, 2L, version(2)), unchangedNodeState(mlNode2, 2L, version(2)))
+            );
+        request = plan.getSyncUpRequests().get(0);
+        assertArrayEquals(new String[] { mlNode1Id }, request.getSyncUpInput().getRemovedWorkerNodes().get("model1"));
+        assertEquals(version(3), request.getSyncUpInput().getRoutingVersion().longValue());
+    }
+
+    public void testPlanSyncUp_FullSyncOnNodeJoin() {
+        syncUpCron = new MLSyncUpCron(
+            client,
+            sdkClient,
+            clusterService,
+            nodeHelper,
+            mlIndicesHandler,
+            encryptor,
+            mlFeatureEnabledSetting,
+            3600
+        );
+        syncUpCron.planSyncUp(new DiscoveryNode[] { mlNode1 }, Arrays.asList(nodeState(mlNode1, 1L, null, "model1")));
+
+        MLSyncUpCron.SyncUpPlan plan = syncUpCron
+            .planSyncUp(
+                new DiscoveryNode[] { mlNode1, mlNode2 },
+                Arrays.asList(unchangedNodeState(mlNode1, 1L, version(1)), nodeState(mlNode2, 1L, null))
+            );
+        assertEquals(1, plan.getSyncUpRequests().size());
+        MLSyncUpNodesRequest request = plan.getSyncUpRequests().get(0);
+        assertEquals(2, request.concreteNodes().length);
+        assertEquals(ImmutableSet.of(mlNode1Id), request.getSyncUpInput().getModelRoutingTable().get("model1"));
+        assertEquals(version(2), request.getSyncUpInput().getRoutingVersion().longValue());
+    }
+
+    public void testPlanSyncUp_IgnoreRoutingVersionOfPreviousClusterManager() {
+        MLSyncUpCron previousSyncUpCron = new MLSyncUpCron(
+            client,
+            sdkClient,
+            clusterService,
+            nodeHelper,
+            mlIndicesHandler,
+            encryptor,
+            mlFeatureEnabledSetting,
+            3600
+        );
+        syncUpCron = new MLSyncUpCron(
+            client,
+            sdkClient,
+            clusterService,
+            nodeHelper,
+            mlIndicesHandler,
+            encryptor,
+            mlFeatureEnabledSetting,
+            3600
+        );
+        DiscoveryNode[] allNodes = new DiscoveryNode[] { mlNode1, mlNode2 };
+        syncUpCron.planSyncUp(allNodes, Arrays.asList(nodeState(mlNode1, 1L, null, "model1"), nodeState(mlNode2, 1L, null)));
+
+        // mlNode2 missed the first full sync and still reports the routing version of the previous cluster manager
+        long staleRoutingVersion = previousSyncUpCron.routingVersionBase + 1;
+        MLSyncUpCron.SyncUpPlan plan = syncUpCron
+            .planSyncUp(
+                allNodes,
+                Arrays.asList(unchangedNodeState(mlNode1, 1L, version(1)), nodeState(mlNode2, 2L, staleRoutingVersion, "model1"))
+            );
+        assertEquals(2, plan.getSyncUpRequests().size());
+        MLSyncUpNodesRequest fullSyncRequest = plan.getSyncUpRequests().get(1);
+        assertArrayEquals(new DiscoveryNode[] { mlNode2 }, fullSyncRequest.concreteNodes());
+        assertEquals(ImmutableSet.of(mlNode1Id, mlNode2Id), fullSyncRequest.getSyncUpInput().getModelRoutingTable().get("model1"));
+    }
+
+    public void testPlanSyncUp_AlwaysFullSync() {
+        syncUpCron = new MLSyncUpCron(
+            client,
+            sdkClient,
+            clusterService,
+            nodeHelper,
+            mlIndicesHandler,
+            encryptor,
+            mlFeatureEnabledSetting,
+            0
+        );
+        DiscoveryNode[] allNodes = new DiscoveryNode[] { mlNode1 };
+        syncUpCron.planSyncUp(allNodes, Arrays.asList(nodeState(mlNode1, 1L, null, "model1")));
+
+        MLSyncUpCron.SyncUpPlan plan = syncUpCron.planSyncUp(allNodes, Arrays.asList(unchangedNodeState(mlNode1, 1L, 1L)));
+        assertEquals(1, plan.getSyncUpRequests().size());
+        assertEquals(ImmutableSet.of(mlNode1Id), plan.getSyncUpRequests().get(0).getSyncUpInput().getModelRoutingTable().get("model1"));
+        assertTrue(plan.isRefreshModelState());
+    }
+
+    private long version(long counter) {
+        return syncUpCron.routingVersionBase + counter;
+    }
+
+    private MLSyncUpNodeResponse nodeState(DiscoveryNode node, Long stateVersion, Long routingVersion, String... deployedModelIds) {
+        return new MLSyncUpNodeResponse(node, "ok", deployedModelIds, null, null, null, stateVersion, false, routingVersion);
+    }
+
+    private MLSyncUpNodeResponse unchangedNodeState(DiscoveryNode node, Long stateVersion, Long routingVersion) {
+        return new MLSyncUpNodeResponse(node, "ok", null, null, null, null, stateVersion, true, routingVersion);
+    }
+
     public void testRefreshModelState_NoSemaphore() throws InterruptedException {
         syncUpCron.updateModelStateSemaphore.acquire();
         syncUpCron.refreshModelState(null, null);
@@ -322,6 +489,23 @@ public class MLSyncUpCronTests extends OpenSearchTestCase {
         assertEquals(ML_MODEL_INDEX, updateRequest.index());
     }
 
+    public void testRefreshModelState_EvictedModelNotResetAsDeployFailed() {
+        // the model was evicted from its only worker node, predict requests deploy it again
+        Map<String, Set<String>> modelWorkerNodes = new HashMap<>();
+        Map<String, Set<String>> deployingModels = new HashMap<>();
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener
+                .onResponse(
+                    createSearchModelResponse("modelId", "tenantId", MLModelState.DEPLOYED, 1, 1, Instant.now().toEpochMilli(), true)
+                );
+            return null;
+        }).when(client).search(any(), any());
+        syncUpCron.refreshModelState(modelWorkerNodes, deployingModels);
+        verify(client, times(1)).search(any(), any());
+        verify(client, never()).bulk(any(), any());
+    }
+
     public void testRefreshModelState_ResetAsPartiallyDeployed() {
         Map<String, Set<String>> modelWorkerNodes = new HashMap<>();
         modelWorkerNodes.put("modelId", ImmutableSet.of("node1"));
@@ -468,6 +652,18 @@ public class MLSyncUpCronTests extends OpenSearchTestCase {
         Integer planningWorkerNodeCount,
         Integer currentWorkerNodeCount,
         Long lastUpdateTime
+    ) throws IOException {
+        return createSearchModelResponse(modelId, tenantId, state, planningWorkerNodeCount, currentWorkerNodeCount, lastUpdateTime, false);
+    }
+
+    private SearchResponse createSearchModelResponse(
+        String modelId,
+        String tenantId,
+        MLModelState state,
+        Integer planningWorkerNodeCount,
+        Integer currentWorkerNodeCount,
+        Long lastUpdateTime,
+        boolean evicted
     ) throws IOException {
         XContentBuilder content = TestHelper.builder();
         content.startObject();
@@ -479,6 +675,9 @@ public class MLSyncUpCronTests extends OpenSearchTestCase {
             content.field(MLModel.CURRENT_WORKER_NODE_COUNT_FIELD, currentWorkerNodeCount);
         }
         content.field(MLModel.LAST_UPDATED_TIME_FIELD, lastUpdateTime);
+        if (evicted) {
+            content.field(MLModel.IS_EVICTED_FIELD, true);
+        }
         content.endObject();
 
         SearchHit[] hits = new SearchHit[1];
@@ -9,26 +9,46 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.*;
 import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_JOB_POLL_MAX_CONCURRENT_REQUESTS_PER_CONNECTOR;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_JOB_POLL_MAX_INTERVAL;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_JOB_POLL_MAX_REQUESTS_PER_CONNECTOR;
+import static org.opensearch.ml.jobs.processors.MLBatchTaskUpdateProcessor.PAGE_SIZE;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.lucene.search.TotalHits;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.transport.task.MLTaskGetAction;
 import org.opensearch.ml.common.transport.task.MLTaskGetRequest;
+import org.opensearch.ml.common.transport.task.MLTaskGetResponse;
 import org.opensearch.ml.utils.TestHelper;
+import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.threadpool.ThreadPool;
@@ -50,10 +70,25 @@ public class MLBatchTaskUpdateProcessorTests {
     @Before
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        mockSettings(Settings.EMPTY);
         MLBatchTaskUpdateProcessor.reset();
         processor = MLBatchTaskUpdateProcessor.getInstance(clusterService, client, threadPool);
     }
 
+    private void mockSettings(Settings settings) {
+        when(clusterService.getSettings()).thenReturn(settings);
+        when(clusterService.getClusterSettings())
+            .thenReturn(
+                TestHelper
+                    .clusterSetting(
+                        settings,
+                        ML_COMMONS_REMOTE_JOB_POLL_MAX_CONCURRENT_REQUESTS_PER_CONNECTOR,
+                        ML_COMMONS_REMOTE_JOB_POLL_MAX_REQUESTS_PER_CONNECTOR,
+                        ML_COMMONS_REMOTE_JOB_POLL_MAX_INTERVAL
+                    )
+            );
+    }
+
     @Test
     public void testGetInstance() {
         MLBatchTaskUpdateProcessor instance1 = MLBatchTaskUpdateProcessor.getInstance(clusterService, client, threadPool);
@@ -127,6 +162,155 @@ public class MLBatchTaskUpdateProcessorTests {
         verify(client, never()).execute(eq(MLTaskGetAction.INSTANCE), any(MLTaskGetRequest.class), isA(ActionListener.class));
     }
 
+    @Test
+    public void testRun_PagesThroughAllTasks() throws IOException {
+        mockSettings(Settings.builder().put(ML_COMMONS_REMOTE_JOB_POLL_MAX_REQUESTS_PER_CONNECTOR.getKey(), 1000).build());
+        processor = new MLBatchTaskUpdateProcessor(clusterService, client, threadPool);
+        List<SearchHit[]> pages = new ArrayList<>();
+        pages.add(taskHits(0, PAGE_SIZE, null));
+        pages.add(taskHits(0, PAGE_SIZE, null));
+        pages.add(taskHits(PAGE_SIZE, 5, null));
+        mockTaskSearch(pages);
+        mockCreatePit();
+        mockTaskGet(new ArrayList<>());
+
+        processor.run();
+
+        ArgumentCaptor<SearchRequest> searchCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(3)).search(searchCaptor.capture(), isA(ActionListener.class));
+        Assert.assertNull(searchCaptor.getAllValues().get(0).source().pointInTimeBuilder());
+        Assert.assertEquals("pit_id", searchCaptor.getAllValues().get(1).source().pointInTimeBuilder().getId());
+        Assert.assertEquals(PAGE_SIZE - 1, searchCaptor.getAllValues().get(2).source().searchAfter()[0]);
+        verify(client, times(PAGE_SIZE + 5)).execute(eq(MLTaskGetAction.INSTANCE), any(MLTaskGetRequest.class), isA(ActionListener.class));
+        verify(client).deletePits(any(DeletePitRequest.class), isA(ActionListener.class));
+    }
+
+    @Test
+    public void testRun_SkipsRecentlyPolledTasks() throws IOException {
+        long now = Instant.now().toEpochMilli();
+        long createTime = now - TimeValue.timeValueHours(2).millis();
+        SearchHit[] hits = new SearchHit[] {
+            taskHit(0, "model1", MLTaskState.RUNNING, createTime, now - TimeValue.timeValueMinutes(1).millis()),
+            taskHit(1, "model1", MLTaskState.RUNNING, createTime, now - TimeValue.timeValueMinutes(20).millis()),
+            taskHit(2, "model1", MLTaskState.CANCELLING, createTime, now - TimeValue.timeValueMinutes(1).millis()),
+            taskHit(3, "model1", MLTaskState.RUNNING, now, null) };
+        List<SearchHit[]> pages = new ArrayList<>();
+        pages.add(hits);
+        mockTaskSearch(pages);
+        List<String> polledTaskIds = new ArrayList<>();
+        mockTaskGet(polledTaskIds);
+
+        processor.run();
+
+        Assert.assertEquals(3, polledTaskIds.size());
+        Assert.assertEquals("task_3", polledTaskIds.get(0));
+        Assert.assertFalse(polledTaskIds.contains("task_0"));
+    }
+
+    @Test
+    public void testRun_LimitsRequestsPerConnector() throws IOException {
+        mockSettings(
+            Settings
+                .builder()
+                .put(ML_COMMONS_REMOTE_JOB_POLL_MAX_REQUESTS_PER_CONNECTOR.getKey(), 3)
+                .put(ML_COMMONS_REMOTE_JOB_POLL_MAX_CONCURRENT_REQUESTS_PER_CONNECTOR.getKey(), 2)
+                .build()
+        );
+        processor = new MLBatchTaskUpdateProcessor(clusterService, client, threadPool);
+        SearchHit[] hits = new SearchHit[6];
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = taskHit(i, i % 2 == 0 ? "model1" : "model2", MLTaskState.RUNNING, null, null);
+        }
+        List<SearchHit[]> pages = new ArrayList<>();
+        pages.add(hits);
+        // both models use the same connector
+        pages.add(new SearchHit[] { modelHit("model1", "connector1"), modelHit("model2", "connector1") });
+        mockTaskSearch(pages);
+        List<ActionListener<MLTaskGetResponse>> pendingRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            pendingRequests.add(invocation.getArgument(2));
+            return null;
+        }).when(client).execute(eq(MLTaskGetAction.INSTANCE), any(MLTaskGetRequest.class), isA(ActionListener.class));
+
+        processor.run();
+        Assert.assertEquals(2, pendingRequests.size());
+
+        // polling in progress, skip next run
+        processor.run();
+        verify(client, times(2)).search(any(SearchRequest.class), isA(ActionListener.class));
+
+        pendingRequests.get(0).onResponse(null);
+        Assert.assertEquals(3, pendingRequests.size());
+        pendingRequests.get(1).onFailure(new RuntimeException("test"));
+        pendingRequests.get(2).onResponse(null);
+        Assert.assertEquals(3, pendingRequests.size());
+
+        // polling finished
+        pages.add(new SearchHit[0]);
+        processor.run();
+        verify(client, times(3)).search(any(SearchRequest.class), isA(ActionListener.class));
+    }
+
+    private void mockTaskSearch(List<SearchHit[]> pages) {
+        doAnswer(invocation -> {
+            SearchResponse response = mock(SearchResponse.class);
+            SearchHit[] hits = pages.isEmpty() ? new SearchHit[0] : pages.remove(0);
+            when(response.getHits()).thenReturn(new SearchHits(hits, null, Float.NaN));
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        }).when(client).search(any(SearchRequest.class), isA(ActionListener.class));
+    }
+
+    private void mockCreatePit() {
+        CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+        when(createPitResponse.getId()).thenReturn("pit_id");
+        doAnswer(invocation -> {
+            ActionListener<CreatePitResponse> listener = invocation.getArgument(1);
+            listener.onResponse(createPitResponse);
+            return null;
+        }).when(client).createPit(any(CreatePitRequest.class), isA(ActionListener.class));
+    }
+
+    private void mockTaskGet(List<String> polledTaskIds) {
+        doAnswer(invocation -> {
+            MLTaskGetRequest request = invocation.getArgument(1);
+            polledTaskIds.add(request.getTaskId());
+            ActionListener<?> listener = invocation.getArgument(2);
+            listener.onResponse(null);
+            return null;
+        }).when(client).execute(eq(MLTaskGetAction.INSTANCE), any(MLTaskGetRequest.class), isA(ActionListener.class));
+    }
+
+    private SearchHit[] taskHits(int start, int count, String modelId) throws IOException {
+        SearchHit[] hits = new SearchHit[count];
+        for (int i = 0; i < count; i++) {
+            hits[i] = taskHit(start + i, modelId, MLTaskState.RUNNING, null, null);
+        }
+        return hits;
+    }
+
+    private SearchHit taskHit(int docId, String modelId, MLTaskState state, Long createTime, Long lastPolledTime) throws IOException {
+        XContentBuilder content = XContentFactory.jsonBuilder().startObject();
+        content.field(MLTask.MODEL_ID_FIELD, modelId);
+        content.field(MLTask.STATE_FIELD, state.name());
+        if (createTime != null) {
+            content.field(MLTask.CREATE_TIME_FIELD, createTime);
+        }
+        if (lastPolledTime != null) {
+            content.startObject(MLTask.REMOTE_JOB_FIELD).field(MLTask.REMOTE_JOB_LAST_POLLED_TIME_FIELD, lastPolledTime).endObject();
+        }
+        content.endObject();
+        SearchHit hit = new SearchHit(docId, "task_" + docId, null, null).sourceRef(BytesReference.bytes(content));
+        hit.sortValues(new Object[] { docId }, new DocValueFormat[] { DocValueFormat.RAW });
+        return hit;
+    }
+
+    private SearchHit modelHit(String modelId, String connectorId) throws IOException {
+        XContentBuilder content = XContentFactory.jsonBuilder().startObject().field(MLModel.CONNECTOR_ID_FIELD, connectorId).endObject();
+        return new SearchHit(0, modelId, null, null).sourceRef(BytesReference.bytes(content));
+    }
+
     private SearchResponse createTaskSearchResponse() throws IOException {
         SearchResponse searchResponse = mock(SearchResponse.class);
 
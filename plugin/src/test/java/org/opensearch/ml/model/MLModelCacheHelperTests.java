@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -97,6 +98,18 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(FunctionName.TEXT_EMBEDDING, cacheHelper.getFunctionName(modelId));
     }
 
+    public void testGetEvictableLocalModels() throws InterruptedException {
+        cacheHelper.initModelState("model1", MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.initModelState("model2", MLModelState.DEPLOYED, FunctionName.SPARSE_ENCODING, targetWorkerNodes, true);
+        cacheHelper.initModelState("model3", MLModelState.DEPLOYED, FunctionName.REMOTE, targetWorkerNodes, true);
+        cacheHelper.initModelState("model4", MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        Thread.sleep(10);
+        cacheHelper.refreshLastAccessTime("model1");
+
+        assertArrayEquals(new String[] { "model2", "model1" }, cacheHelper.getEvictableLocalModels(Duration.ZERO));
+        assertEquals(0, cacheHelper.getEvictableLocalModels(Duration.ofHours(1)).length);
+    }
+
     public void testMemSizeEstimationCPU() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
         assertTrue(cacheHelper.getMemEstCPU(modelId) == null);
@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -29,12 +30,25 @@ import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_EVICTION_CHECK_INTERVAL;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_EVICTION_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_EVICTION_MIN_IDLE_TIME;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_HALF_OPEN_PROBES;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_MINIMUM_CALLS;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_OPEN_DURATION;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_EMBEDDING_CACHE_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_HEDGED_REQUESTS_MAX_IN_FLIGHT;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TEXT_SIMILARITY_MAX_BATCH_TOKENS;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
 import static org.opensearch.ml.model.MLModelManager.TIMEOUT_IN_MILLIS;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex_failure;
@@ -88,6 +102,7 @@ import org.opensearch.cluster.service.ClusterApplierService;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
@@ -102,6 +117,7 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.get.GetResult;
+import org.opensearch.ml.breaker.BreakerName;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
@@ -117,11 +133,14 @@ import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.model.PredictStage;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
@@ -226,7 +245,19 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
             ML_COMMONS_MAX_BATCH_INFERENCE_TASKS,
             ML_COMMONS_MAX_BATCH_INGESTION_TASKS,
-            ML_COMMONS_BATCH_INGESTION_BULK_SIZE
+            ML_COMMONS_BATCH_INGESTION_BULK_SIZE,
+            ML_COMMONS_TEXT_SIMILARITY_MAX_BATCH_TOKENS,
+            ML_COMMONS_REMOTE_EMBEDDING_CACHE_ENABLED,
+            ML_COMMONS_REMOTE_HEDGED_REQUESTS_MAX_IN_FLIGHT,
+            ML_COMMONS_REMOTE_CIRCUIT_BREAKER_ENABLED,
+            ML_COMMONS_REMOTE_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD,
+            ML_COMMONS_REMOTE_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE,
+            ML_COMMONS_REMOTE_CIRCUIT_BREAKER_MINIMUM_CALLS,
+            ML_COMMONS_REMOTE_CIRCUIT_BREAKER_OPEN_DURATION,
+            ML_COMMONS_REMOTE_CIRCUIT_BREAKER_HALF_OPEN_PROBES,
+            ML_COMMONS_MODEL_EVICTION_ENABLED,
+            ML_COMMONS_MODEL_EVICTION_MIN_IDLE_TIME,
+            ML_COMMONS_MODEL_EVICTION_CHECK_INTERVAL
         );
         clusterService = spy(new ClusterService(settings, clusterSettings, null, clusterApplierService));
         xContentRegistry = NamedXContentRegistry.EMPTY;
@@ -286,26 +317,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(mlFeatureEnabledSetting.isControllerEnabled()).thenReturn(true);
         when(mlFeatureEnabledSetting.isConnectorPrivateIpEnabled()).thenReturn(false);
 
-        modelManager = spy(
-            new MLModelManager(
-                clusterService,
-                scriptService,
-                client,
-                sdkClient,
-                threadPool,
-                xContentRegistry,
-                modelHelper,
-                settings,
-                mlStats,
-                mlCircuitBreakerService,
-                mlIndicesHandler,
-                mlTaskManager,
-                modelCacheHelper,
-                mlEngine,
-                nodeHelper,
-                mlFeatureEnabledSetting
-            )
-        );
+        modelManager = spy(createModelManager(settings));
 
         chunk0 = getClass().getResource("chunk/0").toURI().getPath();
         chunk1 = getClass().getResource("chunk/1").toURI().getPath();
@@ -901,6 +913,114 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         assertEquals("Exceed max local model per node limit", failure.getValue().getMessage());
     }
 
+    public void testDeployModel_ExceedMaxDeployedModel_EvictLeastRecentlyUsedModel() {
+        enableModelEviction();
+        when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(false);
+        String[] models = new String[100];
+        for (int i = 0; i < 100; i++) {
+            models[i] = "model" + i;
+        }
+        when(modelCacheHelper.getLocalDeployedModels()).thenReturn(models);
+        mlTask.setWorkerNodes(List.of("node1"));
+        when(modelCacheHelper.getEvictableLocalModels(any())).thenReturn(new String[] { "model7", "model3" });
+        when(modelCacheHelper.isModelDeployed("model7")).thenReturn(true);
+        when(modelCacheHelper.getFunctionName("model7")).thenReturn(FunctionName.TEXT_EMBEDDING);
+        ActionListener<String> listener = mock(ActionListener.class);
+
+        modelManager.deployModel(modelId, modelContentHashValue, FunctionName.TEXT_EMBEDDING, true, false, mlTask, listener);
+        verify(modelCacheHelper).removeModel("model7");
+        verify(modelCacheHelper, never()).removeModel("model3");
+        verify(modelCacheHelper).initModelState(eq(modelId), eq(MLModelState.DEPLOYING), any(), any(), anyBoolean());
+        ArgumentCaptor<MLSyncUpNodesRequest> syncUpRequest = ArgumentCaptor.forClass(MLSyncUpNodesRequest.class);
+        verify(client).execute(eq(MLSyncUpAction.INSTANCE), syncUpRequest.capture(), any());
+        Map<String, String[]> removedWorkerNodes = syncUpRequest.getValue().getSyncUpInput().getRemovedWorkerNodes();
+        assertArrayEquals(new String[] { "node1" }, removedWorkerNodes.get("model7"));
+        assertEquals(1L, mlStats.getStat(MLNodeLevelStat.ML_EVICTED_MODEL_COUNT).getValue());
+    }
+
+    public void testEvictLeastRecentlyUsedModel_Disabled() {
+        assertFalse(modelManager.evictLeastRecentlyUsedModel());
+        verify(modelCacheHelper, never()).getEvictableLocalModels(any());
+    }
+
+    public void testEvictLeastRecentlyUsedModel_NoIdleModel() {
+        enableModelEviction();
+        when(modelCacheHelper.getEvictableLocalModels(any())).thenReturn(new String[] {});
+        assertFalse(modelManager.evictLeastRecentlyUsedModel());
+        verify(modelCacheHelper, never()).removeModel(any());
+        verify(client, never()).execute(any(), any(), any());
+    }
+
+    public void testEvictModelUnderMemoryPressure() {
+        enableModelEviction();
+        when(modelCacheHelper.getEvictableLocalModels(any())).thenReturn(new String[] { "model1" });
+        when(modelCacheHelper.isModelDeployed("model1")).thenReturn(true);
+        when(modelCacheHelper.getFunctionName("model1")).thenReturn(FunctionName.TEXT_EMBEDDING);
+        assertFalse(modelManager.evictModelUnderMemoryPressure());
+
+        ThresholdCircuitBreaker memoryBreaker = mock(ThresholdCircuitBreaker.class);
+        when(memoryBreaker.isOpen()).thenReturn(true);
+        when(mlCircuitBreakerService.getBreaker(BreakerName.NATIVE_MEMORY)).thenReturn(memoryBreaker);
+        assertTrue(modelManager.evictModelUnderMemoryPressure());
+        verify(modelCacheHelper).removeModel("model1");
+        verify(modelManager).updateModel(eq("model1"), eq(Map.of(MLModel.IS_EVICTED_FIELD, true)), any());
+
+        // the breaker is still open, evicting didn't relieve the memory pressure
+        assertFalse(modelManager.evictModelUnderMemoryPressure());
+        verify(modelCacheHelper, times(1)).removeModel("model1");
+
+        when(memoryBreaker.isOpen()).thenReturn(false);
+        assertFalse(modelManager.evictModelUnderMemoryPressure());
+        when(memoryBreaker.isOpen()).thenReturn(true);
+        assertTrue(modelManager.evictModelUnderMemoryPressure());
+        verify(modelCacheHelper, times(2)).removeModel("model1");
+    }
+
+    public void testModelEvictionCron_ScheduledWhileEvictionEnabled() {
+        verify(threadPool, never()).scheduleWithFixedDelay(any(), any(), any());
+        enableModelEviction();
+        verify(threadPool).scheduleWithFixedDelay(any(), eq(TimeValue.timeValueSeconds(10)), eq(GENERAL_THREAD_POOL));
+    }
+
+    private MLModelManager createModelManager(Settings settings) {
+        return new MLModelManager(
+            clusterService,
+            scriptService,
+            client,
+            sdkClient,
+            threadPool,
+            xContentRegistry,
+            modelHelper,
+            settings,
+            mlStats,
+            mlCircuitBreakerService,
+            mlIndicesHandler,
+            mlTaskManager,
+            modelCacheHelper,
+            mlEngine,
+            nodeHelper,
+            mlFeatureEnabledSetting
+        );
+    }
+
+    private void enableModelEviction() {
+        // the spy copies the fields of the model manager, so it doesn't see later setting updates, create a new one
+        Map<Enum, MLStat<?>> stats = new ConcurrentHashMap<>(mlStats.getNodeStats());
+        stats.remove(MLNodeLevelStat.ML_EVICTED_MODEL_COUNT);
+        mlStats = spy(new MLStats(stats));
+        Settings evictionSettings = Settings.builder().put(settings).put(ML_COMMONS_MODEL_EVICTION_ENABLED.getKey(), true).build();
+        modelManager = spy(createModelManager(evictionSettings));
+        DiscoveryNode localNode = new DiscoveryNode(
+            "node1",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+        doReturn(localNode).when(clusterService).localNode();
+        when(nodeHelper.getAllNodes()).thenReturn(new DiscoveryNode[] { localNode });
+    }
+
     public void testDeployModel_ThreadPoolException() {
         MLModelConfig modelConfig = TextEmbeddingModelConfig
             .builder()
@@ -960,6 +1080,40 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         assertEquals("undeployed", undeployModelStatus.get(modelId));
     }
 
+    public void testUndeployModel_RemovesLatencyStats() {
+        when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(true);
+        when(modelCacheHelper.getFunctionName(modelId)).thenReturn(FunctionName.REMOTE);
+        when(modelCacheHelper.getModelInfo(modelId)).thenReturn(MLModel.builder().modelId(modelId).connectorId("connector_id").build());
+        when(modelCacheHelper.getAllModels()).thenReturn(new String[] {});
+        mlStats.recordLatency(modelId, "connector_id", PredictStage.REMOTE_INVOCATION, 10);
+        mlStats.recordRemoteActionLatency(modelId, "connector_id", "predict", 10);
+        mlStats.recordLatency("other_model_id", "other_connector_id", PredictStage.REMOTE_INVOCATION, 10);
+
+        modelManager.undeployModel(new String[] { modelId });
+
+        assertNull(mlStats.getModelLatencyStats(modelId));
+        assertNull(mlStats.getConnectorLatencyStats("connector_id"));
+        assertNull(mlStats.getRemoteActionLatencyPercentile(modelId, null, "predict", 50, 1));
+        assertNull(mlStats.getRemoteActionLatencyPercentile(null, "connector_id", "predict", 50, 1));
+        assertNotNull(mlStats.getModelLatencyStats("other_model_id"));
+        assertNotNull(mlStats.getConnectorLatencyStats("other_connector_id"));
+    }
+
+    public void testUndeployModel_KeepsLatencyStatsOfConnectorUsedByOtherModel() {
+        when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(true);
+        when(modelCacheHelper.getFunctionName(modelId)).thenReturn(FunctionName.REMOTE);
+        when(modelCacheHelper.getModelInfo(modelId)).thenReturn(MLModel.builder().modelId(modelId).connectorId("connector_id").build());
+        when(modelCacheHelper.getModelInfo("other_model_id"))
+            .thenReturn(MLModel.builder().modelId("other_model_id").connectorId("connector_id").build());
+        when(modelCacheHelper.getAllModels()).thenReturn(new String[] { "other_model_id" });
+        mlStats.recordLatency(modelId, "connector_id", PredictStage.REMOTE_INVOCATION, 10);
+
+        modelManager.undeployModel(new String[] { modelId });
+
+        assertNull(mlStats.getModelLatencyStats(modelId));
+        assertNotNull(mlStats.getConnectorLatencyStats("connector_id"));
+    }
+
     public void testUpdateModel_NullUpdatedFields() {
         ActionListener<UpdateResponse> listener = mock(ActionListener.class);
         modelManager.updateModel(modelId, null, listener);
@@ -172,6 +172,30 @@ public class MLModelProfileTests {
         assertEquals(original.getIsHidden(), deserialized.getIsHidden());
     }
 
+    @Test
+    public void testCircuitBreakerState() throws IOException {
+        MLModelProfile original = MLModelProfile.builder().modelState(MLModelState.DEPLOYED).build();
+        original.setCircuitBreakerState("OPEN");
+
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        original.toXContent(builder, null);
+        assertEquals("{\"model_state\":\"DEPLOYED\",\"circuit_breaker_state\":\"OPEN\"}", builder.toString());
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.CURRENT);
+        original.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.CURRENT);
+        assertEquals("OPEN", new MLModelProfile(input).getCircuitBreakerState());
+
+        output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_0_0);
+        original.writeTo(output);
+        input = output.bytes().streamInput();
+        input.setVersion(Version.V_3_0_0);
+        assertNull(new MLModelProfile(input).getCircuitBreakerState());
+    }
+
     @Test
     public void testStreamSerializationWithNullFields() throws IOException {
         MLModelProfile original = MLModelProfile.builder().build();
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats;
+
+import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
+
+import java.io.IOException;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.utils.TestHelper;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLLatencyHistogramTests extends OpenSearchTestCase {
+
+    public void testEmpty() {
+        MLLatencyHistogram histogram = new MLLatencyHistogram();
+        assertTrue(histogram.isEmpty());
+        assertEquals(0, histogram.getCount());
+        assertNull(histogram.getMin());
+        assertNull(histogram.getMax());
+        assertNull(histogram.getAverage());
+        assertNull(histogram.getPercentile(50));
+    }
+
+    public void testRecord() {
+        MLLatencyHistogram histogram = new MLLatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1.0, histogram.getMin(), 1e-5);
+        assertEquals(1000.0, histogram.getMax(), 1e-5);
+        assertEquals(500.5, histogram.getAverage(), 1e-5);
+        // percentiles are within the precision of the buckets
+        assertEquals(500, histogram.getPercentile(50), 500 * 0.04);
+        assertEquals(900, histogram.getPercentile(90), 900 * 0.04);
+        assertEquals(990, histogram.getPercentile(99), 990 * 0.04);
+        assertEquals(1000, histogram.getPercentile(100), 1e-5);
+    }
+
+    public void testRecord_SingleValue() {
+        MLLatencyHistogram histogram = new MLLatencyHistogram();
+        histogram.record(123.456);
+        assertEquals(123.456, histogram.getPercentile(50), 1e-5);
+        assertEquals(123.456, histogram.getPercentile(99), 1e-5);
+    }
+
+    public void testRecord_OutOfRange() {
+        MLLatencyHistogram histogram = new MLLatencyHistogram();
+        histogram.record(-1);
+        histogram.record(Double.NaN);
+        histogram.record(1e12);
+        assertEquals(2, histogram.getCount());
+        assertEquals(0.0, histogram.getMin(), 1e-5);
+        assertEquals(1e12, histogram.getPercentile(100), 1e-5);
+    }
+
+    public void testBuckets() {
+        for (long value : new long[] { 0, 1, 31, 32, 63, 64, 1000, 123456789, (1L << 41) - 1 }) {
+            int index = MLLatencyHistogram.bucketIndex(value);
+            assertTrue(index < MLLatencyHistogram.BUCKET_COUNT);
+            long lowerBound = MLLatencyHistogram.bucketLowerBound(index);
+            assertTrue(lowerBound <= value);
+            assertTrue(value < lowerBound + MLLatencyHistogram.bucketWidth(index));
+        }
+        assertEquals(MLLatencyHistogram.BUCKET_COUNT - 1, MLLatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    public void testMerge() {
+        MLLatencyHistogram histogram1 = new MLLatencyHistogram();
+        MLLatencyHistogram histogram2 = new MLLatencyHistogram();
+        for (int i = 1; i <= 50; i++) {
+            histogram1.record(i);
+            histogram2.record(i + 50);
+        }
+        MLLatencyHistogram merged = histogram1.copy();
+        merged.merge(histogram2);
+        assertEquals(50, histogram1.getCount());
+        assertEquals(100, merged.getCount());
+        assertEquals(1.0, merged.getMin(), 1e-5);
+        assertEquals(100.0, merged.getMax(), 1e-5);
+        assertEquals(50.5, merged.getAverage(), 1e-5);
+        assertEquals(50, merged.getPercentile(50), 50 * 0.04);
+    }
+
+    public void testSerializationDeserialization() throws IOException {
+        MLLatencyHistogram histogram = new MLLatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1.5);
+        }
+        BytesStreamOutput output = new BytesStreamOutput();
+        histogram.writeTo(output);
+        MLLatencyHistogram parsed = new MLLatencyHistogram(output.bytes().streamInput());
+        assertEquals(histogram.getCount(), parsed.getCount());
+        assertEquals(histogram.getMin(), parsed.getMin());
+        assertEquals(histogram.getMax(), parsed.getMax());
+        assertEquals(histogram.getAverage(), parsed.getAverage());
+        assertEquals(histogram.getPercentile(50), parsed.getPercentile(50));
+        assertEquals(histogram.getPercentile(99), parsed.getPercentile(99));
+    }
+
+    public void testToXContent() throws IOException {
+        MLLatencyHistogram histogram = new MLLatencyHistogram();
+        histogram.record(10);
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        histogram.toXContent(builder, EMPTY_PARAMS);
+        String content = TestHelper.xContentBuilderToString(builder);
+        assertEquals(
+            "{\"count\":1,\"min\":10.0,\"max\":10.0,\"average\":10.0,\"p50\":10.0,\"p90\":10.0,\"p99\":10.0,\"p999\":10.0}",
+            content
+        );
+
+        builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        new MLLatencyHistogram().toXContent(builder, EMPTY_PARAMS);
+        assertEquals("{\"count\":0}", TestHelper.xContentBuilderToString(builder));
+    }
+}
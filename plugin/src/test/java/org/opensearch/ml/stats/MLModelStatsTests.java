@@ -11,6 +11,7 @@ import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -22,6 +23,7 @@ import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.model.PredictStage;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.utils.TestHelper;
 import org.opensearch.test.OpenSearchTestCase;
@@ -150,4 +152,28 @@ public class MLModelStatsTests extends OpenSearchTestCase {
         assertFalse(prettyContent.contains("\n"));
     }
 
+    public void testLatencyStats() throws IOException {
+        MLLatencyHistogram histogram = new MLLatencyHistogram();
+        histogram.record(10);
+        Map<PredictStage, MLLatencyHistogram> latencyStats = new EnumMap<>(PredictStage.class);
+        latencyStats.put(PredictStage.REMOTE_INVOCATION, histogram);
+        MLModelStats stats = new MLModelStats(new HashMap<>(), null, latencyStats);
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        stats.writeTo(output);
+        MLModelStats parsedStats = new MLModelStats(output.bytes().streamInput());
+        assertEquals(1, parsedStats.getLatencyStats().size());
+        assertEquals(1, parsedStats.getLatencyStats().get(PredictStage.REMOTE_INVOCATION).getCount());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        builder.startObject();
+        parsedStats.toXContent(builder, EMPTY_PARAMS);
+        builder.endObject();
+        String content = TestHelper.xContentBuilderToString(builder);
+        assertEquals(
+            "{\"latency\":{\"remote_invocation\":{\"count\":1,\"min\":10.0,\"max\":10.0,\"average\":10.0,"
+                + "\"p50\":10.0,\"p90\":10.0,\"p99\":10.0,\"p999\":10.0}}}",
+            content
+        );
+    }
 }
@@ -17,6 +17,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.model.PredictStage;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -163,4 +164,67 @@ public class MLStatsTests extends OpenSearchTestCase {
         String[] allModels = stats.getAllModels();
         assertArrayEquals(new String[] { modelID }, allModels);
     }
+
+    public void testRecordLatency() {
+        MLStats stats = new MLStats(statsMap);
+        assertNull(stats.getModelLatencyStats(modelID));
+        assertEquals(0, stats.getAllConnectors().length);
+
+        stats.recordLatency(modelID, "connector_id", PredictStage.REMOTE_INVOCATION, 10);
+        stats.recordLatency(modelID, "connector_id", PredictStage.REMOTE_INVOCATION, 20);
+        stats.recordLatency(modelID, null, PredictStage.PREDICT_REQUEST, 30);
+
+        Map<PredictStage, MLLatencyHistogram> modelLatencyStats = stats.getModelLatencyStats(modelID);
+        assertEquals(2, modelLatencyStats.size());
+        assertEquals(2, modelLatencyStats.get(PredictStage.REMOTE_INVOCATION).getCount());
+        assertEquals(15.0, modelLatencyStats.get(PredictStage.REMOTE_INVOCATION).getAverage(), 1e-5);
+        assertEquals(1, modelLatencyStats.get(PredictStage.PREDICT_REQUEST).getCount());
+
+        Map<PredictStage, MLLatencyHistogram> connectorLatencyStats = stats.getConnectorLatencyStats("connector_id");
+        assertEquals(1, connectorLatencyStats.size());
+        assertEquals(2, connectorLatencyStats.get(PredictStage.REMOTE_INVOCATION).getCount());
+        assertArrayEquals(new String[] { "connector_id" }, stats.getAllConnectors());
+
+        // returned histograms are snapshots
+        stats.recordLatency(modelID, "connector_id", PredictStage.REMOTE_INVOCATION, 30);
+        assertEquals(2, modelLatencyStats.get(PredictStage.REMOTE_INVOCATION).getCount());
+        assertEquals(3, stats.getModelLatencyStats(modelID).get(PredictStage.REMOTE_INVOCATION).getCount());
+    }
+
+    public void testRemoveLatencyStats() {
+        MLStats stats = new MLStats(statsMap);
+        stats.recordLatency(modelID, "connector_id", PredictStage.REMOTE_INVOCATION, 10);
+        stats.recordRemoteActionLatency(modelID, "connector_id", "predict", 10);
+
+        stats.removeModelLatencyStats(modelID);
+
+        assertNull(stats.getModelLatencyStats(modelID));
+        assertNull(stats.getRemoteActionLatencyPercentile(modelID, null, "predict", 50, 1));
+        assertNotNull(stats.getConnectorLatencyStats("connector_id"));
+        assertNotNull(stats.getRemoteActionLatencyPercentile(modelID, "connector_id", "predict", 50, 1));
+
+        stats.removeConnectorLatencyStats("connector_id");
+
+        assertNull(stats.getConnectorLatencyStats("connector_id"));
+        assertNull(stats.getRemoteActionLatencyPercentile(modelID, "connector_id", "predict", 50, 1));
+        assertEquals(0, stats.getAllConnectors().length);
+    }
+
+    public void testGetRemoteActionLatencyPercentile() {
+        MLStats stats = new MLStats(statsMap);
+        assertNull(stats.getRemoteActionLatencyPercentile(modelID, "connector_id", "predict", 90, 1));
+
+        for (int i = 1; i <= 10; i++) {
+            stats.recordRemoteActionLatency(modelID, "connector_id", "PREDICT", i * 10);
+        }
+        stats.recordRemoteActionLatency(modelID, null, "predict", 1000);
+        stats.recordRemoteActionLatency(modelID, "connector_id", "batch_predict", 60000);
+
+        assertEquals(90.0, stats.getRemoteActionLatencyPercentile(modelID, "connector_id", "predict", 90, 10), 3);
+        assertEquals(100.0, stats.getRemoteActionLatencyPercentile(modelID, "connector_id", "PREDICT", 100, 10), 3);
+        assertEquals(1000.0, stats.getRemoteActionLatencyPercentile(modelID, null, "predict", 100, 10), 30);
+        assertNull(stats.getRemoteActionLatencyPercentile(modelID, "connector_id", "predict", 90, 11));
+        assertEquals(60000.0, stats.getRemoteActionLatencyPercentile(modelID, "connector_id", "batch_predict", 50, 1), 1800);
+        assertNull(stats.getRemoteActionLatencyPercentile(modelID, "connector_id", "cancel_batch_predict", 90, 1));
+    }
 }
@@ -69,6 +69,7 @@ import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
+import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
@@ -281,6 +282,87 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         verify(mlTaskDispatcher).dispatchPredictTask(any(), any());
     }
 
+    public void testExecuteTask_EvictedLocalModelAutoDeploy() {
+        setupMocks(true, false, false, false);
+        when(mlModelManager.isModelEvictionEnabled()).thenReturn(true);
+        MLModel evictedModel = mlModel
+            .toBuilder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .modelState(MLModelState.DEPLOYED)
+            .isEvicted(true)
+            .build();
+        doAnswer(invocation -> {
+            ActionListener<MLModel> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(evictedModel);
+            return null;
+        }).when(mlModelManager).getModel(any(), any(), any());
+        when(nodeHelper.getEligibleNodeIds(FunctionName.TEXT_EMBEDDING)).thenReturn(new String[] { "localNodeId" });
+
+        taskRunner.dispatchTask(FunctionName.TEXT_EMBEDDING, requestWithDataFrame, transportService, listener);
+        verify(mlTaskDispatcher).dispatchPredictTask(eq(new String[] { "localNodeId" }), any());
+        verify(client, never()).execute(any(), any(), any());
+    }
+
+    public void testExecuteTask_EvictedLocalModelMarkedDeployFailedAutoDeploy() {
+        // the sync up cron may refresh the model state before the model is marked evicted
+        setupMocks(true, false, false, false);
+        when(mlModelManager.isModelEvictionEnabled()).thenReturn(true);
+        MLModel evictedModel = mlModel
+            .toBuilder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .modelState(MLModelState.DEPLOY_FAILED)
+            .isEvicted(true)
+            .build();
+        doAnswer(invocation -> {
+            ActionListener<MLModel> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(evictedModel);
+            return null;
+        }).when(mlModelManager).getModel(any(), any(), any());
+        when(nodeHelper.getEligibleNodeIds(FunctionName.TEXT_EMBEDDING)).thenReturn(new String[] { "localNodeId" });
+
+        taskRunner.dispatchTask(FunctionName.TEXT_EMBEDDING, requestWithDataFrame, transportService, listener);
+        verify(mlTaskDispatcher).dispatchPredictTask(eq(new String[] { "localNodeId" }), any());
+    }
+
+    public void testExecuteTask_DeployFailedLocalModelNotAutoDeployed() {
+        setupMocks(true, false, false, false);
+        when(mlModelManager.isModelEvictionEnabled()).thenReturn(true);
+        MLModel failedModel = mlModel.toBuilder().algorithm(FunctionName.TEXT_EMBEDDING).modelState(MLModelState.DEPLOY_FAILED).build();
+        doAnswer(invocation -> {
+            ActionListener<MLModel> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(failedModel);
+            return null;
+        }).when(mlModelManager).getModel(any(), any(), any());
+
+        taskRunner.dispatchTask(FunctionName.TEXT_EMBEDDING, requestWithDataFrame, transportService, listener);
+        verify(mlTaskDispatcher, never()).dispatchPredictTask(any(), any());
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("Model not ready yet. Please deploy the model first.", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testExecuteTask_UndeployedLocalModelNotAutoDeployed() {
+        setupMocks(true, false, false, false);
+        when(mlModelManager.isModelEvictionEnabled()).thenReturn(true);
+        MLModel undeployedModel = mlModel
+            .toBuilder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .modelState(MLModelState.UNDEPLOYED)
+            .isEvicted(true)
+            .build();
+        doAnswer(invocation -> {
+            ActionListener<MLModel> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(undeployedModel);
+            return null;
+        }).when(mlModelManager).getModel(any(), any(), any());
+
+        taskRunner.dispatchTask(FunctionName.TEXT_EMBEDDING, requestWithDataFrame, transportService, listener);
+        verify(mlTaskDispatcher, never()).dispatchPredictTask(any(), any());
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("Model not ready yet. Please deploy the model first.", argumentCaptor.getValue().getMessage());
+    }
+
     public void testExecuteTask_OnLocalNode_QueryInput_Failure() {
         setupMocks(true, true, false, false);
 
@@ -347,13 +347,13 @@ public class MLTrainingTaskRunnerTests extends OpenSearchTestCase {
                 ActionListener<MLInputDataset> actionListener = invocation.getArgument(1);
                 actionListener.onFailure(new RuntimeException(errorMessage));
                 return null;
-            }).when(mlInputDatasetHandler).parseSearchQueryInput(any(), any());
+            }).when(mlInputDatasetHandler).parseTrainingSearchQueryInput(any(), any());
         } else {
             doAnswer(invocation -> {
                 ActionListener<MLInputDataset> actionListener = invocation.getArgument(1);
                 actionListener.onResponse(new DataFrameInputDataset(dataFrame));
                 return null;
-            }).when(mlInputDatasetHandler).parseSearchQueryInput(any(), any());
+            }).when(mlInputDatasetHandler).parseTrainingSearchQueryInput(any(), any());
         }
     }
 }
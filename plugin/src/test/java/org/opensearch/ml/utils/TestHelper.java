@@ -689,6 +689,15 @@ public class TestHelper {
             } catch (Exception e) {
                 // Field might not exist or be accessible - continue
             }
+
+            // Reset synced tools version
+            try {
+                java.lang.reflect.Field seqNoField = holderClass.getDeclaredField("syncedToolsSeqNo");
+                seqNoField.setAccessible(true);
+                seqNoField.set(null, org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO);
+            } catch (Exception e) {
+                // Field might not exist or be accessible - continue
+            }
         } catch (Exception e) {
             // Class might not exist or be accessible - this is expected in some test environments
             // Continue silently to ensure tests don't fail due to reflection issues